@@ -3,15 +3,18 @@ package com.smarterd;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Smart ERD 애플리케이션의 진입점.
  *
  * <p>Spring Boot 자동 구성과 JPA Auditing({@code @EnableJpaAuditing})을 활성화하여
- * {@link com.smarterd.domain.common.entity.BaseTimeEntity}의 {@code createdAt}, {@code updatedAt} 자동 관리를 지원한다.</p>
+ * {@link com.smarterd.domain.common.entity.BaseTimeEntity}의 {@code createdAt}, {@code updatedAt} 자동 관리를 지원한다.
+ * {@code @EnableScheduling}은 리비전 기록 압축 같은 주기 작업을 실행한다.</p>
  */
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class SmartErdApplication {
 
     /**
@@ -45,7 +45,7 @@ public class AuthController {
      *
      * @param binder 웹 데이터 바인더
      */
-    @InitBinder
+    @InitBinder("signupRequest")
     public void initBinder(WebDataBinder binder) {
         binder.addValidators(signupRequestValidator);
     }
@@ -2,11 +2,14 @@ package com.smarterd.api.common;
 
 import com.smarterd.domain.common.exception.AccessDeniedException;
 import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.ConflictException;
 import com.smarterd.domain.common.exception.DuplicateException;
 import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.common.exception.PreconditionFailedException;
 import java.util.Map;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -43,6 +46,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
     }
 
+    /**
+     * 리소스 상태 충돌 예외를 409 Conflict로 반환한다.
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, String>> handleConflict(ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", ex.getMessage()));
+    }
+
+    /**
+     * 조건부 요청 전제 조건 불일치를 412 Precondition Failed로 반환한다.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Map<String, String>> handlePreconditionFailed(PreconditionFailedException ex) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(Map.of("error", ex.getMessage()));
+    }
+
+    /**
+     * 동시 수정으로 인한 낙관적 락 실패를 409 Conflict로 반환한다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, String>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(
+            Map.of("error", "Resource was modified concurrently, reload and retry")
+        );
+    }
+
     /**
      * 비즈니스 규칙 위반 예외를 400 Bad Request로 반환한다.
      */
@@ -0,0 +1,966 @@
+package com.smarterd.api.diagram;
+
+import com.smarterd.api.diagram.dto.CreateDiagramRequest;
+import com.smarterd.api.diagram.dto.DiagramDetailResponse;
+import com.smarterd.api.diagram.dto.DiagramDiffResponse;
+import com.smarterd.api.diagram.dto.DiagramHealthResponse;
+import com.smarterd.api.diagram.dto.DiagramHistoryDetailResponse;
+import com.smarterd.api.diagram.dto.DiagramHistoryItemResponse;
+import com.smarterd.api.diagram.dto.DiagramResponse;
+import com.smarterd.api.diagram.dto.DiagramRevisionResponse;
+import com.smarterd.api.diagram.dto.DiagramSummaryResponse;
+import com.smarterd.api.diagram.dto.DiagramValidationResponse;
+import com.smarterd.api.diagram.dto.PatchDiagramRequest;
+import com.smarterd.api.diagram.dto.RenameDiagramRequest;
+import com.smarterd.api.diagram.dto.SaveDiagramRequest;
+import com.smarterd.domain.diagram.entity.DiagramETags;
+import com.smarterd.domain.diagram.render.DiagramPngRenderer;
+import com.smarterd.domain.diagram.render.DiagramSvgRenderer;
+import com.smarterd.domain.diagram.service.DiagramDdlService;
+import com.smarterd.domain.diagram.service.DiagramHealthService;
+import com.smarterd.domain.diagram.service.DiagramRenderService;
+import com.smarterd.domain.diagram.service.DiagramService;
+import com.smarterd.domain.diagram.service.DiagramValidationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 다이어그램 관련 REST 컨트롤러.
+ *
+ * <p>{@code /api/teams/{teamId}/projects/{projectId}/diagrams} 경로 하위에 다이어그램 CRUD 및
+ * JSON Patch 기반 부분 저장 엔드포인트를 제공한다. 모든 엔드포인트는 인증이 필요하다.</p>
+ */
+@Tag(name = "Diagram", description = "다이어그램 관리 API")
+@RestController
+@RequestMapping("/api/teams/{teamId}/projects/{projectId}/diagrams")
+@RequiredArgsConstructor
+public class DiagramController {
+
+    /** 다이어그램 비즈니스 로직 서비스 */
+    private final DiagramService diagramService;
+
+    /** 다이어그램 DDL 내보내기 서비스 */
+    private final DiagramDdlService diagramDdlService;
+
+    /** 다이어그램 이미지 렌더링 서비스 */
+    private final DiagramRenderService diagramRenderService;
+
+    /** 다이어그램 건강 상태 서비스 */
+    private final DiagramHealthService diagramHealthService;
+
+    /** 다이어그램 사전 검사 서비스 */
+    private final DiagramValidationService diagramValidationService;
+
+    /**
+     * 다이어그램을 생성한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param request   다이어그램 생성 요청
+     * @return 201 Created + DiagramResponse
+     */
+    @Operation(summary = "다이어그램 생성", description = "프로젝트에 빈 캔버스의 다이어그램을 생성한다. 팀 멤버만 가능.")
+    @ApiResponse(
+        responseCode = "201",
+        description = "다이어그램 생성 성공",
+        content = @Content(schema = @Schema(implementation = DiagramResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "잘못된 요청", content = @Content)
+    @PostMapping
+    public ResponseEntity<DiagramResponse> createDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Valid @RequestBody CreateDiagramRequest request
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+            diagramService.createDiagram(jwt.getSubject(), teamId, projectId, request)
+        );
+    }
+
+    /**
+     * SQL DDL 덤프를 역설계하여 다이어그램을 생성한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param request   다이어그램 생성 요청 (쿼리 파라미터)
+     * @param body      SQL 덤프 본문 스트림
+     * @return 201 Created + DiagramResponse
+     */
+    @Operation(
+        summary = "DDL 덤프로 다이어그램 생성",
+        description = "요청 본문 자체가 UTF-8 SQL 덤프다. CREATE TABLE과 ALTER TABLE ... FOREIGN KEY 문으로 테이블·컬럼·관계를 " +
+        "만들고, INSERT·COPY 등 나머지 문은 메모리에 올리지 않고 건너뛴다. 테이블은 덤프 순서대로 격자에 배치한다."
+    )
+    @ApiResponse(
+        responseCode = "201",
+        description = "다이어그램 생성 성공",
+        content = @Content(schema = @Schema(implementation = DiagramResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 테이블 정의가 없는 덤프", content = @Content)
+    @ApiResponse(responseCode = "404", description = "프로젝트 미존재", content = @Content)
+    @PostMapping(
+        value = "/import",
+        consumes = { MediaType.TEXT_PLAIN_VALUE, "application/sql", MediaType.APPLICATION_OCTET_STREAM_VALUE }
+    )
+    public ResponseEntity<DiagramResponse> importDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Valid @ParameterObject CreateDiagramRequest request,
+        InputStream body
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(
+            diagramService.importDiagram(jwt.getSubject(), teamId, projectId, request, body)
+        );
+    }
+
+    /**
+     * 프로젝트의 다이어그램 목록을 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @return 200 OK + 다이어그램 요약 목록
+     */
+    @Operation(
+        summary = "다이어그램 목록 조회",
+        description = "프로젝트에 속한 다이어그램 목록을 테이블·컬럼·관계 수, 경계 상자, 크기 요약과 함께 반환한다 (content 제외)."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "프로젝트 미존재 또는 접근 권한 없음")
+    @GetMapping
+    public ResponseEntity<List<DiagramSummaryResponse>> getDiagrams(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId
+    ) {
+        return ResponseEntity.ok(diagramService.getDiagrams(jwt.getSubject(), teamId, projectId));
+    }
+
+    /**
+     * 다이어그램 상세를 조회한다. {@code If-None-Match}가 현재 ETag와 같으면 content를 읽지 않고 304를 반환한다.
+     *
+     * @param jwt         인증된 JWT 토큰
+     * @param teamId      팀 ID
+     * @param projectId   프로젝트 ID
+     * @param diagramId   다이어그램 ID
+     * @param ifNoneMatch {@code If-None-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramDetailResponse + ETag, 또는 304 Not Modified
+     */
+    @Operation(
+        summary = "다이어그램 상세 조회",
+        description = "다이어그램 content(React Flow JSON)와 현재 리비전을 ETag와 함께 반환한다. " +
+        "If-None-Match가 현재 ETag와 같으면 304를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "캐시된 content가 최신")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @GetMapping("/{diagramId}")
+    public ResponseEntity<DiagramDetailResponse> getDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "캐시된 content의 ETag") @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        final var header = diagramService.findAccessibleDiagramHeader(jwt.getSubject(), teamId, projectId, diagramId);
+        if (DiagramETags.matchesIfNoneMatch(ifNoneMatch, header.contentHash())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(DiagramETags.of(header.contentHash())).build();
+        }
+        final var detail = diagramService.getDiagram(header);
+        return ResponseEntity.ok().eTag(DiagramETags.of(detail.contentHash())).body(detail);
+    }
+
+    /**
+     * 정규화 모델로부터 재구성한 다이어그램을 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param nodeIds   부분 로딩할 테이블 노드 ID 목록 (선택)
+     * @return 200 OK + DiagramDetailResponse
+     */
+    @Operation(
+        summary = "다이어그램 모델 조회",
+        description = "테이블·컬럼·관계 행으로부터 React Flow JSON을 재구성하여 반환한다. " +
+            "nodeIds를 지정하면 해당 테이블과 그 사이의 관계만 부분 로딩한다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @GetMapping("/{diagramId}/model")
+    public ResponseEntity<DiagramDetailResponse> getDiagramModel(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "부분 로딩할 테이블 노드 ID 목록") @RequestParam(required = false) List<String> nodeIds
+    ) {
+        return ResponseEntity.ok(
+            diagramService.getDiagramModel(jwt.getSubject(), teamId, projectId, diagramId, nodeIds)
+        );
+    }
+
+    /**
+     * 캔버스 영역 안의 테이블과 그에 닿는 관계만 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param minX      영역 왼쪽 X
+     * @param minY      영역 위쪽 Y
+     * @param maxX      영역 오른쪽 X
+     * @param maxY      영역 아래쪽 Y
+     * @param margin    미리 받을 여유 폭
+     * @return 200 OK + 영역으로 재구성한 DiagramDetailResponse
+     */
+    @Operation(
+        summary = "다이어그램 뷰포트 부분 조회",
+        description = "노드 위치(좌상단)가 영역(+margin) 안에 있는 테이블과, 그 테이블을 한쪽 끝으로 가진 관계만 " +
+        "React Flow JSON으로 반환한다. 노드 위치 공간 색인을 사용하므로 content LOB을 읽지 않는다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 영역", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping("/{diagramId}/viewport")
+    public ResponseEntity<DiagramDetailResponse> getDiagramViewport(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "영역 왼쪽 X") @RequestParam double minX,
+        @Parameter(description = "영역 위쪽 Y") @RequestParam double minY,
+        @Parameter(description = "영역 오른쪽 X") @RequestParam double maxX,
+        @Parameter(description = "영역 아래쪽 Y") @RequestParam double maxY,
+        @Parameter(description = "사방으로 넓혀 미리 받을 여유 폭") @RequestParam(defaultValue = "0") double margin
+    ) {
+        return ResponseEntity.ok(
+            diagramService.getDiagramViewport(
+                jwt.getSubject(),
+                teamId,
+                projectId,
+                diagramId,
+                minX,
+                minY,
+                maxX,
+                maxY,
+                margin
+            )
+        );
+    }
+
+    /**
+     * 테이블 하나에서 관계를 N번 이하로 건너 닿는 부분 그래프를 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param nodeId    시작 테이블 노드 ID
+     * @param hops      최대 홉 수
+     * @return 200 OK + 부분 그래프로 재구성한 DiagramDetailResponse
+     */
+    @Operation(
+        summary = "테이블 N홉 이웃 조회",
+        description = "시작 테이블에서 관계를 hops번 이하로 건너 닿는 테이블과, 그 테이블들 사이의 관계만 " +
+        "React Flow JSON으로 반환한다. 관계 방향과 무관하게 양쪽으로 따라가며, content LOB을 읽지 않는다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 홉 수", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 또는 테이블 미존재", content = @Content)
+    @GetMapping("/{diagramId}/tables/{nodeId}/neighbourhood")
+    public ResponseEntity<DiagramDetailResponse> getDiagramNeighbourhood(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "시작 테이블 노드 ID") @PathVariable String nodeId,
+        @Parameter(description = "최대 홉 수 (0이면 시작 테이블만)") @RequestParam(defaultValue = "1") int hops
+    ) {
+        return ResponseEntity.ok(
+            diagramService.getDiagramNeighbourhood(jwt.getSubject(), teamId, projectId, diagramId, nodeId, hops)
+        );
+    }
+
+    /**
+     * 다이어그램의 SQL DDL 스크립트를 내려받는다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param dialect   SQL 방언 ID
+     * @return 200 OK + DDL 스크립트 본문
+     */
+    @Operation(
+        summary = "다이어그램 DDL 내보내기",
+        description = "정규화 모델로부터 CREATE TABLE·FOREIGN KEY 스크립트를 만든다. 방언: h2, postgresql, mysql, oracle. " +
+        "컬럼 이름이 도메인이 연결된 팀 용어의 물리명과 같으면 도메인의 물리 데이터 타입을 쓴다. " +
+        "다이어그램과 팀 사전이 그대로이면 캐시된 스크립트를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 방언", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping(value = "/{diagramId}/ddl", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportDdl(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "SQL 방언 (h2, postgresql, mysql, oracle)") @RequestParam(
+            defaultValue = "postgresql"
+        ) String dialect
+    ) {
+        final var script = diagramDdlService.exportDdl(jwt.getSubject(), teamId, projectId, diagramId, dialect);
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+            .contentLength(script.byteSize())
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename("diagram-" + diagramId + "-" + dialect + ".sql").build().toString()
+            )
+            .body(script::writeTo);
+    }
+
+    /**
+     * 두 리비전 사이의 ALTER 마이그레이션 스크립트를 내려받는다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param from      기준 리비전
+     * @param to        대상 리비전 (생략 시 현재 리비전)
+     * @param dialect   SQL 방언 ID
+     * @return 200 OK + 마이그레이션 스크립트 본문
+     */
+    @Operation(
+        summary = "리비전 간 마이그레이션 스크립트",
+        description = "두 리비전의 구조적 차이로부터 외래 키 삭제 → 테이블 삭제·이름 변경·생성 → 컬럼 변경 → 외래 키 추가 " +
+        "순서의 ALTER 스크립트를 만든다. to를 생략하면 현재 content까지의 마이그레이션을 만든다."
+    )
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    @ApiResponse(responseCode = "400", description = "지원하지 않는 방언", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 또는 리비전 기록 미존재", content = @Content)
+    @GetMapping(value = "/{diagramId}/migration", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportMigration(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "기준 리비전") @RequestParam Long from,
+        @Parameter(description = "대상 리비전 (생략 시 현재 리비전)") @RequestParam(required = false) Long to,
+        @Parameter(description = "SQL 방언 (h2, postgresql, mysql, oracle)") @RequestParam(
+            defaultValue = "postgresql"
+        ) String dialect
+    ) {
+        final var script = diagramDdlService.exportMigration(
+            jwt.getSubject(),
+            teamId,
+            projectId,
+            diagramId,
+            from,
+            to,
+            dialect
+        );
+        final var filename = "diagram-" + diagramId + "-" + from + "-" + (to == null ? "current" : to) + "-" + dialect;
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+            .contentLength(script.byteSize())
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(filename + ".sql").build().toString()
+            )
+            .body(script::writeTo);
+    }
+
+    /**
+     * 다이어그램 미리보기 PNG를 조회한다.
+     *
+     * <p>{@code v}가 현재 content 해시와 같으면 내용이 바뀌지 않는 주소이므로 1년짜리 {@code immutable} 캐시 헤더를
+     * 붙인다. 그 밖에는 매번 재검증하도록 하고, {@code If-None-Match}가 현재 ETag와 같으면 304를 반환한다.</p>
+     *
+     * @param jwt         인증된 JWT 토큰
+     * @param teamId      팀 ID
+     * @param projectId   프로젝트 ID
+     * @param diagramId   다이어그램 ID
+     * @param version     목록 응답의 content 해시 (선택)
+     * @param ifNoneMatch {@code If-None-Match} 헤더 값 (선택)
+     * @return 200 OK + PNG 본문 + ETag, 또는 304 Not Modified
+     */
+    @Operation(
+        summary = "다이어그램 미리보기",
+        description = "다이어그램 전체를 480x320 안에 줄여 그린 PNG를 반환한다. 저장 직후 백그라운드에서 미리 그려 " +
+        "content 해시별로 캐시한다. v에 목록 응답의 contentHash를 넘기면 장기 캐시 헤더를 붙인다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "캐시된 미리보기가 최신")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping(value = "/{diagramId}/thumbnail", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<StreamingResponseBody> getThumbnail(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "content 해시 (현재 해시와 같으면 장기 캐시)") @RequestParam(
+            value = "v",
+            required = false
+        ) String version,
+        @Parameter(description = "캐시된 미리보기의 ETag") @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        final var header = diagramService.findAccessibleDiagramHeader(jwt.getSubject(), teamId, projectId, diagramId);
+        final var etag = DiagramETags.of(header.contentHash());
+        final var cacheControl = version != null && version.equals(header.contentHash())
+            ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+            : CacheControl.noCache().cachePrivate();
+        if (DiagramETags.matchesIfNoneMatch(ifNoneMatch, header.contentHash())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        final var thumbnail = diagramRenderService.getThumbnail(header);
+        return ResponseEntity.ok()
+            .contentType(MediaType.IMAGE_PNG)
+            .contentLength(thumbnail.png().length)
+            .eTag(DiagramETags.of(thumbnail.contentHash()))
+            .cacheControl(cacheControl)
+            .body(thumbnail::writeTo);
+    }
+
+    /**
+     * 다이어그램 전체를 SVG로 내려받는다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 200 OK + SVG 본문
+     */
+    @Operation(
+        summary = "다이어그램 SVG 내보내기",
+        description = "정규화 모델로부터 테이블 상자와 관계선을 SVG로 그린다. 테이블 수와 무관하게 본문을 흘려 쓴다."
+    )
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping(value = "/{diagramId}/svg", produces = "image/svg+xml")
+    public ResponseEntity<StreamingResponseBody> exportSvg(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId
+    ) {
+        final var scene = diagramRenderService.getScene(jwt.getSubject(), teamId, projectId, diagramId);
+        return ResponseEntity.ok()
+            .contentType(new MediaType("image", "svg+xml", StandardCharsets.UTF_8))
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename("diagram-" + diagramId + ".svg").build().toString()
+            )
+            .body((out) -> {
+                final var writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                DiagramSvgRenderer.write(scene, writer);
+                writer.flush();
+            });
+    }
+
+    /**
+     * 다이어그램 전체를 PNG로 내려받는다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param scale     배율
+     * @return 200 OK + PNG 본문
+     */
+    @Operation(
+        summary = "다이어그램 PNG 내보내기",
+        description = "정규화 모델로부터 다이어그램 전체를 Java2D로 그린다. 큰 이미지도 띠 단위로 그려 흘려 쓰며, " +
+        "배율을 적용한 한 변이 16384픽셀을 넘으면 400을 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "내보내기 성공")
+    @ApiResponse(responseCode = "400", description = "배율이 0 이하이거나 이미지가 너무 큼", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping(value = "/{diagramId}/png", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPng(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "배율 (1 = 캔버스 좌표 1당 1픽셀)") @RequestParam(defaultValue = "1") double scale
+    ) {
+        final var scene = diagramRenderService.getScene(jwt.getSubject(), teamId, projectId, diagramId);
+        // 본문을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 크기 제한은 미리 확인한다
+        DiagramPngRenderer.size(scene, scale);
+        return ResponseEntity.ok()
+            .contentType(MediaType.IMAGE_PNG)
+            .header(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename("diagram-" + diagramId + ".png").build().toString()
+            )
+            .body((out) -> DiagramPngRenderer.write(scene, scale, out));
+    }
+
+    /**
+     * 다이어그램 content 전체를 저장한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   다이어그램 저장 요청
+     * @param ifMatch   {@code If-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramResponse + 새 ETag
+     */
+    @Operation(
+        summary = "다이어그램 저장",
+        description = "캔버스 상태 JSON 전체로 다이어그램 content를 교체한다. If-Match가 현재 ETag와 다르면 412를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "저장 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 JSON")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @ApiResponse(responseCode = "412", description = "If-Match ETag 불일치")
+    @PutMapping("/{diagramId}")
+    public ResponseEntity<DiagramResponse> saveDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Valid @RequestBody SaveDiagramRequest request,
+        @Parameter(description = "수정 기준 content의 ETag (불일치 시 412)") @RequestHeader(
+            value = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
+    ) {
+        final var response = diagramService.saveDiagram(jwt.getSubject(), teamId, projectId, diagramId, request, ifMatch);
+        return ResponseEntity.ok().eTag(DiagramETags.of(response.contentHash())).body(response);
+    }
+
+    /**
+     * 다이어그램 content를 스트리밍으로 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId   다이어그램 ID
+     * @param ifNoneMatch {@code If-None-Match} 헤더 값 (선택)
+     * @return 200 OK + React Flow JSON 본문 + ETag, 또는 304 Not Modified
+     */
+    @Operation(
+        summary = "다이어그램 content 스트리밍 조회",
+        description = "저장된 LOB을 압축 해제하며 React Flow JSON을 그대로 응답 본문으로 흘려보낸다. 대용량 다이어그램용. " +
+        "If-None-Match가 현재 ETag와 같으면 LOB을 읽지 않고 304를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "304", description = "캐시된 content가 최신")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @GetMapping(value = "/{diagramId}/content", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDiagramContent(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "캐시된 content의 ETag") @RequestHeader(
+            value = HttpHeaders.IF_NONE_MATCH,
+            required = false
+        ) String ifNoneMatch
+    ) {
+        final var header = diagramService.findAccessibleDiagramHeader(jwt.getSubject(), teamId, projectId, diagramId);
+        final var etag = DiagramETags.of(header.contentHash());
+        if (DiagramETags.matchesIfNoneMatch(ifNoneMatch, header.contentHash())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .body((out) -> diagramService.copyContent(header.id(), out));
+    }
+
+    /**
+     * 요청 본문의 React Flow JSON을 스트리밍으로 읽어 다이어그램 content 전체를 저장한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param body      React Flow JSON 본문 스트림
+     * @param ifMatch   {@code If-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramResponse + 새 ETag
+     */
+    @Operation(
+        summary = "다이어그램 content 스트리밍 저장",
+        description = "요청 본문 자체가 React Flow JSON이다. 본문을 메모리에 올리지 않고 검증·압축하며 저장한다. 대용량 다이어그램용."
+    )
+    @ApiResponse(responseCode = "200", description = "저장 성공")
+    @ApiResponse(responseCode = "400", description = "잘못된 JSON")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @ApiResponse(responseCode = "412", description = "If-Match ETag 불일치")
+    @PutMapping(value = "/{diagramId}/content", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<DiagramResponse> saveDiagramContent(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        InputStream body,
+        @Parameter(description = "수정 기준 content의 ETag (불일치 시 412)") @RequestHeader(
+            value = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
+    ) {
+        final var response = diagramService.saveDiagramContent(
+            jwt.getSubject(),
+            teamId,
+            projectId,
+            diagramId,
+            body,
+            ifMatch
+        );
+        return ResponseEntity.ok().eTag(DiagramETags.of(response.contentHash())).body(response);
+    }
+
+    /**
+     * 기준 리비전 위에 JSON Patch 연산을 적용하여 다이어그램을 부분 저장한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   다이어그램 패치 요청
+     * @param ifMatch   {@code If-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramRevisionResponse + 새 ETag
+     */
+    @Operation(
+        summary = "다이어그램 부분 저장",
+        description = "RFC 6902 JSON Patch 연산 목록을 기준 리비전 위에 순서대로 적용한다. " +
+        "기준 리비전이 현재 리비전과 다르면 409를 반환한다."
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "패치 적용 성공",
+        content = @Content(schema = @Schema(implementation = DiagramRevisionResponse.class))
+    )
+    @ApiResponse(responseCode = "400", description = "잘못된 패치 연산 또는 경로", content = @Content)
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @ApiResponse(responseCode = "409", description = "기준 리비전이 오래됨 또는 test 연산 실패", content = @Content)
+    @ApiResponse(responseCode = "412", description = "If-Match ETag 불일치", content = @Content)
+    @PatchMapping("/{diagramId}/content")
+    public ResponseEntity<DiagramRevisionResponse> patchDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Valid @RequestBody PatchDiagramRequest request,
+        @Parameter(description = "수정 기준 content의 ETag (불일치 시 412)") @RequestHeader(
+            value = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
+    ) {
+        final var response = diagramService.patchDiagram(jwt.getSubject(), teamId, projectId, diagramId, request, ifMatch);
+        return ResponseEntity.ok().eTag(DiagramETags.of(response.contentHash())).body(response);
+    }
+
+    /**
+     * 다이어그램의 리비전 기록 목록을 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 200 OK + DiagramHistoryItemResponse 목록
+     */
+    @Operation(
+        summary = "다이어그램 리비전 기록 목록 조회",
+        description = "저장마다 남긴 리비전 기록을 최신순으로 반환한다. 오래된 기록은 하루 단위로 압축되어 일부 리비전이 " +
+        "빠져 있을 수 있다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping("/{diagramId}/revisions")
+    public ResponseEntity<List<DiagramHistoryItemResponse>> getRevisions(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId
+    ) {
+        return ResponseEntity.ok(diagramService.getRevisions(jwt.getSubject(), teamId, projectId, diagramId));
+    }
+
+    /**
+     * 지난 리비전의 content를 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param revision  조회할 리비전
+     * @return 200 OK + DiagramHistoryDetailResponse
+     */
+    @Operation(
+        summary = "다이어그램 리비전 content 조회",
+        description = "가장 가까운 스냅샷에 델타를 차례로 적용하여 해당 리비전의 React Flow JSON을 복원한다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 또는 리비전 기록 미존재", content = @Content)
+    @GetMapping("/{diagramId}/revisions/{revision}")
+    public ResponseEntity<DiagramHistoryDetailResponse> getRevision(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "다이어그램 리비전") @PathVariable Long revision
+    ) {
+        return ResponseEntity.ok(diagramService.getRevision(jwt.getSubject(), teamId, projectId, diagramId, revision));
+    }
+
+    /**
+     * 두 리비전 사이의 구조적 차이를 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param from      기준 리비전
+     * @param to        비교할 리비전 (선택, 없으면 현재 리비전)
+     * @return 200 OK + DiagramDiffResponse
+     */
+    @Operation(
+        summary = "다이어그램 리비전 비교",
+        description = "테이블·컬럼·관계를 ID로 짝지어 추가·삭제·이름 변경·타입 변경·제약 변경·이동을 반환한다. " +
+        "내용이 그대로인 테이블은 원소 다이제스트 비교만으로 건너뛴다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 또는 리비전 기록 미존재", content = @Content)
+    @GetMapping("/{diagramId}/diff")
+    public ResponseEntity<DiagramDiffResponse> getDiagramDiff(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "기준 리비전") @RequestParam Long from,
+        @Parameter(description = "비교할 리비전 (없으면 현재 리비전)") @RequestParam(required = false) Long to
+    ) {
+        return ResponseEntity.ok(
+            diagramService.getDiagramDiff(jwt.getSubject(), teamId, projectId, diagramId, from, to)
+        );
+    }
+
+    /**
+     * 관계 그래프의 건강 상태를 조회한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 200 OK + DiagramHealthResponse
+     */
+    @Operation(
+        summary = "다이어그램 건강 상태",
+        description = "관계 그래프에서 순환 참조(Tarjan 강한 연결 요소), 고립 테이블, 없는 테이블·컬럼을 가리키는 관계를 찾는다. " +
+        "저장마다 바뀐 테이블·관계만 다시 분석해 둔 결과를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping("/{diagramId}/health")
+    public ResponseEntity<DiagramHealthResponse> getDiagramHealth(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId
+    ) {
+        final var report = diagramHealthService.getReport(jwt.getSubject(), teamId, projectId, diagramId);
+        return ResponseEntity.ok(DiagramHealthResponse.of(diagramId, report));
+    }
+
+    /**
+     * 모든 컬럼을 팀 용어·도메인 사전과 비교한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 200 OK + DiagramValidationResponse
+     */
+    @Operation(
+        summary = "다이어그램 사전 검사",
+        description = "컬럼 이름이 용어 물리명인지, 타입이 그 용어에 연결된 도메인 타입(없으면 아무 도메인 타입)인지 " +
+        "검사한다. 저장마다 이름·타입이 바뀐 컬럼만, 사전이 바뀌면 바뀐 용어·도메인을 참조하는 컬럼만 다시 검사해 둔 " +
+        "결과를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "검사 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @GetMapping("/{diagramId}/validation")
+    public ResponseEntity<DiagramValidationResponse> validateDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId
+    ) {
+        final var report = diagramValidationService.validate(jwt.getSubject(), teamId, projectId, diagramId);
+        return ResponseEntity.ok(DiagramValidationResponse.of(diagramId, report));
+    }
+
+    /**
+     * 지난 리비전의 content로 다이어그램을 되돌린다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param revision  되돌릴 리비전
+     * @param ifMatch   {@code If-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramResponse + 새 ETag
+     */
+    @Operation(
+        summary = "다이어그램 리비전 복원",
+        description = "지난 리비전의 content를 새 리비전으로 저장한다. 기록은 지워지지 않는다. " +
+        "If-Match가 현재 ETag와 다르면 412를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "복원 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 또는 리비전 기록 미존재", content = @Content)
+    @ApiResponse(responseCode = "412", description = "If-Match ETag 불일치", content = @Content)
+    @PostMapping("/{diagramId}/revisions/{revision}/restore")
+    public ResponseEntity<DiagramResponse> restoreRevision(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "되돌릴 리비전") @PathVariable Long revision,
+        @Parameter(description = "수정 기준 content의 ETag (불일치 시 412)") @RequestHeader(
+            value = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
+    ) {
+        final var response = diagramService.restoreRevision(
+            jwt.getSubject(),
+            teamId,
+            projectId,
+            diagramId,
+            revision,
+            ifMatch
+        );
+        return ResponseEntity.ok().eTag(DiagramETags.of(response.contentHash())).body(response);
+    }
+
+    /**
+     * 관계 그래프로 테이블 위치를 자동 배치한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param ifMatch   {@code If-Match} 헤더 값 (선택)
+     * @return 200 OK + DiagramResponse + 새 ETag
+     */
+    @Operation(
+        summary = "다이어그램 자동 배치",
+        description = "관계 그래프의 연결 요소마다 힘 기반 배치(Barnes–Hut 근사)를 병렬로 계산하고, 요소들을 겹치지 않게 모아 " +
+        "노드 position에 저장한다. 새 리비전이 생긴다. If-Match가 현재 ETag와 다르면 412를 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "배치 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재", content = @Content)
+    @ApiResponse(responseCode = "412", description = "If-Match ETag 불일치", content = @Content)
+    @PostMapping("/{diagramId}/layout")
+    public ResponseEntity<DiagramResponse> layoutDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Parameter(description = "수정 기준 content의 ETag (불일치 시 412)") @RequestHeader(
+            value = HttpHeaders.IF_MATCH,
+            required = false
+        ) String ifMatch
+    ) {
+        final var response = diagramService.layoutDiagram(jwt.getSubject(), teamId, projectId, diagramId, ifMatch);
+        return ResponseEntity.ok().eTag(DiagramETags.of(response.contentHash())).body(response);
+    }
+
+    /**
+     * 다이어그램 이름을 변경한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   이름 변경 요청
+     * @return 200 OK + DiagramResponse
+     */
+    @Operation(summary = "다이어그램 이름 변경", description = "다이어그램 이름을 변경한다.")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @PatchMapping("/{diagramId}")
+    public ResponseEntity<DiagramResponse> renameDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId,
+        @Valid @RequestBody RenameDiagramRequest request
+    ) {
+        return ResponseEntity.ok(
+            diagramService.renameDiagram(jwt.getSubject(), teamId, projectId, diagramId, request)
+        );
+    }
+
+    /**
+     * 다이어그램을 삭제한다.
+     *
+     * @param jwt       인증된 JWT 토큰
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 204 No Content
+     */
+    @Operation(summary = "다이어그램 삭제", description = "다이어그램을 삭제한다. 팀 멤버만 가능.")
+    @ApiResponse(responseCode = "204", description = "삭제 성공")
+    @ApiResponse(responseCode = "404", description = "다이어그램 미존재")
+    @DeleteMapping("/{diagramId}")
+    public ResponseEntity<Void> deleteDiagram(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "프로젝트 ID") @PathVariable Long projectId,
+        @Parameter(description = "다이어그램 ID") @PathVariable Long diagramId
+    ) {
+        diagramService.deleteDiagram(jwt.getSubject(), teamId, projectId, diagramId);
+        return ResponseEntity.noContent().build();
+    }
+}
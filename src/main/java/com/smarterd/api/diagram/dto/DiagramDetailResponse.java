@@ -0,0 +1,77 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.repository.DiagramHeader;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 상세 응답 DTO (content 포함).
+ *
+ * @param id          다이어그램 ID
+ * @param name        다이어그램 이름
+ * @param projectId   소속 프로젝트 ID
+ * @param content     직렬화된 React Flow JSON
+ * @param revision    현재 리비전
+ * @param contentHash content 해시 (ETag 값)
+ * @param createdAt   생성 시각
+ * @param updatedAt   수정 시각
+ */
+@Schema(description = "다이어그램 상세 응답")
+public record DiagramDetailResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long id,
+
+    @Schema(description = "다이어그램 이름", example = "주문 도메인") String name,
+
+    @Schema(description = "소속 프로젝트 ID", example = "1") Long projectId,
+
+    @Schema(description = "직렬화된 React Flow JSON", example = "{\"nodes\":[],\"edges\":[]}") String content,
+
+    @Schema(description = "현재 리비전", example = "3") Long revision,
+
+    @Schema(description = "content 해시 (ETag 값)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "생성 시각") LocalDateTime createdAt,
+
+    @Schema(description = "수정 시각") LocalDateTime updatedAt
+) {
+    /**
+     * Diagram 엔티티로부터 상세 응답 DTO를 생성한다.
+     *
+     * @param diagram Diagram 엔티티
+     * @return DiagramDetailResponse
+     */
+    public static DiagramDetailResponse from(Diagram diagram) {
+        return new DiagramDetailResponse(
+            diagram.getId(),
+            diagram.getName(),
+            diagram.getProject().getId(),
+            diagram.getContent(),
+            diagram.getRevision(),
+            diagram.getContentHash(),
+            diagram.getCreatedAt(),
+            diagram.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 다이어그램 메타데이터와 별도로 구성한 content로 상세 응답 DTO를 생성한다.
+     *
+     * @param header  다이어그램 메타데이터
+     * @param content 직렬화된 React Flow JSON
+     * @return DiagramDetailResponse
+     */
+    public static DiagramDetailResponse of(DiagramHeader header, String content) {
+        return new DiagramDetailResponse(
+            header.id(),
+            header.name(),
+            header.projectId(),
+            content,
+            header.revision(),
+            header.contentHash(),
+            header.createdAt(),
+            header.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 다이어그램 리비전 간 구조적 차이 응답 DTO.
+ *
+ * @param diagramId       다이어그램 ID
+ * @param fromRevision    기준 리비전
+ * @param toRevision      비교한 리비전
+ * @param tables          테이블 변경 목록
+ * @param columns         컬럼 변경 목록
+ * @param relationships   관계 변경 목록
+ * @param unchangedTables 내용이 그대로인 테이블 수 (두 리비전의 content 해시가 같아 비교를 생략하면 0)
+ */
+@Schema(description = "다이어그램 구조적 차이 응답")
+public record DiagramDiffResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+    @Schema(description = "기준 리비전", example = "3") Long fromRevision,
+
+    @Schema(description = "비교한 리비전", example = "7") Long toRevision,
+
+    @Schema(description = "테이블 변경 (ADDED, REMOVED, RENAMED, MOVED)") List<DiagramDiff.TableChange> tables,
+
+    @Schema(description = "컬럼 변경 (ADDED, REMOVED, RENAMED, RETYPED, MODIFIED)")
+    List<DiagramDiff.ColumnChange> columns,
+
+    @Schema(description = "관계 변경 (ADDED, REMOVED, RETYPED, MODIFIED)")
+    List<DiagramDiff.RelationshipChange> relationships,
+
+    @Schema(description = "내용이 그대로인 테이블 수", example = "9988") int unchangedTables
+) {
+    /**
+     * 구조적 차이로부터 응답 DTO를 생성한다.
+     *
+     * @param diagramId    다이어그램 ID
+     * @param fromRevision 기준 리비전
+     * @param toRevision   비교한 리비전
+     * @param diff         구조적 차이
+     * @return DiagramDiffResponse
+     */
+    public static DiagramDiffResponse of(Long diagramId, Long fromRevision, Long toRevision, DiagramDiff diff) {
+        return new DiagramDiffResponse(
+            diagramId,
+            fromRevision,
+            toRevision,
+            diff.tables(),
+            diff.columns(),
+            diff.relationships(),
+            diff.unchangedTables()
+        );
+    }
+}
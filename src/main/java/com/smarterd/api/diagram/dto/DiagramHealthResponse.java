@@ -0,0 +1,50 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.health.DiagramHealthReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 다이어그램 관계 그래프 건강 상태 응답 DTO.
+ *
+ * @param diagramId         다이어그램 ID
+ * @param tableCount        테이블 수
+ * @param relationshipCount 관계 수
+ * @param cycles            순환 참조 (큰 순, 각 순환의 테이블은 이름 순)
+ * @param isolatedTables    다른 테이블과 관계가 없는 테이블
+ * @param danglingEdges     끝이 없는 테이블·컬럼을 가리키는 관계
+ */
+@Schema(description = "다이어그램 건강 상태 응답")
+public record DiagramHealthResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+    @Schema(description = "테이블 수", example = "120") int tableCount,
+
+    @Schema(description = "관계 수", example = "140") int relationshipCount,
+
+    @Schema(description = "순환 참조 (테이블이 둘 이상인 강한 연결 요소 또는 자기 참조 테이블)")
+    List<List<DiagramHealthReport.TableRef>> cycles,
+
+    @Schema(description = "다른 테이블과 관계가 없는 테이블") List<DiagramHealthReport.TableRef> isolatedTables,
+
+    @Schema(description = "끊어진 관계 (MISSING_SOURCE_TABLE·TARGET_TABLE·SOURCE_COLUMN·TARGET_COLUMN)")
+    List<DiagramHealthReport.DanglingEdge> danglingEdges
+) {
+    /**
+     * 건강 상태 보고서로부터 응답 DTO를 생성한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param report    건강 상태 보고서
+     * @return DiagramHealthResponse
+     */
+    public static DiagramHealthResponse of(Long diagramId, DiagramHealthReport report) {
+        return new DiagramHealthResponse(
+            diagramId,
+            report.tableCount(),
+            report.relationshipCount(),
+            report.cycles(),
+            report.isolatedTables(),
+            report.danglingEdges()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.repository.DiagramRevisionItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 리비전 content 응답 DTO.
+ *
+ * @param diagramId   다이어그램 ID
+ * @param revision    다이어그램 리비전
+ * @param contentHash 해당 리비전의 content 해시
+ * @param content     해당 리비전의 React Flow JSON
+ * @param createdAt   기록 시각
+ */
+@Schema(description = "다이어그램 리비전 content 응답")
+public record DiagramHistoryDetailResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+    @Schema(description = "다이어그램 리비전", example = "4") Long revision,
+
+    @Schema(description = "content 해시", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "직렬화된 React Flow JSON", example = "{\"nodes\":[],\"edges\":[]}") String content,
+
+    @Schema(description = "기록 시각") LocalDateTime createdAt
+) {
+    /**
+     * 리비전 기록 프로젝션과 복원한 content로 응답 DTO를 생성한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param item      리비전 기록 프로젝션
+     * @param content   복원한 React Flow JSON
+     * @return DiagramHistoryDetailResponse
+     */
+    public static DiagramHistoryDetailResponse of(Long diagramId, DiagramRevisionItem item, String content) {
+        return new DiagramHistoryDetailResponse(
+            diagramId,
+            item.revision(),
+            item.contentHash(),
+            content,
+            item.createdAt()
+        );
+    }
+}
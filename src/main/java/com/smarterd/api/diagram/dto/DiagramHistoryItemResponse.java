@@ -0,0 +1,57 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import com.smarterd.domain.diagram.repository.DiagramRevisionItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 리비전 기록 응답 DTO (목록용, content 제외).
+ *
+ * @param revision     다이어그램 리비전
+ * @param kind         저장 방식 (스냅샷 또는 델타)
+ * @param baseRevision 델타의 기준 리비전 (스냅샷이면 {@code null})
+ * @param depth        가장 가까운 스냅샷에서의 델타 수
+ * @param contentHash  content 해시 (ETag 값)
+ * @param byteSize     평문 content 크기 (바이트)
+ * @param payloadSize  저장된 payload 크기 (바이트)
+ * @param createdAt    기록 시각
+ */
+@Schema(description = "다이어그램 리비전 기록 응답")
+public record DiagramHistoryItemResponse(
+    @Schema(description = "다이어그램 리비전", example = "4") Long revision,
+
+    @Schema(description = "저장 방식", example = "DELTA") DiagramRevisionKind kind,
+
+    @Schema(description = "델타의 기준 리비전 (스냅샷이면 null)", example = "3") Long baseRevision,
+
+    @Schema(description = "가장 가까운 스냅샷에서의 델타 수", example = "1") int depth,
+
+    @Schema(description = "content 해시 (ETag 값)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "평문 content 크기 (바이트)", example = "24576") long byteSize,
+
+    @Schema(description = "저장된 payload 크기 (바이트)", example = "312") long payloadSize,
+
+    @Schema(description = "기록 시각") LocalDateTime createdAt
+) {
+    /**
+     * 리비전 기록 프로젝션으로부터 응답 DTO를 생성한다.
+     *
+     * @param item 리비전 기록 프로젝션
+     * @return DiagramHistoryItemResponse
+     */
+    public static DiagramHistoryItemResponse from(DiagramRevisionItem item) {
+        return new DiagramHistoryItemResponse(
+            item.revision(),
+            item.kind(),
+            item.baseRevision(),
+            item.depth(),
+            item.contentHash(),
+            item.byteSize(),
+            item.payloadSize(),
+            item.createdAt()
+        );
+    }
+}
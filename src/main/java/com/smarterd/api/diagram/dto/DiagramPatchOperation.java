@@ -0,0 +1,25 @@
+package com.smarterd.api.diagram.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * JSON Patch(RFC 6902) 단일 연산 DTO.
+ *
+ * @param op    연산 종류 (add, remove, replace, move, copy, test)
+ * @param path  대상 위치 JSON Pointer (예: {@code /nodes/3/position})
+ * @param from  원본 위치 JSON Pointer (move, copy에서만 사용, nullable)
+ * @param value 연산 값 (add, replace, test에서만 사용, nullable)
+ */
+@Schema(description = "JSON Patch 연산 (RFC 6902)")
+public record DiagramPatchOperation(
+    @Schema(description = "연산 종류 (add, remove, replace, move, copy, test)", example = "replace") @NotBlank String op,
+
+    @Schema(description = "대상 위치 JSON Pointer", example = "/nodes/0/position/x") @NotNull String path,
+
+    @Schema(description = "원본 위치 JSON Pointer (move, copy 전용)", example = "/nodes/1") String from,
+
+    @Schema(description = "연산 값 (add, replace, test 전용)", example = "320") JsonNode value
+) {}
@@ -0,0 +1,71 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.repository.DiagramHeader;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 응답 DTO (목록용, content 제외).
+ *
+ * @param id          다이어그램 ID
+ * @param name        다이어그램 이름
+ * @param projectId   소속 프로젝트 ID
+ * @param revision    현재 리비전
+ * @param contentHash content 해시 (ETag 값)
+ * @param createdAt   생성 시각
+ * @param updatedAt   수정 시각
+ */
+@Schema(description = "다이어그램 응답")
+public record DiagramResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long id,
+
+    @Schema(description = "다이어그램 이름", example = "주문 도메인") String name,
+
+    @Schema(description = "소속 프로젝트 ID", example = "1") Long projectId,
+
+    @Schema(description = "현재 리비전", example = "3") Long revision,
+
+    @Schema(description = "content 해시 (ETag 값)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "생성 시각") LocalDateTime createdAt,
+
+    @Schema(description = "수정 시각") LocalDateTime updatedAt
+) {
+    /**
+     * Diagram 엔티티로부터 응답 DTO를 생성한다.
+     *
+     * @param diagram Diagram 엔티티
+     * @return DiagramResponse
+     */
+    public static DiagramResponse from(Diagram diagram) {
+        return new DiagramResponse(
+            diagram.getId(),
+            diagram.getName(),
+            diagram.getProject().getId(),
+            diagram.getRevision(),
+            diagram.getContentHash(),
+            diagram.getCreatedAt(),
+            diagram.getUpdatedAt()
+        );
+    }
+
+    /**
+     * 다이어그램 메타데이터 프로젝션으로부터 응답 DTO를 생성한다.
+     *
+     * @param header 다이어그램 메타데이터
+     * @return DiagramResponse
+     */
+    public static DiagramResponse from(DiagramHeader header) {
+        return new DiagramResponse(
+            header.id(),
+            header.name(),
+            header.projectId(),
+            header.revision(),
+            header.contentHash(),
+            header.createdAt(),
+            header.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 패치 결과 응답 DTO.
+ *
+ * <p>패치 적용 후 전체 content를 되돌려 보내지 않고, 클라이언트가 다음 패치의 기준으로 삼을 리비전만 반환한다.</p>
+ *
+ * @param id          다이어그램 ID
+ * @param revision    패치 적용 후 리비전
+ * @param contentHash 패치 적용 후 content 해시 (ETag 값)
+ * @param updatedAt   수정 시각
+ */
+@Schema(description = "다이어그램 리비전 응답")
+public record DiagramRevisionResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long id,
+
+    @Schema(description = "패치 적용 후 리비전", example = "4") Long revision,
+
+    @Schema(description = "content 해시 (ETag 값)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "수정 시각") LocalDateTime updatedAt
+) {
+    /**
+     * Diagram 엔티티로부터 리비전 응답 DTO를 생성한다.
+     *
+     * @param diagram Diagram 엔티티
+     * @return DiagramRevisionResponse
+     */
+    public static DiagramRevisionResponse from(Diagram diagram) {
+        return new DiagramRevisionResponse(
+            diagram.getId(),
+            diagram.getRevision(),
+            diagram.getContentHash(),
+            diagram.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.diagram.repository.DiagramListItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 요약 응답 DTO (목록용, content 제외).
+ *
+ * <p>저장 시 미리 계산해 둔 통계를 함께 담는다. 경계 상자는 노드 좌상단 좌표 기준이며 테이블이 없으면 {@code null}이다.</p>
+ *
+ * @param id                다이어그램 ID
+ * @param name              다이어그램 이름
+ * @param projectId         소속 프로젝트 ID
+ * @param revision          현재 리비전
+ * @param contentHash       content 해시 (ETag 값)
+ * @param tableCount        테이블 수
+ * @param columnCount       컬럼 수
+ * @param relationshipCount 관계 수
+ * @param minX              노드 경계 상자 왼쪽 X
+ * @param minY              노드 경계 상자 위쪽 Y
+ * @param maxX              노드 경계 상자 오른쪽 X
+ * @param maxY              노드 경계 상자 아래쪽 Y
+ * @param byteSize          평문 content 크기 (바이트)
+ * @param createdAt         생성 시각
+ * @param updatedAt         수정 시각
+ */
+@Schema(description = "다이어그램 요약 응답")
+public record DiagramSummaryResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long id,
+
+    @Schema(description = "다이어그램 이름", example = "주문 도메인") String name,
+
+    @Schema(description = "소속 프로젝트 ID", example = "1") Long projectId,
+
+    @Schema(description = "현재 리비전", example = "3") Long revision,
+
+    @Schema(description = "content 해시 (ETag 값)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    String contentHash,
+
+    @Schema(description = "테이블 수", example = "12") Integer tableCount,
+
+    @Schema(description = "컬럼 수", example = "87") Integer columnCount,
+
+    @Schema(description = "관계 수", example = "11") Integer relationshipCount,
+
+    @Schema(description = "노드 경계 상자 왼쪽 X", example = "0") Double minX,
+
+    @Schema(description = "노드 경계 상자 위쪽 Y", example = "0") Double minY,
+
+    @Schema(description = "노드 경계 상자 오른쪽 X", example = "1280") Double maxX,
+
+    @Schema(description = "노드 경계 상자 아래쪽 Y", example = "800") Double maxY,
+
+    @Schema(description = "평문 content 크기 (바이트)", example = "24576") Long byteSize,
+
+    @Schema(description = "생성 시각") LocalDateTime createdAt,
+
+    @Schema(description = "수정 시각") LocalDateTime updatedAt
+) {
+    /**
+     * 다이어그램 목록 행 프로젝션으로부터 요약 응답 DTO를 생성한다.
+     *
+     * @param item 다이어그램 목록 행
+     * @return DiagramSummaryResponse
+     */
+    public static DiagramSummaryResponse from(DiagramListItem item) {
+        return new DiagramSummaryResponse(
+            item.id(),
+            item.name(),
+            item.projectId(),
+            item.revision(),
+            item.contentHash(),
+            item.tableCount(),
+            item.columnCount(),
+            item.relationshipCount(),
+            item.minX(),
+            item.minY(),
+            item.maxX(),
+            item.maxY(),
+            item.byteSize(),
+            item.createdAt(),
+            item.updatedAt()
+        );
+    }
+}
@@ -0,0 +1,36 @@
+package com.smarterd.api.diagram.dto;
+
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 다이어그램 사전 검사 응답 DTO.
+ *
+ * @param diagramId   다이어그램 ID
+ * @param tableCount  검사한 테이블 수
+ * @param columnCount 검사한 컬럼 수
+ * @param issues      사전과 맞지 않는 컬럼 (테이블·컬럼 순)
+ */
+@Schema(description = "다이어그램 사전 검사 응답")
+public record DiagramValidationResponse(
+    @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+    @Schema(description = "검사한 테이블 수", example = "120") int tableCount,
+
+    @Schema(description = "검사한 컬럼 수", example = "960") int columnCount,
+
+    @Schema(description = "사전과 맞지 않는 컬럼 (UNKNOWN_NAME·TYPE_MISMATCH·UNKNOWN_TYPE)")
+    List<DictionaryValidationReport.Issue> issues
+) {
+    /**
+     * 사전 검사 보고서로부터 응답 DTO를 생성한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param report    사전 검사 보고서
+     * @return DiagramValidationResponse
+     */
+    public static DiagramValidationResponse of(Long diagramId, DictionaryValidationReport report) {
+        return new DiagramValidationResponse(diagramId, report.tableCount(), report.columnCount(), report.issues());
+    }
+}
@@ -0,0 +1,20 @@
+package com.smarterd.api.diagram.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * 다이어그램 부분 저장(패치) 요청 DTO.
+ *
+ * @param baseRevision 패치가 기준으로 삼은 다이어그램 리비전 (필수)
+ * @param operations   순서대로 적용할 JSON Patch 연산 목록 (필수, 1개 이상)
+ */
+@Schema(description = "다이어그램 패치 요청")
+public record PatchDiagramRequest(
+    @Schema(description = "기준 리비전 (현재 리비전과 다르면 409)", example = "3") @NotNull Long baseRevision,
+
+    @Schema(description = "순서대로 적용할 JSON Patch 연산 목록") @NotEmpty List<@Valid DiagramPatchOperation> operations
+) {}
@@ -0,0 +1,16 @@
+package com.smarterd.api.diagram.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 다이어그램 저장 요청 DTO.
+ *
+ * @param content 직렬화된 React Flow JSON (필수)
+ */
+@Schema(description = "다이어그램 저장 요청")
+public record SaveDiagramRequest(
+    @Schema(description = "직렬화된 React Flow JSON (노드 + 엣지)", example = "{\"nodes\":[],\"edges\":[]}")
+    @NotNull
+    String content
+) {}
@@ -0,0 +1,104 @@
+package com.smarterd.api.dictionary;
+
+import com.smarterd.api.dictionary.dto.DictionaryImportResponse;
+import com.smarterd.api.dictionary.dto.DictionarySearchResponse;
+import com.smarterd.domain.dictionary.service.DictionaryImportService;
+import com.smarterd.domain.dictionary.service.DictionarySearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 데이터 사전 REST 컨트롤러.
+ *
+ * <p>{@code /api/teams/{teamId}/dictionary} 경로 하위에 용어·도메인을 함께 다루는 엔드포인트를 제공한다. 모든
+ * 엔드포인트는 인증이 필요하다.</p>
+ */
+@Tag(name = "Dictionary", description = "데이터 사전 API")
+@RestController
+@RequestMapping("/api/teams/{teamId}/dictionary")
+@RequiredArgsConstructor
+public class DictionaryController {
+
+    /** 사전 검색 서비스 */
+    private final DictionarySearchService dictionarySearchService;
+
+    /** 사전 가져오기 서비스 */
+    private final DictionaryImportService dictionaryImportService;
+
+    /**
+     * 논리명으로 용어·도메인을 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param query  입력
+     * @param limit  최대 결과 수
+     * @return 200 OK + DictionarySearchResponse
+     */
+    @Operation(
+        summary = "사전 검색",
+        description = "용어·도메인 논리명을 찾는다. 초성만 입력하면(ㅅㅇㅈ) 초성이 들어 있는 이름을, 그 밖에는 자모 단위 " +
+        "n-gram이 겹치는 이름을 찾으므로 조합 중인 입력(사용ㅈ)과 오타도 허용한다. 공백과 대소문자는 무시한다."
+    )
+    @ApiResponse(responseCode = "200", description = "검색 성공")
+    @ApiResponse(responseCode = "400", description = "최대 결과 수가 범위를 벗어남", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @GetMapping("/search")
+    public ResponseEntity<DictionarySearchResponse> search(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "입력", example = "ㅅㅇㅈ") @RequestParam("q") String query,
+        @Parameter(description = "최대 결과 수 (1~100)") @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(dictionarySearchService.search(jwt.getSubject(), teamId, query, limit));
+    }
+
+    /**
+     * CSV 또는 XLSX 파일의 용어·도메인을 사전에 추가한다.
+     *
+     * @param jwt     인증된 JWT 토큰
+     * @param teamId  팀 ID
+     * @param charset CSV 문자 인코딩
+     * @param body    파일 본문 스트림
+     * @return 200 OK + DictionaryImportResponse
+     */
+    @Operation(
+        summary = "사전 가져오기",
+        description = "요청 본문 자체가 CSV 또는 XLSX 파일이다 (형식은 내용으로 판별). 첫 행은 머리글이며 kind(구분), " +
+        "logical_name(논리명)은 필수, physical_name(물리명), physical_type(데이터타입), domain(도메인명)은 선택이다. " +
+        "잘못된 행은 건너뛰고 행 번호와 사유를 돌려준다."
+    )
+    @ApiResponse(responseCode = "200", description = "가져오기 완료 (건너뛴 행 포함)")
+    @ApiResponse(responseCode = "400", description = "머리글이 없거나 파일 형식·인코딩이 잘못됨", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @PostMapping(
+        value = "/import",
+        consumes = {
+            "text/csv",
+            "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+            MediaType.APPLICATION_OCTET_STREAM_VALUE,
+        }
+    )
+    public ResponseEntity<DictionaryImportResponse> importDictionary(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "CSV 문자 인코딩", example = "MS949") @RequestParam(defaultValue = "UTF-8") String charset,
+        InputStream body
+    ) {
+        return ResponseEntity.ok(dictionaryImportService.importDictionary(jwt.getSubject(), teamId, charset, body));
+    }
+}
@@ -0,0 +1,61 @@
+package com.smarterd.api.dictionary;
+
+import com.smarterd.api.dictionary.dto.TermSuggestResponse;
+import com.smarterd.domain.dictionary.service.TermSuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 용어 사전 REST 컨트롤러.
+ *
+ * <p>{@code /api/teams/{teamId}/terms} 경로 하위에 팀 용어 사전 엔드포인트를 제공한다. 모든 엔드포인트는 인증이
+ * 필요하다.</p>
+ */
+@Tag(name = "Term", description = "용어 사전 API")
+@RestController
+@RequestMapping("/api/teams/{teamId}/terms")
+@RequiredArgsConstructor
+public class TermController {
+
+    /** 용어 자동완성 서비스 */
+    private final TermSuggestService termSuggestService;
+
+    /**
+     * 입력한 앞부분으로 시작하는 용어를 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param query  입력한 앞부분
+     * @param limit  최대 결과 수
+     * @return 200 OK + TermSuggestResponse
+     */
+    @Operation(
+        summary = "용어 자동완성",
+        description = "논리명이나 물리명이 입력으로 시작하는 팀 용어를 연결된 도메인의 물리 타입과 함께 찾는다. " +
+        "대소문자는 무시하며, 일치한 이름의 사전 순이므로 입력과 똑같은 이름이 맨 앞에 온다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "최대 결과 수가 범위를 벗어남", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @GetMapping("/suggest")
+    public ResponseEntity<TermSuggestResponse> suggest(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "입력한 앞부분", example = "user") @RequestParam("q") String query,
+        @Parameter(description = "최대 결과 수 (1~50)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(termSuggestService.suggest(jwt.getSubject(), teamId, query, limit));
+    }
+}
@@ -0,0 +1,39 @@
+package com.smarterd.api.dictionary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 사전 가져오기 결과 응답 DTO.
+ *
+ * @param rows           읽은 데이터 행 수 (머리글·빈 행 제외)
+ * @param domainsCreated 추가한 도메인 수
+ * @param termsCreated   추가한 용어 수
+ * @param errorCount     건너뛴 행 수
+ * @param errors         건너뛴 행과 사유 (행 번호 순, 앞쪽 일부만)
+ */
+@Schema(description = "사전 가져오기 결과 응답")
+public record DictionaryImportResponse(
+    @Schema(description = "읽은 데이터 행 수 (머리글·빈 행 제외)", example = "100000") int rows,
+
+    @Schema(description = "추가한 도메인 수", example = "120") int domainsCreated,
+
+    @Schema(description = "추가한 용어 수", example = "99870") int termsCreated,
+
+    @Schema(description = "건너뛴 행 수", example = "10") int errorCount,
+
+    @Schema(description = "건너뛴 행과 사유 (행 번호 순, 앞쪽 일부만)") List<RowError> errors
+) {
+    /**
+     * 건너뛴 행 하나.
+     *
+     * @param row     파일의 행 번호 (첫 행이 1)
+     * @param message 사유
+     */
+    @Schema(description = "건너뛴 행")
+    public record RowError(
+        @Schema(description = "파일의 행 번호 (첫 행이 1)", example = "42") int row,
+
+        @Schema(description = "사유", example = "Unknown domain: 금액") String message
+    ) {}
+}
@@ -0,0 +1,71 @@
+package com.smarterd.api.dictionary.dto;
+
+import com.smarterd.domain.dictionary.index.DictionaryItem;
+import com.smarterd.domain.dictionary.index.DictionarySearchHit;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 사전 검색 응답 DTO.
+ *
+ * @param query 입력
+ * @param hits  점수 순 결과
+ */
+@Schema(description = "사전 검색 응답")
+public record DictionarySearchResponse(
+    @Schema(description = "입력", example = "ㅅㅇㅈ") String query,
+
+    @Schema(description = "점수 순 결과") List<Hit> hits
+) {
+    /**
+     * 검색 결과 하나.
+     *
+     * @param kind         종류
+     * @param id           용어 또는 도메인 ID
+     * @param logicalName  논리명
+     * @param physicalName 용어 물리명 (도메인이면 {@code null})
+     * @param physicalType 도메인 물리 타입, 용어는 연결된 도메인의 물리 타입 (없으면 {@code null})
+     * @param score        점수
+     */
+    @Schema(description = "사전 검색 결과")
+    public record Hit(
+        @Schema(description = "종류", example = "TERM") DictionaryItem.Kind kind,
+
+        @Schema(description = "용어 또는 도메인 ID", example = "1") Long id,
+
+        @Schema(description = "논리명", example = "사용자명") String logicalName,
+
+        @Schema(description = "용어 물리명", example = "user_name") @Nullable String physicalName,
+
+        @Schema(description = "물리 타입", example = "VARCHAR(50)") @Nullable String physicalType,
+
+        @Schema(description = "점수 (클수록 앞)", example = "1.5") double score
+    ) {}
+
+    /**
+     * 색인 조회 결과로부터 응답 DTO를 생성한다.
+     *
+     * @param query 입력
+     * @param hits  색인 조회 결과
+     * @return DictionarySearchResponse
+     */
+    public static DictionarySearchResponse of(String query, List<DictionarySearchHit> hits) {
+        return new DictionarySearchResponse(
+            query,
+            hits
+                .stream()
+                .map((hit) ->
+                    new Hit(
+                        hit.item().kind(),
+                        hit.item().id(),
+                        hit.item().logicalName(),
+                        hit.item().physicalName(),
+                        hit.item().physicalType(),
+                        hit.score()
+                    )
+                )
+                .toList()
+        );
+    }
+}
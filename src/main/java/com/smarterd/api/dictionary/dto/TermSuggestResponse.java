@@ -0,0 +1,29 @@
+package com.smarterd.api.dictionary.dto;
+
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 용어 자동완성 응답 DTO.
+ *
+ * @param query 입력한 앞부분
+ * @param terms 일치한 용어 (일치한 이름의 사전 순)
+ */
+@Schema(description = "용어 자동완성 응답")
+public record TermSuggestResponse(
+    @Schema(description = "입력한 앞부분", example = "user") String query,
+
+    @Schema(description = "일치한 용어") List<TermDictionaryEntry> terms
+) {
+    /**
+     * 색인 조회 결과로부터 응답 DTO를 생성한다.
+     *
+     * @param query 입력한 앞부분
+     * @param terms 일치한 용어
+     * @return TermSuggestResponse
+     */
+    public static TermSuggestResponse of(String query, List<TermDictionaryEntry> terms) {
+        return new TermSuggestResponse(query, terms);
+    }
+}
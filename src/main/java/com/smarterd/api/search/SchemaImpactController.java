@@ -0,0 +1,124 @@
+package com.smarterd.api.search;
+
+import com.smarterd.api.search.dto.SchemaImpactResponse;
+import com.smarterd.domain.search.service.SchemaImpactService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 영향 분석 REST 컨트롤러.
+ *
+ * <p>{@code /api/teams/{teamId}/impact} 경로 하위에 컬럼 이름·데이터 타입·용어·도메인을 바꿀 때 영향을 받는
+ * 팀의 모든 다이어그램·테이블·컬럼을 찾는 엔드포인트를 제공한다. 모든 엔드포인트는 인증이 필요하다.</p>
+ */
+@Tag(name = "Impact", description = "영향 분석 API")
+@RestController
+@RequestMapping("/api/teams/{teamId}/impact")
+@RequiredArgsConstructor
+public class SchemaImpactController {
+
+    /** 영향 분석 서비스 */
+    private final SchemaImpactService schemaImpactService;
+
+    /**
+     * 이름이 같은 컬럼을 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param name   컬럼 이름
+     * @return 200 OK + SchemaImpactResponse
+     */
+    @Operation(summary = "컬럼 이름 영향 분석", description = "팀의 모든 다이어그램에서 이름이 같은 컬럼을 찾는다 (대소문자 무시).")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "컬럼 이름이 비어 있음", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @GetMapping("/columns")
+    public ResponseEntity<SchemaImpactResponse> findByColumnName(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "컬럼 이름", example = "customer_id") @RequestParam String name
+    ) {
+        return ResponseEntity.ok(schemaImpactService.findByColumnName(jwt.getSubject(), teamId, name));
+    }
+
+    /**
+     * 데이터 타입이 같은 컬럼을 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param type   데이터 타입 또는 타입 이름
+     * @return 200 OK + SchemaImpactResponse
+     */
+    @Operation(
+        summary = "데이터 타입 영향 분석",
+        description = "팀의 모든 다이어그램에서 데이터 타입이 같은 컬럼을 찾는다. 대소문자와 공백은 무시하며, " +
+        "괄호 없이 타입 이름만 주면(VARCHAR) 길이와 무관하게 같은 종류의 컬럼을 모두 찾는다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "데이터 타입이 비어 있음", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @GetMapping("/types")
+    public ResponseEntity<SchemaImpactResponse> findByType(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "데이터 타입", example = "VARCHAR(50)") @RequestParam String type
+    ) {
+        return ResponseEntity.ok(schemaImpactService.findByType(jwt.getSubject(), teamId, type));
+    }
+
+    /**
+     * 용어를 쓰는 컬럼을 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param termId 용어 ID
+     * @return 200 OK + SchemaImpactResponse
+     */
+    @Operation(summary = "용어 영향 분석", description = "팀의 모든 다이어그램에서 이름이 용어 물리명과 같은 컬럼을 찾는다.")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "팀 또는 용어 미존재", content = @Content)
+    @GetMapping("/terms/{termId}")
+    public ResponseEntity<SchemaImpactResponse> findByTerm(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "용어 ID") @PathVariable Long termId
+    ) {
+        return ResponseEntity.ok(schemaImpactService.findByTerm(jwt.getSubject(), teamId, termId));
+    }
+
+    /**
+     * 도메인이 타입을 정하는 컬럼을 찾는다.
+     *
+     * @param jwt      인증된 JWT 토큰
+     * @param teamId   팀 ID
+     * @param domainId 도메인 ID
+     * @return 200 OK + SchemaImpactResponse
+     */
+    @Operation(
+        summary = "도메인 영향 분석",
+        description = "팀의 모든 다이어그램에서 이름이 도메인에 연결된 용어의 물리명과 같은 컬럼을 찾는다. " +
+        "도메인의 물리 데이터 타입을 바꾸면 DDL 내보내기에서 이 컬럼들의 타입이 바뀐다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "404", description = "팀 또는 도메인 미존재", content = @Content)
+    @GetMapping("/domains/{domainId}")
+    public ResponseEntity<SchemaImpactResponse> findByDomain(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "도메인 ID") @PathVariable Long domainId
+    ) {
+        return ResponseEntity.ok(schemaImpactService.findByDomain(jwt.getSubject(), teamId, domainId));
+    }
+}
@@ -0,0 +1,101 @@
+package com.smarterd.api.search;
+
+import com.smarterd.api.search.dto.SchemaSearchResponse;
+import com.smarterd.api.search.dto.SimilarTablesResponse;
+import com.smarterd.domain.search.service.SchemaSearchService;
+import com.smarterd.domain.search.service.TableSimilarityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 팀 단위 검색 REST 컨트롤러.
+ *
+ * <p>{@code /api/teams/{teamId}/search} 경로 하위에 팀의 모든 프로젝트·다이어그램을 가로지르는 검색 엔드포인트를 제공한다.
+ * 모든 엔드포인트는 인증이 필요하다.</p>
+ */
+@Tag(name = "Search", description = "팀 단위 검색 API")
+@RestController
+@RequestMapping("/api/teams/{teamId}/search")
+@RequiredArgsConstructor
+public class SchemaSearchController {
+
+    /** 스키마 검색 서비스 */
+    private final SchemaSearchService schemaSearchService;
+
+    /** 비슷한 테이블 서비스 */
+    private final TableSimilarityService tableSimilarityService;
+
+    /**
+     * 팀의 모든 다이어그램에서 테이블·컬럼을 찾는다.
+     *
+     * @param jwt    인증된 JWT 토큰
+     * @param teamId 팀 ID
+     * @param query  검색어
+     * @param limit  최대 결과 수
+     * @return 200 OK + SchemaSearchResponse
+     */
+    @Operation(
+        summary = "테이블·컬럼 검색",
+        description = "팀의 모든 다이어그램에서 테이블 이름, 컬럼 이름, 데이터 타입을 찾는다. 검색어는 식별자 단위로 나누며 " +
+        "(order_item.unit_price → order_item, unit_price) 모든 토큰이 접두어로 걸린 테이블·컬럼을 점수 순으로 반환한다."
+    )
+    @ApiResponse(responseCode = "200", description = "검색 성공")
+    @ApiResponse(responseCode = "400", description = "최대 결과 수가 범위를 벗어남", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 미존재", content = @Content)
+    @GetMapping("/schema")
+    public ResponseEntity<SchemaSearchResponse> searchSchema(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "검색어", example = "order_item.unit_price") @RequestParam("q") String query,
+        @Parameter(description = "최대 결과 수 (1~200)") @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(schemaSearchService.search(jwt.getSubject(), teamId, query, limit));
+    }
+
+    /**
+     * 팀의 모든 다이어그램에서 컬럼 구성이 비슷한 테이블을 찾는다.
+     *
+     * @param jwt           인증된 JWT 토큰
+     * @param teamId        팀 ID
+     * @param diagramId     대상 테이블의 다이어그램 ID
+     * @param nodeId        대상 테이블 노드 ID
+     * @param minSimilarity 최소 자카드 유사도
+     * @param limit         최대 결과 수
+     * @return 200 OK + SimilarTablesResponse
+     */
+    @Operation(
+        summary = "비슷한 테이블 찾기",
+        description = "컬럼 이름 집합(소문자, _ 제거)의 MinHash 서명을 LSH 버킷으로 묶어 두고, 대상 테이블과 버킷을 함께 쓰는 " +
+        "테이블만 정확한 자카드 유사도로 비교한다. 유사도 0.7 이상은 거의 모두, 0.5는 약 3분의 2가 후보에 든다."
+    )
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    @ApiResponse(responseCode = "400", description = "최소 유사도나 최대 결과 수가 범위를 벗어남", content = @Content)
+    @ApiResponse(responseCode = "404", description = "팀 또는 테이블 미존재 (색인 전 포함)", content = @Content)
+    @GetMapping("/similar-tables")
+    public ResponseEntity<SimilarTablesResponse> findSimilarTables(
+        @AuthenticationPrincipal Jwt jwt,
+        @Parameter(description = "팀 ID") @PathVariable Long teamId,
+        @Parameter(description = "대상 테이블의 다이어그램 ID") @RequestParam Long diagramId,
+        @Parameter(description = "대상 테이블 노드 ID") @RequestParam String nodeId,
+        @Parameter(description = "최소 자카드 유사도 (0 초과 1 이하)") @RequestParam(
+            defaultValue = "0.5"
+        ) double minSimilarity,
+        @Parameter(description = "최대 결과 수 (1~100)") @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(
+            tableSimilarityService.findSimilar(jwt.getSubject(), teamId, diagramId, nodeId, minSimilarity, limit)
+        );
+    }
+}
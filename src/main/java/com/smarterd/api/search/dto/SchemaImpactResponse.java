@@ -0,0 +1,87 @@
+package com.smarterd.api.search.dto;
+
+import com.smarterd.domain.search.index.SchemaColumnRef;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 영향 분석 응답 DTO.
+ *
+ * @param keys         찾은 열쇠 (컬럼 이름이나 데이터 타입, 용어·도메인이면 연결된 용어 물리명)
+ * @param diagramCount 영향을 받는 다이어그램 수
+ * @param tableCount   영향을 받는 테이블 수
+ * @param columns      영향을 받는 컬럼 (프로젝트·다이어그램·테이블 순)
+ */
+@Schema(description = "영향 분석 응답")
+public record SchemaImpactResponse(
+    @Schema(description = "찾은 열쇠 (컬럼 이름·데이터 타입, 용어·도메인이면 용어 물리명)") List<String> keys,
+
+    @Schema(description = "영향을 받는 다이어그램 수", example = "3") int diagramCount,
+
+    @Schema(description = "영향을 받는 테이블 수", example = "12") int tableCount,
+
+    @Schema(description = "영향을 받는 컬럼") List<Column> columns
+) {
+    /**
+     * 색인 조회 결과로부터 응답 DTO를 생성한다.
+     *
+     * @param keys 찾은 열쇠
+     * @param refs 컬럼 위치
+     * @return SchemaImpactResponse
+     */
+    public static SchemaImpactResponse from(List<String> keys, List<SchemaColumnRef> refs) {
+        final var diagrams = new HashSet<Long>();
+        final var tables = new HashSet<String>();
+        for (final var ref : refs) {
+            diagrams.add(ref.diagramId());
+            tables.add(ref.diagramId() + "/" + ref.nodeId());
+        }
+        return new SchemaImpactResponse(
+            keys,
+            diagrams.size(),
+            tables.size(),
+            refs.stream().map(Column::from).toList()
+        );
+    }
+
+    /**
+     * 영향을 받는 컬럼 하나.
+     *
+     * @param projectId  프로젝트 ID
+     * @param diagramId  다이어그램 ID
+     * @param nodeId     테이블 노드 ID
+     * @param tableLabel 테이블 이름
+     * @param columnId   컬럼 ID
+     * @param columnName 컬럼 이름
+     * @param columnType 컬럼 데이터 타입
+     */
+    @Schema(description = "영향을 받는 컬럼")
+    public record Column(
+        @Schema(description = "프로젝트 ID", example = "1") Long projectId,
+
+        @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+        @Schema(description = "테이블 노드 ID", example = "table-1") String nodeId,
+
+        @Schema(description = "테이블 이름", example = "orders") String tableLabel,
+
+        @Schema(description = "컬럼 ID", example = "col-1") String columnId,
+
+        @Schema(description = "컬럼 이름", example = "customer_id") String columnName,
+
+        @Schema(description = "컬럼 데이터 타입", example = "BIGINT") String columnType
+    ) {
+        static Column from(SchemaColumnRef ref) {
+            return new Column(
+                ref.projectId(),
+                ref.diagramId(),
+                ref.nodeId(),
+                ref.tableLabel(),
+                ref.columnId(),
+                ref.columnName(),
+                ref.columnType()
+            );
+        }
+    }
+}
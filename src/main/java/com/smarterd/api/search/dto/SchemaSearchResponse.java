@@ -0,0 +1,77 @@
+package com.smarterd.api.search.dto;
+
+import com.smarterd.domain.search.index.SchemaSearchHit;
+import com.smarterd.domain.search.index.SchemaSearchIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 스키마 검색 응답 DTO.
+ *
+ * @param query 검색어
+ * @param total 검색어에 걸린 전체 테이블·컬럼 수
+ * @param hits  점수 순 상위 결과
+ */
+@Schema(description = "스키마 검색 응답")
+public record SchemaSearchResponse(
+    @Schema(description = "검색어", example = "order_item.unit_price") String query,
+
+    @Schema(description = "검색어에 걸린 전체 테이블·컬럼 수", example = "3") int total,
+
+    @Schema(description = "점수 순 상위 결과") List<Hit> hits
+) {
+    /**
+     * 색인 검색 결과로부터 응답 DTO를 생성한다.
+     *
+     * @param query  검색어
+     * @param result 색인 검색 결과
+     * @return SchemaSearchResponse
+     */
+    public static SchemaSearchResponse from(String query, SchemaSearchIndex.Result result) {
+        return new SchemaSearchResponse(query, result.total(), result.hits().stream().map(Hit::from).toList());
+    }
+
+    /**
+     * 검색 결과 하나. 테이블 자체가 걸렸으면 컬럼 필드는 {@code null}이다.
+     *
+     * @param projectId  프로젝트 ID
+     * @param diagramId  다이어그램 ID
+     * @param nodeId     테이블 노드 ID
+     * @param tableLabel 테이블 이름
+     * @param columnId   컬럼 ID
+     * @param columnName 컬럼 이름
+     * @param columnType 컬럼 데이터 타입
+     * @param score      점수
+     */
+    @Schema(description = "스키마 검색 결과")
+    public record Hit(
+        @Schema(description = "프로젝트 ID", example = "1") Long projectId,
+
+        @Schema(description = "다이어그램 ID", example = "1") Long diagramId,
+
+        @Schema(description = "테이블 노드 ID", example = "table-1") String nodeId,
+
+        @Schema(description = "테이블 이름", example = "order_item") String tableLabel,
+
+        @Schema(description = "컬럼 ID (테이블이 걸렸으면 null)", example = "col-1") String columnId,
+
+        @Schema(description = "컬럼 이름 (테이블이 걸렸으면 null)", example = "unit_price") String columnName,
+
+        @Schema(description = "컬럼 데이터 타입 (테이블이 걸렸으면 null)", example = "NUMERIC(10,2)") String columnType,
+
+        @Schema(description = "점수 (클수록 검색어와 가깝다)", example = "16") int score
+    ) {
+        static Hit from(SchemaSearchHit hit) {
+            return new Hit(
+                hit.projectId(),
+                hit.diagramId(),
+                hit.nodeId(),
+                hit.tableLabel(),
+                hit.columnId(),
+                hit.columnName(),
+                hit.columnType(),
+                hit.score()
+            );
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.smarterd.api.search.dto;
+
+import com.smarterd.domain.search.index.TableSimilarityIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * 비슷한 테이블 응답 DTO.
+ *
+ * @param diagramId   대상 테이블의 다이어그램 ID
+ * @param nodeId      대상 테이블 노드 ID
+ * @param tableLabel  대상 테이블 이름
+ * @param columnCount 대상 테이블의 컬럼 이름 수 (소문자, {@code _} 제거 후 중복 제외)
+ * @param candidates  LSH 버킷에서 비교한 후보 수
+ * @param similar     유사도 순 결과
+ */
+@Schema(description = "비슷한 테이블 응답")
+public record SimilarTablesResponse(
+    @Schema(description = "대상 테이블의 다이어그램 ID", example = "1") Long diagramId,
+
+    @Schema(description = "대상 테이블 노드 ID", example = "table-1") String nodeId,
+
+    @Schema(description = "대상 테이블 이름", example = "users") String tableLabel,
+
+    @Schema(description = "대상 테이블의 컬럼 이름 수", example = "10") int columnCount,
+
+    @Schema(description = "LSH 버킷에서 비교한 후보 수", example = "42") int candidates,
+
+    @Schema(description = "유사도 순 결과") List<TableSimilarityIndex.SimilarTable> similar
+) {
+    /**
+     * 색인 조회 결과로부터 응답 DTO를 생성한다.
+     *
+     * @param diagramId 대상 테이블의 다이어그램 ID
+     * @param nodeId    대상 테이블 노드 ID
+     * @param result    색인 조회 결과
+     * @return SimilarTablesResponse
+     */
+    public static SimilarTablesResponse from(Long diagramId, String nodeId, TableSimilarityIndex.Result result) {
+        return new SimilarTablesResponse(
+            diagramId,
+            nodeId,
+            result.tableLabel(),
+            result.columnCount(),
+            result.candidates(),
+            result.similar()
+        );
+    }
+}
@@ -54,7 +54,7 @@ public class TeamController {
      *
      * @param binder 웹 데이터 바인더
      */
-    @InitBinder
+    @InitBinder("addMemberRequest")
     public void initBinder(WebDataBinder binder) {
         binder.addValidators(addMemberRequestValidator);
     }
@@ -0,0 +1,11 @@
+package com.smarterd.domain.common.exception;
+
+/**
+ * 요청이 리소스의 현재 상태와 충돌할 때 발생하는 예외 (예: 오래된 리비전 기준의 수정 요청).
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
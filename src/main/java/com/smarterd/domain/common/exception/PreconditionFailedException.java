@@ -0,0 +1,11 @@
+package com.smarterd.domain.common.exception;
+
+/**
+ * 조건부 요청의 전제 조건이 맞지 않을 때 발생하는 예외 (예: {@code If-Match} ETag 불일치).
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,220 @@
+package com.smarterd.domain.diagram.ddl;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ERD 문서로부터 {@code CREATE TABLE}·{@code ALTER TABLE ... FOREIGN KEY} 스크립트를 쓰는 생성기.
+ *
+ * <p>
+ * 테이블 하나씩 바로 {@link Writer}에 쓰므로 스크립트 전체를 문자열로 만들지 않는다. 외래 키는 모든 테이블을 만든 뒤
+ * 한꺼번에 추가하여 테이블 순서와 순환 참조에 영향을 받지 않는다.
+ * </p>
+ *
+ * <p>
+ * 컬럼 이름이 팀 용어의 물리명과 같고 그 용어에 도메인이 연결되어 있으면 도메인의 물리 데이터 타입을, 아니면 컬럼에 적힌
+ * 타입을 방언 타입으로 바꾸어 쓴다. 관계의 방향은 {@link ForeignKey#of}로 정하며, 외래 키 이름은 참조하는 테이블과
+ * 컬럼으로 정하고 한 스크립트에서 겹치면 번호를 붙인다. 양 끝 컬럼을 찾을 수 없는 관계는 주석으로 남기고 건너뛴다.
+ * </p>
+ */
+public final class DdlGenerator {
+
+    private static final String INDENT = "    ";
+
+    private final SqlDialect dialect;
+
+    private final Map<String, String> dictionaryTypes;
+
+    /**
+     * 생성기를 만든다.
+     *
+     * @param dialect         SQL 방언
+     * @param dictionaryTypes 용어 물리명(소문자) → 도메인 물리 데이터 타입
+     */
+    public DdlGenerator(SqlDialect dialect, Map<String, String> dictionaryTypes) {
+        this.dialect = dialect;
+        this.dictionaryTypes = dictionaryTypes;
+    }
+
+    /**
+     * ERD 문서의 DDL을 쓴다.
+     *
+     * @param document ERD 문서
+     * @param out      출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    public void write(ErdDocument document, Writer out) throws IOException {
+        out
+            .append("-- Generated by Smart ERD (dialect: ")
+            .append(dialect.id())
+            .append(", tables: ")
+            .append(String.valueOf(document.tables().size()))
+            .append(", relationships: ")
+            .append(String.valueOf(document.relationships().size()))
+            .append(")\n");
+
+        final var tables = HashMap.<String, ErdTable>newHashMap(document.tables().size());
+        for (final var table : document.tables()) {
+            tables.put(table.id(), table);
+            writeTable(table, out);
+        }
+
+        final var foreignKeyNames = new HashSet<String>();
+        var first = true;
+        for (final var relationship : document.relationships()) {
+            if (first) {
+                out.append('\n');
+                first = false;
+            }
+            final var foreignKey = ForeignKey.of(
+                relationship,
+                tables.get(relationship.source()),
+                tables.get(relationship.target())
+            );
+            if (foreignKey == null) {
+                writeSkipped(relationship, out);
+                continue;
+            }
+            var name = foreignKey.name();
+            for (var sequence = 2; !foreignKeyNames.add(name); sequence++) {
+                name = foreignKey.name() + "_" + sequence;
+            }
+            writeForeignKey(foreignKey, name, out);
+        }
+    }
+
+    /**
+     * 테이블 하나의 {@code CREATE TABLE} 문을 쓴다.
+     *
+     * @param table 테이블
+     * @param out   출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    void writeTable(ErdTable table, Writer out) throws IOException {
+        final var tableName = tableName(table);
+        out.append('\n').append("CREATE TABLE ").append(dialect.identifier(tableName)).append(" (");
+        var first = true;
+        for (final var column : table.columns()) {
+            out.append(first ? "\n" : ",\n").append(INDENT).append(columnDefinition(column));
+            first = false;
+        }
+        final var primaryKey = primaryKeyColumns(table);
+        if (!primaryKey.isEmpty()) {
+            out
+                .append(first ? "\n" : ",\n")
+                .append(INDENT)
+                .append("CONSTRAINT ")
+                .append(primaryKeyName(table))
+                .append(" PRIMARY KEY (")
+                .append(primaryKey)
+                .append(')');
+        }
+        out.append("\n);\n");
+    }
+
+    /**
+     * 외래 키를 추가하는 {@code ALTER TABLE} 문을 쓴다.
+     *
+     * @param foreignKey 외래 키
+     * @param name       제약 이름
+     * @param out        출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    void writeForeignKey(ForeignKey foreignKey, String name, Writer out) throws IOException {
+        out
+            .append("ALTER TABLE ")
+            .append(dialect.identifier(tableName(foreignKey.childTable())))
+            .append(" ADD CONSTRAINT ")
+            .append(dialect.identifier(name))
+            .append(" FOREIGN KEY (")
+            .append(dialect.identifier(columnName(foreignKey.childColumn())))
+            .append(") REFERENCES ")
+            .append(dialect.identifier(tableName(foreignKey.parentTable())))
+            .append(" (")
+            .append(dialect.identifier(columnName(foreignKey.parentColumn())))
+            .append(");\n");
+    }
+
+    /**
+     * 관계를 외래 키로 쓸 수 없을 때 남기는 주석을 쓴다.
+     *
+     * @param relationship 관계
+     * @param out          출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    static void writeSkipped(ErdRelationship relationship, Writer out) throws IOException {
+        out.append("-- skipped relationship ").append(comment(relationship.id())).append(": column not found\n");
+    }
+
+    /**
+     * 컬럼 정의({@code 이름 타입 [NOT NULL]})를 만든다. PK 컬럼은 항상 {@code NOT NULL}이다.
+     *
+     * @param column 컬럼
+     * @return 컬럼 정의
+     */
+    String columnDefinition(ErdColumn column) {
+        return dialect.identifier(columnName(column)) + ' ' + columnType(column) + (notNull(column) ? " NOT NULL" : "");
+    }
+
+    /**
+     * 컬럼의 방언 타입을 반환한다. 컬럼 이름이 도메인이 연결된 용어의 물리명과 같으면 도메인 타입을 쓴다.
+     *
+     * @param column 컬럼
+     * @return 방언 컬럼 타입
+     */
+    String columnType(ErdColumn column) {
+        final var dictionaryType = dictionaryTypes.get(columnName(column).toLowerCase(Locale.ROOT));
+        return dialect.columnType(dictionaryType != null ? dictionaryType : column.type());
+    }
+
+    /**
+     * PK 컬럼 식별자를 쉼표로 이어 반환한다.
+     *
+     * @param table 테이블
+     * @return PK 컬럼 목록, PK가 없으면 빈 문자열
+     */
+    String primaryKeyColumns(ErdTable table) {
+        final var primaryKey = new StringBuilder();
+        for (final var column : table.columns()) {
+            if (column.pk()) {
+                primaryKey.append(primaryKey.isEmpty() ? "" : ", ").append(dialect.identifier(columnName(column)));
+            }
+        }
+        return primaryKey.toString();
+    }
+
+    /**
+     * PK 제약 식별자를 반환한다.
+     *
+     * @param table 테이블
+     * @return {@code pk_<테이블>}
+     */
+    String primaryKeyName(ErdTable table) {
+        return dialect.identifier("pk_" + tableName(table));
+    }
+
+    static boolean notNull(ErdColumn column) {
+        return column.pk() || !column.nullable();
+    }
+
+    static String tableName(ErdTable table) {
+        return table.label().isBlank() ? table.id() : table.label();
+    }
+
+    static String columnName(ErdColumn column) {
+        return column.name().isBlank() ? column.id() : column.name();
+    }
+
+    /** 주석 한 줄에 넣을 수 있도록 줄바꿈을 없앤다. */
+    private static String comment(String value) {
+        return value.replaceAll("[\\r\\n]+", " ");
+    }
+}
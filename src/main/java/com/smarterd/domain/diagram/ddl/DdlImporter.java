@@ -0,0 +1,294 @@
+package com.smarterd.domain.diagram.ddl;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL DDL 덤프를 읽어 ERD 문서로 만든다.
+ *
+ * <p>
+ * 덤프는 {@link DdlStatementReader}로 흘려 읽으며 테이블 정의 문만 골라내고, 문들을 묶음으로 나누어 전용
+ * {@link ForkJoinPool}에서 병렬로 파싱한다. 진행 중인 묶음은 병렬도의 두 배까지만 두고, 넘치면 가장 오래된 묶음의
+ * 결과를 기다리므로 덤프가 수백 MB여도 메모리에는 묶음 몇 개와 파싱 결과(스키마 크기)만 남는다.
+ * </p>
+ *
+ * <p>
+ * 파싱 결과는 덤프 순서대로 합친다. 같은 이름(대소문자 무시)의 테이블은 처음 정의만 쓰고, PK·외래 키는 모든 테이블을
+ * 읽은 뒤에 적용하므로 뒤에서 만드는 테이블을 참조해도 된다. 참조 컬럼을 생략한 외래 키는 참조되는 테이블의 PK를
+ * 가리킨다. 관계는 참조하는 컬럼에서 참조되는 컬럼으로 향하며, 테이블은 이름 순서가 아니라 덤프 순서대로 격자에 놓는다.
+ * </p>
+ */
+@Component
+public class DdlImporter {
+
+    /** 테이블 이름·컬럼 이름 최대 길이 ({@code ErdDocumentParser}와 같다) */
+    static final int MAX_NAME_LENGTH = 255;
+
+    /** 데이터 타입 최대 길이 ({@code ErdDocumentParser}와 같다) */
+    static final int MAX_TYPE_LENGTH = 100;
+
+    /** 묶음 하나의 최대 문 수 */
+    private static final int BATCH_SIZE = 256;
+
+    /** 묶음 하나의 최대 문자 수 */
+    private static final int BATCH_LENGTH = 1 << 20;
+
+    /** 격자 한 칸 너비 */
+    private static final int CELL_WIDTH = 320;
+
+    /** 테이블 머리글 높이 */
+    private static final int HEADER_HEIGHT = 48;
+
+    /** 컬럼 한 줄 높이 */
+    private static final int ROW_HEIGHT = 28;
+
+    /** 격자 줄 사이 간격 */
+    private static final int GAP = 80;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 덤프를 읽어 ERD 문서를 만든다.
+     *
+     * @param in UTF-8 SQL 덤프 스트림
+     * @return 가져온 ERD 문서
+     * @throws IOException       읽기에 실패한 경우
+     * @throws BusinessException {@code CREATE TABLE} 문이 하나도 없거나, 정의 문이 너무 긴 경우
+     */
+    public ErdDocument read(InputStream in) throws IOException {
+        final var reader = new DdlStatementReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final var pending = new ArrayDeque<ForkJoinTask<List<DdlStatementParser.Statement>>>();
+        final var statements = new ArrayList<DdlStatementParser.Statement>();
+        final var maxPending = pool.getParallelism() * 2;
+
+        try {
+            var batch = new ArrayList<String>();
+            var batchLength = 0;
+            for (var sql = reader.next(); sql != null; sql = reader.next()) {
+                batch.add(sql);
+                batchLength += sql.length();
+                if (batch.size() >= BATCH_SIZE || batchLength >= BATCH_LENGTH) {
+                    pending.add(pool.submit(parseTask(batch)));
+                    batch = new ArrayList<>();
+                    batchLength = 0;
+                    while (pending.size() > maxPending) {
+                        statements.addAll(pending.poll().join());
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                pending.add(pool.submit(parseTask(batch)));
+            }
+            while (!pending.isEmpty()) {
+                statements.addAll(pending.poll().join());
+            }
+        } finally {
+            pending.forEach((task) -> task.cancel(true));
+        }
+
+        return assemble(statements);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static ForkJoinTask<List<DdlStatementParser.Statement>> parseTask(List<String> batch) {
+        return ForkJoinTask.adapt(() ->
+            batch.stream().map(DdlStatementParser::parse).filter(Objects::nonNull).toList()
+        );
+    }
+
+    private static ErdDocument assemble(List<DdlStatementParser.Statement> statements) {
+        final var tables = new LinkedHashMap<String, ImportedTable>();
+        for (final var statement : statements) {
+            if (statement.create()) {
+                tables.computeIfAbsent(key(statement.table()), (key) -> new ImportedTable(statement.table()));
+            }
+        }
+        if (tables.isEmpty()) {
+            throw new BusinessException("No CREATE TABLE statement found in the DDL");
+        }
+
+        final var created = new HashSet<String>();
+        for (final var statement : statements) {
+            final var table = tables.get(key(statement.table()));
+            if (table == null || (statement.create() && !created.add(key(statement.table())))) {
+                continue;
+            }
+            statement.columns().forEach(table::addColumn);
+        }
+        for (final var statement : statements) {
+            final var table = tables.get(key(statement.table()));
+            if (table != null) {
+                statement.primaryKey().forEach(table::markPrimaryKey);
+            }
+        }
+
+        final var relationships = new LinkedHashMap<String, ErdRelationship>();
+        for (final var statement : statements) {
+            final var child = tables.get(key(statement.table()));
+            if (child == null) {
+                continue;
+            }
+            for (final var reference : statement.references()) {
+                final var parent = tables.get(key(reference.table()));
+                if (parent == null) {
+                    continue;
+                }
+                final var parentColumns = reference.referencedColumns().isEmpty()
+                    ? parent.primaryKey()
+                    : reference.referencedColumns().stream().map(parent::column).toList();
+                for (var i = 0; i < reference.columns().size() && i < parentColumns.size(); i++) {
+                    final var childColumn = child.column(reference.columns().get(i));
+                    final var parentColumn = parentColumns.get(i);
+                    if (childColumn != null && parentColumn != null) {
+                        childColumn.fk = true;
+                        final var relationship = relationship(child, childColumn, parent, parentColumn);
+                        relationships.putIfAbsent(relationship.id(), relationship);
+                    }
+                }
+            }
+        }
+
+        return new ErdDocument(layout(tables.values()), List.copyOf(relationships.values()));
+    }
+
+    private static ErdRelationship relationship(
+        ImportedTable child,
+        ImportedColumn childColumn,
+        ImportedTable parent,
+        ImportedColumn parentColumn
+    ) {
+        final var sourceHandle = child.id + "-" + childColumn.id + "-source";
+        final var targetHandle = parent.id + "-" + parentColumn.id + "-target";
+        return new ErdRelationship(
+            "e-" + sourceHandle + "-" + targetHandle,
+            child.id,
+            sourceHandle,
+            parent.id,
+            targetHandle,
+            "step"
+        );
+    }
+
+    /** 테이블을 덤프 순서대로 정사각형에 가까운 격자에 놓는다. 줄 높이는 그 줄에서 가장 긴 테이블에 맞춘다. */
+    private static List<ErdTable> layout(Iterable<ImportedTable> imported) {
+        final var tables = new ArrayList<ImportedTable>();
+        imported.forEach(tables::add);
+        final var perRow = (int) Math.ceil(Math.sqrt(tables.size()));
+        final var result = new ArrayList<ErdTable>(tables.size());
+        var y = 0;
+        for (var start = 0; start < tables.size(); start += perRow) {
+            final var row = tables.subList(start, Math.min(start + perRow, tables.size()));
+            var tallest = 0;
+            for (var i = 0; i < row.size(); i++) {
+                final var table = row.get(i);
+                result.add(table.toErdTable(i * CELL_WIDTH, y));
+                tallest = Math.max(tallest, table.columns.size());
+            }
+            y += HEADER_HEIGHT + tallest * ROW_HEIGHT + GAP;
+        }
+        return result;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /** 가져오는 중인 테이블. PK·FK 표시를 나중에 바꾸므로 가변이다. */
+    private static final class ImportedTable {
+
+        private final String id = "table-" + UUID.randomUUID();
+
+        private final String label;
+
+        private final List<ImportedColumn> columns = new ArrayList<>();
+
+        private final Map<String, ImportedColumn> columnsByName = new HashMap<>();
+
+        private ImportedTable(String label) {
+            this.label = truncate(label, MAX_NAME_LENGTH);
+        }
+
+        void addColumn(DdlStatementParser.Column column) {
+            final var imported = new ImportedColumn(column);
+            if (columnsByName.putIfAbsent(key(column.name()), imported) == null) {
+                columns.add(imported);
+            }
+        }
+
+        void markPrimaryKey(String name) {
+            final var column = column(name);
+            if (column != null) {
+                column.pk = true;
+            }
+        }
+
+        @Nullable
+        ImportedColumn column(String name) {
+            return columnsByName.get(key(name));
+        }
+
+        List<ImportedColumn> primaryKey() {
+            return columns.stream().filter((column) -> column.pk).toList();
+        }
+
+        ErdTable toErdTable(double x, double y) {
+            return new ErdTable(id, "table", x, y, label, columns.stream().map(ImportedColumn::toErdColumn).toList());
+        }
+    }
+
+    /** 가져오는 중인 컬럼. */
+    private static final class ImportedColumn {
+
+        private final String id = "col-" + UUID.randomUUID();
+
+        private final String name;
+
+        private final String type;
+
+        private final boolean nullable;
+
+        private boolean pk;
+
+        private boolean fk;
+
+        private ImportedColumn(DdlStatementParser.Column column) {
+            this.name = truncate(column.name(), MAX_NAME_LENGTH);
+            this.type = truncate(column.type(), MAX_TYPE_LENGTH);
+            this.nullable = column.nullable();
+        }
+
+        ErdColumn toErdColumn() {
+            return new ErdColumn(id, name, type, pk, fk, nullable && !pk);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 압축해 둔 DDL 스크립트 (불변).
+ *
+ * <p>생성기가 쓰는 내용을 곧바로 Deflate 압축하여 보관하므로, 캐시에 넣어도 메모리는 압축된 크기만 차지한다.
+ * 응답으로 보낼 때는 압축을 풀면서 그대로 흘려보낸다.</p>
+ *
+ * @param deflated 압축된 UTF-8 스크립트
+ * @param byteSize 압축을 푼 스크립트 크기 (바이트)
+ */
+public record DdlScript(byte[] deflated, long byteSize) {
+
+    /**
+     * 스크립트를 쓰는 작업.
+     */
+    @FunctionalInterface
+    public interface Content {
+        /**
+         * 스크립트를 쓴다.
+         *
+         * @param out 출력
+         * @throws IOException 출력에 실패한 경우
+         */
+        void writeTo(Writer out) throws IOException;
+    }
+
+    /**
+     * 작업이 쓰는 스크립트를 압축하여 담는다.
+     *
+     * @param content 스크립트를 쓰는 작업
+     * @return 압축된 스크립트
+     */
+    public static DdlScript capture(Content content) {
+        final var buffer = new ByteArrayOutputStream();
+        final var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            try (
+                var out = new BufferedWriter(
+                    new OutputStreamWriter(new DeflaterOutputStream(buffer, deflater), StandardCharsets.UTF_8)
+                )
+            ) {
+                content.writeTo(out);
+            }
+            return new DdlScript(buffer.toByteArray(), deflater.getBytesRead());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * 압축을 풀면서 스크립트를 출력에 쓴다.
+     *
+     * @param out 출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        try (var in = new InflaterInputStream(new ByteArrayInputStream(deflated))) {
+            in.transferTo(out);
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@code CREATE TABLE}·{@code ALTER TABLE} 문 하나를 읽어 테이블 구조만 뽑아내는 파서.
+ *
+ * <p>
+ * 여러 DBMS의 덤프를 받아야 하므로 문법 전체를 검사하지 않는다. 컬럼 이름·타입·{@code NULL} 여부, 컬럼·테이블 수준의
+ * {@code PRIMARY KEY}와 {@code FOREIGN KEY ... REFERENCES}, {@code ALTER TABLE ... ADD [COLUMN]}만 읽고,
+ * 기본값·인덱스·CHECK·저장 옵션 같은 나머지는 괄호 단위로 건너뛴다. 스키마로 한정한 이름({@code public.orders})은 마지막
+ * 부분만 쓴다. 상태를 두지 않으므로 여러 스레드에서 동시에 호출해도 된다.
+ * </p>
+ */
+final class DdlStatementParser {
+
+    /** 컬럼 타입이 끝나고 컬럼 제약이 시작됨을 알리는 단어 */
+    private static final Set<String> COLUMN_CONSTRAINTS = Set.of(
+        "NOT", "NULL", "DEFAULT", "PRIMARY", "REFERENCES", "UNIQUE", "CHECK", "CONSTRAINT", "COLLATE", "GENERATED",
+        "AUTO_INCREMENT", "AUTOINCREMENT", "IDENTITY", "COMMENT", "ON", "AS", "CHARSET", "ENCODE", "ENABLE",
+        "DISABLE", "VISIBLE", "INVISIBLE", "STORAGE", "COMPRESSION", "KEY"
+    );
+
+    /** 테이블 본문에서 컬럼 대신 올 수 있는 테이블 수준 정의 */
+    private static final Set<String> TABLE_CONSTRAINTS = Set.of(
+        "CONSTRAINT", "PRIMARY", "FOREIGN", "UNIQUE", "KEY", "INDEX", "CHECK", "FULLTEXT", "SPATIAL", "EXCLUDE",
+        "LIKE", "PERIOD"
+    );
+
+    private DdlStatementParser() {}
+
+    /**
+     * 문 하나를 읽는다.
+     *
+     * @param sql 세미콜론과 주석을 뺀 {@code CREATE TABLE} 또는 {@code ALTER TABLE} 문
+     * @return 읽은 구조, 컬럼 목록이 없는 {@code CREATE TABLE ... AS}처럼 구조를 알 수 없으면 {@code null}
+     */
+    @Nullable
+    static Statement parse(String sql) {
+        final var tokens = new Cursor(Lexer.tokenize(sql));
+        if (tokens.acceptWord("CREATE")) {
+            while (!tokens.atEnd() && !tokens.acceptWord("TABLE")) {
+                tokens.next();
+            }
+            return createTable(tokens);
+        }
+        if (tokens.acceptWord("ALTER") && tokens.acceptWord("TABLE")) {
+            return alterTable(tokens);
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Statement createTable(Cursor tokens) {
+        skipIfExists(tokens);
+        final var table = qualifiedName(tokens);
+        if (table == null || !tokens.acceptSymbol('(')) {
+            return null;
+        }
+        final var columns = new ArrayList<Column>();
+        final var primaryKey = new ArrayList<String>();
+        final var references = new ArrayList<Reference>();
+        while (!tokens.atEnd() && !tokens.acceptSymbol(')')) {
+            if (tokens.peekWord(TABLE_CONSTRAINTS)) {
+                tableConstraint(tokens, primaryKey, references);
+            } else {
+                column(tokens, columns, primaryKey, references);
+            }
+            skipToSeparator(tokens);
+            tokens.acceptSymbol(',');
+        }
+        return new Statement(table, true, columns, primaryKey, references);
+    }
+
+    @Nullable
+    private static Statement alterTable(Cursor tokens) {
+        skipIfExists(tokens);
+        tokens.acceptWord("ONLY");
+        final var table = qualifiedName(tokens);
+        if (table == null) {
+            return null;
+        }
+        tokens.acceptSymbol('*');
+        final var columns = new ArrayList<Column>();
+        final var primaryKey = new ArrayList<String>();
+        final var references = new ArrayList<Reference>();
+        while (!tokens.atEnd()) {
+            if (tokens.acceptWord("ADD")) {
+                if (tokens.peekWord(TABLE_CONSTRAINTS)) {
+                    tableConstraint(tokens, primaryKey, references);
+                } else if (!tokens.peekSymbol('(')) {
+                    tokens.acceptWord("COLUMN");
+                    skipIfExists(tokens);
+                    column(tokens, columns, primaryKey, references);
+                }
+            }
+            skipToSeparator(tokens);
+            tokens.acceptSymbol(',');
+        }
+        return new Statement(table, false, columns, primaryKey, references);
+    }
+
+    private static void column(
+        Cursor tokens,
+        List<Column> columns,
+        List<String> primaryKey,
+        List<Reference> references
+    ) {
+        final var name = tokens.identifier();
+        if (name == null) {
+            return;
+        }
+        final var type = type(tokens);
+        var nullable = true;
+        var key = false;
+        while (!tokens.atEnd() && !tokens.peekSymbol(',') && !tokens.peekSymbol(')')) {
+            if (tokens.acceptWord("NOT")) {
+                if (tokens.acceptWord("NULL")) {
+                    nullable = false;
+                }
+            } else if (tokens.acceptWord("PRIMARY")) {
+                if (tokens.acceptWord("KEY")) {
+                    key = true;
+                }
+            } else if (tokens.acceptWord("REFERENCES")) {
+                final var parent = qualifiedName(tokens);
+                if (parent != null) {
+                    references.add(new Reference(List.of(name), parent, nameList(tokens)));
+                }
+            } else if (tokens.acceptSymbol('(')) {
+                skipGroup(tokens);
+            } else {
+                tokens.next();
+            }
+        }
+        if (key) {
+            primaryKey.add(name);
+        }
+        columns.add(new Column(name, type, nullable && !key));
+    }
+
+    /** 타입 이름과 인자를 제약 단어 앞까지 읽는다 (예: {@code character varying(50)} → {@code CHARACTER VARYING(50)}). */
+    private static String type(Cursor tokens) {
+        final var type = new StringBuilder();
+        while (!tokens.atEnd() && !tokens.peekSymbol(',') && !tokens.peekSymbol(')')) {
+            final var token = tokens.peek();
+            if (token.kind() == Kind.WORD) {
+                final var word = token.upper();
+                if (COLUMN_CONSTRAINTS.contains(word) || (word.equals("CHARACTER") && tokens.peekWordAt(1, "SET"))) {
+                    break;
+                }
+                if (!type.isEmpty() && type.charAt(type.length() - 1) != '.') {
+                    type.append(' ');
+                }
+                type.append(word);
+                tokens.next();
+            } else if (token.isSymbol('(')) {
+                tokens.next();
+                type.append('(').append(groupText(tokens)).append(')');
+            } else if (token.kind() == Kind.QUOTED) {
+                type.append(token.text());
+                tokens.next();
+            } else if (token.isSymbol('.') || token.isSymbol('[')) {
+                type.append(token.text());
+                tokens.next();
+            } else {
+                break;
+            }
+        }
+        return type.toString();
+    }
+
+    /** {@code [CONSTRAINT name] PRIMARY KEY (...) | FOREIGN KEY (...) REFERENCES t (...)}를 읽는다. 나머지는 무시한다. */
+    private static void tableConstraint(Cursor tokens, List<String> primaryKey, List<Reference> references) {
+        if (tokens.acceptWord("CONSTRAINT")) {
+            tokens.identifier();
+        }
+        if (tokens.acceptWord("PRIMARY") && tokens.acceptWord("KEY")) {
+            tokens.acceptWord("CLUSTERED");
+            tokens.acceptWord("NONCLUSTERED");
+            primaryKey.addAll(nameList(tokens));
+        } else if (tokens.acceptWord("FOREIGN") && tokens.acceptWord("KEY")) {
+            if (!tokens.peekSymbol('(')) {
+                tokens.identifier();
+            }
+            final var columns = nameList(tokens);
+            if (!columns.isEmpty() && tokens.acceptWord("REFERENCES")) {
+                final var parent = qualifiedName(tokens);
+                if (parent != null) {
+                    references.add(new Reference(columns, parent, nameList(tokens)));
+                }
+            }
+        }
+    }
+
+    private static void skipIfExists(Cursor tokens) {
+        if (tokens.peekWord(Set.of("IF")) && (tokens.peekWordAt(1, "NOT") || tokens.peekWordAt(1, "EXISTS"))) {
+            tokens.next();
+            tokens.acceptWord("NOT");
+            tokens.acceptWord("EXISTS");
+        }
+    }
+
+    /** {@code schema.name}에서 마지막 부분을 반환한다. */
+    @Nullable
+    private static String qualifiedName(Cursor tokens) {
+        var name = tokens.identifier();
+        while (name != null && tokens.acceptSymbol('.')) {
+            final var part = tokens.identifier();
+            if (part == null) {
+                break;
+            }
+            name = part;
+        }
+        return name;
+    }
+
+    /** {@code (a, b DESC, c(10))}에서 각 항목의 첫 이름만 읽는다. 괄호가 없으면 빈 목록이다. */
+    private static List<String> nameList(Cursor tokens) {
+        if (!tokens.acceptSymbol('(')) {
+            return List.of();
+        }
+        final var names = new ArrayList<String>();
+        while (!tokens.atEnd() && !tokens.acceptSymbol(')')) {
+            final var name = tokens.identifier();
+            if (name != null) {
+                names.add(name);
+            }
+            skipToSeparator(tokens);
+            tokens.acceptSymbol(',');
+        }
+        return names;
+    }
+
+    /** 현재 깊이의 {@code ,} 또는 {@code )} 앞까지 건너뛴다. */
+    private static void skipToSeparator(Cursor tokens) {
+        while (!tokens.atEnd() && !tokens.peekSymbol(',') && !tokens.peekSymbol(')')) {
+            if (tokens.acceptSymbol('(')) {
+                skipGroup(tokens);
+            } else {
+                tokens.next();
+            }
+        }
+    }
+
+    /** 여는 괄호 다음부터 짝이 맞는 닫는 괄호까지 건너뛴다. */
+    private static void skipGroup(Cursor tokens) {
+        var depth = 1;
+        while (!tokens.atEnd() && depth > 0) {
+            final var token = tokens.next();
+            if (token.isSymbol('(')) {
+                depth++;
+            } else if (token.isSymbol(')')) {
+                depth--;
+            }
+        }
+    }
+
+    /** 여는 괄호 다음부터 짝이 맞는 닫는 괄호까지를 공백 없이 이어 반환한다 (타입 인자). */
+    private static String groupText(Cursor tokens) {
+        final var text = new StringBuilder();
+        var depth = 1;
+        while (!tokens.atEnd()) {
+            final var token = tokens.next();
+            if (token.isSymbol('(')) {
+                depth++;
+            } else if (token.isSymbol(')') && --depth == 0) {
+                break;
+            }
+            text.append(token.kind() == Kind.STRING ? "'" + token.text().replace("'", "''") + "'" : token.text());
+        }
+        return text.toString();
+    }
+
+    /**
+     * 읽은 문.
+     *
+     * @param table      테이블 이름
+     * @param create     {@code CREATE TABLE}이면 {@code true}, {@code ALTER TABLE}이면 {@code false}
+     * @param columns    컬럼 (정의 순서, {@code ALTER TABLE}이면 추가한 컬럼)
+     * @param primaryKey PK 컬럼 이름
+     * @param references 외래 키
+     */
+    record Statement(
+        String table,
+        boolean create,
+        List<Column> columns,
+        List<String> primaryKey,
+        List<Reference> references
+    ) {}
+
+    /**
+     * 읽은 컬럼.
+     *
+     * @param name     컬럼 이름
+     * @param type     데이터 타입 (대문자, 비어 있을 수 있다)
+     * @param nullable {@code NULL} 허용 여부
+     */
+    record Column(String name, String type, boolean nullable) {}
+
+    /**
+     * 읽은 외래 키.
+     *
+     * @param columns           참조하는 컬럼 이름
+     * @param table             참조되는 테이블 이름
+     * @param referencedColumns 참조되는 컬럼 이름 (생략되었으면 빈 목록 — 참조되는 테이블의 PK)
+     */
+    record Reference(List<String> columns, String table, List<String> referencedColumns) {}
+
+    private enum Kind {
+        WORD,
+        QUOTED,
+        STRING,
+        NUMBER,
+        SYMBOL,
+        END,
+    }
+
+    private record Token(Kind kind, String text) {
+        private static final Token END = new Token(Kind.END, "");
+
+        boolean isSymbol(char symbol) {
+            return kind == Kind.SYMBOL && text.charAt(0) == symbol;
+        }
+
+        String upper() {
+            return text.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    /** 토큰 목록 위의 읽기 위치. 끝을 넘어 읽으면 {@link Token#END}를 돌려준다. */
+    private static final class Cursor {
+
+        private final List<Token> tokens;
+
+        private int position;
+
+        private Cursor(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean atEnd() {
+            return position >= tokens.size();
+        }
+
+        Token peek() {
+            return atEnd() ? Token.END : tokens.get(position);
+        }
+
+        Token next() {
+            final var token = peek();
+            position++;
+            return token;
+        }
+
+        boolean peekSymbol(char symbol) {
+            return peek().isSymbol(symbol);
+        }
+
+        boolean acceptSymbol(char symbol) {
+            if (peekSymbol(symbol)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean peekWord(Set<String> words) {
+            final var token = peek();
+            return token.kind() == Kind.WORD && words.contains(token.upper());
+        }
+
+        boolean peekWordAt(int offset, String word) {
+            final var index = position + offset;
+            if (index >= tokens.size()) {
+                return false;
+            }
+            final var token = tokens.get(index);
+            return token.kind() == Kind.WORD && token.text().equalsIgnoreCase(word);
+        }
+
+        boolean acceptWord(String word) {
+            if (peekWordAt(0, word)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        /** 단어나 인용 식별자 하나를 읽는다. */
+        @Nullable
+        String identifier() {
+            final var token = peek();
+            if (token.kind() == Kind.WORD || token.kind() == Kind.QUOTED) {
+                position++;
+                return token.text();
+            }
+            return null;
+        }
+    }
+
+    /** 문을 토큰으로 나눈다. 인용 식별자와 문자열은 인용 부호를 벗긴 본문을 담는다. */
+    private static final class Lexer {
+
+        private Lexer() {}
+
+        static List<Token> tokenize(String sql) {
+            final var tokens = new ArrayList<Token>();
+            final var length = sql.length();
+            var i = 0;
+            while (i < length) {
+                final var c = sql.charAt(i);
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isLetter(c) || c == '_') {
+                    final var start = i;
+                    while (i < length && isWordPart(sql.charAt(i))) {
+                        i++;
+                    }
+                    tokens.add(new Token(Kind.WORD, sql.substring(start, i)));
+                } else if (Character.isDigit(c)) {
+                    final var start = i;
+                    while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                        i++;
+                    }
+                    tokens.add(new Token(Kind.NUMBER, sql.substring(start, i)));
+                } else if (c == '[' && i + 1 < length && sql.charAt(i + 1) == ']') {
+                    tokens.add(new Token(Kind.SYMBOL, "[]"));
+                    i += 2;
+                } else if (c == '"' || c == '`' || c == '[' || c == '\'') {
+                    final var close = c == '[' ? ']' : c;
+                    final var text = new StringBuilder();
+                    i++;
+                    while (i < length) {
+                        final var d = sql.charAt(i++);
+                        if (c == '\'' && d == '\\' && i < length) {
+                            text.append(sql.charAt(i++));
+                        } else if (d == close && i < length && sql.charAt(i) == close && c != '[') {
+                            text.append(d);
+                            i++;
+                        } else if (d == close) {
+                            break;
+                        } else {
+                            text.append(d);
+                        }
+                    }
+                    tokens.add(new Token(c == '\'' ? Kind.STRING : Kind.QUOTED, text.toString()));
+                } else {
+                    tokens.add(new Token(Kind.SYMBOL, String.valueOf(c)));
+                    i++;
+                }
+            }
+            return tokens;
+        }
+
+        private static boolean isWordPart(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '#';
+        }
+    }
+}
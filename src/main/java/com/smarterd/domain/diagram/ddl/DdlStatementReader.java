@@ -0,0 +1,337 @@
+package com.smarterd.domain.diagram.ddl;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.springframework.lang.Nullable;
+
+/**
+ * SQL 덤프를 세미콜론 단위의 문으로 나누어 차례로 읽는 리더.
+ *
+ * <p>
+ * 문자열, 인용 식별자({@code "..."}, {@code `...`}, {@code [...]}), 주석, PostgreSQL 달러 인용({@code $tag$...$tag$})
+ * 안의 세미콜론은 문의 끝으로 보지 않으며, 주석은 공백 하나로 바꾼다. 테이블 정의 문({@code CREATE TABLE},
+ * {@code ALTER TABLE})만 버퍼에 모으고, 나머지 문(대량 {@code INSERT} 등)은 첫 단어들로 판별한 즉시 버리며 끝까지
+ * 건너뛴다. pg_dump의 {@code COPY ... FROM stdin} 데이터 블록은 {@code \.} 줄까지 건너뛴다. 따라서 메모리 사용량은
+ * 덤프 크기가 아니라 가장 긴 정의 문의 크기에 묶인다.
+ * </p>
+ */
+final class DdlStatementReader {
+
+    /** 정의 문 하나의 최대 길이 (문자) */
+    static final int MAX_STATEMENT_LENGTH = 1 << 20;
+
+    /** 이 길이 안에서 문의 종류를 정하지 못하면 버린다 */
+    private static final int PREFIX_LENGTH = 256;
+
+    /** {@code CREATE}와 {@code TABLE} 사이에 올 수 있는 수식어 */
+    private static final Set<String> TABLE_MODIFIERS = Set.of(
+        "OR", "REPLACE", "GLOBAL", "LOCAL", "TEMPORARY", "TEMP", "UNLOGGED", "PRIVATE", "SHARDED", "DUPLICATED",
+        "IMMUTABLE", "BLOCKCHAIN", "VIRTUAL", "EXTERNAL", "TRANSIENT"
+    );
+
+    /** 종류를 아직 정하지 못함 */
+    private static final int UNDECIDED = 0;
+
+    /** 모으는 문 */
+    private static final int KEEP = 1;
+
+    /** 버리는 문 */
+    private static final int SKIP = 2;
+
+    /** {@code COPY} 문 (데이터 블록이 뒤따르는지 끝에서 판단) */
+    private static final int COPY = 3;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^A-Za-z_]+");
+
+    /** 되돌릴 수 있는 최대 문자 수. 버퍼를 채울 때 마지막 이만큼은 남겨 둔다. */
+    private static final int PUSHBACK = 64;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader in;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private final StringBuilder statement = new StringBuilder();
+
+    private int kind = UNDECIDED;
+
+    /**
+     * 리더를 만든다.
+     *
+     * @param in 덤프 문자 스트림
+     */
+    DdlStatementReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * 다음 테이블 정의 문을 읽는다.
+     *
+     * @return 세미콜론을 뺀 문, 더 없으면 {@code null}
+     * @throws IOException       읽기에 실패한 경우
+     * @throws BusinessException 정의 문이 {@value #MAX_STATEMENT_LENGTH}자를 넘는 경우
+     */
+    @Nullable
+    String next() throws IOException {
+        while (true) {
+            final var c = read();
+            if (c < 0) {
+                final var last = finish();
+                return last == null || last.isBlank() ? null : last;
+            }
+            switch (c) {
+                case ';' -> {
+                    final var complete = finish();
+                    if (complete != null && !complete.isBlank()) {
+                        return complete;
+                    }
+                }
+                case '\'' -> quoted('\'', '\'', true);
+                case '"' -> quoted('"', '"', false);
+                case '`' -> quoted('`', '`', false);
+                case '[' -> quoted('[', ']', false);
+                case '-' -> {
+                    if (peek('-')) {
+                        skipLine();
+                        append(' ');
+                    } else {
+                        append('-');
+                    }
+                }
+                case '/' -> {
+                    if (peek('*')) {
+                        skipBlockComment();
+                        append(' ');
+                    } else {
+                        append('/');
+                    }
+                }
+                case '$' -> dollar();
+                default -> append((char) c);
+            }
+        }
+    }
+
+    /** 문 하나를 마친다. 모은 문이면 반환하고, {@code COPY ... FROM stdin}이면 데이터 블록을 건너뛴다. */
+    @Nullable
+    private String finish() throws IOException {
+        if (kind == UNDECIDED) {
+            decide(true);
+        }
+        final var finished = kind;
+        final var text = statement.toString();
+        statement.setLength(0);
+        kind = UNDECIDED;
+        if (finished == COPY) {
+            if (words(text).contains(" FROM STDIN")) {
+                skipCopyData();
+            }
+            return null;
+        }
+        return finished == KEEP ? text.trim() : null;
+    }
+
+    private void append(char c) {
+        if (kind == SKIP || (statement.isEmpty() && Character.isWhitespace(c))) {
+            return;
+        }
+        statement.append(c);
+        if (kind == UNDECIDED && !Character.isLetterOrDigit(c) && c != '_') {
+            decide(false);
+        } else if (statement.length() > MAX_STATEMENT_LENGTH) {
+            throw new BusinessException("DDL statement exceeds " + MAX_STATEMENT_LENGTH + " characters");
+        }
+    }
+
+    /**
+     * 지금까지 읽은 단어로 문의 종류를 정한다.
+     *
+     * @param end 문이 끝났는지 (끝났으면 더 기다리지 않는다)
+     */
+    private void decide(boolean end) {
+        final var words = WORD_SEPARATOR.split(words(statement).trim());
+        if (words.length == 0 || words[0].isEmpty()) {
+            if (end || statement.length() > PREFIX_LENGTH) {
+                kind = SKIP;
+            }
+            return;
+        }
+        switch (words[0]) {
+            case "CREATE", "ALTER" -> {
+                for (var i = 1; i < words.length; i++) {
+                    if (words[i].equals("TABLE")) {
+                        kind = KEEP;
+                        return;
+                    }
+                    if (!words[0].equals("CREATE") || !TABLE_MODIFIERS.contains(words[i])) {
+                        kind = SKIP;
+                        break;
+                    }
+                }
+            }
+            case "COPY" -> kind = COPY;
+            default -> kind = SKIP;
+        }
+        if (kind == SKIP) {
+            statement.setLength(0);
+        } else if (kind == UNDECIDED && (end || statement.length() > PREFIX_LENGTH)) {
+            kind = SKIP;
+            statement.setLength(0);
+        }
+    }
+
+    private static String words(CharSequence text) {
+        return " " + text.toString().toUpperCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /** 인용 구간을 읽는다. 여는 문자와 닫는 문자가 같으면 두 번 겹친 닫는 문자는 본문으로 본다. */
+    private void quoted(char open, char close, boolean backslashEscapes) throws IOException {
+        append(open);
+        while (true) {
+            final var c = read();
+            if (c < 0) {
+                return;
+            }
+            if (backslashEscapes && c == '\\') {
+                append('\\');
+                final var escaped = read();
+                if (escaped >= 0) {
+                    append((char) escaped);
+                }
+                continue;
+            }
+            append((char) c);
+            if (c == close) {
+                if (open == close && peek(close)) {
+                    append(close);
+                    continue;
+                }
+                return;
+            }
+        }
+    }
+
+    /** PostgreSQL 달러 인용({@code $tag$ ... $tag$})을 읽는다. 달러 인용이 아니면 {@code $}만 쓴다. */
+    private void dollar() throws IOException {
+        final var tag = new StringBuilder("$");
+        while (tag.length() < PUSHBACK - 1) {
+            final var c = read();
+            if (c == '$') {
+                tag.append('$');
+                break;
+            }
+            if (c < 0 || !(Character.isLetterOrDigit(c) || c == '_')) {
+                if (c >= 0) {
+                    unread(1);
+                }
+                break;
+            }
+            tag.append((char) c);
+        }
+        if (tag.length() < 2 || tag.charAt(tag.length() - 1) != '$') {
+            unread(tag.length() - 1);
+            append('$');
+            return;
+        }
+        for (var i = 0; i < tag.length(); i++) {
+            append(tag.charAt(i));
+        }
+        final var delimiter = tag.toString();
+        var matched = 0;
+        while (matched < delimiter.length()) {
+            final var c = read();
+            if (c < 0) {
+                return;
+            }
+            append((char) c);
+            if (c == delimiter.charAt(matched)) {
+                matched++;
+            } else {
+                matched = c == '$' ? 1 : 0;
+            }
+        }
+    }
+
+    /** 버퍼에서 한 문자를 읽는다. 동기화된 {@link Reader#read()}를 문자마다 부르지 않기 위해 직접 버퍼링한다. */
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    /** 방금 읽은 문자 {@code count}개({@value #PUSHBACK}개 이하)를 되돌린다. */
+    private void unread(int count) {
+        position -= count;
+    }
+
+    private boolean fill() throws IOException {
+        final var keep = Math.min(PUSHBACK, limit);
+        System.arraycopy(buffer, limit - keep, buffer, 0, keep);
+        position = keep;
+        limit = keep;
+        final var read = in.read(buffer, keep, buffer.length - keep);
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private boolean peek(int expected) throws IOException {
+        final var c = read();
+        if (c == expected) {
+            return true;
+        }
+        if (c >= 0) {
+            unread(1);
+        }
+        return false;
+    }
+
+    private void skipLine() throws IOException {
+        for (var c = read(); c >= 0 && c != '\n'; c = read()) {
+            // 주석 끝까지 버린다
+        }
+    }
+
+    private void skipBlockComment() throws IOException {
+        var previous = -1;
+        for (var c = read(); c >= 0; c = read()) {
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    /** {@code \.}만 있는 줄까지 COPY 데이터를 버린다. */
+    private void skipCopyData() throws IOException {
+        skipLine();
+        while (true) {
+            final var first = read();
+            if (first < 0) {
+                return;
+            }
+            if (first == '\\' && peek('.')) {
+                final var end = read();
+                if (end < 0 || end == '\n' || (end == '\r' && peek('\n'))) {
+                    return;
+                }
+                unread(1);
+            }
+            if (first != '\n') {
+                skipLine();
+            }
+        }
+    }
+}
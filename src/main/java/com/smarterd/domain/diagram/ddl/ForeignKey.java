@@ -0,0 +1,71 @@
+package com.smarterd.domain.diagram.ddl;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import org.springframework.lang.Nullable;
+
+/**
+ * 관계 하나로부터 정한 외래 키 제약.
+ *
+ * @param childTable   참조하는 테이블
+ * @param childColumn  참조하는 컬럼
+ * @param parentTable  참조되는 테이블
+ * @param parentColumn 참조되는 컬럼
+ */
+record ForeignKey(ErdTable childTable, ErdColumn childColumn, ErdTable parentTable, ErdColumn parentColumn) {
+    /**
+     * 관계의 방향을 정해 외래 키를 만든다.
+     *
+     * <p>한쪽 끝 컬럼만 FK이면(또는 한쪽 끝만 PK이면) 그 방향으로, 판단할 수 없으면 출발 쪽이 도착 쪽을 참조하는 것으로 본다.</p>
+     *
+     * @param relationship 관계
+     * @param sourceTable  출발 테이블 (nullable)
+     * @param targetTable  도착 테이블 (nullable)
+     * @return 외래 키, 양 끝 컬럼을 찾을 수 없으면 {@code null}
+     */
+    @Nullable
+    static ForeignKey of(ErdRelationship relationship, @Nullable ErdTable sourceTable, @Nullable ErdTable targetTable) {
+        final var sourceColumn = column(sourceTable, relationship.sourceColumnId());
+        final var targetColumn = column(targetTable, relationship.targetColumnId());
+        if (sourceTable == null || targetTable == null || sourceColumn == null || targetColumn == null) {
+            return null;
+        }
+        return referencesTarget(sourceColumn, targetColumn)
+            ? new ForeignKey(sourceTable, sourceColumn, targetTable, targetColumn)
+            : new ForeignKey(targetTable, targetColumn, sourceTable, sourceColumn);
+    }
+
+    /**
+     * 제약 이름을 반환한다. 참조하는 테이블과 컬럼 이름으로 정하므로 다른 관계가 더해지거나 빠져도 바뀌지 않는다.
+     *
+     * @return {@code fk_<테이블>_<컬럼>}
+     */
+    String name() {
+        return "fk_" + DdlGenerator.tableName(childTable) + "_" + DdlGenerator.columnName(childColumn);
+    }
+
+    /** 출발 쪽 컬럼이 도착 쪽 컬럼을 참조하는지 판단한다. */
+    private static boolean referencesTarget(ErdColumn source, ErdColumn target) {
+        if (source.fk() != target.fk()) {
+            return source.fk();
+        }
+        if (source.pk() != target.pk()) {
+            return target.pk();
+        }
+        return true;
+    }
+
+    @Nullable
+    private static ErdColumn column(@Nullable ErdTable table, @Nullable String columnId) {
+        if (table == null || columnId == null) {
+            return null;
+        }
+        for (final var column : table.columns()) {
+            if (column.id().equals(columnId)) {
+                return column;
+            }
+        }
+        return null;
+    }
+}
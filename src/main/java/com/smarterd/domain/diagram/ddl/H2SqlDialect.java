@@ -0,0 +1,29 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * H2 2.x 방언.
+ */
+@Component
+class H2SqlDialect extends TypeMappingSqlDialect {
+
+    H2SqlDialect() {
+        super(
+            "h2",
+            '"',
+            '"',
+            Map.ofEntries(
+                Map.entry("BYTEA", "BLOB"),
+                Map.entry("DATETIME", "TIMESTAMP"),
+                Map.entry("DOUBLE", "DOUBLE PRECISION"),
+                Map.entry("INT", "INTEGER"),
+                Map.entry("LONGTEXT", "CLOB"),
+                Map.entry("NUMBER", "NUMERIC"),
+                Map.entry("TEXT", "CLOB"),
+                Map.entry("VARCHAR2", "VARCHAR")
+            )
+        );
+    }
+}
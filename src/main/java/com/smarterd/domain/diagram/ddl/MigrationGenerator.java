@@ -0,0 +1,370 @@
+package com.smarterd.domain.diagram.ddl;
+
+import com.smarterd.domain.diagram.model.DiagramChangeKind;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.lang.Nullable;
+
+/**
+ * 두 리비전의 구조적 차이({@link DiagramDiff})로부터 {@code ALTER} 마이그레이션 스크립트를 쓰는 생성기.
+ *
+ * <p>
+ * 두 문서의 DDL을 각각 만들어 비교하지 않고 차이에 나온 테이블·컬럼·관계만 다룬다. 테이블 정의가 필요하면
+ * {@link Revision}에서 그 테이블만 꺼내므로, 비용은 다이어그램 크기가 아니라 바뀐 양과 관계 수에 비례한다.
+ * </p>
+ *
+ * <p>
+ * 문은 의존 순서대로 쓴다: 외래 키 삭제 → 테이블 삭제 → 테이블 이름 변경 → 테이블 생성 → 컬럼 변경(PK 삭제, 컬럼 삭제·이름
+ * 변경·타입과 NULL 변경·추가, PK 추가) → 외래 키 추가. 삭제되거나 양 끝이 바뀐 관계뿐 아니라, 바뀐 컬럼이나 이름·PK가
+ * 바뀐 테이블에 걸린 외래 키도 먼저 지웠다가 마지막에 다시 만든다. 외래 키 이름은 {@link DdlGenerator}와 같은
+ * {@link ForeignKey#name()} 규칙을 따르고, 이름이 바뀐 테이블은 PK 제약 이름도 맞추므로 마이그레이션 결과는 대상 리비전을
+ * 새로 내보낸 스키마와 같다.
+ * </p>
+ */
+public final class MigrationGenerator {
+
+    /**
+     * 마이그레이션 양쪽 리비전의 ERD 구조.
+     */
+    public interface Revision {
+        /**
+         * 테이블을 찾는다.
+         *
+         * @param tableId 테이블 노드 ID
+         * @return 테이블, 없으면 {@code null}
+         */
+        @Nullable
+        ErdTable table(String tableId);
+
+        /**
+         * 모든 관계를 반환한다.
+         *
+         * @return 관계 목록 (문서 순서)
+         */
+        List<ErdRelationship> relationships();
+    }
+
+    private final SqlDialect dialect;
+
+    private final DdlGenerator ddl;
+
+    /**
+     * 생성기를 만든다.
+     *
+     * @param dialect         SQL 방언
+     * @param dictionaryTypes 용어 물리명(소문자) → 도메인 물리 데이터 타입
+     */
+    public MigrationGenerator(SqlDialect dialect, Map<String, String> dictionaryTypes) {
+        this.dialect = dialect;
+        this.ddl = new DdlGenerator(dialect, dictionaryTypes);
+    }
+
+    /**
+     * 마이그레이션 스크립트를 쓴다.
+     *
+     * @param diff   두 리비전의 구조적 차이
+     * @param before 이전 리비전
+     * @param after  이후 리비전
+     * @param out    출력
+     * @throws IOException 출력에 실패한 경우
+     */
+    public void write(DiagramDiff diff, Revision before, Revision after, Writer out) throws IOException {
+        out
+            .append("-- Migration generated by Smart ERD (dialect: ")
+            .append(dialect.id())
+            .append(", table changes: ")
+            .append(String.valueOf(diff.tables().size()))
+            .append(", column changes: ")
+            .append(String.valueOf(diff.columns().size()))
+            .append(", relationship changes: ")
+            .append(String.valueOf(diff.relationships().size()))
+            .append(")\n");
+
+        final var added = new ArrayList<String>();
+        final var removed = new ArrayList<String>();
+        final var renamed = new ArrayList<String>();
+        for (final var change : diff.tables()) {
+            switch (change.kind()) {
+                case ADDED -> added.add(change.tableId());
+                case REMOVED -> removed.add(change.tableId());
+                case RENAMED -> renamed.add(change.tableId());
+                default -> {
+                    // 이동은 스키마와 무관
+                }
+            }
+        }
+
+        final var columns = new LinkedHashMap<String, Map<String, ColumnDelta>>();
+        final var changedColumns = new HashSet<String>();
+        for (final var change : diff.columns()) {
+            columns
+                .computeIfAbsent(change.tableId(), (id) -> new LinkedHashMap<>())
+                .putIfAbsent(change.columnId(), new ColumnDelta(change.before(), change.after()));
+            changedColumns.add(columnKey(change.tableId(), change.columnId()));
+        }
+        final var keyChanged = new HashSet<String>();
+        columns.forEach((tableId, deltas) -> {
+            if (deltas.values().stream().anyMatch(ColumnDelta::keyChanged)) {
+                keyChanged.add(tableId);
+            }
+        });
+
+        final var rebuiltTables = new HashSet<String>(removed);
+        rebuiltTables.addAll(renamed);
+        rebuiltTables.addAll(keyChanged);
+        final var reconnected = new HashSet<String>();
+        for (final var change : diff.relationships()) {
+            if (change.kind() != DiagramChangeKind.RETYPED) {
+                reconnected.add(change.relationshipId());
+            }
+        }
+        final var affected = new Affected(reconnected, rebuiltTables, changedColumns);
+
+        final var section = new Section(out);
+        for (final var relationship : before.relationships()) {
+            if (affected.contains(relationship)) {
+                final var foreignKey = foreignKey(relationship, before);
+                if (foreignKey != null) {
+                    section.statement(
+                        dialect.dropForeignKey(
+                            dialect.identifier(DdlGenerator.tableName(foreignKey.childTable())),
+                            dialect.identifier(foreignKey.name())
+                        )
+                    );
+                }
+            }
+        }
+
+        section.next();
+        for (final var tableId : removed) {
+            final var table = before.table(tableId);
+            if (table != null) {
+                section.statement("DROP TABLE " + dialect.identifier(DdlGenerator.tableName(table)));
+            }
+        }
+
+        section.next();
+        for (final var tableId : renamed) {
+            final var previous = before.table(tableId);
+            final var table = after.table(tableId);
+            if (previous != null && table != null) {
+                final var tableName = dialect.identifier(DdlGenerator.tableName(table));
+                section.statement(
+                    "ALTER TABLE " + dialect.identifier(DdlGenerator.tableName(previous)) + " RENAME TO " + tableName
+                );
+                if (!keyChanged.contains(tableId) && !ddl.primaryKeyColumns(previous).isEmpty()) {
+                    for (final var statement : dialect.renamePrimaryKey(
+                        tableName,
+                        ddl.primaryKeyName(previous),
+                        ddl.primaryKeyName(table)
+                    )) {
+                        section.statement(statement);
+                    }
+                }
+            }
+        }
+
+        for (final var tableId : added) {
+            final var table = after.table(tableId);
+            if (table != null) {
+                ddl.writeTable(table, out);
+                section.separated();
+            }
+        }
+
+        section.next();
+        for (final var entry : columns.entrySet()) {
+            final var previous = before.table(entry.getKey());
+            final var table = after.table(entry.getKey());
+            if (previous != null && table != null) {
+                final var deltas = entry.getValue().values();
+                writeColumnChanges(previous, table, deltas, keyChanged.contains(table.id()), section);
+            }
+        }
+
+        section.next();
+        final var names = new HashSet<String>();
+        for (final var relationship : after.relationships()) {
+            if (affected.contains(relationship)) {
+                final var foreignKey = foreignKey(relationship, after);
+                section.begin();
+                if (foreignKey == null) {
+                    DdlGenerator.writeSkipped(relationship, out);
+                    continue;
+                }
+                var name = foreignKey.name();
+                for (var sequence = 2; !names.add(name); sequence++) {
+                    name = foreignKey.name() + "_" + sequence;
+                }
+                ddl.writeForeignKey(foreignKey, name, out);
+            }
+        }
+    }
+
+    private void writeColumnChanges(
+        ErdTable previous,
+        ErdTable table,
+        Iterable<ColumnDelta> deltas,
+        boolean keyChanged,
+        Section section
+    ) throws IOException {
+        final var tableName = dialect.identifier(DdlGenerator.tableName(table));
+        if (keyChanged && !ddl.primaryKeyColumns(previous).isEmpty()) {
+            section.statement(dialect.dropPrimaryKey(tableName, ddl.primaryKeyName(previous)));
+        }
+        for (final var delta : deltas) {
+            final var before = delta.before();
+            final var after = delta.after();
+            if (before != null && after == null) {
+                section.statement(
+                    "ALTER TABLE " + tableName + " DROP COLUMN " + dialect.identifier(DdlGenerator.columnName(before))
+                );
+            }
+        }
+        for (final var delta : deltas) {
+            final var before = delta.before();
+            final var after = delta.after();
+            if (before == null || after == null) {
+                continue;
+            }
+            final var column = dialect.identifier(DdlGenerator.columnName(after));
+            if (!DdlGenerator.columnName(before).equals(DdlGenerator.columnName(after))) {
+                section.statement(
+                    "ALTER TABLE " +
+                    tableName +
+                    " RENAME COLUMN " +
+                    dialect.identifier(DdlGenerator.columnName(before)) +
+                    " TO " +
+                    column
+                );
+            }
+            final var type = ddl.columnType(after);
+            final var typeChanged = !ddl.columnType(before).equals(type);
+            final var notNull = DdlGenerator.notNull(after);
+            final var nullabilityChanged = DdlGenerator.notNull(before) != notNull;
+            if (typeChanged || nullabilityChanged) {
+                for (final var statement : dialect.alterColumn(
+                    tableName,
+                    column,
+                    type,
+                    notNull,
+                    typeChanged,
+                    nullabilityChanged
+                )) {
+                    section.statement(statement);
+                }
+            }
+        }
+        for (final var delta : deltas) {
+            final var after = delta.after();
+            if (delta.before() == null && after != null) {
+                section.statement(dialect.addColumn(tableName, ddl.columnDefinition(after)));
+            }
+        }
+        final var primaryKey = ddl.primaryKeyColumns(table);
+        if (keyChanged && !primaryKey.isEmpty()) {
+            section.statement(
+                "ALTER TABLE " +
+                tableName +
+                " ADD CONSTRAINT " +
+                ddl.primaryKeyName(table) +
+                " PRIMARY KEY (" +
+                primaryKey +
+                ")"
+            );
+        }
+    }
+
+    @Nullable
+    private static ForeignKey foreignKey(ErdRelationship relationship, Revision revision) {
+        final var sourceTable = revision.table(relationship.source());
+        return ForeignKey.of(relationship, sourceTable, revision.table(relationship.target()));
+    }
+
+    private static String columnKey(String tableId, @Nullable String columnId) {
+        return tableId + '\u0000' + columnId;
+    }
+
+    /**
+     * 컬럼 하나의 변경 전후.
+     *
+     * @param before 변경 전 컬럼 (추가된 경우 {@code null})
+     * @param after  변경 후 컬럼 (삭제된 경우 {@code null})
+     */
+    private record ColumnDelta(@Nullable ErdColumn before, @Nullable ErdColumn after) {
+        /** PK 구성이 바뀌는지 확인한다. */
+        boolean keyChanged() {
+            return (before != null && before.pk()) != (after != null && after.pk());
+        }
+    }
+
+    /**
+     * 외래 키를 지웠다가 다시 만들어야 하는 관계를 판단한다.
+     *
+     * @param relationships 추가·삭제되거나 양 끝이 바뀐 관계 ID
+     * @param tables        삭제되거나 이름·PK가 바뀐 테이블 ID
+     * @param columns       바뀐 컬럼 키 ({@link #columnKey})
+     */
+    private record Affected(Set<String> relationships, Set<String> tables, Set<String> columns) {
+        boolean contains(ErdRelationship relationship) {
+            return (
+                relationships.contains(relationship.id()) ||
+                tables.contains(relationship.source()) ||
+                tables.contains(relationship.target()) ||
+                columns.contains(columnKey(relationship.source(), relationship.sourceColumnId())) ||
+                columns.contains(columnKey(relationship.target(), relationship.targetColumnId()))
+            );
+        }
+    }
+
+    /** 단계 사이에 빈 줄을 하나씩 넣으며 문을 쓴다. 아무 문도 쓰지 않은 단계는 빈 줄을 남기지 않는다. */
+    private static final class Section {
+
+        private final Writer out;
+
+        private boolean pending = true;
+
+        private boolean empty = true;
+
+        private Section(Writer out) {
+            this.out = out;
+        }
+
+        /** 단계의 첫 문이면 빈 줄을 넣는다. */
+        void begin() throws IOException {
+            if (pending) {
+                out.append('\n');
+                pending = false;
+            }
+            empty = false;
+        }
+
+        void statement(String statement) throws IOException {
+            begin();
+            out.append(statement).append(";\n");
+        }
+
+        /** 앞에 빈 줄을 스스로 넣는 문({@code CREATE TABLE})을 쓴 것으로 기록한다. */
+        void separated() {
+            pending = false;
+            empty = false;
+        }
+
+        void next() {
+            if (!empty) {
+                pending = true;
+                empty = true;
+            }
+        }
+    }
+}
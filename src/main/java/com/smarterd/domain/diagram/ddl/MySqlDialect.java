@@ -0,0 +1,64 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL 8 방언.
+ *
+ * <p>{@code TIMESTAMP}는 2038년까지만 담을 수 있어 {@code DATETIME}으로 바꾼다. 컬럼 변경은 정의 전체를 다시 쓰는
+ * {@code MODIFY COLUMN}으로, 제약 삭제는 {@code DROP FOREIGN KEY}·{@code DROP PRIMARY KEY}로 한다. PK 제약은 이름이 항상
+ * {@code PRIMARY}이므로 테이블 이름이 바뀌어도 제약 이름을 바꾸지 않는다.</p>
+ */
+@Component
+class MySqlDialect extends TypeMappingSqlDialect {
+
+    MySqlDialect() {
+        super(
+            "mysql",
+            '`',
+            '`',
+            Map.ofEntries(
+                Map.entry("BOOLEAN", "TINYINT(1)"),
+                Map.entry("BYTEA", "LONGBLOB"),
+                Map.entry("CLOB", "LONGTEXT"),
+                Map.entry("DOUBLE PRECISION", "DOUBLE"),
+                Map.entry("NUMBER", "DECIMAL"),
+                Map.entry("NUMERIC", "DECIMAL"),
+                Map.entry("TIMESTAMP", "DATETIME"),
+                Map.entry("UUID", "CHAR(36)"),
+                Map.entry("VARCHAR2", "VARCHAR")
+            )
+        );
+    }
+
+    @Override
+    public List<String> alterColumn(
+        String table,
+        String column,
+        String type,
+        boolean notNull,
+        boolean typeChanged,
+        boolean nullabilityChanged
+    ) {
+        return List.of(
+            "ALTER TABLE " + table + " MODIFY COLUMN " + column + " " + type + (notNull ? " NOT NULL" : " NULL")
+        );
+    }
+
+    @Override
+    public String dropForeignKey(String table, String constraint) {
+        return "ALTER TABLE " + table + " DROP FOREIGN KEY " + constraint;
+    }
+
+    @Override
+    public List<String> renamePrimaryKey(String table, String constraint, String renamed) {
+        return List.of();
+    }
+
+    @Override
+    public String dropPrimaryKey(String table, String constraint) {
+        return "ALTER TABLE " + table + " DROP PRIMARY KEY";
+    }
+}
@@ -0,0 +1,68 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Oracle Database 방언.
+ *
+ * <p>정수·논리 타입은 자릿수를 정한 {@code NUMBER}로, 문자열은 {@code VARCHAR2}로 바꾼다. 컬럼 추가·변경은 괄호로
+ * 감싼 {@code ADD (...)}·{@code MODIFY (...)}로 한다.</p>
+ */
+@Component
+class OracleSqlDialect extends TypeMappingSqlDialect {
+
+    OracleSqlDialect() {
+        super(
+            "oracle",
+            '"',
+            '"',
+            Map.ofEntries(
+                Map.entry("BIGINT", "NUMBER(19)"),
+                Map.entry("BOOLEAN", "NUMBER(1)"),
+                Map.entry("BYTEA", "BLOB"),
+                Map.entry("DATETIME", "TIMESTAMP"),
+                Map.entry("DECIMAL", "NUMBER"),
+                Map.entry("DOUBLE", "BINARY_DOUBLE"),
+                Map.entry("DOUBLE PRECISION", "BINARY_DOUBLE"),
+                Map.entry("INT", "NUMBER(10)"),
+                Map.entry("INTEGER", "NUMBER(10)"),
+                Map.entry("JSON", "CLOB"),
+                Map.entry("LONGTEXT", "CLOB"),
+                Map.entry("NUMERIC", "NUMBER"),
+                Map.entry("SMALLINT", "NUMBER(5)"),
+                Map.entry("TEXT", "CLOB"),
+                Map.entry("TINYINT", "NUMBER(3)"),
+                Map.entry("UUID", "VARCHAR2(36)"),
+                Map.entry("VARCHAR", "VARCHAR2")
+            )
+        );
+    }
+
+    @Override
+    public String addColumn(String table, String definition) {
+        return "ALTER TABLE " + table + " ADD (" + definition + ")";
+    }
+
+    @Override
+    public List<String> alterColumn(
+        String table,
+        String column,
+        String type,
+        boolean notNull,
+        boolean typeChanged,
+        boolean nullabilityChanged
+    ) {
+        final var statements = new ArrayList<String>(2);
+        final var prefix = "ALTER TABLE " + table + " MODIFY (" + column;
+        if (typeChanged) {
+            statements.add(prefix + " " + type + ")");
+        }
+        if (nullabilityChanged) {
+            statements.add(prefix + (notNull ? " NOT NULL)" : " NULL)"));
+        }
+        return statements;
+    }
+}
@@ -0,0 +1,30 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 방언.
+ */
+@Component
+class PostgreSqlDialect extends TypeMappingSqlDialect {
+
+    PostgreSqlDialect() {
+        super(
+            "postgresql",
+            '"',
+            '"',
+            Map.ofEntries(
+                Map.entry("BLOB", "BYTEA"),
+                Map.entry("CLOB", "TEXT"),
+                Map.entry("DATETIME", "TIMESTAMP"),
+                Map.entry("DOUBLE", "DOUBLE PRECISION"),
+                Map.entry("INT", "INTEGER"),
+                Map.entry("LONGTEXT", "TEXT"),
+                Map.entry("NUMBER", "NUMERIC"),
+                Map.entry("TINYINT", "SMALLINT"),
+                Map.entry("VARCHAR2", "VARCHAR")
+            )
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DDL 생성에 쓰는 SQL 방언.
+ *
+ * <p>구현체를 Spring 빈으로 등록하면 {@link #id()}로 내보내기 대상에 추가된다. {@code ALTER TABLE} 문을 만드는 기본
+ * 메서드는 H2·PostgreSQL이 따르는 표준 SQL 문법이며, 다른 방언은 필요한 것만 재정의한다. 인자로 받는 테이블·컬럼·제약
+ * 이름은 이미 {@link #identifier(String)}를 거친 식별자이고, 반환하는 문에는 세미콜론을 붙이지 않는다.</p>
+ */
+public interface SqlDialect {
+
+    /**
+     * 방언 식별자를 반환한다 (예: {@code postgresql}).
+     *
+     * @return 소문자 방언 식별자
+     */
+    String id();
+
+    /**
+     * 테이블·컬럼·제약 이름을 이 방언의 식별자로 만든다. 예약어이거나 일반 식별자 규칙에 맞지 않으면 인용한다.
+     *
+     * @param identifier 이름
+     * @return SQL 식별자
+     */
+    String identifier(String identifier);
+
+    /**
+     * 다이어그램·도메인에 적힌 데이터 타입을 이 방언의 컬럼 타입으로 바꾼다.
+     *
+     * @param type 데이터 타입 (예: {@code VARCHAR(50)}, 비어 있을 수 있다)
+     * @return 방언 컬럼 타입
+     */
+    String columnType(String type);
+
+    /**
+     * 기존 테이블에 컬럼을 추가하는 문을 만든다.
+     *
+     * @param table      테이블 식별자
+     * @param definition 컬럼 정의 ({@code 이름 타입 [NOT NULL]})
+     * @return SQL 문
+     */
+    default String addColumn(String table, String definition) {
+        return "ALTER TABLE " + table + " ADD COLUMN " + definition;
+    }
+
+    /**
+     * 컬럼의 타입이나 NULL 허용 여부를 바꾸는 문을 만든다.
+     *
+     * @param table              테이블 식별자
+     * @param column             컬럼 식별자
+     * @param type               바뀐 뒤의 방언 타입
+     * @param notNull            바뀐 뒤의 {@code NOT NULL} 여부
+     * @param typeChanged        타입이 바뀌었는지
+     * @param nullabilityChanged NULL 허용 여부가 바뀌었는지
+     * @return SQL 문 목록 (실행 순서)
+     */
+    default List<String> alterColumn(
+        String table,
+        String column,
+        String type,
+        boolean notNull,
+        boolean typeChanged,
+        boolean nullabilityChanged
+    ) {
+        final var statements = new ArrayList<String>(2);
+        final var prefix = "ALTER TABLE " + table + " ALTER COLUMN " + column;
+        if (typeChanged) {
+            statements.add(prefix + " SET DATA TYPE " + type);
+        }
+        if (nullabilityChanged) {
+            statements.add(prefix + (notNull ? " SET NOT NULL" : " DROP NOT NULL"));
+        }
+        return statements;
+    }
+
+    /**
+     * 외래 키 제약을 지우는 문을 만든다.
+     *
+     * @param table      테이블 식별자
+     * @param constraint 제약 식별자
+     * @return SQL 문
+     */
+    default String dropForeignKey(String table, String constraint) {
+        return "ALTER TABLE " + table + " DROP CONSTRAINT " + constraint;
+    }
+
+    /**
+     * 테이블 이름이 바뀐 뒤 PK 제약 이름을 맞추는 문을 만든다.
+     *
+     * @param table      테이블 식별자 (바뀐 이름)
+     * @param constraint 기존 제약 식별자
+     * @param renamed    새 제약 식별자
+     * @return SQL 문 목록, PK 제약에 이름이 없는 방언이면 빈 목록
+     */
+    default List<String> renamePrimaryKey(String table, String constraint, String renamed) {
+        return List.of("ALTER TABLE " + table + " RENAME CONSTRAINT " + constraint + " TO " + renamed);
+    }
+
+    /**
+     * PK 제약을 지우는 문을 만든다.
+     *
+     * @param table      테이블 식별자
+     * @param constraint 제약 식별자
+     * @return SQL 문
+     */
+    default String dropPrimaryKey(String table, String constraint) {
+        return "ALTER TABLE " + table + " DROP CONSTRAINT " + constraint;
+    }
+}
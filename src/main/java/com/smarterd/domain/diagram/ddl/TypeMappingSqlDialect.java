@@ -0,0 +1,96 @@
+package com.smarterd.domain.diagram.ddl;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 타입 이름 치환표와 인용 문자로 정의하는 SQL 방언의 공통 구현.
+ *
+ * <p>
+ * 데이터 타입은 {@code 이름(인자)}로 나누어 이름만 치환표에서 찾는다. 치환 결과에 괄호가 있으면 그대로 쓰고(예:
+ * {@code BIGINT → NUMBER(19)}), 없으면 원래 인자를 붙인다(예: {@code VARCHAR(50) → VARCHAR2(50)}). 치환표에 없는
+ * 타입은 대문자로만 정리한다. 타입이 비어 있으면 {@value #DEFAULT_TYPE}로, 타입 문법에 맞지 않으면(다른 SQL이 섞여
+ * 들어갈 수 있는 문자열) 같은 기본 타입으로 대신한다.
+ * </p>
+ */
+abstract class TypeMappingSqlDialect implements SqlDialect {
+
+    /** 타입이 없거나 쓸 수 없을 때의 기본 타입 */
+    static final String DEFAULT_TYPE = "VARCHAR(255)";
+
+    /** 허용하는 데이터 타입 문법: 이름(공백 포함 가능)과 선택적인 숫자·이름 인자 */
+    private static final Pattern TYPE = Pattern.compile("([A-Za-z][A-Za-z0-9_ ]*?)\\s*(\\(\\s*[A-Za-z0-9 ,]+\\))?");
+
+    /** 인용하지 않아도 되는 식별자 */
+    private static final Pattern PLAIN_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /** 여러 방언에서 예약어라 인용이 필요한 단어 */
+    private static final Set<String> RESERVED_WORDS = Set.of(
+        "ACCESS", "ADD", "ALL", "ALTER", "AND", "ANY", "AS", "ASC", "BETWEEN", "BY", "CASE", "CHECK", "COLUMN",
+        "COMMENT", "CONSTRAINT", "CREATE", "CROSS", "CURRENT", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP",
+        "CURRENT_USER", "DATE", "DEFAULT", "DELETE", "DESC", "DISTINCT", "DROP", "ELSE", "END", "EXCEPT", "EXISTS",
+        "FALSE", "FETCH", "FILE", "FOR", "FOREIGN", "FROM", "FULL", "GRANT", "GROUP", "HAVING", "IN", "INDEX",
+        "INNER", "INSERT", "INTERSECT", "INTERVAL", "INTO", "IS", "JOIN", "KEY", "LEFT", "LEVEL", "LIKE", "LIMIT",
+        "MODE", "NOT", "NULL", "NUMBER", "OF", "OFFSET", "ON", "OR", "ORDER", "OUTER", "PRIMARY", "RANGE",
+        "REFERENCES", "RIGHT", "ROW", "ROWNUM", "ROWS", "SELECT", "SESSION", "SET", "SIZE", "TABLE", "THEN", "TO",
+        "TRUE", "UID", "UNION", "UNIQUE", "UPDATE", "USER", "USING", "VALUE", "VALUES", "WHEN", "WHERE", "WITH"
+    );
+
+    private final String id;
+
+    private final char quote;
+
+    private final char closingQuote;
+
+    private final Map<String, String> types;
+
+    /**
+     * 방언을 정의한다.
+     *
+     * @param id           방언 식별자
+     * @param quote        여는 인용 문자
+     * @param closingQuote 닫는 인용 문자
+     * @param types        대문자 타입 이름 → 방언 타입 치환표
+     */
+    TypeMappingSqlDialect(String id, char quote, char closingQuote, Map<String, String> types) {
+        this.id = id;
+        this.quote = quote;
+        this.closingQuote = closingQuote;
+        this.types = types;
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public String identifier(String identifier) {
+        if (PLAIN_IDENTIFIER.matcher(identifier).matches() && !RESERVED_WORDS.contains(upper(identifier))) {
+            return identifier;
+        }
+        final var closing = String.valueOf(closingQuote);
+        return quote + identifier.replace(closing, closing + closing) + closingQuote;
+    }
+
+    @Override
+    public String columnType(String type) {
+        final var matcher = TYPE.matcher(type.trim());
+        if (!matcher.matches()) {
+            return columnType(DEFAULT_TYPE);
+        }
+        final var name = upper(matcher.group(1).trim().replaceAll("\\s+", " "));
+        final var arguments = matcher.group(2) == null ? "" : matcher.group(2).replaceAll("\\s+", "");
+        final var mapped = types.get(name);
+        if (mapped == null) {
+            return name + arguments;
+        }
+        return mapped.indexOf('(') >= 0 ? mapped : mapped + arguments;
+    }
+
+    private static String upper(String value) {
+        return value.toUpperCase(Locale.ROOT);
+    }
+}
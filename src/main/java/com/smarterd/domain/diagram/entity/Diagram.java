@@ -3,6 +3,7 @@ package com.smarterd.domain.diagram.entity;
 import com.smarterd.domain.common.entity.BaseTimeEntity;
 import com.smarterd.domain.project.entity.Project;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -12,6 +13,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,7 +23,11 @@ import lombok.NoArgsConstructor;
  * 다이어그램 엔티티.
  *
  * <p>프로젝트({@link Project}) 소속의 ERD 다이어그램을 나타낸다.
- * {@code content} 필드에 React Flow 노드·엣지 JSON을 직렬화하여 CLOB으로 저장한다.</p>
+ * {@code content} 필드에 React Flow 노드·엣지 JSON을 직렬화하여 저장하며, DB에는 {@link DiagramContentConverter}가
+ * 공유 사전 기반 Deflate로 압축한 BLOB으로 기록한다.
+ * {@code contentHash}는 content의 정규화 해시로, 의미가 같은 저장의 생략과 ETag 응답,
+ * {@code If-None-Match}/{@code If-Match} 비교에 쓰인다.
+ * {@code revision}은 JPA 낙관적 락 버전으로, 변경이 커밋될 때마다 증가하며 패치 요청의 기준 리비전 검증에 사용된다.</p>
  *
  * @see com.smarterd.domain.project.entity.Project
  */
@@ -45,31 +51,53 @@ public class Diagram extends BaseTimeEntity {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
-    /** 직렬화된 React Flow JSON (노드 + 엣지) */
+    /** 직렬화된 React Flow JSON (노드 + 엣지) — DB에는 압축 BLOB으로 저장 */
     @Lob
-    @Column(columnDefinition = "CLOB")
+    @Convert(converter = DiagramContentConverter.class)
+    @Column(columnDefinition = "BLOB")
     private String content;
 
+    /** content의 정규화 SHA-256 해시 (16진수, 강한 ETag 값) — content가 바뀔 때마다 함께 갱신 */
+    @Column(length = DiagramContentHash.LENGTH)
+    private String contentHash;
+
+    /** 리비전 (JPA 낙관적 락 버전, 변경 시마다 자동 증가) */
+    @Version
+    @Column(nullable = false)
+    private Long revision;
+
     /**
      * 다이어그램 엔티티를 생성한다.
      *
      * @param name    다이어그램 이름
      * @param project 소속 프로젝트
-     * @param content 직렬화된 React Flow JSON
+     * @param content     직렬화된 React Flow JSON
+     * @param contentHash content의 정규화 해시
      */
     @Builder
-    public Diagram(String name, Project project, String content) {
+    public Diagram(String name, Project project, String content, String contentHash) {
         this.name = name;
         this.project = project;
-        this.content = content;
+        updateContent(content, contentHash);
+    }
+
+    /**
+     * 다이어그램 이름을 변경한다.
+     *
+     * @param name 새로운 다이어그램 이름
+     */
+    public void rename(String name) {
+        this.name = name;
     }
 
     /**
-     * 다이어그램의 콘텐츠를 갱신한다.
+     * 다이어그램의 콘텐츠와 content 해시를 갱신한다.
      *
-     * @param content 새로운 React Flow JSON 문자열
+     * @param content     새로운 React Flow JSON 문자열
+     * @param contentHash 새 content의 정규화 해시
      */
-    public void updateContent(String content) {
+    public void updateContent(String content, String contentHash) {
         this.content = content;
+        this.contentHash = contentHash;
     }
 }
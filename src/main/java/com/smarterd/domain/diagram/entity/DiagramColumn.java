@@ -0,0 +1,118 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 컬럼 엔티티 (정규화 모델).
+ *
+ * <p>테이블 노드의 {@code data.columns} 항목 하나를 행으로 저장한다.
+ * 클라이언트 컬럼 ID({@code col-<uuid>})로 다이어그램 내에서 유일하게 식별되며,
+ * 소속 테이블은 노드 ID({@code tableNodeId})로 참조한다.</p>
+ *
+ * @see DiagramTable
+ */
+@Entity
+@Table(
+    name = "diagram_columns",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "column_id", "diagram_id" }),
+    indexes = { @Index(columnList = "table_node_id, diagram_id"), @Index(columnList = "name") }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramColumn extends BaseTimeEntity {
+
+    /** 컬럼 행 고유 식별자 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소속 다이어그램 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id", nullable = false)
+    private Diagram diagram;
+
+    /** 클라이언트 컬럼 ID ({@code col-<uuid>}) */
+    @Column(name = "column_id", nullable = false, length = 64)
+    private String columnId;
+
+    /** 소속 테이블 노드 ID */
+    @Column(name = "table_node_id", nullable = false, length = 64)
+    private String tableNodeId;
+
+    /** 테이블 내 표시 순서 (0부터) */
+    private int ordinal;
+
+    /** 컬럼 이름 */
+    @Column(nullable = false)
+    private String name;
+
+    /** 데이터 타입 */
+    @Column(nullable = false, length = 100)
+    private String dataType;
+
+    /** Primary Key 여부 */
+    private boolean pk;
+
+    /** Foreign Key 여부 */
+    private boolean fk;
+
+    /** NULL 허용 여부 */
+    private boolean nullable;
+
+    /**
+     * 다이어그램 컬럼 엔티티를 생성한다.
+     *
+     * @param diagram     소속 다이어그램
+     * @param tableNodeId 소속 테이블 노드 ID
+     * @param ordinal     테이블 내 표시 순서
+     * @param column      파싱된 컬럼
+     */
+    @Builder
+    public DiagramColumn(Diagram diagram, String tableNodeId, int ordinal, ErdColumn column) {
+        this.diagram = diagram;
+        this.columnId = column.id();
+        apply(tableNodeId, ordinal, column);
+    }
+
+    /**
+     * 파싱된 컬럼 값으로 갱신한다. 값이 같으면 dirty checking에 의해 UPDATE가 발생하지 않는다.
+     *
+     * @param tableNodeId 소속 테이블 노드 ID
+     * @param ordinal     테이블 내 표시 순서
+     * @param column      파싱된 컬럼
+     */
+    public void apply(String tableNodeId, int ordinal, ErdColumn column) {
+        this.tableNodeId = tableNodeId;
+        this.ordinal = ordinal;
+        this.name = column.name();
+        this.dataType = column.type();
+        this.pk = column.pk();
+        this.fk = column.fk();
+        this.nullable = column.nullable();
+    }
+
+    /**
+     * 파싱 모델로 변환한다.
+     *
+     * @return 파싱된 컬럼
+     */
+    public ErdColumn toModel() {
+        return new ErdColumn(columnId, name, dataType, pk, fk, nullable);
+    }
+}
@@ -0,0 +1,111 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import com.smarterd.domain.dictionary.validation.DictionaryColumnResult;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 컬럼 하나의 사전 검사 결과 엔티티.
+ *
+ * <p>검사 입력(테이블 노드 ID·테이블 이름·컬럼 이름·타입)과 결과를 클라이언트 컬럼 ID별로 저장한다. 입력이 그대로인 컬럼은
+ * 검사기를 다시 만들 때 이 결과를 쓰고 다시 검사하지 않는다. 어느 content와 사전에 대한 결과인지는
+ * {@link DiagramValidation}이 담는다.</p>
+ *
+ * @see DiagramValidation
+ */
+@Entity
+@Table(
+    name = "diagram_column_checks",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "column_id", "diagram_id" })
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramColumnCheck extends BaseTimeEntity {
+
+    /** 결과 행 고유 식별자 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소속 다이어그램 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id", nullable = false)
+    private Diagram diagram;
+
+    /** 클라이언트 컬럼 ID ({@code col-<uuid>}) */
+    @Column(name = "column_id", nullable = false, length = 64)
+    private String columnId;
+
+    /** 소속 테이블 노드 ID */
+    @Column(name = "table_node_id", nullable = false, length = 64)
+    private String tableNodeId;
+
+    /** 테이블 이름 */
+    @Column(nullable = false)
+    private String tableName;
+
+    /** 컬럼 이름 */
+    @Column(nullable = false)
+    private String name;
+
+    /** 데이터 타입 */
+    @Column(nullable = false, length = 100)
+    private String dataType;
+
+    /** 검사 결과 (문제가 없으면 {@code null}로 저장) */
+    @Lob
+    @Convert(converter = DictionaryIssuesConverter.class)
+    private List<Issue> issues;
+
+    /**
+     * 컬럼 검사 결과 엔티티를 생성한다.
+     *
+     * @param diagram 소속 다이어그램
+     * @param result  컬럼 검사 결과
+     */
+    @Builder
+    public DiagramColumnCheck(Diagram diagram, DictionaryColumnResult result) {
+        this.diagram = diagram;
+        this.columnId = result.columnId();
+        apply(result);
+    }
+
+    /**
+     * 다시 검사한 결과로 갱신한다.
+     *
+     * @param result 컬럼 검사 결과
+     */
+    public void apply(DictionaryColumnResult result) {
+        this.tableNodeId = result.tableId();
+        this.tableName = result.tableName();
+        this.name = result.columnName();
+        this.dataType = result.type();
+        this.issues = result.issues();
+    }
+
+    /**
+     * 검사기에 넘길 결과로 변환한다.
+     *
+     * @return 컬럼 검사 결과
+     */
+    public DictionaryColumnResult toResult() {
+        return new DictionaryColumnResult(columnId, tableNodeId, tableName, name, dataType, issues);
+    }
+}
@@ -0,0 +1,183 @@
+package com.smarterd.domain.diagram.entity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 다이어그램 content 압축 코덱.
+ *
+ * <p>React Flow JSON은 {@code "type":"VARCHAR(50)"}, {@code "nullable"}, {@code "sourceHandle"} 같은 키가
+ * 컬럼·엣지마다 반복되므로, 이 키들을 미리 담아 둔 공유 사전(preset dictionary)으로 Deflate 압축한다.
+ * 사전 덕분에 작은 다이어그램도 첫 바이트부터 반복 패턴을 참조할 수 있다.</p>
+ *
+ * <p>저장 형식: {@code [0x00 'E' 'R' 'D' version] + raw deflate(content)}.
+ * zlib 래퍼 없이(raw) 압축하므로 사전을 스트림 시작 전에 바로 지정할 수 있어 스트리밍 읽기·쓰기에도 그대로 쓰인다.
+ * JSON 텍스트는 0x00으로 시작할 수 없으므로, 헤더가 없는 값은 압축 이전에 저장된 평문 UTF-8 JSON으로 간주하여
+ * 그대로 읽는다(레거시 행 호환). 사전을 교체할 때는 {@code version}을 올리고 기존 사전을 함께 보관한다.</p>
+ */
+public final class DiagramContentCodec {
+
+    /** 압축 포맷 헤더 (버전 바이트 제외) */
+    private static final byte[] MAGIC = { 0x00, 'E', 'R', 'D' };
+
+    /** 헤더 전체 길이 (매직 + 버전) */
+    public static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    /** 현재 사전 버전 */
+    private static final byte DICTIONARY_V1 = 1;
+
+    /**
+     * 공유 사전 v1.
+     *
+     * <p>Deflate는 사전 끝쪽 문자열을 더 짧은 거리로 참조하므로, 가장 자주 등장하는 컬럼 조각을 마지막에 둔다.</p>
+     */
+    private static final byte[] DICTIONARY = (
+        "\"measured\":{\"width\":,\"height\":},\"selected\":false,\"dragging\":false,\"animated\":false," +
+        "\"markerEnd\":{\"type\":\"arrowclosed\"},\"type\":\"step\"," +
+        "TIMESTAMP\",\"DATE\",\"BOOLEAN\",\"TEXT\",\"INTEGER\",\"INT\",\"CHAR(1)\",\"DECIMAL(15,2)\",\"VARCHAR(255)\"," +
+        "VARCHAR(100)\",\"VARCHAR(20)\",\"BIGINT\"," +
+        "{\"nodes\":[{\"id\":\"table-\",\"type\":\"table\",\"position\":{\"x\":,\"y\":}," +
+        "\"data\":{\"label\":\"\",\"columns\":[" +
+        "],\"edges\":[{\"source\":\"table-\",\"sourceHandle\":\"table-" +
+        "-col--source\",\"target\":\"table-\",\"targetHandle\":\"table--col--target\",\"id\":\"e-table-" +
+        "{\"id\":\"col-\",\"name\":\"id\",\"type\":\"BIGINT\",\"pk\":true,\"fk\":false,\"nullable\":false}," +
+        "{\"id\":\"col-\",\"name\":\"\",\"type\":\"VARCHAR(50)\",\"pk\":false,\"fk\":false,\"nullable\":true},"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private DiagramContentCodec() {}
+
+    /**
+     * JSON 문자열을 압축 포맷으로 인코딩한다.
+     *
+     * @param content React Flow JSON
+     * @return 헤더가 붙은 압축 바이트 배열
+     */
+    public static byte[] encode(String content) {
+        final var buffer = new ByteArrayOutputStream(Math.max(64, content.length() / 4));
+        try (var out = encodingStream(buffer)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 저장된 바이트 배열을 JSON 문자열로 디코딩한다. 헤더가 없으면 평문 UTF-8로 읽는다.
+     *
+     * @param data 저장된 바이트 배열
+     * @return React Flow JSON
+     */
+    public static String decode(byte[] data) {
+        if (!isEncoded(data)) {
+            return new String(data, StandardCharsets.UTF_8);
+        }
+        final var inflater = newInflater(data[MAGIC.length]);
+        try {
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            final var out = new ByteArrayOutputStream(data.length * 8);
+            final var chunk = new byte[8192];
+            while (!inflater.finished()) {
+                final var n = inflater.inflate(chunk);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new IllegalStateException("Truncated diagram content");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted diagram content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 압축 포맷 헤더로 시작하는지 확인한다.
+     *
+     * @param data 저장된 바이트 배열
+     * @return 압축 포맷이면 {@code true}, 레거시 평문이면 {@code false}
+     */
+    public static boolean isEncoded(byte[] data) {
+        if (data.length < HEADER_LENGTH) {
+            return false;
+        }
+        for (var i = 0; i < MAGIC.length; i++) {
+            if (data[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기록되는 UTF-8 JSON 바이트를 압축 포맷으로 변환하는 스트림을 연다.
+     *
+     * <p>헤더는 즉시 기록된다. 반환된 스트림을 닫으면 압축이 마무리되고 하위 스트림도 닫힌다.</p>
+     *
+     * @param target 압축 바이트를 받을 스트림
+     * @return UTF-8 JSON을 기록할 스트림
+     * @throws IOException 헤더 기록 실패 시
+     */
+    public static OutputStream encodingStream(OutputStream target) throws IOException {
+        target.write(MAGIC);
+        target.write(DICTIONARY_V1);
+        final var deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setDictionary(DICTIONARY);
+        return new DeflaterOutputStream(target, deflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    deflater.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * 저장된 바이트 스트림을 UTF-8 JSON 스트림으로 복원한다. 헤더가 없으면 평문으로 그대로 흘려보낸다.
+     *
+     * @param source 저장된 바이트 스트림
+     * @return UTF-8 JSON 바이트 스트림
+     * @throws IOException 헤더 읽기 실패 시
+     */
+    public static InputStream decodingStream(InputStream source) throws IOException {
+        final var header = source.readNBytes(HEADER_LENGTH);
+        if (!isEncoded(header)) {
+            return new SequenceInputStream(new ByteArrayInputStream(header), source);
+        }
+        final var inflater = newInflater(header[MAGIC.length]);
+        return new InflaterInputStream(source, inflater, 8192) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inflater.end();
+                }
+            }
+        };
+    }
+
+    private static Inflater newInflater(byte version) {
+        if (version != DICTIONARY_V1) {
+            throw new IllegalStateException("Unsupported diagram content format version: " + version);
+        }
+        final var inflater = new Inflater(true);
+        inflater.setDictionary(DICTIONARY);
+        return inflater;
+    }
+}
@@ -0,0 +1,24 @@
+package com.smarterd.domain.diagram.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * {@link Diagram#getContent()}를 압축 바이너리 컬럼으로 저장하는 JPA 변환기.
+ *
+ * <p>엔티티에서는 평문 JSON 문자열로 다루고, DB에는 {@link DiagramContentCodec} 포맷의 BLOB으로 저장한다.
+ * 압축 헤더가 없는 기존(평문) 값도 그대로 읽히며, 다음 저장 시 압축 포맷으로 다시 기록된다.</p>
+ */
+@Converter
+public class DiagramContentConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute == null ? null : DiagramContentCodec.encode(attribute);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : DiagramContentCodec.decode(dbData);
+    }
+}
@@ -0,0 +1,43 @@
+package com.smarterd.domain.diagram.entity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 다이어그램 content 해시 계산 유틸리티.
+ *
+ * <p>content 해시는 SHA-256을 16진수 64자로 표현한다. 해시 대상은 UI 상태·키 순서·숫자 표기를 정규화한
+ * 문서이며({@link com.smarterd.domain.diagram.service.DiagramContentCanonicalizer}), 의미가 같은 저장은 건너뛰므로
+ * 저장된 content 바이트마다 해시가 하나로 정해져 강한 ETag 값으로 사용된다.</p>
+ */
+public final class DiagramContentHash {
+
+    /** 해시 문자열 길이 (SHA-256 16진수) */
+    public static final int LENGTH = 64;
+
+    private DiagramContentHash() {}
+
+    /**
+     * 해시 계산에 사용할 다이제스트를 만든다.
+     *
+     * @return SHA-256 다이제스트
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * 다이제스트 결과를 해시 문자열로 변환한다.
+     *
+     * @param digest 다이제스트 결과 바이트
+     * @return 16진수 문자열
+     */
+    public static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+}
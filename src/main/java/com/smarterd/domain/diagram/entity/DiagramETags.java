@@ -0,0 +1,77 @@
+package com.smarterd.domain.diagram.entity;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 content 해시 기반 ETag 유틸리티.
+ *
+ * <p>ETag 값은 content 해시({@link DiagramContentHash})를 따옴표로 감싼 강한 ETag다. 조건부 요청 헤더는 쉼표로
+ * 구분된 목록과 {@code *}를 허용한다. 서비스의 {@code If-Match} 검사와 컨트롤러의 {@code If-None-Match} 응답이
+ * 같은 규칙을 쓰도록 도메인 계층에 둔다.</p>
+ */
+public final class DiagramETags {
+
+    /** 약한 ETag 접두사 */
+    private static final String WEAK_PREFIX = "W/";
+
+    private DiagramETags() {}
+
+    /**
+     * content 해시를 ETag 헤더 값으로 변환한다.
+     *
+     * @param contentHash content 해시
+     * @return 강한 ETag (예: {@code "3f2a..."}), 해시가 없으면 {@code null}
+     */
+    @Nullable
+    public static String of(@Nullable String contentHash) {
+        return contentHash == null ? null : '"' + contentHash + '"';
+    }
+
+    /**
+     * {@code If-None-Match} 헤더가 현재 content를 가리키는지 약한 비교로 확인한다.
+     *
+     * @param ifNoneMatch {@code If-None-Match} 헤더 값 (nullable)
+     * @param contentHash 현재 content 해시 (nullable)
+     * @return 일치하면 {@code true} (304 응답 대상)
+     */
+    public static boolean matchesIfNoneMatch(@Nullable String ifNoneMatch, @Nullable String contentHash) {
+        return matches(ifNoneMatch, contentHash, false);
+    }
+
+    /**
+     * {@code If-Match} 헤더가 현재 content를 가리키는지 강한 비교로 확인한다. 헤더가 없으면 조건 없이 통과한다.
+     *
+     * @param ifMatch     {@code If-Match} 헤더 값 (nullable)
+     * @param contentHash 현재 content 해시 (nullable)
+     * @return 헤더가 없거나 일치하면 {@code true}
+     */
+    public static boolean satisfiesIfMatch(@Nullable String ifMatch, @Nullable String contentHash) {
+        return ifMatch == null || matches(ifMatch, contentHash, true);
+    }
+
+    private static boolean matches(@Nullable String header, @Nullable String contentHash, boolean strong) {
+        if (header == null || contentHash == null) {
+            return false;
+        }
+        for (final var part : header.split(",")) {
+            var tag = part.strip();
+            if (tag.equals("*")) {
+                return true;
+            }
+            final var weak = tag.startsWith(WEAK_PREFIX);
+            if (weak) {
+                if (strong) {
+                    continue;
+                }
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.equals(contentHash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,115 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 관계 엔티티 (정규화 모델).
+ *
+ * <p>React Flow 엣지 하나를 행으로 저장한다. 엣지 ID({@code e-{sourceHandle}-{targetHandle}})로
+ * 다이어그램 내에서 유일하게 식별되며, 핸들에서 유도한 양 끝 컬럼 ID를 함께 보관한다.</p>
+ *
+ * @see DiagramTable
+ */
+@Entity
+@Table(
+    name = "diagram_relationships",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "edge_id", "diagram_id" }),
+    indexes = { @Index(columnList = "source_node_id, diagram_id"), @Index(columnList = "target_node_id, diagram_id") }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramRelationship extends BaseTimeEntity {
+
+    /** 관계 행 고유 식별자 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소속 다이어그램 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id", nullable = false)
+    private Diagram diagram;
+
+    /** 클라이언트 엣지 ID */
+    @Column(name = "edge_id", nullable = false)
+    private String edgeId;
+
+    /** React Flow 엣지 타입 */
+    @Column(nullable = false, length = 30)
+    private String edgeType;
+
+    /** 출발 노드 ID */
+    @Column(nullable = false, length = 64)
+    private String sourceNodeId;
+
+    /** 출발 핸들 ID (nullable) */
+    private String sourceHandle;
+
+    /** 출발 컬럼 ID (핸들에서 유도, nullable) */
+    @Column(length = 64)
+    private String sourceColumnId;
+
+    /** 도착 노드 ID */
+    @Column(nullable = false, length = 64)
+    private String targetNodeId;
+
+    /** 도착 핸들 ID (nullable) */
+    private String targetHandle;
+
+    /** 도착 컬럼 ID (핸들에서 유도, nullable) */
+    @Column(length = 64)
+    private String targetColumnId;
+
+    /**
+     * 다이어그램 관계 엔티티를 생성한다.
+     *
+     * @param diagram      소속 다이어그램
+     * @param relationship 파싱된 관계
+     */
+    @Builder
+    public DiagramRelationship(Diagram diagram, ErdRelationship relationship) {
+        this.diagram = diagram;
+        this.edgeId = relationship.id();
+        apply(relationship);
+    }
+
+    /**
+     * 파싱된 관계 값으로 갱신한다. 값이 같으면 dirty checking에 의해 UPDATE가 발생하지 않는다.
+     *
+     * @param relationship 파싱된 관계
+     */
+    public void apply(ErdRelationship relationship) {
+        this.edgeType = relationship.type();
+        this.sourceNodeId = relationship.source();
+        this.sourceHandle = relationship.sourceHandle();
+        this.sourceColumnId = relationship.sourceColumnId();
+        this.targetNodeId = relationship.target();
+        this.targetHandle = relationship.targetHandle();
+        this.targetColumnId = relationship.targetColumnId();
+    }
+
+    /**
+     * 파싱 모델로 변환한다.
+     *
+     * @return 파싱된 관계
+     */
+    public ErdRelationship toModel() {
+        return new ErdRelationship(edgeId, sourceNodeId, sourceHandle, targetNodeId, targetHandle, edgeType);
+    }
+}
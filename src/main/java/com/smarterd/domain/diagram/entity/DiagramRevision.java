@@ -0,0 +1,116 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 리비전 기록 엔티티.
+ *
+ * <p>content가 바뀐 저장마다 한 행을 남긴다. 주기적으로 전체 스냅샷({@link DiagramRevisionKind#SNAPSHOT})을 두고,
+ * 그 사이에는 바로 앞 기록({@code baseRevision}) 대비 구조적 델타({@link DiagramRevisionKind#DELTA})만 저장한다.
+ * {@code depth}는 가장 가까운 스냅샷에서 이 기록까지 적용할 델타 수로, 어떤 리비전이든 스냅샷 하나와 델타
+ * {@code depth}개로 복원된다. {@code payload}는 {@link DiagramContentCodec} 포맷으로 압축되어 있으며,
+ * 목록·메타데이터 조회는 프로젝션으로 하여 LOB을 읽지 않는다.</p>
+ *
+ * @see Diagram
+ */
+@Entity
+@Table(
+    name = "diagram_revisions",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "diagram_id", "revision" })
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramRevision extends BaseTimeEntity {
+
+    /** 리비전 기록 고유 식별자 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소속 다이어그램 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id", nullable = false)
+    private Diagram diagram;
+
+    /** 기록 시점의 다이어그램 리비전 */
+    @Column(nullable = false)
+    private Long revision;
+
+    /** 저장 방식 (SNAPSHOT, DELTA) */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DiagramRevisionKind kind;
+
+    /** 델타의 기준 리비전 (스냅샷이면 {@code null}) */
+    private Long baseRevision;
+
+    /** 가장 가까운 스냅샷에서 이 기록까지의 델타 수 (스냅샷이면 0) */
+    @Column(nullable = false)
+    private int depth;
+
+    /** 이 리비전 content의 정규화 해시 */
+    @Column(nullable = false, length = DiagramContentHash.LENGTH)
+    private String contentHash;
+
+    /** 이 리비전 평문 content 크기 (UTF-8 바이트) */
+    @Column(nullable = false)
+    private long byteSize;
+
+    /** 압축된 스냅샷 content 또는 델타 JSON */
+    @Lob
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] payload;
+
+    /** 압축된 payload 크기 (바이트) */
+    @Column(nullable = false)
+    private long payloadSize;
+
+    /**
+     * 델타 리비전 기록을 생성한다.
+     *
+     * @param diagram      소속 다이어그램
+     * @param revision     기록 시점의 다이어그램 리비전
+     * @param baseRevision 델타의 기준 리비전
+     * @param depth        가장 가까운 스냅샷에서의 델타 수
+     * @param contentHash  content 정규화 해시
+     * @param byteSize     평문 content 크기
+     * @param delta        델타 JSON
+     */
+    @Builder
+    public DiagramRevision(
+        Diagram diagram,
+        Long revision,
+        Long baseRevision,
+        int depth,
+        String contentHash,
+        long byteSize,
+        String delta
+    ) {
+        this.diagram = diagram;
+        this.revision = revision;
+        this.kind = DiagramRevisionKind.DELTA;
+        this.baseRevision = baseRevision;
+        this.depth = depth;
+        this.contentHash = contentHash;
+        this.byteSize = byteSize;
+        this.payload = DiagramContentCodec.encode(delta);
+        this.payloadSize = payload.length;
+    }
+}
@@ -0,0 +1,14 @@
+package com.smarterd.domain.diagram.entity;
+
+/**
+ * 다이어그램 리비전 기록의 저장 방식을 정의하는 열거형.
+ *
+ * <ul>
+ *   <li>{@code SNAPSHOT} — 그 리비전의 content 전체 (압축)</li>
+ *   <li>{@code DELTA} — 바로 앞 기록 대비 구조적 델타 (압축)</li>
+ * </ul>
+ */
+public enum DiagramRevisionKind {
+    SNAPSHOT,
+    DELTA,
+}
@@ -0,0 +1,116 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 요약 엔티티 (목록용 읽기 모델).
+ *
+ * <p>{@link Diagram}과 1:1로 같은 ID를 공유하며, content LOB을 읽지 않고도 목록에 보여줄 통계
+ * (테이블·컬럼·관계 수, 노드 경계 상자, content 크기)를 담는다. content가 저장될 때마다 정규화 모델과 함께 갱신된다.
+ * 경계 상자는 노드 좌상단 좌표 기준이며, 테이블이 없으면 {@code null}이다.</p>
+ *
+ * @see Diagram
+ */
+@Entity
+@Table(name = "diagram_summaries")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramSummary extends BaseTimeEntity {
+
+    /** 다이어그램 ID (공유 기본 키) */
+    @Id
+    private Long diagramId;
+
+    /** 요약 대상 다이어그램 */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id")
+    private Diagram diagram;
+
+    /** 테이블 수 */
+    private int tableCount;
+
+    /** 컬럼 수 */
+    private int columnCount;
+
+    /** 관계 수 */
+    private int relationshipCount;
+
+    /** 노드 경계 상자 왼쪽 X */
+    @Column(name = "min_x")
+    private Double minX;
+
+    /** 노드 경계 상자 위쪽 Y */
+    @Column(name = "min_y")
+    private Double minY;
+
+    /** 노드 경계 상자 오른쪽 X */
+    @Column(name = "max_x")
+    private Double maxX;
+
+    /** 노드 경계 상자 아래쪽 Y */
+    @Column(name = "max_y")
+    private Double maxY;
+
+    /** 평문 content 크기 (UTF-8 바이트) */
+    private long byteSize;
+
+    /**
+     * 빈 요약 엔티티를 생성한다.
+     *
+     * @param diagram 요약 대상 다이어그램
+     */
+    @Builder
+    public DiagramSummary(Diagram diagram) {
+        this.diagram = diagram;
+    }
+
+    /**
+     * 요소 수를 갱신한다.
+     *
+     * @param tableCount        테이블 수
+     * @param columnCount       컬럼 수
+     * @param relationshipCount 관계 수
+     */
+    public void updateCounts(int tableCount, int columnCount, int relationshipCount) {
+        this.tableCount = tableCount;
+        this.columnCount = columnCount;
+        this.relationshipCount = relationshipCount;
+    }
+
+    /**
+     * 노드 경계 상자를 갱신한다. 테이블이 없으면 모두 {@code null}이다.
+     *
+     * @param minX 왼쪽 X
+     * @param minY 위쪽 Y
+     * @param maxX 오른쪽 X
+     * @param maxY 아래쪽 Y
+     */
+    public void updateBounds(Double minX, Double minY, Double maxX, Double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * content 크기를 갱신한다.
+     *
+     * @param byteSize 평문 content 크기 (UTF-8 바이트)
+     */
+    public void updateByteSize(long byteSize) {
+        this.byteSize = byteSize;
+    }
+}
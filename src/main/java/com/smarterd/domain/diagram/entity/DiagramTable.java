@@ -0,0 +1,90 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import com.smarterd.domain.diagram.model.ErdTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 테이블 엔티티 (정규화 모델).
+ *
+ * <p>{@link Diagram} content의 React Flow 노드 하나를 행으로 저장한다.
+ * 클라이언트가 발급한 노드 ID({@code table-<uuid>})로 다이어그램 내에서 유일하게 식별된다.</p>
+ *
+ * @see DiagramColumn
+ * @see DiagramRelationship
+ */
+@Entity
+@Table(
+    name = "diagram_tables",
+    uniqueConstraints = @UniqueConstraint(columnNames = { "node_id", "diagram_id" })
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramTable extends BaseTimeEntity {
+
+    /** 테이블 행 고유 식별자 (자동 증가) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 소속 다이어그램 */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id", nullable = false)
+    private Diagram diagram;
+
+    /** 클라이언트 노드 ID ({@code table-<uuid>}) */
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+
+    /** React Flow 노드 타입 */
+    @Column(nullable = false, length = 30)
+    private String nodeType;
+
+    /** 테이블 표시 이름 */
+    @Column(nullable = false)
+    private String label;
+
+    /** 캔버스 X 좌표 */
+    private double positionX;
+
+    /** 캔버스 Y 좌표 */
+    private double positionY;
+
+    /**
+     * 다이어그램 테이블 엔티티를 생성한다.
+     *
+     * @param diagram 소속 다이어그램
+     * @param table   파싱된 테이블
+     */
+    @Builder
+    public DiagramTable(Diagram diagram, ErdTable table) {
+        this.diagram = diagram;
+        this.nodeId = table.id();
+        apply(table);
+    }
+
+    /**
+     * 파싱된 테이블 값으로 갱신한다. 값이 같으면 dirty checking에 의해 UPDATE가 발생하지 않는다.
+     *
+     * @param table 파싱된 테이블
+     */
+    public void apply(ErdTable table) {
+        this.nodeType = table.type();
+        this.label = table.label();
+        this.positionX = table.x();
+        this.positionY = table.y();
+    }
+}
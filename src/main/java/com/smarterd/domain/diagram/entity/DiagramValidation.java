@@ -0,0 +1,72 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.smarterd.domain.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다이어그램 사전 검사 상태 엔티티.
+ *
+ * <p>{@link Diagram}과 1:1로 같은 ID를 공유하며, 저장된 컬럼 결과({@link DiagramColumnCheck})가 어느 content 해시를
+ * 검사한 것인지 담는다. 팀 사전이 바뀌면 {@code stale}이 되어, 컬럼 결과를 다시 쓰지 않고 처음부터 검사한다.</p>
+ *
+ * @see DiagramColumnCheck
+ */
+@Entity
+@Table(name = "diagram_validations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiagramValidation extends BaseTimeEntity {
+
+    /** 다이어그램 ID (공유 기본 키) */
+    @Id
+    private Long diagramId;
+
+    /** 검사 대상 다이어그램 */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "diagram_id")
+    private Diagram diagram;
+
+    /** 컬럼 결과가 검사한 content 해시 */
+    @Column(nullable = false, length = DiagramContentHash.LENGTH)
+    private String contentHash;
+
+    /** 검사 뒤 팀 사전이 바뀌었으면 {@code true} */
+    private boolean stale;
+
+    /**
+     * 검사 상태 엔티티를 생성한다.
+     *
+     * @param diagram     검사 대상 다이어그램
+     * @param contentHash 검사한 content 해시
+     * @param stale       옛 사전으로 검사했을 수 있으면 {@code true}
+     */
+    @Builder
+    public DiagramValidation(Diagram diagram, String contentHash, boolean stale) {
+        this.diagram = diagram;
+        this.contentHash = contentHash;
+        this.stale = stale;
+    }
+
+    /**
+     * 검사한 content 해시를 기록한다.
+     *
+     * @param contentHash 검사한 content 해시
+     * @param stale       옛 사전으로 검사했을 수 있으면 {@code true}
+     */
+    public void checked(String contentHash, boolean stale) {
+        this.contentHash = contentHash;
+        this.stale = stale;
+    }
+}
@@ -0,0 +1,48 @@
+package com.smarterd.domain.diagram.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * {@link DiagramColumnCheck#getIssues()}를 JSON 문자열 컬럼으로 저장하는 JPA 변환기.
+ *
+ * <p>대부분의 컬럼은 문제가 없으므로 빈 목록은 {@code null}로 저장하고, {@code null}은 빈 목록으로 읽는다.</p>
+ */
+@Converter
+public class DictionaryIssuesConverter implements AttributeConverter<List<Issue>, String> {
+
+    /** 문제 목록 타입 */
+    private static final TypeReference<List<Issue>> ISSUES = new TypeReference<>() {};
+
+    /** 변환용 JSON 매퍼 */
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Override
+    public String convertToDatabaseColumn(List<Issue> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        try {
+            return MAPPER.writeValueAsString(attribute);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to write dictionary issues", e);
+        }
+    }
+
+    @Override
+    public List<Issue> convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return List.of();
+        }
+        try {
+            return List.copyOf(MAPPER.readValue(dbData, ISSUES));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read dictionary issues", e);
+        }
+    }
+}
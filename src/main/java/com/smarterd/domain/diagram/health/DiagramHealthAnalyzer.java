@@ -0,0 +1,551 @@
+package com.smarterd.domain.diagram.health;
+
+import com.smarterd.domain.diagram.health.DiagramHealthReport.DanglingEdge;
+import com.smarterd.domain.diagram.health.DiagramHealthReport.Reason;
+import com.smarterd.domain.diagram.health.DiagramHealthReport.TableRef;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 하나의 관계 그래프 건강 상태를 저장 사이에 이어서 계산한다.
+ *
+ * <p>
+ * 관계를 출발 테이블 → 도착 테이블 방향의 그래프로 보고 세 가지를 찾는다. 강한 연결 요소(Tarjan) 가운데 테이블이 둘
+ * 이상이거나 자기 자신을 참조하는 것은 순환 참조, 다른 테이블과 관계가 없는 테이블은 고립 테이블, 양 끝 노드가 없거나
+ * 핸들({@code {nodeId}-{colId}-source})이 가리키는 컬럼이 없는 관계는 끊어진 관계다.
+ * </p>
+ *
+ * <p>
+ * {@link #update}는 직전 문서와 노드 ID·엣지 ID로 짝지어 바뀐 테이블과 관계만 다시 본다. 강한 연결 요소는 갈라질 수
+ * 있는 것(지운 관계의 양 끝이 같은 요소에 있던 것)만 그 요소 안에서 Tarjan을 다시 돌리고, 새 관계 {@code u → v}는
+ * {@code v}에서 {@code u}로 돌아오는 경로 위의 요소만 합친다. 관계가 한꺼번에 많이 생기면
+ * ({@value #INCREMENTAL_LIMIT}개 초과) 경로 탐색을 되풀이하는 것보다 싸므로 전체를 다시 계산한다.
+ * </p>
+ *
+ * <p>스레드 안전하지 않다. 호출하는 쪽에서 다이어그램별로 잠가야 한다.</p>
+ */
+public final class DiagramHealthAnalyzer {
+
+    /** 한 번에 생긴 관계가 이보다 많으면 강한 연결 요소를 처음부터 다시 계산한다 */
+    static final int INCREMENTAL_LIMIT = 64;
+
+    /** 테이블 이름, 노드 ID 순 */
+    private static final Comparator<TableRef> TABLE_ORDER = Comparator.comparing(TableRef::label).thenComparing(
+        TableRef::nodeId
+    );
+
+    /** 큰 순환 먼저, 같은 크기면 첫 테이블 순 */
+    private static final Comparator<List<TableRef>> CYCLE_ORDER = Comparator.<List<TableRef>>comparingInt(
+        List::size
+    )
+        .reversed()
+        .thenComparing((cycle) -> cycle.get(0), TABLE_ORDER);
+
+    /** 마지막으로 분석한 content 해시 (아직 분석하지 않았으면 {@code null}) */
+    @Nullable
+    private String contentHash;
+
+    /** 노드 ID별 테이블 */
+    private Map<String, TableState> tables = new HashMap<>();
+
+    /** 엣지 ID별 관계 */
+    private Map<String, ErdRelationship> edges = new HashMap<>();
+
+    /** 노드 ID별로 그 노드를 한쪽 끝으로 가진 엣지 ID (노드가 없어도 남겨 둔다) */
+    private final Map<String, Set<String>> incident = new HashMap<>();
+
+    /** 출발 테이블 → 도착 테이블 → 관계 수 (양 끝이 모두 테이블인 관계만) */
+    private final Map<String, Map<String, Integer>> outgoing = new HashMap<>();
+
+    /** 도착 테이블 → 출발 테이블 → 관계 수 */
+    private final Map<String, Map<String, Integer>> incoming = new HashMap<>();
+
+    /** 노드 ID별 강한 연결 요소 번호 */
+    private final Map<String, Integer> components = new HashMap<>();
+
+    /** 강한 연결 요소 번호별 노드 ID */
+    private final Map<Integer, Set<String>> members = new HashMap<>();
+
+    /** 순환 참조인 강한 연결 요소 번호 */
+    private final Set<Integer> cyclic = new HashSet<>();
+
+    /** 고립 테이블 노드 ID */
+    private final Set<String> isolated = new HashSet<>();
+
+    /** 엣지 ID별 끊어진 이유 */
+    private final Map<String, Reason> dangling = new HashMap<>();
+
+    private int nextComponent;
+
+    private DiagramHealthReport report = DiagramHealthReport.EMPTY;
+
+    /**
+     * 마지막으로 분석한 content 해시.
+     *
+     * @return content 해시 (아직 분석하지 않았으면 {@code null})
+     */
+    @Nullable
+    public String contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 마지막 분석 결과.
+     *
+     * @return 보고서
+     */
+    public DiagramHealthReport report() {
+        return report;
+    }
+
+    /**
+     * 새 문서로 분석을 갱신한다. 노드 ID·엣지 ID가 겹치면 처음 것만 사용한다.
+     *
+     * @param newContentHash 문서의 content 해시
+     * @param document       정규화 모델로 재구성한 문서
+     * @return 갱신된 보고서
+     */
+    public DiagramHealthReport update(String newContentHash, ErdDocument document) {
+        final var nextTables = new HashMap<String, TableState>(document.tables().size() * 2);
+        for (final var table : document.tables()) {
+            nextTables.putIfAbsent(table.id(), TableState.of(table));
+        }
+        final var nextEdges = new HashMap<String, ErdRelationship>(document.relationships().size() * 2);
+        for (final var edge : document.relationships()) {
+            nextEdges.putIfAbsent(edge.id(), edge);
+        }
+
+        final var removedTables = new ArrayList<String>();
+        final var addedTables = new ArrayList<String>();
+        final var resized = new ArrayList<String>();
+        for (final var entry : tables.entrySet()) {
+            final var next = nextTables.get(entry.getKey());
+            if (next == null) {
+                removedTables.add(entry.getKey());
+            } else if (!next.columnIds.equals(entry.getValue().columnIds)) {
+                resized.add(entry.getKey());
+            }
+        }
+        for (final var nodeId : nextTables.keySet()) {
+            if (!tables.containsKey(nodeId)) {
+                addedTables.add(nodeId);
+            }
+        }
+
+        // 끝점이 바뀐 엣지와, 생기거나 없어진 테이블에 걸린 엣지만 다시 본다
+        final var affected = new HashSet<String>();
+        for (final var entry : edges.entrySet()) {
+            if (!sameEnds(entry.getValue(), nextEdges.get(entry.getKey()))) {
+                affected.add(entry.getKey());
+            }
+        }
+        for (final var edgeId : nextEdges.keySet()) {
+            if (!edges.containsKey(edgeId)) {
+                affected.add(edgeId);
+            }
+        }
+        for (final var edgeId : affected) {
+            final var previous = edges.get(edgeId);
+            if (previous != null) {
+                unlink(edgeId, previous);
+            }
+            final var next = nextEdges.get(edgeId);
+            if (next != null) {
+                link(edgeId, next);
+            }
+        }
+        for (final var nodeId : removedTables) {
+            affected.addAll(incident.getOrDefault(nodeId, Set.of()));
+        }
+        for (final var nodeId : addedTables) {
+            affected.addAll(incident.getOrDefault(nodeId, Set.of()));
+        }
+
+        final var removedArcs = new ArrayList<Arc>();
+        final var addedArcs = new ArrayList<Arc>();
+        for (final var edgeId : affected) {
+            final var previous = Arc.of(edges.get(edgeId), tables);
+            final var next = Arc.of(nextEdges.get(edgeId), nextTables);
+            if (!Objects.equals(previous, next)) {
+                if (previous != null) {
+                    removedArcs.add(previous);
+                }
+                if (next != null) {
+                    addedArcs.add(next);
+                }
+            }
+        }
+
+        final var full = contentHash == null || addedArcs.size() > INCREMENTAL_LIMIT;
+        tables = nextTables;
+        edges = nextEdges;
+        contentHash = newContentHash;
+
+        final var split = new HashSet<Integer>();
+        for (final var arc : removedArcs) {
+            decrement(incoming, arc.target, arc.source);
+            if (decrement(outgoing, arc.source, arc.target)) {
+                final var component = components.get(arc.source);
+                if (component.equals(components.get(arc.target))) {
+                    split.add(component);
+                }
+            }
+        }
+        for (final var nodeId : removedTables) {
+            outgoing.remove(nodeId);
+            incoming.remove(nodeId);
+            isolated.remove(nodeId);
+            final var component = components.remove(nodeId);
+            members.get(component).remove(nodeId);
+            split.add(component);
+        }
+        for (final var arc : addedArcs) {
+            increment(outgoing, arc.source, arc.target);
+            increment(incoming, arc.target, arc.source);
+        }
+
+        if (full) {
+            components.clear();
+            members.clear();
+            cyclic.clear();
+            assign(tables.keySet());
+            isolated.clear();
+            tables.keySet().forEach(this::checkIsolated);
+            dangling.clear();
+            edges.keySet().forEach(this::checkDangling);
+        } else {
+            for (final var component : split) {
+                cyclic.remove(component);
+                assign(members.remove(component));
+            }
+            addedTables.forEach((nodeId) -> assign(List.of(nodeId)));
+            addedArcs.forEach(this::merge);
+
+            addedTables.forEach(this::checkIsolated);
+            for (final var arc : removedArcs) {
+                checkIsolated(arc.source);
+                checkIsolated(arc.target);
+            }
+            for (final var arc : addedArcs) {
+                checkIsolated(arc.source);
+                checkIsolated(arc.target);
+            }
+            for (final var nodeId : resized) {
+                affected.addAll(incident.getOrDefault(nodeId, Set.of()));
+            }
+            affected.forEach(this::checkDangling);
+        }
+        report = buildReport();
+        return report;
+    }
+
+    /** 노드 집합 안의 강한 연결 요소를 Tarjan으로 찾아 번호를 매긴다. 집합 밖으로 나가는 관계는 보지 않는다. */
+    private void assign(Collection<String> scope) {
+        for (final var component : strongComponents(scope)) {
+            final var id = nextComponent++;
+            for (final var nodeId : component) {
+                components.put(nodeId, id);
+            }
+            members.put(id, new HashSet<>(component));
+            if (component.size() > 1 || hasSelfLoop(component.get(0))) {
+                cyclic.add(id);
+            }
+        }
+    }
+
+    private List<List<String>> strongComponents(Collection<String> scope) {
+        final var nodes = scope.toArray(String[]::new);
+        final var index = new HashMap<String, Integer>(nodes.length * 2);
+        for (var i = 0; i < nodes.length; i++) {
+            index.put(nodes[i], i);
+        }
+        // order는 방문 순서 + 1 (0은 미방문)
+        final var order = new int[nodes.length];
+        final var low = new int[nodes.length];
+        final var onStack = new boolean[nodes.length];
+        final var stack = new int[nodes.length];
+        var top = 0;
+        var counter = 0;
+        final var result = new ArrayList<List<String>>();
+        final var frames = new ArrayDeque<Frame>();
+        for (var root = 0; root < nodes.length; root++) {
+            if (order[root] != 0) {
+                continue;
+            }
+            order[root] = low[root] = ++counter;
+            stack[top++] = root;
+            onStack[root] = true;
+            frames.push(new Frame(root, neighbours(nodes[root])));
+            while (!frames.isEmpty()) {
+                final var frame = frames.peek();
+                if (frame.neighbours.hasNext()) {
+                    final var next = index.get(frame.neighbours.next());
+                    if (next == null) {
+                        continue;
+                    }
+                    if (order[next] == 0) {
+                        order[next] = low[next] = ++counter;
+                        stack[top++] = next;
+                        onStack[next] = true;
+                        frames.push(new Frame(next, neighbours(nodes[next])));
+                    } else if (onStack[next]) {
+                        low[frame.node] = Math.min(low[frame.node], order[next]);
+                    }
+                    continue;
+                }
+                frames.pop();
+                if (!frames.isEmpty()) {
+                    final var parent = frames.peek().node;
+                    low[parent] = Math.min(low[parent], low[frame.node]);
+                }
+                if (low[frame.node] == order[frame.node]) {
+                    final var component = new ArrayList<String>();
+                    int member;
+                    do {
+                        member = stack[--top];
+                        onStack[member] = false;
+                        component.add(nodes[member]);
+                    } while (member != frame.node);
+                    result.add(component);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** 새 관계 {@code source → target}로 닫히는 경로 위의 요소를 하나로 합친다. */
+    private void merge(Arc arc) {
+        final var sourceComponent = components.get(arc.source);
+        if (sourceComponent.equals(components.get(arc.target))) {
+            if (arc.source.equals(arc.target)) {
+                cyclic.add(sourceComponent);
+            }
+            return;
+        }
+        final var reachable = reach(arc.target, outgoing, null);
+        if (!reachable.contains(arc.source)) {
+            return;
+        }
+        // target에서 닿고 source로 돌아오는 노드가 곧 새 순환 위의 노드다
+        final var cycle = reach(arc.source, incoming, reachable);
+        var into = sourceComponent;
+        for (final var nodeId : cycle) {
+            final var component = components.get(nodeId);
+            if (members.get(component).size() > members.get(into).size()) {
+                into = component;
+            }
+        }
+        final var merged = members.get(into);
+        for (final var nodeId : cycle) {
+            final var component = components.get(nodeId);
+            if (component.equals(into)) {
+                continue;
+            }
+            for (final var member : members.remove(component)) {
+                components.put(member, into);
+                merged.add(member);
+            }
+            cyclic.remove(component);
+        }
+        cyclic.add(into);
+    }
+
+    /** 시작 노드에서 관계를 따라 닿는 노드 (시작 노드 포함). {@code within}이 있으면 그 안에서만 움직인다. */
+    private static Set<String> reach(
+        String start,
+        Map<String, Map<String, Integer>> arcs,
+        @Nullable Set<String> within
+    ) {
+        final var visited = new HashSet<String>();
+        final var queue = new ArrayDeque<String>();
+        visited.add(start);
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            for (final var next : arcs.getOrDefault(queue.poll(), Map.of()).keySet()) {
+                if ((within == null || within.contains(next)) && visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private Iterator<String> neighbours(String nodeId) {
+        return outgoing.getOrDefault(nodeId, Map.of()).keySet().iterator();
+    }
+
+    private boolean hasSelfLoop(String nodeId) {
+        return outgoing.getOrDefault(nodeId, Map.of()).containsKey(nodeId);
+    }
+
+    private void checkIsolated(String nodeId) {
+        if (!tables.containsKey(nodeId)) {
+            return;
+        }
+        if (hasOtherEnd(outgoing, nodeId) || hasOtherEnd(incoming, nodeId)) {
+            isolated.remove(nodeId);
+        } else {
+            isolated.add(nodeId);
+        }
+    }
+
+    private static boolean hasOtherEnd(Map<String, Map<String, Integer>> arcs, String nodeId) {
+        final var ends = arcs.getOrDefault(nodeId, Map.of());
+        return ends.size() > 1 || (ends.size() == 1 && !ends.containsKey(nodeId));
+    }
+
+    private void checkDangling(String edgeId) {
+        final var edge = edges.get(edgeId);
+        final var reason = edge == null ? null : reason(edge);
+        if (reason == null) {
+            dangling.remove(edgeId);
+        } else {
+            dangling.put(edgeId, reason);
+        }
+    }
+
+    @Nullable
+    private Reason reason(ErdRelationship edge) {
+        final var source = tables.get(edge.source());
+        if (source == null) {
+            return Reason.MISSING_SOURCE_TABLE;
+        }
+        final var target = tables.get(edge.target());
+        if (target == null) {
+            return Reason.MISSING_TARGET_TABLE;
+        }
+        if (edge.sourceHandle() != null && !source.columnIds.contains(edge.sourceColumnId())) {
+            return Reason.MISSING_SOURCE_COLUMN;
+        }
+        if (edge.targetHandle() != null && !target.columnIds.contains(edge.targetColumnId())) {
+            return Reason.MISSING_TARGET_COLUMN;
+        }
+        return null;
+    }
+
+    private void link(String edgeId, ErdRelationship edge) {
+        incident.computeIfAbsent(edge.source(), (key) -> new HashSet<>()).add(edgeId);
+        incident.computeIfAbsent(edge.target(), (key) -> new HashSet<>()).add(edgeId);
+    }
+
+    private void unlink(String edgeId, ErdRelationship edge) {
+        for (final var nodeId : List.of(edge.source(), edge.target())) {
+            final var edgeIds = incident.get(nodeId);
+            if (edgeIds != null && edgeIds.remove(edgeId) && edgeIds.isEmpty()) {
+                incident.remove(nodeId);
+            }
+        }
+    }
+
+    private static void increment(Map<String, Map<String, Integer>> arcs, String from, String to) {
+        arcs.computeIfAbsent(from, (key) -> new HashMap<>()).merge(to, 1, Integer::sum);
+    }
+
+    /** 관계 수를 줄이고, 두 테이블 사이의 마지막 관계였으면 {@code true}를 반환한다. */
+    private static boolean decrement(Map<String, Map<String, Integer>> arcs, String from, String to) {
+        final var ends = arcs.get(from);
+        final var count = ends.merge(to, -1, Integer::sum);
+        if (count > 0) {
+            return false;
+        }
+        ends.remove(to);
+        if (ends.isEmpty()) {
+            arcs.remove(from);
+        }
+        return true;
+    }
+
+    private static boolean sameEnds(ErdRelationship previous, @Nullable ErdRelationship next) {
+        return (
+            next != null &&
+            previous.source().equals(next.source()) &&
+            previous.target().equals(next.target()) &&
+            Objects.equals(previous.sourceHandle(), next.sourceHandle()) &&
+            Objects.equals(previous.targetHandle(), next.targetHandle())
+        );
+    }
+
+    /** 순환·고립·끊어진 관계만 모으므로 비용은 문제의 수에 비례한다. */
+    private DiagramHealthReport buildReport() {
+        final var cycles = new ArrayList<List<TableRef>>(cyclic.size());
+        for (final var component : cyclic) {
+            final var cycle = new ArrayList<TableRef>();
+            for (final var nodeId : members.get(component)) {
+                cycle.add(tableRef(nodeId));
+            }
+            cycle.sort(TABLE_ORDER);
+            cycles.add(cycle);
+        }
+        cycles.sort(CYCLE_ORDER);
+
+        final var isolatedTables = new ArrayList<TableRef>(isolated.size());
+        for (final var nodeId : isolated) {
+            isolatedTables.add(tableRef(nodeId));
+        }
+        isolatedTables.sort(TABLE_ORDER);
+
+        final var danglingEdges = new ArrayList<DanglingEdge>(dangling.size());
+        for (final var entry : dangling.entrySet()) {
+            final var edge = edges.get(entry.getKey());
+            danglingEdges.add(
+                new DanglingEdge(
+                    edge.id(),
+                    edge.source(),
+                    edge.sourceHandle(),
+                    edge.target(),
+                    edge.targetHandle(),
+                    entry.getValue()
+                )
+            );
+        }
+        danglingEdges.sort(Comparator.comparing(DanglingEdge::edgeId));
+
+        return new DiagramHealthReport(
+            tables.size(),
+            edges.size(),
+            List.copyOf(cycles),
+            List.copyOf(isolatedTables),
+            List.copyOf(danglingEdges)
+        );
+    }
+
+    private TableRef tableRef(String nodeId) {
+        return new TableRef(nodeId, tables.get(nodeId).label);
+    }
+
+    /** 분석에 필요한 테이블 정보. */
+    private record TableState(String label, Set<String> columnIds) {
+        static TableState of(ErdTable table) {
+            final var columnIds = new HashSet<String>(table.columns().size() * 2);
+            table.columns().forEach((column) -> columnIds.add(column.id()));
+            return new TableState(table.label(), columnIds);
+        }
+    }
+
+    /** 양 끝이 모두 테이블인 관계의 방향. */
+    private record Arc(String source, String target) {
+        @Nullable
+        static Arc of(@Nullable ErdRelationship edge, Map<String, TableState> tables) {
+            if (edge == null || !tables.containsKey(edge.source()) || !tables.containsKey(edge.target())) {
+                return null;
+            }
+            return new Arc(edge.source(), edge.target());
+        }
+    }
+
+    /** Tarjan 탐색 중인 노드와 남은 이웃. */
+    private record Frame(int node, Iterator<String> neighbours) {}
+}
@@ -0,0 +1,66 @@
+package com.smarterd.domain.diagram.health;
+
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 관계 그래프의 건강 상태 보고서.
+ *
+ * @param tableCount        테이블 수
+ * @param relationshipCount 관계 수
+ * @param cycles            순환 참조 (강한 연결 요소 중 테이블이 둘 이상이거나 자기 자신을 참조하는 것, 큰 순)
+ * @param isolatedTables    다른 테이블과 관계가 없는 테이블 (이름 순)
+ * @param danglingEdges     끝이 없는 테이블·컬럼을 가리키는 관계 (엣지 ID 순)
+ */
+public record DiagramHealthReport(
+    int tableCount,
+    int relationshipCount,
+    List<List<TableRef>> cycles,
+    List<TableRef> isolatedTables,
+    List<DanglingEdge> danglingEdges
+) {
+    /** 빈 다이어그램의 보고서 */
+    public static final DiagramHealthReport EMPTY = new DiagramHealthReport(0, 0, List.of(), List.of(), List.of());
+
+    /**
+     * 보고서에 나오는 테이블.
+     *
+     * @param nodeId 테이블 노드 ID
+     * @param label  테이블 이름
+     */
+    public record TableRef(String nodeId, String label) {}
+
+    /**
+     * 끝이 풀리지 않는 관계.
+     *
+     * @param edgeId       엣지 ID
+     * @param source       출발 노드 ID
+     * @param sourceHandle 출발 핸들 ID (nullable)
+     * @param target       도착 노드 ID
+     * @param targetHandle 도착 핸들 ID (nullable)
+     * @param reason       처음 발견한 문제
+     */
+    public record DanglingEdge(
+        String edgeId,
+        String source,
+        @Nullable String sourceHandle,
+        String target,
+        @Nullable String targetHandle,
+        Reason reason
+    ) {}
+
+    /** 관계 끝이 풀리지 않는 이유 (검사 순서). */
+    public enum Reason {
+        /** 출발 노드가 테이블이 아니거나 없다 */
+        MISSING_SOURCE_TABLE,
+
+        /** 도착 노드가 테이블이 아니거나 없다 */
+        MISSING_TARGET_TABLE,
+
+        /** 출발 핸들이 출발 테이블의 컬럼을 가리키지 않는다 */
+        MISSING_SOURCE_COLUMN,
+
+        /** 도착 핸들이 도착 테이블의 컬럼을 가리키지 않는다 */
+        MISSING_TARGET_COLUMN,
+    }
+}
@@ -0,0 +1,181 @@
+package com.smarterd.domain.diagram.index;
+
+import com.smarterd.domain.diagram.repository.DiagramEdgeEndpoints;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 테이블 간 관계의 읽기 전용 인접 색인.
+ *
+ * <p>
+ * 테이블 노드 ID를 정렬한 배열의 위치를 정수 번호로 쓰고, 관계를 CSR(compressed sparse row) 형태의 기본형 배열
+ * 두 개({@code offsets}, {@code neighbours})로 보관한다. 관계 방향과 무관하게 양쪽 끝에서 서로를 이웃으로 보므로,
+ * 부모·자식 테이블을 모두 따라간다. 노드 ID 조회는 이진 탐색이고 탐색 중에는 박싱된 객체를 만들지 않는다.
+ * </p>
+ *
+ * <p>한쪽 끝이 테이블 노드가 아닌 관계는 색인하지 않는다. 생성 후에는 변경되지 않으므로 여러 스레드가 동시에 질의해도 안전하다.</p>
+ */
+public final class DiagramAdjacencyIndex {
+
+    /** 정렬된 테이블 노드 ID (배열 위치가 노드 번호) */
+    private final String[] nodeIds;
+
+    /** 관계 번호별 엣지 ID (저장 순서) */
+    private final String[] edgeIds;
+
+    /** 노드 번호별 이웃 구간 시작 위치 ({@code neighbours}와 {@code neighbourEdges}의 인덱스) */
+    private final int[] offsets;
+
+    /** 이웃 노드 번호 */
+    private final int[] neighbours;
+
+    /** 이웃으로 이어지는 관계 번호 */
+    private final int[] neighbourEdges;
+
+    private DiagramAdjacencyIndex(List<String> tableNodeIds, List<DiagramEdgeEndpoints> edges) {
+        nodeIds = tableNodeIds.toArray(String[]::new);
+        Arrays.sort(nodeIds);
+
+        final var sources = new int[edges.size()];
+        final var targets = new int[edges.size()];
+        final var ids = new String[edges.size()];
+        final var degrees = new int[nodeIds.length + 1];
+        var edgeCount = 0;
+        for (final var edge : edges) {
+            final var source = Arrays.binarySearch(nodeIds, edge.sourceNodeId());
+            final var target = Arrays.binarySearch(nodeIds, edge.targetNodeId());
+            if (source < 0 || target < 0) {
+                continue;
+            }
+            sources[edgeCount] = source;
+            targets[edgeCount] = target;
+            ids[edgeCount] = edge.edgeId();
+            edgeCount++;
+            degrees[source + 1]++;
+            if (source != target) {
+                degrees[target + 1]++;
+            }
+        }
+        edgeIds = Arrays.copyOf(ids, edgeCount);
+
+        // 차수 누적합이 곧 노드별 이웃 구간 시작 위치가 된다
+        for (var i = 1; i < degrees.length; i++) {
+            degrees[i] += degrees[i - 1];
+        }
+        offsets = degrees;
+        neighbours = new int[offsets[nodeIds.length]];
+        neighbourEdges = new int[neighbours.length];
+        final var cursor = Arrays.copyOf(offsets, nodeIds.length);
+        for (var edge = 0; edge < edgeCount; edge++) {
+            final var source = sources[edge];
+            final var target = targets[edge];
+            neighbours[cursor[source]] = target;
+            neighbourEdges[cursor[source]++] = edge;
+            if (source != target) {
+                neighbours[cursor[target]] = source;
+                neighbourEdges[cursor[target]++] = edge;
+            }
+        }
+    }
+
+    /**
+     * 테이블 노드 ID와 관계 끝점 목록으로 인접 색인을 만든다.
+     *
+     * @param tableNodeIds 테이블 노드 ID
+     * @param edges        관계 끝점 (저장 순서)
+     * @return 인접 색인
+     */
+    public static DiagramAdjacencyIndex build(List<String> tableNodeIds, List<DiagramEdgeEndpoints> edges) {
+        return new DiagramAdjacencyIndex(tableNodeIds, edges);
+    }
+
+    /**
+     * 색인된 테이블 노드 수를 반환한다.
+     *
+     * @return 노드 수
+     */
+    public int nodeCount() {
+        return nodeIds.length;
+    }
+
+    /**
+     * 색인된 관계 수를 반환한다.
+     *
+     * @return 관계 수
+     */
+    public int edgeCount() {
+        return edgeIds.length;
+    }
+
+    /**
+     * 테이블 노드가 색인에 있는지 확인한다.
+     *
+     * @param nodeId 테이블 노드 ID
+     * @return 있으면 {@code true}
+     */
+    public boolean contains(String nodeId) {
+        return Arrays.binarySearch(nodeIds, nodeId) >= 0;
+    }
+
+    /**
+     * 시작 테이블에서 관계를 {@code hops}번 이하로 건너 닿는 테이블과, 그 테이블들 사이의 관계를 찾는다.
+     *
+     * @param nodeId 시작 테이블 노드 ID
+     * @param hops   최대 홉 수 (0이면 시작 테이블만)
+     * @return 부분 그래프 (테이블은 가까운 순, 관계는 저장 순), 시작 테이블이 없으면 빈 부분 그래프
+     */
+    public Neighbourhood neighbourhood(String nodeId, int hops) {
+        final var origin = Arrays.binarySearch(nodeIds, nodeId);
+        if (origin < 0) {
+            return new Neighbourhood(List.of(), List.of());
+        }
+        // 0은 미방문, 그 외에는 거리 + 1
+        final var distances = new int[nodeIds.length];
+        final var queue = new int[nodeIds.length];
+        var head = 0;
+        var tail = 0;
+        queue[tail++] = origin;
+        distances[origin] = 1;
+        while (head < tail) {
+            final var node = queue[head++];
+            if (distances[node] > hops) {
+                continue;
+            }
+            for (var slot = offsets[node]; slot < offsets[node + 1]; slot++) {
+                final var neighbour = neighbours[slot];
+                if (distances[neighbour] == 0) {
+                    distances[neighbour] = distances[node] + 1;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+
+        final var reachedNodes = new ArrayList<String>(tail);
+        final var reachedEdges = new boolean[edgeIds.length];
+        for (var i = 0; i < tail; i++) {
+            final var node = queue[i];
+            reachedNodes.add(nodeIds[node]);
+            for (var slot = offsets[node]; slot < offsets[node + 1]; slot++) {
+                if (distances[neighbours[slot]] != 0) {
+                    reachedEdges[neighbourEdges[slot]] = true;
+                }
+            }
+        }
+        final var edges = new ArrayList<String>();
+        for (var edge = 0; edge < reachedEdges.length; edge++) {
+            if (reachedEdges[edge]) {
+                edges.add(edgeIds[edge]);
+            }
+        }
+        return new Neighbourhood(reachedNodes, edges);
+    }
+
+    /**
+     * N홉 부분 그래프.
+     *
+     * @param nodeIds 닿은 테이블 노드 ID (시작 테이블부터 가까운 순)
+     * @param edgeIds 닿은 테이블 사이의 관계 엣지 ID (저장 순)
+     */
+    public record Neighbourhood(List<String> nodeIds, List<String> edgeIds) {}
+}
@@ -0,0 +1,71 @@
+package com.smarterd.domain.diagram.index;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 다이어그램별 메모리 색인 캐시 (LRU).
+ *
+ * <p>
+ * 다이어그램 ID마다 색인 하나를 content 해시와 함께 보관한다. 조회 시 해시가 현재 content 해시와 다르면
+ * 저장으로 정규화 모델이 바뀐 것이므로 색인을 새로 만들어 교체한다. 해시를 열쇠로 쓰므로 여러 서버 인스턴스가
+ * 같은 DB를 공유해도 오래된 색인을 돌려주지 않는다. 색인 생성은 잠금 밖에서 수행하며, 같은 다이어그램을 동시에
+ * 처음 조회하면 색인이 중복 생성될 수 있지만 결과는 같다.
+ * </p>
+ *
+ * @param <T> 색인 타입 (불변이어야 한다)
+ */
+public final class DiagramIndexCache<T> {
+
+    private final Map<Long, Entry<T>> entries;
+
+    /**
+     * 캐시를 만든다.
+     *
+     * @param capacity 보관할 최대 다이어그램 수 (넘치면 가장 오래 쓰지 않은 것부터 버린다)
+     */
+    public DiagramIndexCache(int capacity) {
+        this.entries = new LinkedHashMap<>(capacity * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry<T>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 현재 content 해시에 맞는 색인을 반환한다. 없거나 해시가 다르면 새로 만든다.
+     *
+     * @param diagramId   다이어그램 ID
+     * @param contentHash 현재 content 해시
+     * @param builder     색인 생성기
+     * @return 색인
+     */
+    public T get(Long diagramId, String contentHash, Supplier<T> builder) {
+        synchronized (entries) {
+            final var entry = entries.get(diagramId);
+            if (entry != null && entry.contentHash().equals(contentHash)) {
+                return entry.index();
+            }
+        }
+        final var index = builder.get();
+        synchronized (entries) {
+            entries.put(diagramId, new Entry<>(contentHash, index));
+        }
+        return index;
+    }
+
+    /**
+     * 다이어그램의 색인을 버린다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void evict(Long diagramId) {
+        synchronized (entries) {
+            entries.remove(diagramId);
+        }
+    }
+
+    private record Entry<T>(String contentHash, T index) {}
+}
@@ -0,0 +1,195 @@
+package com.smarterd.domain.diagram.index;
+
+import com.smarterd.domain.diagram.repository.DiagramTablePosition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 테이블 노드 위치에 대한 읽기 전용 점 사분트리(point quadtree).
+ *
+ * <p>
+ * 점을 사분면 단위로 제자리 분할하여 한 배열에 모아 두고, 트리 노드마다 담긴 점들의 실제 경계 상자와 배열 구간만 기록한다.
+ * 트리 노드와 점은 모두 기본형 병렬 배열로 보관하므로 테이블 수천 개 규모에서도 객체 할당이 거의 없다.
+ * 사각형 질의는 경계 상자가 겹치지 않는 가지를 건너뛰고, 완전히 포함되는 가지는 구간 전체를 그대로 담는다.
+ * </p>
+ *
+ * <p>생성 후에는 변경되지 않으므로 여러 스레드가 동시에 질의해도 안전하다.</p>
+ */
+public final class DiagramQuadtree {
+
+    /** 더 나누지 않는 리프의 최대 점 수 */
+    static final int LEAF_CAPACITY = 16;
+
+    /** 같은 좌표가 몰려 있을 때 분할을 멈추는 최대 깊이 */
+    static final int MAX_DEPTH = 24;
+
+    private final String[] nodeIds;
+    private final double[] xs;
+    private final double[] ys;
+
+    private int[] start = new int[16];
+    private int[] end = new int[16];
+    private int[] firstChild = new int[16];
+    private double[] minX = new double[16];
+    private double[] minY = new double[16];
+    private double[] maxX = new double[16];
+    private double[] maxY = new double[16];
+    private int treeSize;
+
+    private DiagramQuadtree(List<DiagramTablePosition> positions) {
+        final var size = positions.size();
+        nodeIds = new String[size];
+        xs = new double[size];
+        ys = new double[size];
+        for (var i = 0; i < size; i++) {
+            final var position = positions.get(i);
+            nodeIds[i] = position.nodeId();
+            xs[i] = position.x();
+            ys[i] = position.y();
+        }
+        if (size > 0) {
+            subdivide(allocate(0, size), 0);
+        }
+    }
+
+    /**
+     * 노드 위치 목록으로 사분트리를 만든다.
+     *
+     * @param positions 테이블 노드 위치
+     * @return 사분트리
+     */
+    public static DiagramQuadtree build(List<DiagramTablePosition> positions) {
+        return new DiagramQuadtree(positions);
+    }
+
+    /**
+     * 색인된 노드 수를 반환한다.
+     *
+     * @return 노드 수
+     */
+    public int size() {
+        return nodeIds.length;
+    }
+
+    /**
+     * 위치가 사각형 안(경계 포함)에 있는 노드 ID를 찾는다.
+     *
+     * @param left   왼쪽 X
+     * @param top    위쪽 Y
+     * @param right  오른쪽 X
+     * @param bottom 아래쪽 Y
+     * @return 노드 ID 목록 (순서 없음)
+     */
+    public List<String> query(double left, double top, double right, double bottom) {
+        final var result = new ArrayList<String>();
+        if (treeSize == 0) {
+            return result;
+        }
+        final var stack = new int[(MAX_DEPTH + 1) * 3 + 4];
+        var depth = 0;
+        stack[depth++] = 0;
+        while (depth > 0) {
+            final var node = stack[--depth];
+            if (maxX[node] < left || minX[node] > right || maxY[node] < top || minY[node] > bottom) {
+                continue;
+            }
+            if (minX[node] >= left && maxX[node] <= right && minY[node] >= top && maxY[node] <= bottom) {
+                result.addAll(Arrays.asList(nodeIds).subList(start[node], end[node]));
+            } else if (firstChild[node] < 0) {
+                for (var i = start[node]; i < end[node]; i++) {
+                    if (xs[i] >= left && xs[i] <= right && ys[i] >= top && ys[i] <= bottom) {
+                        result.add(nodeIds[i]);
+                    }
+                }
+            } else {
+                for (var child = firstChild[node]; child < firstChild[node] + 4; child++) {
+                    if (start[child] < end[child]) {
+                        stack[depth++] = child;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private void subdivide(int node, int level) {
+        final var from = start[node];
+        final var to = end[node];
+        final var samePoint = minX[node] == maxX[node] && minY[node] == maxY[node];
+        if (to - from <= LEAF_CAPACITY || level >= MAX_DEPTH || samePoint) {
+            return;
+        }
+        final var midX = (minX[node] + maxX[node]) / 2;
+        final var midY = (minY[node] + maxY[node]) / 2;
+
+        // [from, splitX): 왼쪽, [splitX, to): 오른쪽 → 각각 위·아래로 다시 나눈다
+        final var splitX = partition(from, to, true, midX);
+        final var splitLeftY = partition(from, splitX, false, midY);
+        final var splitRightY = partition(splitX, to, false, midY);
+
+        final var child = allocate(from, splitLeftY);
+        allocate(splitLeftY, splitX);
+        allocate(splitX, splitRightY);
+        allocate(splitRightY, to);
+        firstChild[node] = child;
+        for (var i = child; i < child + 4; i++) {
+            subdivide(i, level + 1);
+        }
+    }
+
+    /** 구간 [from, to)를 기준값 미만·이상으로 제자리 분할하고 경계 위치를 반환한다. */
+    private int partition(int from, int to, boolean byX, double pivot) {
+        var low = from;
+        var high = to - 1;
+        while (low <= high) {
+            if ((byX ? xs[low] : ys[low]) < pivot) {
+                low++;
+            } else {
+                swap(low, high--);
+            }
+        }
+        return low;
+    }
+
+    private void swap(int a, int b) {
+        final var id = nodeIds[a];
+        nodeIds[a] = nodeIds[b];
+        nodeIds[b] = id;
+        final var x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        final var y = ys[a];
+        ys[a] = ys[b];
+        ys[b] = y;
+    }
+
+    /** 구간 [from, to)를 담는 트리 노드를 추가하고 실제 경계 상자를 계산한다. */
+    private int allocate(int from, int to) {
+        if (treeSize == start.length) {
+            final var capacity = treeSize * 2;
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+        }
+        final var node = treeSize++;
+        start[node] = from;
+        end[node] = to;
+        firstChild[node] = -1;
+        minX[node] = Double.POSITIVE_INFINITY;
+        minY[node] = Double.POSITIVE_INFINITY;
+        maxX[node] = Double.NEGATIVE_INFINITY;
+        maxY[node] = Double.NEGATIVE_INFINITY;
+        for (var i = from; i < to; i++) {
+            minX[node] = Math.min(minX[node], xs[i]);
+            minY[node] = Math.min(minY[node], ys[i]);
+            maxX[node] = Math.max(maxX[node], xs[i]);
+            maxY[node] = Math.max(maxY[node], ys[i]);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,203 @@
+package com.smarterd.domain.diagram.layout;
+
+import java.util.Arrays;
+
+/**
+ * 척력 근사를 위한 Barnes–Hut 사분트리.
+ *
+ * <p>
+ * {@link com.smarterd.domain.diagram.index.DiagramQuadtree}처럼 점 번호 배열을 사분면 단위로 제자리 분할하고, 트리 노드마다
+ * 실제 경계 상자·점 수·좌표 합(질량 중심)을 기본형 병렬 배열로 보관한다. 충분히 멀리 있는 가지는 질량 중심 한 점으로 보고
+ * 척력을 한 번에 더하므로, 노드 하나가 받는 척력을 O(log n)에 근사한다.
+ * </p>
+ *
+ * <p>좌표 배열은 복사하지 않고 참조만 하므로, 트리를 만든 뒤 좌표를 바꾸기 전에 질의를 마쳐야 한다.</p>
+ */
+final class BarnesHutTree {
+
+    /** 더 나누지 않는 리프의 최대 점 수 */
+    static final int LEAF_CAPACITY = 8;
+
+    /** 같은 좌표가 몰려 있을 때 분할을 멈추는 최대 깊이 */
+    static final int MAX_DEPTH = 24;
+
+    /** 두 점이 겹쳤을 때 쓰는 최소 거리 제곱 */
+    private static final double MIN_DISTANCE_SQUARED = 1e-2;
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] points;
+
+    private int[] start = new int[16];
+    private int[] end = new int[16];
+    private int[] firstChild = new int[16];
+    private double[] minX = new double[16];
+    private double[] minY = new double[16];
+    private double[] maxX = new double[16];
+    private double[] maxY = new double[16];
+    private double[] sumX = new double[16];
+    private double[] sumY = new double[16];
+    private int treeSize;
+
+    /**
+     * 현재 좌표로 트리를 만든다.
+     *
+     * @param xs 점별 X 좌표
+     * @param ys 점별 Y 좌표
+     */
+    BarnesHutTree(double[] xs, double[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        points = new int[xs.length];
+        Arrays.setAll(points, (i) -> i);
+        if (points.length > 0) {
+            subdivide(allocate(0, points.length), 0);
+        }
+    }
+
+    /**
+     * 점 하나가 나머지 모든 점에게서 받는 척력({@code strength / 거리})을 근사하여 변위 배열에 더한다.
+     *
+     * @param point    점 번호
+     * @param strength 척력 세기 (이상 거리의 제곱)
+     * @param theta    근사 기준 (가지 크기 / 거리가 이보다 작으면 한 점으로 본다)
+     * @param dx       점별 X 변위 (누적)
+     * @param dy       점별 Y 변위 (누적)
+     */
+    void repel(int point, double strength, double theta, double[] dx, double[] dy) {
+        final var x = xs[point];
+        final var y = ys[point];
+        final var stack = new int[MAX_DEPTH * 3 + 4];
+        var depth = 0;
+        stack[depth++] = 0;
+        while (depth > 0) {
+            final var node = stack[--depth];
+            if (firstChild[node] < 0) {
+                for (var i = start[node]; i < end[node]; i++) {
+                    final var other = points[i];
+                    if (other != point) {
+                        push(point, xs[other], ys[other], 1, strength, other < point, dx, dy);
+                    }
+                }
+                continue;
+            }
+            final var count = end[node] - start[node];
+            final var centerX = sumX[node] / count;
+            final var centerY = sumY[node] / count;
+            final var size = Math.max(maxX[node] - minX[node], maxY[node] - minY[node]);
+            final var distanceX = x - centerX;
+            final var distanceY = y - centerY;
+            final var inside = x >= minX[node] && x <= maxX[node] && y >= minY[node] && y <= maxY[node];
+            if (!inside && size * size < theta * theta * (distanceX * distanceX + distanceY * distanceY)) {
+                push(point, centerX, centerY, count, strength, false, dx, dy);
+            } else {
+                for (var child = firstChild[node]; child < firstChild[node] + 4; child++) {
+                    if (start[child] < end[child]) {
+                        stack[depth++] = child;
+                    }
+                }
+            }
+        }
+    }
+
+    /** 점 하나를 ({@code fromX}, {@code fromY})에 있는 질량 {@code mass}에게서 밀어낸다. 겹친 점은 번호 순으로 가른다. */
+    private void push(
+        int point,
+        double fromX,
+        double fromY,
+        int mass,
+        double strength,
+        boolean after,
+        double[] dx,
+        double[] dy
+    ) {
+        var distanceX = xs[point] - fromX;
+        final var distanceY = ys[point] - fromY;
+        var distanceSquared = distanceX * distanceX + distanceY * distanceY;
+        if (distanceSquared < MIN_DISTANCE_SQUARED) {
+            distanceX = after ? 0.1 : -0.1;
+            distanceSquared = MIN_DISTANCE_SQUARED;
+        }
+        final var force = strength * mass / distanceSquared;
+        dx[point] += distanceX * force;
+        dy[point] += distanceY * force;
+    }
+
+    private void subdivide(int node, int level) {
+        final var from = start[node];
+        final var to = end[node];
+        final var samePoint = minX[node] == maxX[node] && minY[node] == maxY[node];
+        if (to - from <= LEAF_CAPACITY || level >= MAX_DEPTH || samePoint) {
+            return;
+        }
+        final var midX = (minX[node] + maxX[node]) / 2;
+        final var midY = (minY[node] + maxY[node]) / 2;
+
+        // [from, splitX): 왼쪽, [splitX, to): 오른쪽 → 각각 위·아래로 다시 나눈다
+        final var splitX = partition(from, to, xs, midX);
+        final var splitLeftY = partition(from, splitX, ys, midY);
+        final var splitRightY = partition(splitX, to, ys, midY);
+
+        final var child = allocate(from, splitLeftY);
+        allocate(splitLeftY, splitX);
+        allocate(splitX, splitRightY);
+        allocate(splitRightY, to);
+        firstChild[node] = child;
+        for (var i = child; i < child + 4; i++) {
+            subdivide(i, level + 1);
+        }
+    }
+
+    /** 구간 [from, to)의 점 번호를 좌표 기준값 미만·이상으로 제자리 분할하고 경계 위치를 반환한다. */
+    private int partition(int from, int to, double[] coordinates, double pivot) {
+        var low = from;
+        var high = to - 1;
+        while (low <= high) {
+            if (coordinates[points[low]] < pivot) {
+                low++;
+            } else {
+                final var point = points[low];
+                points[low] = points[high];
+                points[high--] = point;
+            }
+        }
+        return low;
+    }
+
+    /** 구간 [from, to)를 담는 트리 노드를 추가하고 경계 상자와 좌표 합을 계산한다. */
+    private int allocate(int from, int to) {
+        if (treeSize == start.length) {
+            final var capacity = treeSize * 2;
+            start = Arrays.copyOf(start, capacity);
+            end = Arrays.copyOf(end, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            sumX = Arrays.copyOf(sumX, capacity);
+            sumY = Arrays.copyOf(sumY, capacity);
+        }
+        final var node = treeSize++;
+        start[node] = from;
+        end[node] = to;
+        firstChild[node] = -1;
+        minX[node] = Double.POSITIVE_INFINITY;
+        minY[node] = Double.POSITIVE_INFINITY;
+        maxX[node] = Double.NEGATIVE_INFINITY;
+        maxY[node] = Double.NEGATIVE_INFINITY;
+        sumX[node] = 0;
+        sumY[node] = 0;
+        for (var i = from; i < to; i++) {
+            final var x = xs[points[i]];
+            final var y = ys[points[i]];
+            minX[node] = Math.min(minX[node], x);
+            minY[node] = Math.min(minY[node], y);
+            maxX[node] = Math.max(maxX[node], x);
+            maxY[node] = Math.max(maxY[node], y);
+            sumX[node] += x;
+            sumY[node] += y;
+        }
+        return node;
+    }
+}
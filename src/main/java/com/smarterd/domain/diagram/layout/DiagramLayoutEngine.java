@@ -0,0 +1,260 @@
+package com.smarterd.domain.diagram.layout;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관계 그래프로 테이블 노드 위치를 계산하는 자동 배치 엔진.
+ *
+ * <p>
+ * 관계로 이어진 노드들을 연결 요소로 나누고, 노드가 둘 이상인 요소는 전용 {@link ForkJoinPool}에서 병렬로
+ * {@link ForceDirectedLayout}을 돌린다. 배치된 요소는 경계 상자 높이 순으로 선반(shelf) 포장하여 전체가 정사각형에
+ * 가깝게 놓이도록 하며, 관계가 없는 테이블도 크기 1인 요소로 같은 선반에 채운다.
+ * </p>
+ *
+ * <p>같은 입력(노드 순서·크기, 관계)에는 항상 같은 좌표를 돌려준다.</p>
+ */
+@Component
+public class DiagramLayoutEngine {
+
+    /** 연결 요소 사이 간격 */
+    static final double COMPONENT_GAP = 160;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 노드 위치를 계산한다.
+     *
+     * @param nodes 배치할 노드 (ID 중복 시 처음 것만 사용)
+     * @param edges 관계 (양 끝이 노드 목록에 없거나 자기 자신을 가리키면 무시)
+     * @return 노드별 좌상단 좌표 (입력 순서, 0 이상의 정수 좌표)
+     */
+    public List<Placement> layout(List<Node> nodes, List<Edge> edges) {
+        final var indexes = new HashMap<String, Integer>(nodes.size() * 2);
+        final var unique = new ArrayList<Node>(nodes.size());
+        for (final var node : nodes) {
+            if (indexes.putIfAbsent(node.id(), unique.size()) == null) {
+                unique.add(node);
+            }
+        }
+        final var size = unique.size();
+        final var graph = Graph.build(size, edges, indexes);
+
+        final var blocks = new ArrayList<Block>();
+        final var tasks = new ArrayList<ForkJoinTask<Block>>();
+        for (final var members : graph.components()) {
+            if (members.length > 1) {
+                tasks.add(pool.submit(ForkJoinTask.adapt(() -> graph.layout(members, unique))));
+            } else {
+                blocks.add(graph.layout(members, unique));
+            }
+        }
+        tasks.forEach((task) -> blocks.add(task.join()));
+
+        final var xs = new double[size];
+        final var ys = new double[size];
+        pack(blocks, xs, ys);
+
+        final var placements = new ArrayList<Placement>(size);
+        for (var i = 0; i < size; i++) {
+            placements.add(new Placement(unique.get(i).id(), Math.round(xs[i]), Math.round(ys[i])));
+        }
+        return placements;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /** 경계 상자가 높은 순으로 선반에 채운다. 선반 너비는 전체 넓이의 제곱근에 맞춘다. */
+    private static void pack(List<Block> blocks, double[] xs, double[] ys) {
+        var area = 0.0;
+        var widest = 0.0;
+        for (final var block : blocks) {
+            area += (block.width + COMPONENT_GAP) * (block.height + COMPONENT_GAP);
+            widest = Math.max(widest, block.width);
+        }
+        final var shelfWidth = Math.max(widest, Math.sqrt(area));
+        final var sorted = blocks
+            .stream()
+            .sorted(
+                Comparator.comparingDouble((Block block) -> -block.height).thenComparingInt((block) -> block.members[0])
+            )
+            .toList();
+
+        var x = 0.0;
+        var y = 0.0;
+        var shelfHeight = 0.0;
+        for (final var block : sorted) {
+            if (x > 0 && x + block.width > shelfWidth) {
+                x = 0;
+                y += shelfHeight + COMPONENT_GAP;
+                shelfHeight = 0;
+            }
+            for (var i = 0; i < block.members.length; i++) {
+                xs[block.members[i]] = x + block.xs[i];
+                ys[block.members[i]] = y + block.ys[i];
+            }
+            x += block.width + COMPONENT_GAP;
+            shelfHeight = Math.max(shelfHeight, block.height);
+        }
+    }
+
+    /**
+     * 배치할 노드.
+     *
+     * @param id     노드 ID
+     * @param width  너비
+     * @param height 높이
+     */
+    public record Node(String id, double width, double height) {}
+
+    /**
+     * 노드 사이 관계 (방향은 배치에 영향이 없다).
+     *
+     * @param source 시작 노드 ID
+     * @param target 끝 노드 ID
+     */
+    public record Edge(String source, String target) {}
+
+    /**
+     * 계산된 노드 위치.
+     *
+     * @param id 노드 ID
+     * @param x  좌상단 X
+     * @param y  좌상단 Y
+     */
+    public record Placement(String id, double x, double y) {}
+
+    /** 배치를 마친 연결 요소. 좌표는 요소 경계 상자의 좌상단 기준 노드 좌상단이다. */
+    private record Block(int[] members, double[] xs, double[] ys, double width, double height) {}
+
+    /** 중복 없는 무방향 관계 그래프 (CSR). */
+    private record Graph(int[] offsets, int[] neighbours) {
+
+        static Graph build(int size, List<Edge> edges, HashMap<String, Integer> indexes) {
+            final var pairs = new HashSet<Long>();
+            final var degrees = new int[size + 1];
+            final var sources = new int[edges.size()];
+            final var targets = new int[edges.size()];
+            var count = 0;
+            for (final var edge : edges) {
+                final var source = indexes.get(edge.source());
+                final var target = indexes.get(edge.target());
+                if (source == null || target == null || source.equals(target)) {
+                    continue;
+                }
+                final long low = Math.min(source, target);
+                final long high = Math.max(source, target);
+                if (!pairs.add(low << 32 | high)) {
+                    continue;
+                }
+                sources[count] = source;
+                targets[count] = target;
+                count++;
+                degrees[source + 1]++;
+                degrees[target + 1]++;
+            }
+            for (var i = 1; i < degrees.length; i++) {
+                degrees[i] += degrees[i - 1];
+            }
+            final var neighbours = new int[degrees[size]];
+            final var cursor = Arrays.copyOf(degrees, size);
+            for (var edge = 0; edge < count; edge++) {
+                neighbours[cursor[sources[edge]]++] = targets[edge];
+                neighbours[cursor[targets[edge]]++] = sources[edge];
+            }
+            return new Graph(degrees, neighbours);
+        }
+
+        /** 연결 요소별 노드 번호 목록 (요소 안에서는 번호 순, 요소는 가장 작은 번호 순). */
+        List<int[]> components() {
+            final var size = offsets.length - 1;
+            final var component = new int[size];
+            Arrays.fill(component, -1);
+            final var queue = new int[size];
+            final var result = new ArrayList<int[]>();
+            for (var root = 0; root < size; root++) {
+                if (component[root] >= 0) {
+                    continue;
+                }
+                var head = 0;
+                var tail = 0;
+                queue[tail++] = root;
+                component[root] = result.size();
+                while (head < tail) {
+                    final var node = queue[head++];
+                    for (var slot = offsets[node]; slot < offsets[node + 1]; slot++) {
+                        if (component[neighbours[slot]] < 0) {
+                            component[neighbours[slot]] = result.size();
+                            queue[tail++] = neighbours[slot];
+                        }
+                    }
+                }
+                final var members = Arrays.copyOf(queue, tail);
+                Arrays.sort(members);
+                result.add(members);
+            }
+            return result;
+        }
+
+        /** 연결 요소 하나를 배치하고 좌상단 기준 좌표로 옮긴다. */
+        Block layout(int[] members, List<Node> nodes) {
+            final var size = members.length;
+            final var widths = new double[size];
+            final var heights = new double[size];
+            for (var i = 0; i < size; i++) {
+                widths[i] = nodes.get(members[i]).width();
+                heights[i] = nodes.get(members[i]).height();
+            }
+            final var xs = new double[size];
+            final var ys = new double[size];
+            if (size > 1) {
+                final var local = new HashMap<Integer, Integer>(size * 2);
+                for (var i = 0; i < size; i++) {
+                    local.put(members[i], i);
+                }
+                final var localOffsets = new int[size + 1];
+                final var localNeighbours = new int[Arrays.stream(members)
+                    .map((member) -> offsets[member + 1] - offsets[member])
+                    .sum()];
+                for (var i = 0; i < size; i++) {
+                    final var member = members[i];
+                    localOffsets[i + 1] = localOffsets[i] + offsets[member + 1] - offsets[member];
+                    for (var slot = offsets[member]; slot < offsets[member + 1]; slot++) {
+                        localNeighbours[localOffsets[i] + slot - offsets[member]] = local.get(neighbours[slot]);
+                    }
+                }
+                ForceDirectedLayout.layout(widths, heights, localOffsets, localNeighbours, xs, ys);
+            }
+
+            // 중심 좌표를 좌상단 좌표로 바꾸고 경계 상자가 원점에서 시작하도록 옮긴다
+            var minX = Double.POSITIVE_INFINITY;
+            var minY = Double.POSITIVE_INFINITY;
+            var maxX = Double.NEGATIVE_INFINITY;
+            var maxY = Double.NEGATIVE_INFINITY;
+            for (var i = 0; i < size; i++) {
+                xs[i] -= widths[i] / 2;
+                ys[i] -= heights[i] / 2;
+                minX = Math.min(minX, xs[i]);
+                minY = Math.min(minY, ys[i]);
+                maxX = Math.max(maxX, xs[i] + widths[i]);
+                maxY = Math.max(maxY, ys[i] + heights[i]);
+            }
+            for (var i = 0; i < size; i++) {
+                xs[i] -= minX;
+                ys[i] -= minY;
+            }
+            return new Block(members, xs, ys, maxX - minX, maxY - minY);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.smarterd.domain.diagram.layout;
+
+import java.util.Arrays;
+
+/**
+ * 연결 요소 하나를 배치하는 힘 기반(Fruchterman–Reingold) 레이아웃.
+ *
+ * <p>
+ * 모든 노드 쌍은 {@code c · k² / d}로 밀어내고(Barnes–Hut 근사), 관계로 이어진 쌍은 {@code d² / k}로 당긴다.
+ * 이동 거리는 온도로 제한하며 온도는 반복마다 선형으로 식는다. 시작 위치는 차수가 가장 큰 노드부터 너비 우선으로
+ * 황금각 나선 위에 놓으므로, 같은 입력에는 항상 같은 결과가 나온다. 마지막으로 노드 사각형(여백 포함)이
+ * 겹치지 않을 때까지 겹친 쌍을 덜 겹친 축으로 벌린다.
+ * </p>
+ *
+ * <p>좌표는 노드 중심이며, 호출자가 좌상단 좌표로 바꾼다.</p>
+ */
+final class ForceDirectedLayout {
+
+    /** 시뮬레이션 반복 횟수 */
+    static final int ITERATIONS = 200;
+
+    /**
+     * 척력 세기 비율. 척력은 모든 노드에게서 쌓이므로 {@code k²}를 그대로 쓰면 노드가 많을수록 관계가 길게 늘어난다.
+     * 2,000개 규모 스키마에서 관계 길이와 겹침 제거 후 넓이가 가장 작았던 값이다.
+     */
+    static final double REPULSION = 0.1;
+
+    /** Barnes–Hut 근사 기준 */
+    static final double THETA = 0.8;
+
+    /** 노드 사이 여백 */
+    static final double MARGIN = 48;
+
+    /** 겹침 제거 최대 반복 횟수 */
+    static final int MAX_OVERLAP_PASSES = 1000;
+
+    /** 겹침이 남아 있으면 이 횟수마다 배치를 넓힌다 */
+    static final int SPREAD_INTERVAL = 25;
+
+    /** 한 번에 넓히는 비율 */
+    static final double SPREAD_FACTOR = 1.1;
+
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+
+    private ForceDirectedLayout() {}
+
+    /**
+     * 연결 요소 하나를 배치한다.
+     *
+     * @param widths     노드별 너비
+     * @param heights    노드별 높이
+     * @param offsets    노드별 이웃 구간 시작 위치 (CSR, 길이 n + 1)
+     * @param neighbours 이웃 노드 번호 (양방향, 중복 없음)
+     * @param xs         노드별 중심 X (출력)
+     * @param ys         노드별 중심 Y (출력)
+     */
+    static void layout(double[] widths, double[] heights, int[] offsets, int[] neighbours, double[] xs, double[] ys) {
+        final var size = widths.length;
+        final var radii = new double[size];
+        var k = 0.0;
+        for (var i = 0; i < size; i++) {
+            radii[i] = Math.hypot(widths[i], heights[i]) / 2;
+            k += 2 * radii[i] + MARGIN;
+        }
+        k /= size;
+
+        place(offsets, neighbours, k, xs, ys);
+        simulate(radii, offsets, neighbours, k, xs, ys);
+        removeOverlaps(widths, heights, xs, ys);
+    }
+
+    /** 차수가 가장 큰 노드부터 너비 우선 순서로 황금각 나선 위에 놓는다. 가까운 이웃이 가까이 놓인다. */
+    private static void place(int[] offsets, int[] neighbours, double k, double[] xs, double[] ys) {
+        final var size = xs.length;
+        var root = 0;
+        for (var i = 1; i < size; i++) {
+            if (offsets[i + 1] - offsets[i] > offsets[root + 1] - offsets[root]) {
+                root = i;
+            }
+        }
+        final var queue = new int[size];
+        final var visited = new boolean[size];
+        var head = 0;
+        var tail = 0;
+        queue[tail++] = root;
+        visited[root] = true;
+        while (head < tail) {
+            final var node = queue[head];
+            final var radius = k * Math.sqrt(head) / 2;
+            xs[node] = radius * Math.cos(head * GOLDEN_ANGLE);
+            ys[node] = radius * Math.sin(head * GOLDEN_ANGLE);
+            head++;
+            for (var slot = offsets[node]; slot < offsets[node + 1]; slot++) {
+                if (!visited[neighbours[slot]]) {
+                    visited[neighbours[slot]] = true;
+                    queue[tail++] = neighbours[slot];
+                }
+            }
+        }
+    }
+
+    private static void simulate(double[] radii, int[] offsets, int[] neighbours, double k, double[] xs, double[] ys) {
+        final var size = xs.length;
+        final var dx = new double[size];
+        final var dy = new double[size];
+        final var strength = k * k * REPULSION;
+        final var initialTemperature = k * Math.max(1, Math.sqrt(size) / 4);
+        for (var iteration = 0; iteration < ITERATIONS; iteration++) {
+            Arrays.fill(dx, 0);
+            Arrays.fill(dy, 0);
+
+            final var tree = new BarnesHutTree(xs, ys);
+            for (var i = 0; i < size; i++) {
+                tree.repel(i, strength, THETA, dx, dy);
+            }
+            for (var u = 0; u < size; u++) {
+                for (var slot = offsets[u]; slot < offsets[u + 1]; slot++) {
+                    final var v = neighbours[slot];
+                    if (v <= u) {
+                        continue;
+                    }
+                    // 끌림 d² / k를 단위 벡터에 곱하면 (Δ · d) / k, 이상 거리는 두 노드 크기에 맞춘다
+                    final var distanceX = xs[v] - xs[u];
+                    final var distanceY = ys[v] - ys[u];
+                    final var factor = Math.hypot(distanceX, distanceY) / (radii[u] + radii[v] + MARGIN);
+                    dx[u] += distanceX * factor;
+                    dy[u] += distanceY * factor;
+                    dx[v] -= distanceX * factor;
+                    dy[v] -= distanceY * factor;
+                }
+            }
+
+            final var temperature = initialTemperature * (1 - (double) iteration / ITERATIONS);
+            for (var i = 0; i < size; i++) {
+                final var length = Math.hypot(dx[i], dy[i]);
+                if (length > 0) {
+                    final var step = Math.min(length, temperature) / length;
+                    xs[i] += dx[i] * step;
+                    ys[i] += dy[i] * step;
+                }
+            }
+        }
+    }
+
+    /**
+     * 여백을 포함한 노드 사각형이 겹치지 않을 때까지 겹친 쌍을 덜 겹친 축으로 절반씩 벌린다.
+     * 왼쪽 끝 순으로 정렬한 뒤 X 구간이 겹치는 쌍만 비교한다.
+     */
+    private static void removeOverlaps(double[] widths, double[] heights, double[] xs, double[] ys) {
+        final var size = xs.length;
+        final var halfWidths = new double[size];
+        final var halfHeights = new double[size];
+        for (var i = 0; i < size; i++) {
+            halfWidths[i] = (widths[i] + MARGIN) / 2;
+            halfHeights[i] = (heights[i] + MARGIN) / 2;
+        }
+        final var order = new Integer[size];
+        Arrays.setAll(order, (i) -> i);
+        for (var pass = 0; pass < MAX_OVERLAP_PASSES; pass++) {
+            Arrays.sort(order, (a, b) -> Double.compare(xs[a] - halfWidths[a], xs[b] - halfWidths[b]));
+            var moved = false;
+            for (var a = 0; a < size; a++) {
+                final int i = order[a];
+                for (var b = a + 1; b < size; b++) {
+                    final int j = order[b];
+                    if (xs[j] - halfWidths[j] >= xs[i] + halfWidths[i]) {
+                        break;
+                    }
+                    final var overlapX = halfWidths[i] + halfWidths[j] - Math.abs(xs[j] - xs[i]);
+                    final var overlapY = halfHeights[i] + halfHeights[j] - Math.abs(ys[j] - ys[i]);
+                    if (overlapX <= 0 || overlapY <= 0) {
+                        continue;
+                    }
+                    moved = true;
+                    if (overlapX < overlapY) {
+                        final var shift = direction(xs[j] - xs[i], i, j) * overlapX / 2;
+                        xs[i] -= shift;
+                        xs[j] += shift;
+                    } else {
+                        final var shift = direction(ys[j] - ys[i], i, j) * overlapY / 2;
+                        ys[i] -= shift;
+                        ys[j] += shift;
+                    }
+                }
+            }
+            if (!moved) {
+                return;
+            }
+            if ((pass + 1) % SPREAD_INTERVAL == 0) {
+                spread(xs, ys);
+            }
+        }
+    }
+
+    /** 벌리기만으로 겹침이 풀리지 않으면 중심에서 조금 넓힌다. 넓히면 서로 다른 두 점 사이는 항상 멀어진다. */
+    private static void spread(double[] xs, double[] ys) {
+        var centerX = 0.0;
+        var centerY = 0.0;
+        for (var i = 0; i < xs.length; i++) {
+            centerX += xs[i];
+            centerY += ys[i];
+        }
+        centerX /= xs.length;
+        centerY /= xs.length;
+        for (var i = 0; i < xs.length; i++) {
+            xs[i] = centerX + (xs[i] - centerX) * SPREAD_FACTOR;
+            ys[i] = centerY + (ys[i] - centerY) * SPREAD_FACTOR;
+        }
+    }
+
+    private static double direction(double delta, int i, int j) {
+        if (delta != 0) {
+            return Math.signum(delta);
+        }
+        return i < j ? 1 : -1;
+    }
+}
@@ -0,0 +1,24 @@
+package com.smarterd.domain.diagram.model;
+
+/**
+ * 구조적 차이({@link DiagramDiff})의 변경 종류.
+ */
+public enum DiagramChangeKind {
+    /** 새로 생김 */
+    ADDED,
+
+    /** 없어짐 */
+    REMOVED,
+
+    /** 이름이 바뀜 */
+    RENAMED,
+
+    /** 데이터 타입(관계는 엣지 타입)이 바뀜 */
+    RETYPED,
+
+    /** 컬럼의 PK·FK·NULL 허용 여부, 또는 관계의 양 끝이 바뀜 */
+    MODIFIED,
+
+    /** 캔버스 위치가 바뀜 */
+    MOVED,
+}
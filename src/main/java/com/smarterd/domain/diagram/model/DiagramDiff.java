@@ -0,0 +1,91 @@
+package com.smarterd.domain.diagram.model;
+
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 두 다이어그램 content 사이의 구조적 차이.
+ *
+ * <p>테이블·컬럼·관계를 ID로 짝지어 비교한 결과이다. 한 항목에 여러 변경(예: 이름과 타입)이 함께 일어나면 변경마다
+ * 한 건씩 기록한다. 추가·삭제된 테이블의 컬럼은 테이블 변경에 포함된 것으로 보고 따로 기록하지 않는다.</p>
+ *
+ * @param tables          테이블 변경 (추가·삭제·이름 변경·이동)
+ * @param columns         컬럼 변경 (추가·삭제·이름 변경·타입 변경·제약 변경)
+ * @param relationships   관계 변경 (추가·삭제·엣지 타입 변경·양 끝 변경)
+ * @param unchangedTables 내용이 그대로인 테이블 수
+ */
+public record DiagramDiff(
+    List<TableChange> tables,
+    List<ColumnChange> columns,
+    List<RelationshipChange> relationships,
+    int unchangedTables
+) {
+    /** 변경이 없는 차이 */
+    public static final DiagramDiff EMPTY = new DiagramDiff(List.of(), List.of(), List.of(), 0);
+
+    /**
+     * 구조적 차이가 없는지 확인한다.
+     *
+     * @return 테이블·컬럼·관계 변경이 하나도 없으면 {@code true}
+     */
+    public boolean isEmpty() {
+        return tables.isEmpty() && columns.isEmpty() && relationships.isEmpty();
+    }
+
+    /**
+     * 테이블 변경.
+     *
+     * <p>현재 값은 항상 채우고, 이전 값은 바뀐 속성만 채운다. 삭제된 테이블은 삭제 전 값을 현재 값 자리에 담는다.</p>
+     *
+     * @param tableId      테이블 노드 ID
+     * @param kind         변경 종류 ({@code ADDED}, {@code REMOVED}, {@code RENAMED}, {@code MOVED})
+     * @param name         테이블 이름
+     * @param x            캔버스 X 좌표
+     * @param y            캔버스 Y 좌표
+     * @param previousName 이전 이름 ({@code RENAMED}일 때만)
+     * @param previousX    이전 X 좌표 ({@code MOVED}일 때만)
+     * @param previousY    이전 Y 좌표 ({@code MOVED}일 때만)
+     */
+    public record TableChange(
+        String tableId,
+        DiagramChangeKind kind,
+        String name,
+        double x,
+        double y,
+        @Nullable String previousName,
+        @Nullable Double previousX,
+        @Nullable Double previousY
+    ) {}
+
+    /**
+     * 컬럼 변경.
+     *
+     * @param tableId  소속 테이블 노드 ID
+     * @param columnId 컬럼 ID
+     * @param kind     변경 종류 ({@code ADDED}, {@code REMOVED}, {@code RENAMED}, {@code RETYPED}, {@code MODIFIED})
+     * @param before   변경 전 컬럼 (추가면 {@code null})
+     * @param after    변경 후 컬럼 (삭제면 {@code null})
+     */
+    public record ColumnChange(
+        String tableId,
+        String columnId,
+        DiagramChangeKind kind,
+        @Nullable ErdColumn before,
+        @Nullable ErdColumn after
+    ) {}
+
+    /**
+     * 관계 변경.
+     *
+     * @param relationshipId 엣지 ID
+     * @param kind           변경 종류 ({@code ADDED}, {@code REMOVED}, {@code RETYPED}, {@code MODIFIED})
+     * @param before         변경 전 관계 (추가면 {@code null})
+     * @param after          변경 후 관계 (삭제면 {@code null})
+     */
+    public record RelationshipChange(
+        String relationshipId,
+        DiagramChangeKind kind,
+        @Nullable ErdRelationship before,
+        @Nullable ErdRelationship after
+    ) {}
+}
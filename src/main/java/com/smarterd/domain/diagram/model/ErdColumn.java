@@ -0,0 +1,13 @@
+package com.smarterd.domain.diagram.model;
+
+/**
+ * ERD 컬럼.
+ *
+ * @param id       컬럼 ID ({@code col-<uuid>})
+ * @param name     컬럼 이름
+ * @param type     데이터 타입 (예: {@code VARCHAR(50)})
+ * @param pk       Primary Key 여부
+ * @param fk       Foreign Key 여부
+ * @param nullable NULL 허용 여부
+ */
+public record ErdColumn(String id, String name, String type, boolean pk, boolean fk, boolean nullable) {}
@@ -0,0 +1,16 @@
+package com.smarterd.domain.diagram.model;
+
+import java.util.List;
+
+/**
+ * 파싱된 ERD 문서.
+ *
+ * <p>React Flow JSON({@code nodes}, {@code edges})에서 서버가 이해하는 구조(테이블·컬럼·관계)만 추려낸 불변 모델이다.</p>
+ *
+ * @param tables        테이블 목록 (React Flow 노드)
+ * @param relationships 관계 목록 (React Flow 엣지)
+ */
+public record ErdDocument(List<ErdTable> tables, List<ErdRelationship> relationships) {
+    /** 빈 문서 */
+    public static final ErdDocument EMPTY = new ErdDocument(List.of(), List.of());
+}
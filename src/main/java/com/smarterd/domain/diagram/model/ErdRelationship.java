@@ -0,0 +1,55 @@
+package com.smarterd.domain.diagram.model;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * ERD 관계 (React Flow 엣지).
+ *
+ * <p>핸들 ID는 {@code {nodeId}-{colId}-source} / {@code {nodeId}-{colId}-target} 규칙을 따르며,
+ * 이로부터 양 끝 컬럼 ID를 유도할 수 있다.</p>
+ *
+ * @param id           엣지 ID ({@code e-{sourceHandle}-{targetHandle}})
+ * @param source       출발 노드 ID
+ * @param sourceHandle 출발 핸들 ID (nullable)
+ * @param target       도착 노드 ID
+ * @param targetHandle 도착 핸들 ID (nullable)
+ * @param type         React Flow 엣지 타입 (예: {@code step})
+ */
+public record ErdRelationship(
+    String id,
+    String source,
+    @Nullable String sourceHandle,
+    String target,
+    @Nullable String targetHandle,
+    String type
+) {
+    /**
+     * 출발 핸들에서 컬럼 ID를 유도한다.
+     *
+     * @return 출발 컬럼 ID, 핸들이 규칙에 맞지 않으면 {@code null}
+     */
+    @Nullable
+    public String sourceColumnId() {
+        return columnId(source, sourceHandle, "-source");
+    }
+
+    /**
+     * 도착 핸들에서 컬럼 ID를 유도한다.
+     *
+     * @return 도착 컬럼 ID, 핸들이 규칙에 맞지 않으면 {@code null}
+     */
+    @Nullable
+    public String targetColumnId() {
+        return columnId(target, targetHandle, "-target");
+    }
+
+    @Nullable
+    private static String columnId(String nodeId, @Nullable String handle, String suffix) {
+        if (handle == null || !handle.startsWith(nodeId + "-") || !handle.endsWith(suffix)) {
+            return null;
+        }
+        final var start = nodeId.length() + 1;
+        final var end = handle.length() - suffix.length();
+        return start < end ? handle.substring(start, end) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.smarterd.domain.diagram.model;
+
+import java.util.List;
+
+/**
+ * ERD 테이블 (React Flow 노드).
+ *
+ * @param id      노드 ID ({@code table-<uuid>})
+ * @param type    React Flow 노드 타입 (예: {@code table})
+ * @param x       캔버스 X 좌표
+ * @param y       캔버스 Y 좌표
+ * @param label   테이블 표시 이름
+ * @param columns 컬럼 목록 (표시 순서)
+ */
+public record ErdTable(String id, String type, double x, double y, String label, List<ErdColumn> columns) {}
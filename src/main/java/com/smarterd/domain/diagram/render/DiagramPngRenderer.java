@@ -0,0 +1,232 @@
+package com.smarterd.domain.diagram.render;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 다이어그램 장면을 Java2D로 래스터화하여 PNG로 쓴다.
+ *
+ * <p>
+ * 이미지 한 장을 통째로 할당하지 않고, 전체 너비에 높이가 {@link #BAND_PIXELS} / 너비인 띠로 나누어 위에서부터
+ * 차례로 그린다. 띠마다 같은 {@link BufferedImage}를 지우고 좌표계를 옮겨 장면 전체를 다시 그리되, 띠와 겹치지 않는
+ * 상자·선은 건너뛴다. 그린 띠는 곧바로 {@link PngEncoder}로 압축해 내보내므로, 수만 픽셀 크기의 이미지도 메모리에는
+ * 띠 하나(약 4MB)만 남는다.
+ * </p>
+ *
+ * <p>헤드리스 환경({@code java.awt.headless=true})에서도 동작한다. 글자가 너무 작아 읽을 수 없는 배율에서는 글자 대신
+ * 이름 자리에 막대만 그린다.</p>
+ */
+public final class DiagramPngRenderer {
+
+    /** 띠 하나의 최대 픽셀 수 */
+    static final int BAND_PIXELS = 1 << 20;
+
+    /** 이미지 한 변의 최대 픽셀 수 */
+    public static final int MAX_DIMENSION = 16384;
+
+    /** 글자를 그리는 최소 배율 (이보다 작으면 글자 대신 막대를 그린다) */
+    static final double MIN_TEXT_SCALE = 0.5;
+
+    private static final Color BACKGROUND = new Color(0xf8fafc);
+    private static final Color EDGE = new Color(0x94a3b8);
+    private static final Color BOX = Color.WHITE;
+    private static final Color BORDER = new Color(0xcbd5e1);
+    private static final Color HEAD = new Color(0x1e293b);
+    private static final Color RULE = new Color(0xe2e8f0);
+    private static final Color TEXT = new Color(0x334155);
+    private static final Color TYPE = new Color(0x64748b);
+    private static final Font TITLE_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 14);
+    private static final Font COLUMN_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 13);
+    private static final Font KEY_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 13);
+
+    private DiagramPngRenderer() {}
+
+    /**
+     * 배율을 적용한 이미지 크기를 계산한다.
+     *
+     * @param scene 장면
+     * @param scale 배율
+     * @return {너비, 높이} 픽셀 (각각 1 이상)
+     * @throws BusinessException 배율이 0 이하이거나, 한 변이 {@link #MAX_DIMENSION}을 넘는 경우
+     */
+    public static int[] size(DiagramScene scene, double scale) {
+        if (!(scale > 0)) {
+            throw new BusinessException("Scale must be positive: " + scale);
+        }
+        final var width = Math.max(1, (long) Math.ceil(scene.width() * scale));
+        final var height = Math.max(1, (long) Math.ceil(scene.height() * scale));
+        if (width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new BusinessException(
+                "Image too large: " + width + "x" + height + " exceeds " + MAX_DIMENSION + " pixels, lower the scale"
+            );
+        }
+        return new int[] { (int) width, (int) height };
+    }
+
+    /**
+     * 장면을 PNG로 쓴다.
+     *
+     * @param scene 장면
+     * @param scale 배율 (1이면 장면 좌표 1 = 1픽셀)
+     * @param out   출력 스트림 (닫지 않는다)
+     * @throws IOException       출력에 실패한 경우
+     * @throws BusinessException 배율이 0 이하이거나, 이미지 한 변이 {@link #MAX_DIMENSION}을 넘는 경우
+     */
+    public static void write(DiagramScene scene, double scale, OutputStream out) throws IOException {
+        final var size = size(scene, scale);
+        final var width = size[0];
+        final var height = size[1];
+        final var bandHeight = Math.min(height, Math.max(1, BAND_PIXELS / width));
+        final var band = new BufferedImage(width, bandHeight, BufferedImage.TYPE_INT_RGB);
+        final var encoder = new PngEncoder(out, width, height);
+
+        for (var top = 0; top < height; top += bandHeight) {
+            final var rows = Math.min(bandHeight, height - top);
+            final var graphics = band.createGraphics();
+            try {
+                graphics.setColor(BACKGROUND);
+                graphics.fillRect(0, 0, width, bandHeight);
+                graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                graphics.setRenderingHint(
+                    RenderingHints.KEY_TEXT_ANTIALIASING,
+                    RenderingHints.VALUE_TEXT_ANTIALIAS_ON
+                );
+                graphics.translate(0, -top);
+                graphics.scale(scale, scale);
+                graphics.translate(-scene.minX(), -scene.minY());
+
+                // 띠가 덮는 장면 Y 구간 (안티에일리어싱 번짐을 고려해 위아래로 조금 넓힌다)
+                final var bandTop = scene.minY() + (top - 2) / scale;
+                final var bandBottom = scene.minY() + (top + rows + 2) / scale;
+                drawEdges(scene, bandTop, bandBottom, graphics);
+                drawBoxes(scene, scale, bandTop, bandBottom, graphics);
+            } finally {
+                graphics.dispose();
+            }
+            encoder.writeRows(band, rows);
+        }
+        encoder.finish();
+    }
+
+    private static void drawEdges(DiagramScene scene, double bandTop, double bandBottom, Graphics2D graphics) {
+        graphics.setColor(EDGE);
+        graphics.setStroke(new BasicStroke(1.5f));
+        for (final var path : scene.paths()) {
+            if (path.maxY() < bandTop - 8 || path.minY() > bandBottom + 8) {
+                continue;
+            }
+            final var xs = path.xs();
+            final var ys = path.ys();
+            final var line = new Path2D.Double();
+            line.moveTo(xs[0], ys[0]);
+            for (var i = 1; i < xs.length; i++) {
+                line.lineTo(xs[i], ys[i]);
+            }
+            graphics.draw(line);
+
+            // 끝점에 오른쪽을 향하는 화살촉 (끝 컬럼으로는 항상 왼쪽에서 들어간다)
+            final var endX = xs[xs.length - 1];
+            final var endY = ys[ys.length - 1];
+            final var head = new Path2D.Double();
+            head.moveTo(endX, endY);
+            head.lineTo(endX - 8, endY - 4);
+            head.lineTo(endX - 8, endY + 4);
+            head.closePath();
+            graphics.fill(head);
+        }
+    }
+
+    private static void drawBoxes(
+        DiagramScene scene,
+        double scale,
+        double bandTop,
+        double bandBottom,
+        Graphics2D graphics
+    ) {
+        final var text = scale >= MIN_TEXT_SCALE;
+        graphics.setStroke(new BasicStroke(1f));
+        for (final var box : scene.boxes()) {
+            if (box.y() + box.height() < bandTop || box.y() > bandBottom) {
+                continue;
+            }
+            final var x = box.x();
+            final var y = box.y();
+            final var outline = new RoundRectangle2D.Double(x, y, box.width(), box.height(), 12, 12);
+            graphics.setColor(BOX);
+            graphics.fill(outline);
+            graphics.setColor(HEAD);
+            graphics.fill(new RoundRectangle2D.Double(x, y, box.width(), DiagramScene.HEADER_HEIGHT, 12, 12));
+
+            final var titleY = y + DiagramScene.HEADER_HEIGHT / 2;
+            if (text) {
+                graphics.setColor(Color.WHITE);
+                graphics.setFont(TITLE_FONT);
+                drawText(box.label(), x + 12, titleY, box.width() - 24, graphics);
+            } else {
+                graphics.setColor(TYPE);
+                graphics.fill(new RoundRectangle2D.Double(x + 12, titleY - 4, box.width() / 2, 8, 8, 8));
+            }
+
+            for (var i = 0; i < box.columns().size(); i++) {
+                final var column = box.columns().get(i);
+                final var top = y + DiagramScene.HEADER_HEIGHT + DiagramScene.ROW_HEIGHT * i;
+                if (top > bandBottom || top + DiagramScene.ROW_HEIGHT < bandTop) {
+                    continue;
+                }
+                final var middle = top + DiagramScene.ROW_HEIGHT / 2;
+                if (i > 0) {
+                    graphics.setColor(RULE);
+                    graphics.draw(new Line2D.Double(x, top, x + box.width(), top));
+                }
+                if (!text) {
+                    graphics.setColor(column.pk() || column.fk() ? TEXT : RULE);
+                    graphics.fill(new RoundRectangle2D.Double(x + 12, middle - 3, box.width() / 3, 6, 6, 6));
+                    continue;
+                }
+                final var key = column.pk() || column.fk();
+                final var label = (column.pk() ? "PK " : column.fk() ? "FK " : "") + column.name();
+                graphics.setColor(TEXT);
+                graphics.setFont(key ? KEY_FONT : COLUMN_FONT);
+                drawText(label, x + 12, middle, box.width() / 2 - 12, graphics);
+
+                graphics.setColor(TYPE);
+                graphics.setFont(COLUMN_FONT);
+                final var metrics = graphics.getFontMetrics();
+                final var type = fit(column.type(), box.width() / 2 - 24, graphics);
+                drawText(type, x + box.width() - 12 - metrics.stringWidth(type), middle, box.width() / 2, graphics);
+            }
+
+            graphics.setColor(BORDER);
+            graphics.draw(outline);
+        }
+    }
+
+    /** 글자를 왼쪽 끝·세로 중심 기준으로 그리고, 폭을 넘으면 말줄임표로 자른다. */
+    private static void drawText(String value, double x, double middle, double maxWidth, Graphics2D graphics) {
+        final var metrics = graphics.getFontMetrics();
+        final var baseline = middle + (metrics.getAscent() - metrics.getDescent()) / 2.0;
+        graphics.drawString(fit(value, maxWidth, graphics), (float) x, (float) baseline);
+    }
+
+    private static String fit(String value, double maxWidth, Graphics2D graphics) {
+        final var metrics = graphics.getFontMetrics();
+        if (metrics.stringWidth(value) <= maxWidth) {
+            return value;
+        }
+        var end = value.length();
+        while (end > 0 && metrics.stringWidth(value.substring(0, end) + "…") > maxWidth) {
+            end--;
+        }
+        return value.substring(0, end) + "…";
+    }
+}
@@ -0,0 +1,205 @@
+package com.smarterd.domain.diagram.render;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * 렌더링용으로 배치를 마친 다이어그램 장면.
+ *
+ * <p>
+ * 테이블은 노드 위치에 고정 너비·컬럼 수에 따른 높이의 상자로 놓고, 관계는 React Flow의 {@code step} 엣지처럼 시작 컬럼
+ * 오른쪽에서 나와 끝 컬럼 왼쪽으로 들어가는 직각 꺾은선으로 만든다. 끝 테이블이 시작 테이블보다 왼쪽에 있으면 양쪽으로
+ * 조금 빠져나온 뒤 두 컬럼 사이 높이에서 건너간다. SVG와 PNG 렌더러가 같은 장면을 그리므로 두 출력의 모양이 같다.
+ * </p>
+ *
+ * <p>생성 후에는 변경되지 않으므로 여러 스레드가 동시에 그려도 안전하다.</p>
+ */
+public final class DiagramScene {
+
+    /** 테이블 상자 너비 */
+    static final double TABLE_WIDTH = 280;
+
+    /** 테이블 머리글 높이 */
+    static final double HEADER_HEIGHT = 48;
+
+    /** 컬럼 한 줄 높이 */
+    static final double ROW_HEIGHT = 28;
+
+    /** 장면 가장자리 여백 */
+    static final double PADDING = 40;
+
+    /** 엣지가 상자에서 곧게 빠져나오는 길이 */
+    static final double STUB = 24;
+
+    private final List<Box> boxes;
+    private final List<Path> paths;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private DiagramScene(List<Box> boxes, List<Path> paths) {
+        this.boxes = boxes;
+        this.paths = paths;
+        var left = Double.POSITIVE_INFINITY;
+        var top = Double.POSITIVE_INFINITY;
+        var right = Double.NEGATIVE_INFINITY;
+        var bottom = Double.NEGATIVE_INFINITY;
+        for (final var box : boxes) {
+            left = Math.min(left, box.x());
+            top = Math.min(top, box.y());
+            right = Math.max(right, box.x() + box.width());
+            bottom = Math.max(bottom, box.y() + box.height());
+        }
+        for (final var path : paths) {
+            left = Math.min(left, path.minX());
+            top = Math.min(top, path.minY());
+            right = Math.max(right, path.maxX());
+            bottom = Math.max(bottom, path.maxY());
+        }
+        if (boxes.isEmpty() && paths.isEmpty()) {
+            left = 0;
+            top = 0;
+            right = 0;
+            bottom = 0;
+        }
+        minX = left - PADDING;
+        minY = top - PADDING;
+        maxX = right + PADDING;
+        maxY = bottom + PADDING;
+    }
+
+    /**
+     * ERD 문서로 장면을 만든다. 양 끝 테이블을 찾을 수 없는 관계는 그리지 않는다.
+     *
+     * @param document ERD 문서
+     * @return 장면
+     */
+    public static DiagramScene of(ErdDocument document) {
+        final var boxes = new ArrayList<Box>(document.tables().size());
+        final var boxesById = new HashMap<String, Box>(document.tables().size() * 2);
+        for (final var table : document.tables()) {
+            final var box = new Box(
+                table.x(),
+                table.y(),
+                TABLE_WIDTH,
+                HEADER_HEIGHT + ROW_HEIGHT * table.columns().size(),
+                table.label(),
+                table.columns()
+            );
+            boxes.add(box);
+            boxesById.putIfAbsent(table.id(), box);
+        }
+
+        final var paths = new ArrayList<Path>(document.relationships().size());
+        for (final var relationship : document.relationships()) {
+            final var source = boxesById.get(relationship.source());
+            final var target = boxesById.get(relationship.target());
+            if (source != null && target != null) {
+                paths.add(
+                    route(
+                        source.x() + source.width(),
+                        source.rowCenter(relationship.sourceColumnId()),
+                        target.x(),
+                        target.rowCenter(relationship.targetColumnId())
+                    )
+                );
+            }
+        }
+        return new DiagramScene(List.copyOf(boxes), List.copyOf(paths));
+    }
+
+    /** 왼쪽 X (여백 포함) */
+    public double minX() {
+        return minX;
+    }
+
+    /** 위쪽 Y (여백 포함) */
+    public double minY() {
+        return minY;
+    }
+
+    /** 장면 너비 (여백 포함) */
+    public double width() {
+        return maxX - minX;
+    }
+
+    /** 장면 높이 (여백 포함) */
+    public double height() {
+        return maxY - minY;
+    }
+
+    List<Box> boxes() {
+        return boxes;
+    }
+
+    List<Path> paths() {
+        return paths;
+    }
+
+    private static Path route(double sourceX, double sourceY, double targetX, double targetY) {
+        if (targetX - sourceX >= 2 * STUB) {
+            final var middle = (sourceX + targetX) / 2;
+            return new Path(
+                new double[] { sourceX, middle, middle, targetX },
+                new double[] { sourceY, sourceY, targetY, targetY }
+            );
+        }
+        final var middle = (sourceY + targetY) / 2;
+        return new Path(
+            new double[] { sourceX, sourceX + STUB, sourceX + STUB, targetX - STUB, targetX - STUB, targetX },
+            new double[] { sourceY, sourceY, middle, middle, targetY, targetY }
+        );
+    }
+
+    /**
+     * 테이블 상자.
+     *
+     * @param x       좌상단 X
+     * @param y       좌상단 Y
+     * @param width   너비
+     * @param height  높이
+     * @param label   테이블 이름
+     * @param columns 컬럼 (위에서부터)
+     */
+    record Box(double x, double y, double width, double height, String label, List<ErdColumn> columns) {
+
+        /** 컬럼 줄의 세로 중심. 컬럼을 찾지 못하면 머리글 중심을 쓴다. */
+        double rowCenter(String columnId) {
+            for (var i = 0; i < columns.size(); i++) {
+                if (columns.get(i).id().equals(columnId)) {
+                    return y + HEADER_HEIGHT + ROW_HEIGHT * i + ROW_HEIGHT / 2;
+                }
+            }
+            return y + HEADER_HEIGHT / 2;
+        }
+    }
+
+    /**
+     * 관계 꺾은선.
+     *
+     * @param xs 꼭짓점 X
+     * @param ys 꼭짓점 Y
+     */
+    record Path(double[] xs, double[] ys) {
+
+        double minX() {
+            return Math.min(xs[0], xs[xs.length - 1]) - STUB;
+        }
+
+        double maxX() {
+            return Math.max(xs[0], xs[xs.length - 1]) + STUB;
+        }
+
+        double minY() {
+            return Math.min(ys[0], ys[ys.length - 1]);
+        }
+
+        double maxY() {
+            return Math.max(ys[0], ys[ys.length - 1]);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.smarterd.domain.diagram.render;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 장면을 SVG 문서로 쓴다.
+ *
+ * <p>
+ * 관계선을 먼저 그리고 테이블 상자를 그 위에 덮어, 선이 상자 아래로 지나가게 한다. 색과 글꼴은 문서 머리의
+ * {@code <style>} 한 곳에 모았고, 요소는 장면 순서대로 흘려 쓰므로 테이블 수천 개짜리 다이어그램도 문서 전체를
+ * 메모리에 올리지 않는다.
+ * </p>
+ */
+public final class DiagramSvgRenderer {
+
+    private static final String STYLE =
+        ".edge{fill:none;stroke:#94a3b8;stroke-width:1.5}" +
+        ".box{fill:#ffffff;stroke:#cbd5e1}" +
+        ".head{fill:#1e293b}" +
+        ".rule{stroke:#e2e8f0}" +
+        "text{font-family:sans-serif;font-size:13px;fill:#334155;dominant-baseline:central}" +
+        ".title{font-size:14px;font-weight:bold;fill:#ffffff}" +
+        ".type{fill:#64748b;text-anchor:end}" +
+        ".key{font-weight:bold}";
+
+    private DiagramSvgRenderer() {}
+
+    /**
+     * 장면을 SVG 문서로 쓴다.
+     *
+     * @param scene 장면
+     * @param out   출력 (UTF-8로 인코딩해야 한다)
+     * @throws IOException 출력에 실패한 경우
+     */
+    public static void write(DiagramScene scene, Writer out) throws IOException {
+        out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        out.write("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"");
+        out.write(number(scene.minX()) + " " + number(scene.minY()) + " ");
+        out.write(number(scene.width()) + " " + number(scene.height()));
+        out.write("\" width=\"" + number(scene.width()) + "\" height=\"" + number(scene.height()) + "\">\n");
+        out.write("<style>" + STYLE + "</style>\n");
+        out.write(
+            "<defs><marker id=\"arrow\" viewBox=\"0 0 10 10\" refX=\"10\" refY=\"5\" markerWidth=\"8\" " +
+            "markerHeight=\"8\" orient=\"auto\"><path d=\"M0,0L10,5L0,10z\" fill=\"#94a3b8\"/></marker></defs>\n"
+        );
+        out.write(
+            "<rect x=\"" + number(scene.minX()) + "\" y=\"" + number(scene.minY()) + "\" width=\"" +
+            number(scene.width()) + "\" height=\"" + number(scene.height()) + "\" fill=\"#f8fafc\"/>\n"
+        );
+
+        for (final var path : scene.paths()) {
+            out.write("<polyline class=\"edge\" marker-end=\"url(#arrow)\" points=\"");
+            for (var i = 0; i < path.xs().length; i++) {
+                out.write((i == 0 ? "" : " ") + number(path.xs()[i]) + "," + number(path.ys()[i]));
+            }
+            out.write("\"/>\n");
+        }
+        for (final var box : scene.boxes()) {
+            writeBox(box, out);
+        }
+        out.write("</svg>\n");
+    }
+
+    private static void writeBox(DiagramScene.Box box, Writer out) throws IOException {
+        final var x = box.x();
+        final var y = box.y();
+        out.write("<g>");
+        out.write(
+            "<rect class=\"box\" x=\"" + number(x) + "\" y=\"" + number(y) + "\" width=\"" + number(box.width()) +
+            "\" height=\"" + number(box.height()) + "\" rx=\"6\"/>"
+        );
+        out.write(
+            "<rect class=\"head\" x=\"" + number(x) + "\" y=\"" + number(y) + "\" width=\"" + number(box.width()) +
+            "\" height=\"" + number(DiagramScene.HEADER_HEIGHT) + "\" rx=\"6\"/>"
+        );
+        writeText("title", x + 12, y + DiagramScene.HEADER_HEIGHT / 2, box.label(), out);
+        for (var i = 0; i < box.columns().size(); i++) {
+            final var column = box.columns().get(i);
+            final var top = y + DiagramScene.HEADER_HEIGHT + DiagramScene.ROW_HEIGHT * i;
+            final var middle = top + DiagramScene.ROW_HEIGHT / 2;
+            if (i > 0) {
+                out.write(
+                    "<line class=\"rule\" x1=\"" + number(x) + "\" y1=\"" + number(top) + "\" x2=\"" +
+                    number(x + box.width()) + "\" y2=\"" + number(top) + "\"/>"
+                );
+            }
+            final var marker = column.pk() ? "PK " : column.fk() ? "FK " : "";
+            writeText(column.pk() || column.fk() ? "key" : null, x + 12, middle, marker + column.name(), out);
+            writeText("type", x + box.width() - 12, middle, column.type(), out);
+        }
+        out.write("</g>\n");
+    }
+
+    private static void writeText(@Nullable String styleClass, double x, double y, String text, Writer out)
+        throws IOException {
+        out.write("<text");
+        if (styleClass != null) {
+            out.write(" class=\"" + styleClass + "\"");
+        }
+        out.write(" x=\"" + number(x) + "\" y=\"" + number(y) + "\">");
+        escape(text, out);
+        out.write("</text>");
+    }
+
+    /** XML 특수 문자를 엔터티로 바꾸고, XML 1.0에서 쓸 수 없는 제어 문자는 버린다. */
+    static void escape(String text, Writer out) throws IOException {
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.write("&amp;");
+                case '<' -> out.write("&lt;");
+                case '>' -> out.write("&gt;");
+                case '"' -> out.write("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /** 좌표를 소수 둘째 자리까지, 불필요한 0 없이 쓴다. */
+    static String number(double value) {
+        final var rounded = Math.round(value * 100) / 100.0;
+        if (rounded == Math.rint(rounded)) {
+            return Long.toString((long) rounded);
+        }
+        return String.format(Locale.ROOT, "%.2f", rounded).replaceAll("0+$", "");
+    }
+}
@@ -0,0 +1,52 @@
+package com.smarterd.domain.diagram.render;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 다이어그램 미리보기 PNG.
+ *
+ * <p>장면 전체를 {@link #WIDTH}×{@link #HEIGHT} 안에 들어오도록 줄여 그린다. 원래 크기보다 키우지는 않는다.
+ * 바이트 배열은 만든 뒤 바꾸지 않으므로 캐시에 그대로 보관하고 여러 응답이 공유해도 된다.</p>
+ *
+ * @param contentHash 그린 content의 해시
+ * @param png         PNG 바이트
+ */
+public record DiagramThumbnail(String contentHash, byte[] png) {
+
+    /** 최대 너비 */
+    public static final int WIDTH = 480;
+
+    /** 최대 높이 */
+    public static final int HEIGHT = 320;
+
+    /**
+     * 장면의 미리보기를 그린다.
+     *
+     * @param contentHash 장면을 만든 content의 해시
+     * @param scene       장면
+     * @return 미리보기
+     */
+    public static DiagramThumbnail render(String contentHash, DiagramScene scene) {
+        final var scale = Math.min(1, Math.min(WIDTH / scene.width(), HEIGHT / scene.height()));
+        final var out = new ByteArrayOutputStream();
+        try {
+            DiagramPngRenderer.write(scene, scale, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new DiagramThumbnail(contentHash, out.toByteArray());
+    }
+
+    /**
+     * PNG 바이트를 출력 스트림에 쓴다.
+     *
+     * @param out 출력 스트림
+     * @throws IOException 출력에 실패한 경우
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(png);
+    }
+}
@@ -0,0 +1,143 @@
+package com.smarterd.domain.diagram.render;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 줄 단위로 받은 픽셀을 바로 압축해 내보내는 PNG 인코더 (8비트 RGB, 인터레이스 없음).
+ *
+ * <p>
+ * {@link javax.imageio.ImageIO}는 이미지 전체를 받아야 쓰므로, 띠 단위로 그린 큰 이미지를 한 장으로 모으려면 전체 픽셀을
+ * 메모리에 올려야 한다. 이 인코더는 띠를 받을 때마다 줄별로 Sub 필터를 적용해 압축 스트림에 넣고, 압축된 바이트가
+ * {@link #CHUNK_SIZE}만큼 모이면 IDAT 청크로 내보내므로 메모리에는 띠 하나와 청크 버퍼만 남는다.
+ * </p>
+ */
+final class PngEncoder {
+
+    /** IDAT 청크 하나의 최대 크기 */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private static final byte[] SIGNATURE = { (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n' };
+
+    /** Sub 필터: 각 바이트에서 한 픽셀 왼쪽 바이트를 뺀다 */
+    private static final int FILTER_SUB = 1;
+
+    private final OutputStream out;
+    private final int width;
+    private final int height;
+    private final byte[] row;
+    private final ByteArrayOutputStream chunk = new ByteArrayOutputStream(CHUNK_SIZE + 1024);
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final DeflaterOutputStream compressed;
+    private int written;
+
+    /**
+     * PNG 서명과 IHDR 청크를 쓰고 인코더를 연다.
+     *
+     * @param out    출력 스트림 (닫지 않는다)
+     * @param width  이미지 너비
+     * @param height 이미지 높이
+     * @throws IOException 출력에 실패한 경우
+     */
+    PngEncoder(OutputStream out, int width, int height) throws IOException {
+        this.out = out;
+        this.width = width;
+        this.height = height;
+        this.row = new byte[1 + width * 3];
+        this.compressed = new DeflaterOutputStream(chunk, deflater, 8192);
+
+        out.write(SIGNATURE);
+        final var header = new byte[13];
+        putInt(header, 0, width);
+        putInt(header, 4, height);
+        header[8] = 8; // 채널당 비트 수
+        header[9] = 2; // RGB
+        writeChunk("IHDR", header, header.length);
+    }
+
+    /**
+     * 띠 이미지의 위쪽 {@code rows}줄을 다음 줄들로 쓴다.
+     *
+     * @param band {@link BufferedImage#TYPE_INT_RGB} 이미지 (너비가 인코더와 같아야 한다)
+     * @param rows 쓸 줄 수
+     * @throws IOException 출력에 실패한 경우
+     */
+    void writeRows(BufferedImage band, int rows) throws IOException {
+        if (written + rows > height) {
+            throw new IllegalStateException("Too many rows: " + (written + rows) + " > " + height);
+        }
+        final var pixels = ((DataBufferInt) band.getRaster().getDataBuffer()).getData();
+        for (var y = 0; y < rows; y++) {
+            row[0] = FILTER_SUB;
+            var previous = 0;
+            for (var x = 0; x < width; x++) {
+                final var pixel = pixels[y * width + x];
+                final var offset = 1 + x * 3;
+                row[offset] = (byte) ((pixel >> 16) - (previous >> 16));
+                row[offset + 1] = (byte) ((pixel >> 8) - (previous >> 8));
+                row[offset + 2] = (byte) (pixel - previous);
+                previous = pixel;
+            }
+            compressed.write(row);
+            if (chunk.size() >= CHUNK_SIZE) {
+                flushChunk();
+            }
+        }
+        written += rows;
+    }
+
+    /**
+     * 남은 압축 데이터와 IEND 청크를 쓴다.
+     *
+     * @throws IOException           출력에 실패한 경우
+     * @throws IllegalStateException 모든 줄을 쓰지 않은 경우
+     */
+    void finish() throws IOException {
+        if (written != height) {
+            throw new IllegalStateException("Missing rows: " + written + " of " + height);
+        }
+        try {
+            compressed.finish();
+            flushChunk();
+            writeChunk("IEND", new byte[0], 0);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void flushChunk() throws IOException {
+        if (chunk.size() > 0) {
+            writeChunk("IDAT", chunk.toByteArray(), chunk.size());
+            chunk.reset();
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        final var typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        final var crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        final var buffer = new byte[4];
+        putInt(buffer, 0, length);
+        out.write(buffer);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        putInt(buffer, 0, (int) crc.getValue());
+        out.write(buffer);
+    }
+
+    private static void putInt(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+}
@@ -0,0 +1,54 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramColumnCheck;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramColumnCheck} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramColumnCheckRepository extends JpaRepository<DiagramColumnCheck, Long> {
+    /**
+     * 다이어그램의 모든 컬럼 검사 결과를 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @return 컬럼 검사 결과 목록
+     */
+    List<DiagramColumnCheck> findByDiagram(Diagram diagram);
+
+    /**
+     * 다이어그램에서 지정한 컬럼 ID의 검사 결과를 조회한다.
+     *
+     * @param diagram   다이어그램
+     * @param columnIds 컬럼 ID 목록
+     * @return 컬럼 검사 결과 목록
+     */
+    List<DiagramColumnCheck> findByDiagramAndColumnIdIn(Diagram diagram, Collection<String> columnIds);
+
+    /**
+     * 다이어그램에서 지정한 컬럼 ID의 검사 결과를 일괄 삭제한다.
+     *
+     * @param diagram   다이어그램
+     * @param columnIds 컬럼 ID 목록
+     */
+    @Modifying
+    @Query("delete from DiagramColumnCheck c where c.diagram = :diagram and c.columnId in :columnIds")
+    void deleteByDiagramAndColumnIdIn(
+        @Param("diagram") Diagram diagram,
+        @Param("columnIds") Collection<String> columnIds
+    );
+
+    /**
+     * 다이어그램의 모든 컬럼 검사 결과를 일괄 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramColumnCheck c where c.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,71 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramColumn;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramColumn} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramColumnRepository extends JpaRepository<DiagramColumn, Long> {
+    /**
+     * 다이어그램에서 지정한 컬럼 ID의 컬럼을 조회한다.
+     *
+     * @param diagram   다이어그램
+     * @param columnIds 컬럼 ID 목록
+     * @return 컬럼 목록
+     */
+    List<DiagramColumn> findByDiagramAndColumnIdIn(Diagram diagram, Collection<String> columnIds);
+
+    /**
+     * 다이어그램의 모든 컬럼을 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @return 컬럼 목록
+     */
+    List<DiagramColumn> findByDiagram(Diagram diagram);
+
+    /**
+     * 다이어그램에서 지정한 테이블들에 속한 컬럼을 표시 순서대로 조회한다.
+     *
+     * @param diagram      다이어그램
+     * @param tableNodeIds 테이블 노드 ID 목록
+     * @return 컬럼 목록
+     */
+    List<DiagramColumn> findByDiagramAndTableNodeIdInOrderByOrdinal(Diagram diagram, Collection<String> tableNodeIds);
+
+    /**
+     * 다이어그램의 모든 컬럼 행 식별자를 스트림으로 조회한다. 호출 측 트랜잭션 안에서 닫아야 한다.
+     *
+     * @param diagram 다이어그램
+     * @return 행 식별자 스트림
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramRowKey(c.id, c.columnId) " +
+        "from DiagramColumn c where c.diagram = :diagram"
+    )
+    Stream<DiagramRowKey> streamKeysByDiagram(@Param("diagram") Diagram diagram);
+
+    /**
+     * 다이어그램의 컬럼 수를 센다.
+     *
+     * @param diagram 다이어그램
+     * @return 컬럼 수
+     */
+    long countByDiagram(Diagram diagram);
+
+    /**
+     * 다이어그램의 모든 컬럼을 일괄 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramColumn c where c.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,181 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.common.exception.PreconditionFailedException;
+import com.smarterd.domain.diagram.entity.DiagramContentCodec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 다이어그램 content LOB을 엔티티를 거치지 않고 스트림으로 읽고 쓰는 저장소.
+ *
+ * <p>
+ * {@link com.smarterd.domain.diagram.entity.Diagram#getContent()}는 문서 전체를 {@code String}으로 올리므로,
+ * 수 MB 이상의 다이어그램은 이 저장소를 통해 JDBC {@code Blob} 스트림과 {@link DiagramContentCodec} 스트림을
+ * 직접 이어 붙여 처리한다. 요청당 힙 사용량은 문서 크기와 무관하게 버퍼 크기 수준으로 유지된다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiagramContentStore {
+
+    /** content 조회 쿼리 */
+    private static final String SELECT_CONTENT = "select content from diagrams where id = ?";
+
+    /** 다이어그램 존재 확인 쿼리 */
+    private static final String COUNT_DIAGRAM = "select count(*) from diagrams where id = ?";
+
+    /** content 갱신 쿼리 (해시·리비전·수정 시각 함께 갱신) */
+    private static final String UPDATE_CONTENT =
+        "update diagrams set content = ?, content_hash = ?, revision = revision + 1, updated_at = ? where id = ?";
+
+    /** 리비전이 기대값과 같을 때만 갱신하는 조건부 쿼리 */
+    private static final String UPDATE_CONTENT_IF_REVISION = UPDATE_CONTENT + " and revision = ?";
+
+    /** JDBC 템플릿 (JPA 트랜잭션 안에서는 같은 커넥션을 사용한다) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 평문 JSON을 써 넣는 콜백.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * 평문 React Flow JSON을 출력 스트림에 쓰고, 쓴 문서의 content 해시를 반환한다.
+         *
+         * @param out 평문 출력 스트림 (닫지 않아도 된다)
+         * @return 쓴 문서의 content 해시
+         * @throws IOException 쓰기 실패 시
+         */
+        String writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * 평문 JSON을 읽어 가는 콜백.
+     */
+    @FunctionalInterface
+    public interface ContentReader {
+        /**
+         * 평문 React Flow JSON 스트림을 읽는다.
+         *
+         * @param in 평문 입력 스트림 (닫지 않아도 된다)
+         * @throws IOException 읽기 실패 시
+         */
+        void readFrom(InputStream in) throws IOException;
+    }
+
+    /**
+     * 다이어그램 content를 평문 JSON으로 풀어 출력 스트림에 복사한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param out       출력 스트림
+     * @return 다이어그램이 존재하여 복사했으면 {@code true}
+     */
+    public boolean copyContent(Long diagramId, OutputStream out) {
+        return readContent(diagramId, (in) -> in.transferTo(out));
+    }
+
+    /**
+     * 다이어그램 content를 평문 JSON 스트림으로 풀어 콜백에 넘긴다. content가 비어 있으면 콜백을 호출하지 않는다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param reader    평문 JSON 읽기 콜백
+     * @return 다이어그램이 존재하면 {@code true}
+     */
+    public boolean readContent(Long diagramId, ContentReader reader) {
+        final Boolean found = jdbcTemplate.query(
+            SELECT_CONTENT,
+            (resultSet) -> {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                final var blob = resultSet.getBinaryStream(1);
+                if (blob != null) {
+                    try (var in = DiagramContentCodec.decodingStream(blob)) {
+                        reader.readFrom(in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            },
+            diagramId
+        );
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * 콜백이 쓴 평문 JSON을 압축하여 다이어그램 content로 저장하고, content 해시를 갱신하며 리비전을 1 올린다.
+     *
+     * <p>압축 결과는 임시 파일에 먼저 기록한 뒤 길이를 알려 LOB 스트림으로 넘긴다.
+     * 콜백이 예외를 던지거나, 콜백이 돌려준 해시가 {@code storedHash}와 같으면(의미상 같은 문서) DB에는 아무것도
+     * 쓰지 않는다. 리비전은 content가 바뀔 때마다 오르므로, 조회한 리비전을 조건으로 주면 그 사이 다른 저장이
+     * 끼어든 경우(같은 content로 되돌아온 경우 포함) 덮어쓰지 않는다.</p>
+     *
+     * @param diagramId        다이어그램 ID
+     * @param expectedRevision 저장된 리비전이 이 값일 때만 갱신 (nullable, 없으면 무조건 갱신)
+     * @param storedHash       호출 측이 조회한 현재 content 해시 (nullable)
+     * @param writer           평문 JSON 작성 콜백
+     * @return content를 갱신했으면 {@code true}, 같은 문서라서 건너뛰었으면 {@code false}
+     * @throws EntityNotFoundException     다이어그램이 없는 경우 (요청 도중 삭제된 경우 포함)
+     * @throws PreconditionFailedException 저장된 리비전이 기대값과 다른 경우
+     */
+    public boolean writeContent(
+        Long diagramId,
+        @Nullable Long expectedRevision,
+        @Nullable String storedHash,
+        ContentWriter writer
+    ) {
+        try {
+            final var spool = Files.createTempFile("diagram-" + diagramId + "-", ".erd");
+            try {
+                final String contentHash;
+                try (var out = DiagramContentCodec.encodingStream(Files.newOutputStream(spool))) {
+                    contentHash = writer.writeTo(out);
+                }
+                if (contentHash.equals(storedHash)) {
+                    return false;
+                }
+                final var length = Files.size(spool);
+                final var sql = expectedRevision == null ? UPDATE_CONTENT : UPDATE_CONTENT_IF_REVISION;
+                final int updated;
+                try (var in = Files.newInputStream(spool)) {
+                    updated = jdbcTemplate.update(sql, (statement) -> {
+                        statement.setBinaryStream(1, in, length);
+                        statement.setString(2, contentHash);
+                        statement.setTimestamp(3, Timestamp.valueOf(LocalDateTime.now()));
+                        statement.setLong(4, diagramId);
+                        if (expectedRevision != null) {
+                            statement.setLong(5, expectedRevision);
+                        }
+                    });
+                }
+                if (updated == 0) {
+                    if (expectedRevision == null || !exists(diagramId)) {
+                        throw new EntityNotFoundException("Diagram not found: " + diagramId);
+                    }
+                    throw new PreconditionFailedException("Diagram has changed since revision " + expectedRevision);
+                }
+                return true;
+            } finally {
+                Files.deleteIfExists(spool);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean exists(Long diagramId) {
+        final Long count = jdbcTemplate.queryForObject(COUNT_DIAGRAM, Long.class, diagramId);
+        return count != null && count > 0;
+    }
+}
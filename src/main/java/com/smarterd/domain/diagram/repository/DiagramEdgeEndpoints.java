@@ -0,0 +1,10 @@
+package com.smarterd.domain.diagram.repository;
+
+/**
+ * 관계 끝점 프로젝션 (인접 색인 생성용).
+ *
+ * @param edgeId       클라이언트 엣지 ID
+ * @param sourceNodeId 출발 테이블 노드 ID
+ * @param targetNodeId 도착 테이블 노드 ID
+ */
+public record DiagramEdgeEndpoints(String edgeId, String sourceNodeId, String targetNodeId) {}
@@ -0,0 +1,26 @@
+package com.smarterd.domain.diagram.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * content(LOB)를 제외한 다이어그램 메타데이터 프로젝션.
+ *
+ * <p>접근 확인이나 리비전·ETag 조회처럼 content가 필요 없는 경로에서 LOB 로딩을 피하기 위해 사용한다.</p>
+ *
+ * @param id          다이어그램 ID
+ * @param name        다이어그램 이름
+ * @param projectId   소속 프로젝트 ID
+ * @param revision    현재 리비전
+ * @param contentHash content 해시 (ETag 값)
+ * @param createdAt   생성 시각
+ * @param updatedAt   수정 시각
+ */
+public record DiagramHeader(
+    Long id,
+    String name,
+    Long projectId,
+    Long revision,
+    String contentHash,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {}
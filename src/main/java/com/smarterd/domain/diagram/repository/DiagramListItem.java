@@ -0,0 +1,42 @@
+package com.smarterd.domain.diagram.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다이어그램 목록 행 프로젝션 ({@code diagrams} 메타데이터 + {@code diagram_summaries} 통계, content 미로딩).
+ *
+ * <p>요약 행이 아직 없는 다이어그램은 통계 필드가 {@code null}이다.</p>
+ *
+ * @param id                다이어그램 ID
+ * @param name              다이어그램 이름
+ * @param projectId         소속 프로젝트 ID
+ * @param revision          현재 리비전
+ * @param contentHash       content 해시 (ETag 값)
+ * @param createdAt         생성 시각
+ * @param updatedAt         수정 시각
+ * @param tableCount        테이블 수
+ * @param columnCount       컬럼 수
+ * @param relationshipCount 관계 수
+ * @param minX              노드 경계 상자 왼쪽 X
+ * @param minY              노드 경계 상자 위쪽 Y
+ * @param maxX              노드 경계 상자 오른쪽 X
+ * @param maxY              노드 경계 상자 아래쪽 Y
+ * @param byteSize          평문 content 크기 (바이트)
+ */
+public record DiagramListItem(
+    Long id,
+    String name,
+    Long projectId,
+    Long revision,
+    String contentHash,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Integer tableCount,
+    Integer columnCount,
+    Integer relationshipCount,
+    Double minX,
+    Double minY,
+    Double maxX,
+    Double maxY,
+    Long byteSize
+) {}
@@ -0,0 +1,12 @@
+package com.smarterd.domain.diagram.repository;
+
+/**
+ * 다이어그램이 속한 프로젝트·팀 프로젝션.
+ *
+ * <p>팀 단위 색인이 다이어그램을 어느 팀 색인에 넣을지 정할 때 사용한다.</p>
+ *
+ * @param id        다이어그램 ID
+ * @param projectId 소속 프로젝트 ID
+ * @param teamId    소속 팀 ID
+ */
+public record DiagramLocation(Long id, Long projectId, Long teamId) {}
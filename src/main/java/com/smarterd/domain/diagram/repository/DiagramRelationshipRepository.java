@@ -0,0 +1,105 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramRelationship;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramRelationship} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramRelationshipRepository extends JpaRepository<DiagramRelationship, Long> {
+    /**
+     * 다이어그램에서 지정한 엣지 ID의 관계를 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @param edgeIds 엣지 ID 목록
+     * @return 관계 목록
+     */
+    List<DiagramRelationship> findByDiagramAndEdgeIdIn(Diagram diagram, Collection<String> edgeIds);
+
+    /**
+     * 다이어그램의 모든 관계를 저장 순서대로 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @return 관계 목록
+     */
+    List<DiagramRelationship> findByDiagramOrderById(Diagram diagram);
+
+    /**
+     * 양 끝 노드가 모두 지정한 노드 집합에 속하는 관계를 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @param nodeIds 노드 ID 목록
+     * @return 관계 목록
+     */
+    @Query(
+        "select r from DiagramRelationship r where r.diagram = :diagram " +
+        "and r.sourceNodeId in :nodeIds and r.targetNodeId in :nodeIds order by r.id"
+    )
+    List<DiagramRelationship> findWithin(@Param("diagram") Diagram diagram, @Param("nodeIds") Collection<String> nodeIds);
+
+    /**
+     * 다이어그램에서 지정한 테이블 중 하나를 출발점으로 가진 관계를 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @param nodeIds 테이블 노드 ID 목록
+     * @return 관계 목록
+     */
+    List<DiagramRelationship> findByDiagramAndSourceNodeIdIn(Diagram diagram, Collection<String> nodeIds);
+
+    /**
+     * 다이어그램에서 지정한 테이블 중 하나를 도착점으로 가진 관계를 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @param nodeIds 테이블 노드 ID 목록
+     * @return 관계 목록
+     */
+    List<DiagramRelationship> findByDiagramAndTargetNodeIdIn(Diagram diagram, Collection<String> nodeIds);
+
+    /**
+     * 다이어그램의 모든 관계 끝점을 저장 순서대로 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 관계 끝점 목록
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramEdgeEndpoints(r.edgeId, r.sourceNodeId, " +
+        "r.targetNodeId) from DiagramRelationship r where r.diagram.id = :diagramId order by r.id"
+    )
+    List<DiagramEdgeEndpoints> findEndpointsByDiagramId(@Param("diagramId") Long diagramId);
+
+    /**
+     * 다이어그램의 모든 관계 행 식별자를 스트림으로 조회한다. 호출 측 트랜잭션 안에서 닫아야 한다.
+     *
+     * @param diagram 다이어그램
+     * @return 행 식별자 스트림
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramRowKey(r.id, r.edgeId) " +
+        "from DiagramRelationship r where r.diagram = :diagram"
+    )
+    Stream<DiagramRowKey> streamKeysByDiagram(@Param("diagram") Diagram diagram);
+
+    /**
+     * 다이어그램의 관계 수를 센다.
+     *
+     * @param diagram 다이어그램
+     * @return 관계 수
+     */
+    long countByDiagram(Diagram diagram);
+
+    /**
+     * 다이어그램의 모든 관계를 일괄 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramRelationship r where r.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
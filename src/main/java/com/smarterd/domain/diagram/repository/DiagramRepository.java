@@ -1,9 +1,90 @@
 package com.smarterd.domain.diagram.repository;
 
 import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.project.entity.Project;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link Diagram} 엔티티의 데이터 접근 레포지토리.
  */
-public interface DiagramRepository extends JpaRepository<Diagram, Long> {}
+public interface DiagramRepository extends JpaRepository<Diagram, Long> {
+    /**
+     * 특정 프로젝트의 다이어그램 목록을 요약 통계와 함께 조회한다 (content 미로딩).
+     *
+     * <p>엔티티 대신 스칼라 컬럼만 고르므로 다이어그램 수가 많아도 LOB을 읽지 않는다.</p>
+     *
+     * @param project 프로젝트
+     * @return 다이어그램 목록 행 (ID 순)
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramListItem(" +
+        "d.id, d.name, d.project.id, d.revision, d.contentHash, d.createdAt, d.updatedAt, " +
+        "s.tableCount, s.columnCount, s.relationshipCount, s.minX, s.minY, s.maxX, s.maxY, s.byteSize) " +
+        "from Diagram d left join DiagramSummary s on s.diagram = d " +
+        "where d.project = :project order by d.id"
+    )
+    List<DiagramListItem> findListItemsByProject(@Param("project") Project project);
+
+    /**
+     * 특정 프로젝트에 속한 다이어그램을 ID로 조회한다.
+     *
+     * @param project 프로젝트
+     * @param id      다이어그램 ID
+     * @return 다이어그램 Optional
+     */
+    Optional<Diagram> findByProjectAndId(Project project, Long id);
+
+    /**
+     * 특정 프로젝트에 속한 다이어그램의 메타데이터만 조회한다 (content 미로딩).
+     *
+     * @param project 프로젝트
+     * @param id      다이어그램 ID
+     * @return 다이어그램 메타데이터 Optional
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramHeader(" +
+        "d.id, d.name, d.project.id, d.revision, d.contentHash, d.createdAt, d.updatedAt) " +
+        "from Diagram d where d.project = :project and d.id = :id"
+    )
+    Optional<DiagramHeader> findHeaderByProjectAndId(@Param("project") Project project, @Param("id") Long id);
+
+    /**
+     * 다이어그램의 메타데이터만 ID로 조회한다 (content 미로딩). 접근 권한은 확인하지 않는다.
+     *
+     * @param id 다이어그램 ID
+     * @return 다이어그램 메타데이터 Optional
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramHeader(" +
+        "d.id, d.name, d.project.id, d.revision, d.contentHash, d.createdAt, d.updatedAt) " +
+        "from Diagram d where d.id = :id"
+    )
+    Optional<DiagramHeader> findHeaderById(@Param("id") Long id);
+
+    /**
+     * 모든 다이어그램의 소속 프로젝트·팀을 조회한다 (content 미로딩).
+     *
+     * @return 다이어그램 위치 목록 (ID 순)
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramLocation(d.id, d.project.id, d.project.team.id) " +
+        "from Diagram d order by d.id"
+    )
+    List<DiagramLocation> findLocations();
+
+    /**
+     * 다이어그램의 소속 프로젝트·팀을 조회한다 (content 미로딩).
+     *
+     * @param id 다이어그램 ID
+     * @return 다이어그램 위치 Optional
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramLocation(d.id, d.project.id, d.project.team.id) " +
+        "from Diagram d where d.id = :id"
+    )
+    Optional<DiagramLocation> findLocationById(@Param("id") Long id);
+}
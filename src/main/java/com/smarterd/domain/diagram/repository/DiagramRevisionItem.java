@@ -0,0 +1,29 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import java.time.LocalDateTime;
+
+/**
+ * payload(LOB)를 제외한 다이어그램 리비전 기록 프로젝션.
+ *
+ * @param id           리비전 기록 ID
+ * @param revision     다이어그램 리비전
+ * @param kind         저장 방식
+ * @param baseRevision 델타의 기준 리비전 (스냅샷이면 {@code null})
+ * @param depth        가장 가까운 스냅샷에서의 델타 수
+ * @param contentHash  content 정규화 해시
+ * @param byteSize     평문 content 크기 (바이트)
+ * @param payloadSize  압축된 payload 크기 (바이트)
+ * @param createdAt    기록 시각
+ */
+public record DiagramRevisionItem(
+    Long id,
+    Long revision,
+    DiagramRevisionKind kind,
+    Long baseRevision,
+    int depth,
+    String contentHash,
+    long byteSize,
+    long payloadSize,
+    LocalDateTime createdAt
+) {}
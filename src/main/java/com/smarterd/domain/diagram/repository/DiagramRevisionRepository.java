@@ -0,0 +1,155 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramRevision;
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramRevision} 엔티티의 데이터 접근 레포지토리.
+ *
+ * <p>조회는 모두 {@link DiagramRevisionItem} 프로젝션으로 하여 payload LOB을 읽지 않는다.
+ * payload는 {@link DiagramRevisionStore}로 스트림으로 읽는다.</p>
+ */
+public interface DiagramRevisionRepository extends JpaRepository<DiagramRevision, Long> {
+    /** 프로젝션 select 절 */
+    String ITEM =
+        "select new com.smarterd.domain.diagram.repository.DiagramRevisionItem(r.id, r.revision, r.kind, " +
+        "r.baseRevision, r.depth, r.contentHash, r.byteSize, r.payloadSize, r.createdAt) from DiagramRevision r ";
+
+    /**
+     * 다이어그램의 리비전 기록을 최신순으로 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 리비전 기록 목록
+     */
+    @Query(ITEM + "where r.diagram.id = :diagramId order by r.revision desc")
+    List<DiagramRevisionItem> findItemsByDiagramId(@Param("diagramId") Long diagramId);
+
+    /**
+     * 다이어그램의 특정 리비전 기록을 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param revision  다이어그램 리비전
+     * @return 리비전 기록
+     */
+    @Query(ITEM + "where r.diagram.id = :diagramId and r.revision = :revision")
+    Optional<DiagramRevisionItem> findItem(@Param("diagramId") Long diagramId, @Param("revision") Long revision);
+
+    /**
+     * 다이어그램의 가장 최근 리비전 기록을 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 가장 최근 리비전 기록
+     */
+    @Query(
+        ITEM +
+        "where r.diagram.id = :diagramId and r.revision = " +
+        "(select max(h.revision) from DiagramRevision h where h.diagram.id = :diagramId)"
+    )
+    Optional<DiagramRevisionItem> findHead(@Param("diagramId") Long diagramId);
+
+    /**
+     * 지정한 리비전 이하에서 가장 최근 스냅샷의 리비전을 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param revision  다이어그램 리비전
+     * @param kind      스냅샷 종류 ({@link DiagramRevisionKind#SNAPSHOT})
+     * @return 스냅샷 리비전 (없으면 {@code null})
+     */
+    @Query(
+        "select max(r.revision) from DiagramRevision r " +
+        "where r.diagram.id = :diagramId and r.kind = :kind and r.revision <= :revision"
+    )
+    Long findLatestRevisionOfKind(
+        @Param("diagramId") Long diagramId,
+        @Param("revision") Long revision,
+        @Param("kind") DiagramRevisionKind kind
+    );
+
+    /**
+     * 리비전 구간의 기록을 오래된 순으로 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param from      시작 리비전 (포함)
+     * @param to        끝 리비전 (포함)
+     * @return 리비전 기록 목록
+     */
+    @Query(ITEM + "where r.diagram.id = :diagramId and r.revision between :from and :to order by r.revision")
+    List<DiagramRevisionItem> findItemsBetween(
+        @Param("diagramId") Long diagramId,
+        @Param("from") Long from,
+        @Param("to") Long to
+    );
+
+    /**
+     * 기준 시각 이전 기록이 둘 이상인 다이어그램 ID를 조회한다 (압축 대상 후보).
+     *
+     * @param cutoff 기준 시각
+     * @return 다이어그램 ID 목록
+     */
+    @Query(
+        "select r.diagram.id from DiagramRevision r where r.createdAt < :cutoff " +
+        "group by r.diagram.id having count(r) > 1"
+    )
+    List<Long> findDiagramIdsWithRevisionsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 리비전 기록의 저장 방식과 payload를 바꾼다 (압축 시 기준 리비전이 사라진 기록을 다시 쓸 때 사용).
+     *
+     * @param id           리비전 기록 ID
+     * @param kind         저장 방식
+     * @param baseRevision 델타의 기준 리비전 (스냅샷이면 {@code null})
+     * @param depth        가장 가까운 스냅샷에서의 델타 수
+     * @param payload      압축된 payload
+     * @param payloadSize  압축된 payload 크기
+     */
+    @Modifying
+    @Query(
+        "update DiagramRevision r set r.kind = :kind, r.baseRevision = :baseRevision, r.depth = :depth, " +
+        "r.payload = :payload, r.payloadSize = :payloadSize where r.id = :id"
+    )
+    void rewrite(
+        @Param("id") Long id,
+        @Param("kind") DiagramRevisionKind kind,
+        @Param("baseRevision") Long baseRevision,
+        @Param("depth") int depth,
+        @Param("payload") byte[] payload,
+        @Param("payloadSize") long payloadSize
+    );
+
+    /**
+     * 리비전 기록의 델타 깊이를 바꾼다.
+     *
+     * @param id    리비전 기록 ID
+     * @param depth 가장 가까운 스냅샷에서의 델타 수
+     */
+    @Modifying
+    @Query("update DiagramRevision r set r.depth = :depth where r.id = :id")
+    void updateDepth(@Param("id") Long id, @Param("depth") int depth);
+
+    /**
+     * 리비전 기록을 일괄 삭제한다.
+     *
+     * @param ids 리비전 기록 ID 목록
+     */
+    @Modifying
+    @Query("delete from DiagramRevision r where r.id in :ids")
+    void deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 다이어그램의 모든 리비전 기록을 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramRevision r where r.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,76 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.DiagramContentCodec;
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 다이어그램 리비전 기록의 payload LOB을 엔티티를 거치지 않고 다루는 저장소.
+ *
+ * <p>
+ * 스냅샷은 {@code diagrams.content}의 압축 바이트를 DB 안에서 그대로 복사하여 만든다. 리비전 payload와 content가
+ * 같은 {@link DiagramContentCodec} 포맷이므로 다시 압축할 필요가 없고, 대용량 다이어그램도 애플리케이션 힙을 거치지 않는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DiagramRevisionStore {
+
+    /** 현재 content를 스냅샷 기록으로 복사하는 쿼리 */
+    private static final String INSERT_SNAPSHOT =
+        "insert into diagram_revisions (diagram_id, revision, kind, base_revision, depth, content_hash, byte_size, " +
+        "payload, payload_size, created_at, updated_at) " +
+        "select id, revision, ?, null, 0, content_hash, ?, content, octet_length(content), ?, ? " +
+        "from diagrams where id = ?";
+
+    /** payload 조회 쿼리 */
+    private static final String SELECT_PAYLOAD = "select payload from diagram_revisions where id = ?";
+
+    /** JDBC 템플릿 (JPA 트랜잭션 안에서는 같은 커넥션을 사용한다) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다이어그램의 현재 content·리비전·content 해시로 스냅샷 기록을 추가한다.
+     *
+     * <p>JPA로 content를 바꿨다면 먼저 flush해야 한다.</p>
+     *
+     * @param diagramId 다이어그램 ID
+     * @param byteSize  평문 content 크기 (바이트)
+     */
+    public void insertSnapshot(Long diagramId, long byteSize) {
+        final var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SNAPSHOT, DiagramRevisionKind.SNAPSHOT.name(), byteSize, now, now, diagramId);
+    }
+
+    /**
+     * 리비전 기록의 payload를 평문 JSON 스트림으로 풀어 콜백에 넘긴다.
+     *
+     * @param revisionId 리비전 기록 ID
+     * @param reader     평문 JSON 읽기 콜백
+     * @return 기록이 존재하면 {@code true}
+     */
+    public boolean readPayload(Long revisionId, DiagramContentStore.ContentReader reader) {
+        final Boolean found = jdbcTemplate.query(
+            SELECT_PAYLOAD,
+            (resultSet) -> {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                try (var in = DiagramContentCodec.decodingStream(resultSet.getBinaryStream(1))) {
+                    reader.readFrom(in);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return true;
+            },
+            revisionId
+        );
+        return Boolean.TRUE.equals(found);
+    }
+}
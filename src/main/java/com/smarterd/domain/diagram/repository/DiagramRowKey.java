@@ -0,0 +1,9 @@
+package com.smarterd.domain.diagram.repository;
+
+/**
+ * 정규화 모델 행의 식별자 프로젝션 (엔티티를 로딩하지 않고 행 목록을 훑을 때 사용).
+ *
+ * @param id       행 ID
+ * @param clientId 클라이언트가 부여한 노드·컬럼·엣지 ID
+ */
+public record DiagramRowKey(Long id, String clientId) {}
@@ -0,0 +1,22 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramSummary} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramSummaryRepository extends JpaRepository<DiagramSummary, Long> {
+    /**
+     * 다이어그램의 요약 행을 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramSummary s where s.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,10 @@
+package com.smarterd.domain.diagram.repository;
+
+/**
+ * 테이블 노드 위치 프로젝션 (공간 색인 생성용).
+ *
+ * @param nodeId 클라이언트 노드 ID
+ * @param x      캔버스 X 좌표
+ * @param y      캔버스 Y 좌표
+ */
+public record DiagramTablePosition(String nodeId, double x, double y) {}
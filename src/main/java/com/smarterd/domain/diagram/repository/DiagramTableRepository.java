@@ -0,0 +1,88 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramTable;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramTable} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramTableRepository extends JpaRepository<DiagramTable, Long> {
+    /**
+     * 다이어그램의 모든 테이블을 저장 순서대로 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @return 테이블 목록
+     */
+    List<DiagramTable> findByDiagramOrderById(Diagram diagram);
+
+    /**
+     * 다이어그램에서 지정한 노드 ID의 테이블만 조회한다.
+     *
+     * @param diagram 다이어그램
+     * @param nodeIds 노드 ID 목록
+     * @return 테이블 목록
+     */
+    List<DiagramTable> findByDiagramAndNodeIdInOrderById(Diagram diagram, Collection<String> nodeIds);
+
+    /**
+     * 다이어그램의 모든 테이블 행 식별자를 스트림으로 조회한다. 호출 측 트랜잭션 안에서 닫아야 한다.
+     *
+     * @param diagram 다이어그램
+     * @return 행 식별자 스트림
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramRowKey(t.id, t.nodeId) " +
+        "from DiagramTable t where t.diagram = :diagram"
+    )
+    Stream<DiagramRowKey> streamKeysByDiagram(@Param("diagram") Diagram diagram);
+
+    /**
+     * 다이어그램의 모든 테이블 노드 위치를 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 노드 위치 목록
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramTablePosition(t.nodeId, t.positionX, t.positionY) " +
+        "from DiagramTable t where t.diagram.id = :diagramId"
+    )
+    List<DiagramTablePosition> findPositionsByDiagramId(@Param("diagramId") Long diagramId);
+
+    /**
+     * 다이어그램의 모든 테이블 노드 ID를 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 노드 ID 목록
+     */
+    @Query("select t.nodeId from DiagramTable t where t.diagram.id = :diagramId")
+    List<String> findNodeIdsByDiagramId(@Param("diagramId") Long diagramId);
+
+    /**
+     * 다이어그램의 테이블 수와 노드 위치 경계 상자를 집계한다.
+     *
+     * @param diagram 다이어그램
+     * @return 테이블 집계
+     */
+    @Query(
+        "select new com.smarterd.domain.diagram.repository.DiagramTableStats(" +
+        "count(t), min(t.positionX), min(t.positionY), max(t.positionX), max(t.positionY)) " +
+        "from DiagramTable t where t.diagram = :diagram"
+    )
+    DiagramTableStats summarizeByDiagram(@Param("diagram") Diagram diagram);
+
+    /**
+     * 다이어그램의 모든 테이블을 일괄 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramTable t where t.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,12 @@
+package com.smarterd.domain.diagram.repository;
+
+/**
+ * 다이어그램 테이블 행의 집계 프로젝션 (테이블 수와 노드 위치의 경계 상자).
+ *
+ * @param tableCount 테이블 수
+ * @param minX       가장 왼쪽 노드의 X 좌표 (테이블이 없으면 {@code null})
+ * @param minY       가장 위쪽 노드의 Y 좌표 (테이블이 없으면 {@code null})
+ * @param maxX       가장 오른쪽 노드의 X 좌표 (테이블이 없으면 {@code null})
+ * @param maxY       가장 아래쪽 노드의 Y 좌표 (테이블이 없으면 {@code null})
+ */
+public record DiagramTableStats(Long tableCount, Double minX, Double minY, Double maxX, Double maxY) {}
@@ -0,0 +1,35 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramValidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * {@link DiagramValidation} 엔티티의 데이터 접근 레포지토리.
+ */
+public interface DiagramValidationRepository extends JpaRepository<DiagramValidation, Long> {
+    /**
+     * 팀에 속한 모든 다이어그램의 검사 상태를 오래된 것으로 표시한다.
+     *
+     * @param teamId 팀 ID
+     * @return 표시한 다이어그램 수
+     */
+    @Modifying
+    @Query(
+        "update DiagramValidation v set v.stale = true " +
+        "where v.stale = false and v.diagramId in (select d.id from Diagram d where d.project.team.id = :teamId)"
+    )
+    int markStaleByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 다이어그램의 검사 상태 행을 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Modifying
+    @Query("delete from DiagramValidation v where v.diagram = :diagram")
+    void deleteByDiagram(@Param("diagram") Diagram diagram);
+}
@@ -0,0 +1,145 @@
+package com.smarterd.domain.diagram.repository;
+
+import com.smarterd.domain.diagram.entity.DiagramColumnCheck;
+import com.smarterd.domain.diagram.entity.DiagramValidation;
+import com.smarterd.domain.dictionary.validation.DictionaryColumnResult;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 사전 검사 결과({@link DiagramValidation}, {@link DiagramColumnCheck})를 읽고 쓰는 저장소.
+ *
+ * <p>
+ * 쓰기는 호출 측 트랜잭션과 따로 커밋하므로, 검사기를 잠근 채로 쓰면 같은 다이어그램의 다음 검사가 항상 커밋된 결과를 본다.
+ * 컬럼 결과는 {@value #CHUNK_SIZE}개씩 조회·반영하고 영속성 컨텍스트를 비워 큰 다이어그램도 엔티티를 모두 들고 있지 않는다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+@SuppressWarnings("null")
+public class DiagramValidationStore {
+
+    /** 한 번에 조회·반영하는 컬럼 결과 수 */
+    static final int CHUNK_SIZE = 500;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 검사 상태 레포지토리 */
+    private final DiagramValidationRepository diagramValidationRepository;
+
+    /** 컬럼 검사 결과 레포지토리 */
+    private final DiagramColumnCheckRepository diagramColumnCheckRepository;
+
+    /** 엔티티 매니저 (청크 단위 flush/clear) */
+    private final EntityManager entityManager;
+
+    /**
+     * 현재 사전으로 검사한 컬럼 결과를 읽는다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 컬럼 결과 (검사한 적이 없거나 그 뒤 팀 사전이 바뀌었으면 {@code null})
+     */
+    @Nullable
+    @Transactional(readOnly = true)
+    public List<DictionaryColumnResult> load(Long diagramId) {
+        final var validation = diagramValidationRepository.findById(diagramId).orElse(null);
+        if (validation == null || validation.isStale()) {
+            return null;
+        }
+        return diagramColumnCheckRepository.findByDiagram(diagramRepository.getReferenceById(diagramId))
+            .stream()
+            .map(DiagramColumnCheck::toResult)
+            .toList();
+    }
+
+    /**
+     * 검사 결과를 반영하고 검사 상태를 {@code contentHash}로 기록한다. 다이어그램이 그사이 삭제되었으면 아무것도 하지 않는다.
+     *
+     * @param diagramId   다이어그램 ID
+     * @param contentHash 검사한 content 해시
+     * @param stale       검사 중에 팀 사전이 바뀌어 결과가 옛 규칙으로 만든 것일 수 있으면 {@code true}
+     * @param replace     {@code true}이면 저장된 컬럼 결과를 모두 지우고 {@code checked}로 바꾼다
+     * @param checked     다시 검사한 컬럼 결과
+     * @param removed     사라진 컬럼 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void save(
+        Long diagramId,
+        String contentHash,
+        boolean stale,
+        boolean replace,
+        List<DictionaryColumnResult> checked,
+        Collection<String> removed
+    ) {
+        if (!diagramRepository.existsById(diagramId)) {
+            return;
+        }
+        final var diagram = diagramRepository.getReferenceById(diagramId);
+        if (replace) {
+            diagramColumnCheckRepository.deleteByDiagram(diagram);
+        } else {
+            final var removedIds = List.copyOf(removed);
+            for (var from = 0; from < removedIds.size(); from += CHUNK_SIZE) {
+                diagramColumnCheckRepository.deleteByDiagramAndColumnIdIn(
+                    diagram,
+                    removedIds.subList(from, Math.min(from + CHUNK_SIZE, removedIds.size()))
+                );
+            }
+        }
+        for (var from = 0; from < checked.size(); from += CHUNK_SIZE) {
+            final var chunk = checked.subList(from, Math.min(from + CHUNK_SIZE, checked.size()));
+            final var existing = new HashMap<String, DiagramColumnCheck>();
+            if (!replace) {
+                final var ids = new ArrayList<String>(chunk.size());
+                chunk.forEach((result) -> ids.add(result.columnId()));
+                diagramColumnCheckRepository.findByDiagramAndColumnIdIn(diagram, ids)
+                    .forEach((row) -> existing.put(row.getColumnId(), row));
+            }
+            final var created = new ArrayList<DiagramColumnCheck>();
+            for (final var result : chunk) {
+                final var row = existing.get(result.columnId());
+                if (row == null) {
+                    created.add(DiagramColumnCheck.builder().diagram(diagram).result(result).build());
+                } else {
+                    row.apply(result);
+                }
+            }
+            diagramColumnCheckRepository.saveAll(created);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        final var validation = diagramValidationRepository.findById(diagramId).orElse(null);
+        if (validation == null) {
+            diagramValidationRepository.save(
+                DiagramValidation.builder()
+                    .diagram(diagramRepository.getReferenceById(diagramId))
+                    .contentHash(contentHash)
+                    .stale(stale)
+                    .build()
+            );
+        } else {
+            validation.checked(contentHash, stale);
+        }
+    }
+
+    /**
+     * 팀에 속한 다이어그램의 검사 결과를 오래된 것으로 표시한다. 다음 검사는 저장된 컬럼 결과를 쓰지 않는다.
+     *
+     * @param teamId 팀 ID
+     * @return 표시한 다이어그램 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int markStale(Long teamId) {
+        return diagramValidationRepository.markStaleByTeamId(teamId);
+    }
+}
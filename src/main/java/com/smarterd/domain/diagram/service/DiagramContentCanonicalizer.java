@@ -0,0 +1,253 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.smarterd.domain.diagram.entity.DiagramContentHash;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 다이어그램 content의 정규화(canonical) 해시 계산기.
+ *
+ * <p>
+ * 의미가 같은 문서는 같은 해시를 갖도록 다음 규칙으로 정규화한 뒤 SHA-256을 계산한다.
+ * <ul>
+ *   <li>{@code nodes}·{@code edges} 원소에서 React Flow가 붙이는 UI 상태({@code selected}, {@code dragging},
+ *       {@code resizing}, {@code measured})를 제거한다.</li>
+ *   <li>객체 키를 사전순으로 정렬한다.</li>
+ *   <li>숫자는 값이 같으면 같은 표기가 되도록 정규화한다 ({@code 100}, {@code 100.0}, {@code 1e2} → {@code 100}).</li>
+ * </ul>
+ * 배열 순서는 의미가 있으므로 유지한다.
+ * </p>
+ *
+ * <p>최상위 필드마다 따로 다이제스트를 계산한 뒤 필드 이름 순으로 합치므로, {@code nodes} 배열을 원소 하나씩
+ * 흘려보내는 스트리밍 저장에서도 문서 전체를 올리지 않고 트리 전체로 계산한 것과 같은 해시를 얻는다.</p>
+ */
+public final class DiagramContentCanonicalizer {
+
+    /** 해시에서 제외하는 React Flow UI 상태 필드 */
+    private static final Set<String> TRANSIENT_FIELDS = Set.of("selected", "dragging", "resizing", "measured");
+
+    /** 정규화 JSON 출력용 팩토리 */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private DiagramContentCanonicalizer() {}
+
+    /**
+     * JSON 트리로 올라온 문서의 정규화 해시를 계산한다.
+     *
+     * @param document React Flow JSON 객체
+     * @return 16진수 SHA-256
+     */
+    public static String hash(JsonNode document) {
+        final var hasher = newHasher();
+        for (final var field : document.properties()) {
+            hasher.field(field.getKey(), field.getValue());
+        }
+        return hasher.finish();
+    }
+
+    /**
+     * {@code nodes}·{@code edges} 원소 하나의 정규화 다이제스트를 계산한다. UI 상태 필드는 제외한다.
+     *
+     * @param element 배열 원소
+     * @return SHA-256 다이제스트
+     */
+    public static byte[] elementDigest(JsonNode element) {
+        return DiagramContentHash.newDigest().digest(canonicalBytes(element, true));
+    }
+
+    /**
+     * 최상위 필드 값 하나의 정규화 다이제스트를 계산한다.
+     *
+     * @param value 필드 값
+     * @return SHA-256 다이제스트
+     */
+    public static byte[] valueDigest(JsonNode value) {
+        return DiagramContentHash.newDigest().digest(canonicalBytes(value, false));
+    }
+
+    /**
+     * 최상위 필드를 하나씩 받아 정규화 해시를 계산하는 누적기를 만든다.
+     *
+     * @return 누적기
+     */
+    public static Hasher newHasher() {
+        return new Hasher();
+    }
+
+    /**
+     * 최상위 필드·배열 원소를 차례로 받아 정규화 해시를 누적한다. 스레드 안전하지 않다.
+     */
+    public static final class Hasher implements DiagramDocumentVisitor {
+
+        private final Map<String, FieldDigest> fields = new TreeMap<>();
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+
+        private Hasher() {}
+
+        /**
+         * 최상위 필드 값 전체를 반영한다. 같은 이름이 다시 나오면 나중 값이 앞의 값을 대체한다.
+         *
+         * @param name  필드 이름
+         * @param value 필드 값
+         */
+        @Override
+        public void field(String name, JsonNode value) {
+            if (value.isArray()) {
+                startArray(name);
+                for (final var element : value) {
+                    element(name, element);
+                }
+            } else {
+                fields.put(name, new FieldDigest(false, canonicalBytes(value, false)));
+            }
+        }
+
+        /**
+         * 최상위 배열 필드를 시작한다. 이후 {@link #element(String, JsonNode)}로 원소를 순서대로 넘긴다.
+         *
+         * @param name 필드 이름
+         */
+        @Override
+        public void startArray(String name) {
+            fields.put(name, new FieldDigest(true, null));
+        }
+
+        /**
+         * 최상위 배열의 원소 하나를 반영한다.
+         *
+         * @param name    {@link #startArray(String)}로 시작한 필드 이름
+         * @param element 배열 원소
+         */
+        @Override
+        public void element(String name, JsonNode element) {
+            final var field = fields.get(name);
+            if (field == null || !field.array) {
+                throw new IllegalStateException("Array field not started: " + name);
+            }
+            field.append(canonicalBytes(element, DiagramDocumentVisitor.ELEMENT_ARRAYS.contains(name)));
+        }
+
+        /**
+         * 누적한 필드를 이름 순으로 합쳐 문서 해시를 계산한다.
+         *
+         * @return 16진수 SHA-256
+         */
+        public String finish() {
+            final var digest = DiagramContentHash.newDigest();
+            for (final var entry : fields.entrySet()) {
+                digest.update(canonicalBytes(TextNode.valueOf(entry.getKey()), false));
+                digest.update((byte) ':');
+                digest.update(entry.getValue().digest());
+                digest.update((byte) ',');
+            }
+            return DiagramContentHash.toHex(digest.digest());
+        }
+
+        private byte[] canonicalBytes(JsonNode value, boolean stripTransient) {
+            return DiagramContentCanonicalizer.canonicalBytes(value, stripTransient, buffer);
+        }
+    }
+
+    /**
+     * 최상위 필드 하나의 다이제스트. 배열은 원소를 순서대로 이어 붙인 정규화 JSON의 해시이다.
+     */
+    private static final class FieldDigest {
+
+        private final boolean array;
+        private final MessageDigest digest = DiagramContentHash.newDigest();
+        private boolean empty = true;
+
+        private FieldDigest(boolean array, byte[] value) {
+            this.array = array;
+            if (array) {
+                digest.update((byte) '[');
+            } else {
+                digest.update(value);
+            }
+        }
+
+        private void append(byte[] element) {
+            if (!empty) {
+                digest.update((byte) ',');
+            }
+            digest.update(element);
+            empty = false;
+        }
+
+        private byte[] digest() {
+            if (array) {
+                digest.update((byte) ']');
+            }
+            return digest.digest();
+        }
+    }
+
+    private static byte[] canonicalBytes(JsonNode value, boolean stripTransient) {
+        return canonicalBytes(value, stripTransient, new ByteArrayOutputStream(256));
+    }
+
+    /** {@code buffer}를 비우고 정규화 JSON을 쓴 뒤 그 바이트를 돌려준다. 누적기는 같은 버퍼를 재사용한다. */
+    private static byte[] canonicalBytes(JsonNode value, boolean stripTransient, ByteArrayOutputStream buffer) {
+        buffer.reset();
+        try (var generator = JSON_FACTORY.createGenerator(buffer)) {
+            writeCanonical(generator, value, stripTransient);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeCanonical(JsonGenerator generator, JsonNode value, boolean stripTransient)
+        throws IOException {
+        if (value.isObject()) {
+            final var names = new ArrayList<String>(value.size());
+            value.fieldNames().forEachRemaining(names::add);
+            names.sort(null);
+            generator.writeStartObject();
+            for (final var name : names) {
+                if (stripTransient && TRANSIENT_FIELDS.contains(name)) {
+                    continue;
+                }
+                generator.writeFieldName(name);
+                writeCanonical(generator, value.get(name), false);
+            }
+            generator.writeEndObject();
+        } else if (value.isArray()) {
+            generator.writeStartArray();
+            for (final var element : value) {
+                writeCanonical(generator, element, false);
+            }
+            generator.writeEndArray();
+        } else if (value.isFloatingPointNumber() && !Double.isFinite(value.doubleValue())) {
+            generator.writeNumber(Double.toString(value.doubleValue()));
+        } else if (value.isNumber()) {
+            generator.writeNumber(canonicalNumber(value.decimalValue()));
+        } else if (value.isTextual()) {
+            generator.writeString(value.textValue());
+        } else if (value.isBoolean()) {
+            generator.writeBoolean(value.booleanValue());
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static String canonicalNumber(BigDecimal number) {
+        if (number.signum() == 0) {
+            return "0";
+        }
+        final var stripped = number.stripTrailingZeros();
+        return stripped.scale() <= 0 ? stripped.toBigInteger().toString() : stripped.toPlainString();
+    }
+}
@@ -0,0 +1,11 @@
+package com.smarterd.domain.diagram.service;
+
+/**
+ * 다이어그램 content가 새로 저장되었음을 알리는 이벤트.
+ *
+ * <p>{@link DiagramService}가 content를 쓴 트랜잭션 안에서 발행한다. 받는 쪽은 커밋 뒤에 처리해야
+ * 저장된 content와 정규화 모델을 읽을 수 있다.</p>
+ *
+ * @param diagramId 다이어그램 ID
+ */
+public record DiagramContentSavedEvent(Long diagramId) {}
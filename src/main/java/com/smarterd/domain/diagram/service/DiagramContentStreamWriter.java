@@ -0,0 +1,164 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다이어그램 content JSON을 토큰 단위로 검증하며 다른 스트림으로 옮겨 쓰는 변환기.
+ *
+ * <p>
+ * 문서 전체를 트리로 올리지 않고, {@code nodes}·{@code edges} 배열의 원소를 하나씩만 읽어
+ * {@link ErdDocumentParser}로 검증한 뒤 곧바로 출력하고 콜백으로 넘긴다. 그 밖의 최상위 필드
+ * (예: {@code viewport})는 그대로 복사한다. 힙에는 원소 하나 분량만 남는다.
+ * 옮겨 쓰는 동안 {@link DiagramContentCanonicalizer}로 정규화 해시를 함께 계산한다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramContentStreamWriter {
+
+    /** JSON 직렬화기 */
+    private final ObjectMapper objectMapper;
+
+    /** React Flow JSON ↔ ERD 문서 변환기 */
+    private final ErdDocumentParser erdDocumentParser;
+
+    /**
+     * 옮겨 쓰기 결과.
+     *
+     * @param contentHash 문서의 정규화 해시 ({@link DiagramContentCanonicalizer#hash}와 같은 값)
+     * @param byteSize    읽은 입력 JSON 크기 (바이트)
+     */
+    public record Written(String contentHash, long byteSize) {}
+
+    /**
+     * 입력 JSON을 검증하며 출력 스트림에 압축 없는 JSON으로 옮겨 쓰고, 정규화 해시와 입력 크기를 반환한다.
+     *
+     * @param in            입력 JSON 스트림
+     * @param out           출력 스트림 (닫지 않는다)
+     * @param tables        파싱된 테이블을 받을 콜백 (문서 순서, 중복 ID 포함)
+     * @param relationships 파싱된 관계를 받을 콜백 (문서 순서, 중복 ID 포함)
+     * @return 정규화 해시와 입력 크기
+     * @throws BusinessException JSON이 올바르지 않거나 최상위 값이 객체가 아닌 경우, ID·이름이 허용 길이를 넘는 경우
+     * @throws IOException       입출력 실패 시
+     */
+    public Written write(
+        InputStream in,
+        OutputStream out,
+        Consumer<ErdTable> tables,
+        Consumer<ErdRelationship> relationships
+    ) throws IOException {
+        return write(in, out, tables, relationships, DiagramDocumentVisitor.NONE);
+    }
+
+    /**
+     * {@link #write(InputStream, OutputStream, Consumer, Consumer)}와 같되, 옮겨 쓰는 최상위 필드와 배열 원소를
+     * 방문자에게도 순서대로 넘긴다.
+     *
+     * @param in            입력 JSON 스트림
+     * @param out           출력 스트림 (닫지 않는다)
+     * @param tables        파싱된 테이블을 받을 콜백 (문서 순서, 중복 ID 포함)
+     * @param relationships 파싱된 관계를 받을 콜백 (문서 순서, 중복 ID 포함)
+     * @param visitor       문서 방문자
+     * @return 정규화 해시와 입력 크기
+     * @throws BusinessException JSON이 올바르지 않거나 최상위 값이 객체가 아닌 경우, ID·이름이 허용 길이를 넘는 경우
+     * @throws IOException       입출력 실패 시
+     */
+    public Written write(
+        InputStream in,
+        OutputStream out,
+        Consumer<ErdTable> tables,
+        Consumer<ErdRelationship> relationships,
+        DiagramDocumentVisitor visitor
+    ) throws IOException {
+        try (
+            var parser = objectMapper.getFactory().createParser(in);
+            var generator = objectMapper.getFactory().createGenerator(out)
+        ) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new BusinessException("Diagram content must be a JSON object");
+            }
+            final var hasher = DiagramContentCanonicalizer.newHasher();
+            generator.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var field = parser.currentName();
+                generator.writeFieldName(field);
+                parser.nextToken();
+                switch (field) {
+                    case "nodes" -> copyArray(
+                        parser,
+                        generator,
+                        hasher,
+                        visitor,
+                        erdDocumentParser::parseTable,
+                        tables
+                    );
+                    case "edges" -> copyArray(
+                        parser,
+                        generator,
+                        hasher,
+                        visitor,
+                        erdDocumentParser::parseRelationship,
+                        relationships
+                    );
+                    default -> {
+                        final JsonNode value = parser.readValueAsTree();
+                        generator.writeTree(value);
+                        hasher.field(field, value);
+                        visitor.field(field, value);
+                    }
+                }
+            }
+            generator.writeEndObject();
+            if (parser.nextToken() != null) {
+                throw new BusinessException("Unexpected content after diagram JSON object");
+            }
+            return new Written(hasher.finish(), parser.currentLocation().getByteOffset());
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Invalid diagram content JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private <T> void copyArray(
+        JsonParser parser,
+        JsonGenerator generator,
+        DiagramContentCanonicalizer.Hasher hasher,
+        DiagramDocumentVisitor visitor,
+        Function<JsonNode, T> converter,
+        Consumer<T> consumer
+    ) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new BusinessException("Diagram " + parser.currentName() + " must be a JSON array");
+        }
+        final var field = parser.currentName();
+        hasher.startArray(field);
+        visitor.startArray(field);
+        generator.writeStartArray();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            final JsonNode element = parser.readValueAsTree();
+            final var converted = converter.apply(element);
+            generator.writeTree(element);
+            hasher.element(field, element);
+            visitor.element(field, element);
+            if (converted != null) {
+                consumer.accept(converted);
+            }
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,238 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.diagram.ddl.DdlGenerator;
+import com.smarterd.domain.diagram.ddl.DdlScript;
+import com.smarterd.domain.diagram.ddl.MigrationGenerator;
+import com.smarterd.domain.diagram.ddl.SqlDialect;
+import com.smarterd.domain.diagram.index.DiagramIndexCache;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 SQL DDL 내보내기 서비스.
+ *
+ * <p>
+ * content LOB이 아니라 정규화 모델 행으로부터 DDL을 만든다. 만든 스크립트는 방언별로 압축하여 캐시하며, 열쇠는
+ * content 해시와 팀 용어·도메인 사전의 스탬프({@link com.smarterd.domain.dictionary.repository.DictionaryStamp})이다.
+ * 다이어그램과 사전이 그대로이면 다시 내보내도 정규화 모델을 읽지 않는다.
+ * </p>
+ *
+ * <p>
+ * 마이그레이션 스크립트는 두 리비전 문서를 {@link DiagramDiffer}로 비교한 차이로부터 만든다. 테이블은 차이에 나온 것만
+ * 파싱하고, 관계는 바뀐 컬럼·테이블에 걸린 외래 키를 찾기 위해 모두 파싱한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramDdlService {
+
+    /** 방언별로 캐시할 최대 다이어그램 수 */
+    static final int CACHE_CAPACITY = 16;
+
+    /** 다이어그램 서비스 (접근 확인) */
+    private final DiagramService diagramService;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 정규화 모델 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /** 리비전 기록 서비스 */
+    private final DiagramHistoryService diagramHistoryService;
+
+    /** 리비전 비교기 */
+    private final DiagramDiffer diagramDiffer;
+
+    /** React Flow JSON ↔ ERD 문서 변환기 */
+    private final ErdDocumentParser erdDocumentParser;
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /** 도메인 레포지토리 */
+    private final DomainRepository domainRepository;
+
+    /** 등록된 SQL 방언 */
+    private final List<SqlDialect> dialects;
+
+    /** 방언 ID별 DDL 스크립트 캐시 */
+    private final Map<String, DiagramIndexCache<DdlScript>> scripts = new ConcurrentHashMap<>();
+
+    /**
+     * 다이어그램의 DDL 스크립트를 만든다. 다이어그램과 팀 사전이 그대로이면 캐시된 스크립트를 반환한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param dialectId 방언 ID (대소문자 무시)
+     * @return 압축된 DDL 스크립트
+     * @throws BusinessException 지원하지 않는 방언인 경우
+     */
+    public DdlScript exportDdl(String loginId, Long teamId, Long projectId, Long diagramId, String dialectId) {
+        final var dialect = findDialect(dialectId);
+        final var header = diagramService.findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var key =
+            header.contentHash() +
+            ":" +
+            termRepository.findStampByTeamId(teamId).key() +
+            ":" +
+            domainRepository.findStampByTeamId(teamId).key();
+
+        return scripts
+            .computeIfAbsent(dialect.id(), (id) -> new DiagramIndexCache<>(CACHE_CAPACITY))
+            .get(diagramId, key, () -> {
+                final var diagram = diagramRepository.getReferenceById(diagramId);
+                final var document = diagramModelService.reconstruct(diagram, null);
+                final var generator = new DdlGenerator(dialect, dictionaryTypes(teamId));
+                return DdlScript.capture((out) -> generator.write(document, out));
+            });
+    }
+
+    /**
+     * 두 리비전 사이의 {@code ALTER} 마이그레이션 스크립트를 만든다.
+     *
+     * <p>두 리비전의 content 해시가 같으면 문서를 읽지 않고 머리 주석만 있는 스크립트를 반환한다. {@code to}를 생략하면
+     * 현재 content까지의 마이그레이션을 만든다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param from      기준 리비전
+     * @param to        대상 리비전 (nullable, 없으면 현재 리비전)
+     * @param dialectId 방언 ID (대소문자 무시)
+     * @return 압축된 마이그레이션 스크립트
+     * @throws BusinessException       지원하지 않는 방언인 경우
+     * @throws EntityNotFoundException 다이어그램이나 리비전 기록이 없는 경우
+     */
+    public DdlScript exportMigration(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        Long from,
+        @Nullable Long to,
+        String dialectId
+    ) {
+        final var dialect = findDialect(dialectId);
+        final var header = diagramService.findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var baseHash = diagramHistoryService.getRevision(diagramId, from).contentHash();
+        final var targetHash = to == null
+            ? header.contentHash()
+            : diagramHistoryService.getRevision(diagramId, to).contentHash();
+
+        final var generator = new MigrationGenerator(dialect, dictionaryTypes(teamId));
+        if (baseHash.equals(targetHash)) {
+            final var empty = new ParsedRevision(JsonNodeFactory.instance.objectNode(), erdDocumentParser);
+            return DdlScript.capture((out) -> generator.write(DiagramDiff.EMPTY, empty, empty, out));
+        }
+        final var before = diagramService.readRevisionDocument(diagramId, from);
+        final var after = diagramService.readRevisionDocument(diagramId, to);
+        final var diff = diagramDiffer.diff(before, after);
+        return DdlScript.capture((out) ->
+            generator.write(
+                diff,
+                new ParsedRevision(before, erdDocumentParser),
+                new ParsedRevision(after, erdDocumentParser),
+                out
+            )
+        );
+    }
+
+    private SqlDialect findDialect(String dialectId) {
+        final var id = dialectId.toLowerCase(Locale.ROOT);
+        return dialects
+            .stream()
+            .filter((dialect) -> dialect.id().equals(id))
+            .findFirst()
+            .orElseThrow(() ->
+                new BusinessException(
+                    "Unsupported SQL dialect: " + dialectId + " (supported: " + supportedDialects() + ")"
+                )
+            );
+    }
+
+    private List<String> supportedDialects() {
+        return dialects.stream().map(SqlDialect::id).sorted().toList();
+    }
+
+    /** 팀 용어 물리명(소문자) → 연결된 도메인의 물리 데이터 타입 */
+    private Map<String, String> dictionaryTypes(Long teamId) {
+        final var types = new HashMap<String, String>();
+        for (final var term : termRepository.findDomainTypesByTeamId(teamId)) {
+            types.putIfAbsent(term.physicalName().toLowerCase(Locale.ROOT), term.physicalType());
+        }
+        return types;
+    }
+
+    /**
+     * React Flow JSON 위의 마이그레이션 리비전. 노드는 ID로만 색인해 두고 요청받은 테이블만 파싱한다.
+     * 같은 ID가 두 번 이상 나오면 {@link DiagramDiffer}와 같이 처음 것만 사용한다.
+     */
+    private static final class ParsedRevision implements MigrationGenerator.Revision {
+
+        private final Map<String, JsonNode> nodes;
+
+        private final Map<String, ErdTable> tables = new HashMap<>();
+
+        private final List<ErdRelationship> relationships;
+
+        private final ErdDocumentParser parser;
+
+        private ParsedRevision(JsonNode document, ErdDocumentParser parser) {
+            this.parser = parser;
+            final var nodeArray = document.path("nodes");
+            this.nodes = HashMap.newHashMap(nodeArray.size());
+            for (final var node : nodeArray) {
+                final var id = node.path("id").asText("");
+                if (!id.isEmpty()) {
+                    nodes.putIfAbsent(id, node);
+                }
+            }
+            final var edges = document.path("edges");
+            final var seen = new HashSet<String>();
+            this.relationships = new ArrayList<>(edges.size());
+            for (final var edge : edges) {
+                final var relationship = parser.parseRelationship(edge);
+                if (relationship != null && seen.add(relationship.id())) {
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        @Override
+        @Nullable
+        public ErdTable table(String tableId) {
+            final var node = nodes.get(tableId);
+            return node == null ? null : tables.computeIfAbsent(tableId, (id) -> parser.parseTable(node));
+        }
+
+        @Override
+        public List<ErdRelationship> relationships() {
+            return relationships;
+        }
+    }
+}
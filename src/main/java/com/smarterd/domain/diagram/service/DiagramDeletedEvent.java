@@ -0,0 +1,10 @@
+package com.smarterd.domain.diagram.service;
+
+/**
+ * 다이어그램이 삭제되었음을 알리는 이벤트.
+ *
+ * <p>{@link DiagramService}가 삭제 트랜잭션 안에서 발행한다. 받는 쪽은 커밋 뒤에 메모리 색인 등에서 다이어그램을 뺀다.</p>
+ *
+ * @param diagramId 다이어그램 ID
+ */
+public record DiagramDeletedEvent(Long diagramId) {}
@@ -0,0 +1,447 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 리비전 사이의 구조적 델타.
+ *
+ * <p>
+ * {@code nodes}·{@code edges} 배열은 원소의 {@code id}를 열쇠로 비교하여, 바뀌거나 새로 생긴 원소만 통째로 담고
+ * 사라진 원소는 ID만 담는다. 그 밖의 최상위 필드는 값이 바뀐 것만 담는다. 비교는 {@link DiagramContentCanonicalizer}의
+ * 정규화 다이제스트로 하므로 UI 상태만 바뀐 원소는 델타에 들어가지 않는다. 델타 형식은 다음과 같다.
+ * </p>
+ *
+ * <pre>
+ * {"fields":{"viewport":{...}},"removed":["legacy"],
+ *  "arrays":{"nodes":{"put":[{...}],"removed":["table-3"],"order":["table-1","table-2"]}}}
+ * </pre>
+ *
+ * <p>
+ * 적용할 때는 기준 배열에서 {@code removed}를 빼고, {@code put} 원소 중 이미 있는 ID는 제자리에서 바꾸고 새 ID는 뒤에
+ * 붙인다. 결과 순서가 실제 순서와 다를 때만 {@code order}에 전체 ID 순서를 담는다.
+ * </p>
+ *
+ * <p>비교 기준은 문서 전체가 아니라 {@link Manifest}(필드·원소별 다이제스트)이므로, 스트리밍 저장에서도 원소 하나씩
+ * 흘려보내며 델타를 만들 수 있다. 원소에 ID가 없거나 겹치면 델타를 만들지 않으며, 호출 측은 전체 스냅샷을 저장한다.
+ * 매니페스트는 원소 수에 비례하므로, 원소가 {@value #MANIFEST_LIMIT_ELEMENTS}개를 넘는 문서도 원소별 다이제스트를
+ * 버리고 델타 없이 스냅샷으로 저장하게 한다. 그래서 스트리밍 저장의 힙 사용량과 매니페스트 캐시 크기가 문서 크기와
+ * 무관하게 유지된다.</p>
+ */
+public final class DiagramDelta {
+
+    /** 매니페스트에 원소별 다이제스트를 담는 최대 원소 수 ({@code nodes}·{@code edges} 합계) */
+    static final int MANIFEST_LIMIT_ELEMENTS = 10_000;
+
+    /** 델타 출력용 팩토리 */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private DiagramDelta() {}
+
+    /**
+     * 트리로 올라온 문서의 매니페스트를 만든다.
+     *
+     * @param document React Flow JSON 객체
+     * @return 매니페스트
+     */
+    public static Manifest manifest(JsonNode document) {
+        final var builder = manifestBuilder();
+        DiagramDocumentVisitor.walk(document, builder);
+        return builder.build();
+    }
+
+    /**
+     * 문서를 방문하며 매니페스트를 만드는 방문자를 만든다.
+     *
+     * @return 매니페스트 작성기
+     */
+    public static ManifestBuilder manifestBuilder() {
+        return new ManifestBuilder();
+    }
+
+    /**
+     * 새 문서를 방문하며 기준 매니페스트 대비 델타를 만드는 방문자를 만든다.
+     *
+     * @param base       기준 리비전의 매니페스트 (nullable, 없으면 새 문서의 매니페스트만 만든다)
+     * @param limitBytes 델타 크기 상한 (넘으면 델타를 포기한다)
+     * @return 델타 작성기
+     */
+    public static Builder builder(@Nullable Manifest base, long limitBytes) {
+        return new Builder(base, limitBytes);
+    }
+
+    /**
+     * 문서에 델타를 제자리에서 적용한다.
+     *
+     * @param document 기준 리비전 문서 (변경된다)
+     * @param delta    델타
+     * @throws IllegalStateException 델타의 순서 목록이 적용 결과와 맞지 않는 경우
+     */
+    public static void apply(ObjectNode document, JsonNode delta) {
+        delta.path("removed").forEach((name) -> document.remove(name.asText()));
+        for (final var field : delta.path("fields").properties()) {
+            document.set(field.getKey(), field.getValue());
+        }
+        for (final var field : delta.path("arrays").properties()) {
+            document.set(field.getKey(), applyArray(document.get(field.getKey()), field.getValue()));
+        }
+    }
+
+    private static ArrayNode applyArray(@Nullable JsonNode base, JsonNode change) {
+        final var elements = new LinkedHashMap<String, JsonNode>();
+        if (base != null && base.isArray()) {
+            for (final var element : base) {
+                elements.put(element.path("id").asText(), element);
+            }
+        }
+        change.path("removed").forEach((id) -> elements.remove(id.asText()));
+        change.path("put").forEach((element) -> elements.put(element.path("id").asText(), element));
+
+        final var result = JsonNodeFactory.instance.arrayNode(elements.size());
+        final var order = change.get("order");
+        if (order == null) {
+            result.addAll(elements.values());
+            return result;
+        }
+        if (order.size() != elements.size()) {
+            throw new IllegalStateException("Delta order lists " + order.size() + " of " + elements.size() + " ids");
+        }
+        for (final var id : order) {
+            final var element = elements.get(id.asText());
+            if (element == null) {
+                throw new IllegalStateException("Delta order refers to unknown id: " + id.asText());
+            }
+            result.add(element);
+        }
+        return result;
+    }
+
+    /**
+     * 문서 요약. 최상위 필드별 다이제스트와, {@code nodes}·{@code edges} 배열의 원소 ID 순서·원소별 다이제스트를 담는다.
+     * 생성 후에는 변경되지 않는다.
+     */
+    public static final class Manifest {
+
+        private final Map<String, byte[]> fields;
+        private final Map<String, Elements> arrays;
+
+        private Manifest(Map<String, byte[]> fields, Map<String, Elements> arrays) {
+            this.fields = fields;
+            this.arrays = arrays;
+        }
+
+        private boolean has(String name) {
+            return fields.containsKey(name) || arrays.containsKey(name);
+        }
+    }
+
+    /** 배열 하나의 원소 ID 순서와 원소별 다이제스트 */
+    private static final class Elements {
+
+        private final List<String> ids = new ArrayList<>();
+        private final Map<String, byte[]> digests = new HashMap<>();
+        private boolean keyed = true;
+
+        /** 원소를 추가하고 ID를 반환한다. ID가 없거나 겹치면 더 이상 ID로 비교할 수 없으므로 {@code null}을 반환한다. */
+        @Nullable
+        private String add(JsonNode element) {
+            final var id = element.path("id");
+            if (!keyed || !element.isObject() || !id.isTextual() || digests.containsKey(id.textValue())) {
+                unkey();
+                return null;
+            }
+            ids.add(id.textValue());
+            digests.put(id.textValue(), DiagramContentCanonicalizer.elementDigest(element));
+            return id.textValue();
+        }
+
+        /** ID로 비교할 수 없는 배열로 표시하고 모아 둔 ID와 다이제스트를 버린다. */
+        private void unkey() {
+            keyed = false;
+            ids.clear();
+            digests.clear();
+        }
+    }
+
+    /**
+     * 문서를 방문하며 매니페스트를 만드는 방문자. 스레드 안전하지 않다.
+     */
+    public static final class ManifestBuilder implements DiagramDocumentVisitor {
+
+        private final Map<String, byte[]> fields = new HashMap<>();
+        private final Map<String, Elements> arrays = new HashMap<>();
+
+        private int elements;
+
+        private ManifestBuilder() {}
+
+        @Override
+        public void field(String name, JsonNode value) {
+            arrays.remove(name);
+            fields.put(name, DiagramContentCanonicalizer.valueDigest(value));
+        }
+
+        @Override
+        public void startArray(String name) {
+            fields.remove(name);
+            final var array = new Elements();
+            if (elements > MANIFEST_LIMIT_ELEMENTS) {
+                array.unkey();
+            }
+            arrays.put(name, array);
+        }
+
+        @Override
+        public void element(String name, JsonNode element) {
+            add(name, element);
+        }
+
+        /** 원소를 추가하고 ID를 반환한다. 배열을 ID로 비교할 수 없거나 원소 수 상한을 넘으면 {@code null}을 반환한다. */
+        @Nullable
+        private String add(String name, JsonNode element) {
+            if (++elements > MANIFEST_LIMIT_ELEMENTS) {
+                if (elements == MANIFEST_LIMIT_ELEMENTS + 1) {
+                    arrays.values().forEach(Elements::unkey);
+                }
+                return null;
+            }
+            return arrays.get(name).add(element);
+        }
+
+        /**
+         * 방문한 내용으로 매니페스트를 만든다.
+         *
+         * @return 매니페스트
+         */
+        public Manifest build() {
+            return new Manifest(fields, arrays);
+        }
+    }
+
+    /**
+     * 새 문서를 방문하며 델타와 새 문서의 매니페스트를 함께 만드는 방문자. 스레드 안전하지 않다.
+     */
+    public static final class Builder implements DiagramDocumentVisitor {
+
+        @Nullable
+        private final Manifest base;
+
+        private final long limitBytes;
+
+        private final ManifestBuilder manifest = new ManifestBuilder();
+
+        private final Map<String, JsonNode> changedFields = new LinkedHashMap<>();
+
+        private final Map<String, List<String>> puts = new LinkedHashMap<>();
+
+        private long size;
+
+        private boolean failed;
+
+        private Builder(@Nullable Manifest base, long limitBytes) {
+            this.base = base;
+            this.limitBytes = limitBytes;
+            this.failed = base == null;
+        }
+
+        @Override
+        public void field(String name, JsonNode value) {
+            manifest.field(name, value);
+            if (failed) {
+                return;
+            }
+            if (puts.containsKey(name) || changedFields.containsKey(name)) {
+                failed = true;
+                return;
+            }
+            if (!Arrays.equals(base.fields.get(name), manifest.fields.get(name))) {
+                changedFields.put(name, value);
+                grow(value.toString().length());
+                releaseIfFailed();
+            }
+        }
+
+        @Override
+        public void startArray(String name) {
+            manifest.startArray(name);
+            if (failed) {
+                return;
+            }
+            final var baseElements = base.arrays.get(name);
+            final var duplicate = puts.containsKey(name) || changedFields.containsKey(name);
+            if (duplicate || (baseElements != null && !baseElements.keyed)) {
+                failed = true;
+                return;
+            }
+            puts.put(name, new ArrayList<>());
+        }
+
+        @Override
+        public void element(String name, JsonNode element) {
+            final var id = manifest.add(name, element);
+            if (failed) {
+                return;
+            }
+            if (id == null) {
+                failed = true;
+                releaseIfFailed();
+                return;
+            }
+            final var baseElements = base.arrays.get(name);
+            final var baseDigest = baseElements == null ? null : baseElements.digests.get(id);
+            if (!Arrays.equals(baseDigest, manifest.arrays.get(name).digests.get(id))) {
+                final var json = element.toString();
+                puts.get(name).add(json);
+                grow(json.length());
+                releaseIfFailed();
+            }
+        }
+
+        /**
+         * 방문을 마치고 델타와 새 문서의 매니페스트를 반환한다.
+         *
+         * @return 델타 결과 (기준이 없거나, ID로 비교할 수 없거나, 상한을 넘으면 델타 없이 매니페스트만 담는다)
+         */
+        public Result finish() {
+            final var next = manifest.build();
+            if (failed) {
+                return new Result(null, next);
+            }
+            final var removedFields = new ArrayList<String>();
+            for (final var name : base.fields.keySet()) {
+                if (!next.has(name)) {
+                    removedFields.add(name);
+                }
+            }
+            for (final var name : base.arrays.keySet()) {
+                if (!next.has(name)) {
+                    removedFields.add(name);
+                }
+            }
+
+            final var writer = new StringWriter();
+            try (var generator = JSON_FACTORY.createGenerator(writer)) {
+                generator.writeStartObject();
+                if (!changedFields.isEmpty()) {
+                    generator.writeObjectFieldStart("fields");
+                    for (final var field : changedFields.entrySet()) {
+                        generator.writeFieldName(field.getKey());
+                        generator.writeRawValue(field.getValue().toString());
+                    }
+                    generator.writeEndObject();
+                }
+                if (!removedFields.isEmpty()) {
+                    generator.writeArrayFieldStart("removed");
+                    for (final var name : removedFields) {
+                        generator.writeString(name);
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeObjectFieldStart("arrays");
+                for (final var array : puts.entrySet()) {
+                    writeArray(generator, array.getKey(), array.getValue(), next.arrays.get(array.getKey()));
+                    if (failed) {
+                        return new Result(null, next);
+                    }
+                }
+                generator.writeEndObject();
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Result(writer.toString(), next);
+        }
+
+        private void writeArray(
+            JsonGenerator generator,
+            String name,
+            List<String> put,
+            Elements next
+        ) throws IOException {
+            final var baseElements = base.arrays.get(name);
+            final var baseIds = baseElements == null ? List.<String>of() : baseElements.ids;
+
+            // 적용 결과 순서: 기준 순서에서 사라진 ID를 빼고, 새 ID를 나타난 순서대로 뒤에 붙인 것
+            final var removed = new ArrayList<String>();
+            final var expected = new ArrayList<String>(next.ids.size());
+            for (final var id : baseIds) {
+                if (next.digests.containsKey(id)) {
+                    expected.add(id);
+                } else {
+                    removed.add(id);
+                }
+            }
+            final var known = new HashSet<>(baseIds);
+            for (final var id : next.ids) {
+                if (!known.contains(id)) {
+                    expected.add(id);
+                }
+            }
+            final var reordered = !expected.equals(next.ids);
+
+            generator.writeObjectFieldStart(name);
+            if (!put.isEmpty()) {
+                generator.writeArrayFieldStart("put");
+                for (final var element : put) {
+                    generator.writeRawValue(element);
+                }
+                generator.writeEndArray();
+            }
+            if (!removed.isEmpty()) {
+                generator.writeArrayFieldStart("removed");
+                for (final var id : removed) {
+                    generator.writeString(id);
+                    grow(id.length());
+                }
+                generator.writeEndArray();
+            }
+            if (reordered) {
+                generator.writeArrayFieldStart("order");
+                for (final var id : next.ids) {
+                    generator.writeString(id);
+                    grow(id.length());
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+
+        private void grow(long bytes) {
+            size += bytes;
+            if (size > limitBytes) {
+                failed = true;
+            }
+        }
+
+        /** 상한을 넘어 델타를 포기했으면 모아 둔 원소를 버려 메모리를 돌려준다. */
+        private void releaseIfFailed() {
+            if (failed) {
+                changedFields.clear();
+                puts.clear();
+            }
+        }
+    }
+
+    /**
+     * 델타 작성 결과.
+     *
+     * @param delta    델타 JSON (nullable, 만들 수 없으면 {@code null})
+     * @param manifest 새 문서의 매니페스트
+     */
+    public record Result(@Nullable String delta, Manifest manifest) {}
+}
@@ -0,0 +1,221 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.smarterd.domain.diagram.model.DiagramChangeKind;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 두 React Flow JSON 문서의 구조적 차이를 계산하는 비교기.
+ *
+ * <p>
+ * 노드·엣지를 ID로 짝지은 뒤, 짝마다 먼저 JSON 트리가 같은지 보고 다르면 원소 정규화 다이제스트
+ * ({@link DiagramContentCanonicalizer#elementDigest})를 비교한다. 둘 중 하나라도 같으면 그 원소는 파싱하지 않고
+ * 건너뛰므로, 비용은 원소 수에 비례하고 실제로 바뀐 원소만 테이블·컬럼·관계 단위로 풀어 본다. 선택·드래그 같은 UI 상태만
+ * 바뀐 원소는 다이제스트가 같아 변경으로 보지 않는다.
+ * </p>
+ *
+ * <p>같은 ID가 두 번 이상 나오면 {@link ErdDocumentParser}와 같이 처음 것만 사용한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramDiffer {
+
+    /** React Flow JSON ↔ ERD 문서 변환기 */
+    private final ErdDocumentParser erdDocumentParser;
+
+    /**
+     * 두 문서의 구조적 차이를 계산한다.
+     *
+     * @param before 변경 전 React Flow JSON
+     * @param after  변경 후 React Flow JSON
+     * @return 구조적 차이
+     */
+    public DiagramDiff diff(JsonNode before, JsonNode after) {
+        final var tables = new ArrayList<DiagramDiff.TableChange>();
+        final var columns = new ArrayList<DiagramDiff.ColumnChange>();
+        final var relationships = new ArrayList<DiagramDiff.RelationshipChange>();
+        var unchangedTables = 0;
+
+        final var previousNodes = index(before.path("nodes"));
+        final var seenNodes = new HashSet<String>();
+        for (final var node : after.path("nodes")) {
+            final var id = node.path("id").asText("");
+            if (id.isEmpty() || !seenNodes.add(id)) {
+                continue;
+            }
+            final var previous = previousNodes.remove(id);
+            if (previous == null) {
+                final var table = erdDocumentParser.parseTable(node);
+                tables.add(tableChange(table, DiagramChangeKind.ADDED));
+            } else if (sameElement(previous, node)) {
+                unchangedTables++;
+            } else {
+                final var table = erdDocumentParser.parseTable(node);
+                compareTables(erdDocumentParser.parseTable(previous), table, tables, columns);
+            }
+        }
+        for (final var removed : previousNodes.values()) {
+            tables.add(tableChange(erdDocumentParser.parseTable(removed), DiagramChangeKind.REMOVED));
+        }
+
+        final var previousEdges = index(before.path("edges"));
+        final var seenEdges = new HashSet<String>();
+        for (final var edge : after.path("edges")) {
+            final var id = edge.path("id").asText("");
+            if (id.isEmpty() || !seenEdges.add(id)) {
+                continue;
+            }
+            final var previous = previousEdges.remove(id);
+            if (previous == null) {
+                final var relationship = erdDocumentParser.parseRelationship(edge);
+                relationships.add(new DiagramDiff.RelationshipChange(id, DiagramChangeKind.ADDED, null, relationship));
+            } else if (!sameElement(previous, edge)) {
+                compareRelationships(
+                    erdDocumentParser.parseRelationship(previous),
+                    erdDocumentParser.parseRelationship(edge),
+                    relationships
+                );
+            }
+        }
+        for (final var removed : previousEdges.values()) {
+            final var relationship = erdDocumentParser.parseRelationship(removed);
+            relationships.add(
+                new DiagramDiff.RelationshipChange(relationship.id(), DiagramChangeKind.REMOVED, relationship, null)
+            );
+        }
+
+        return new DiagramDiff(List.copyOf(tables), List.copyOf(columns), List.copyOf(relationships), unchangedTables);
+    }
+
+    private static void compareTables(
+        ErdTable before,
+        ErdTable after,
+        List<DiagramDiff.TableChange> tables,
+        List<DiagramDiff.ColumnChange> columns
+    ) {
+        if (!before.label().equals(after.label())) {
+            tables.add(
+                new DiagramDiff.TableChange(
+                    after.id(),
+                    DiagramChangeKind.RENAMED,
+                    after.label(),
+                    after.x(),
+                    after.y(),
+                    before.label(),
+                    null,
+                    null
+                )
+            );
+        }
+        if (before.x() != after.x() || before.y() != after.y()) {
+            tables.add(
+                new DiagramDiff.TableChange(
+                    after.id(),
+                    DiagramChangeKind.MOVED,
+                    after.label(),
+                    after.x(),
+                    after.y(),
+                    null,
+                    before.x(),
+                    before.y()
+                )
+            );
+        }
+
+        final var previousColumns = new LinkedHashMap<String, ErdColumn>();
+        for (final var column : before.columns()) {
+            previousColumns.put(column.id(), column);
+        }
+        for (final var column : after.columns()) {
+            final var previous = previousColumns.remove(column.id());
+            if (previous == null) {
+                columns.add(columnChange(after, column.id(), DiagramChangeKind.ADDED, null, column));
+                continue;
+            }
+            if (!previous.name().equals(column.name())) {
+                columns.add(columnChange(after, column.id(), DiagramChangeKind.RENAMED, previous, column));
+            }
+            if (!previous.type().equals(column.type())) {
+                columns.add(columnChange(after, column.id(), DiagramChangeKind.RETYPED, previous, column));
+            }
+            final var constrained =
+                previous.pk() != column.pk() ||
+                previous.fk() != column.fk() ||
+                previous.nullable() != column.nullable();
+            if (constrained) {
+                columns.add(columnChange(after, column.id(), DiagramChangeKind.MODIFIED, previous, column));
+            }
+        }
+        for (final var removed : previousColumns.values()) {
+            columns.add(columnChange(after, removed.id(), DiagramChangeKind.REMOVED, removed, null));
+        }
+    }
+
+    private static void compareRelationships(
+        ErdRelationship before,
+        ErdRelationship after,
+        List<DiagramDiff.RelationshipChange> relationships
+    ) {
+        final var id = after.id();
+        if (!before.type().equals(after.type())) {
+            relationships.add(new DiagramDiff.RelationshipChange(id, DiagramChangeKind.RETYPED, before, after));
+        }
+        final var reconnected =
+            !before.source().equals(after.source()) ||
+            !before.target().equals(after.target()) ||
+            !Objects.equals(before.sourceHandle(), after.sourceHandle()) ||
+            !Objects.equals(before.targetHandle(), after.targetHandle());
+        if (reconnected) {
+            relationships.add(new DiagramDiff.RelationshipChange(id, DiagramChangeKind.MODIFIED, before, after));
+        }
+    }
+
+    /** 배열 원소를 ID 순서대로 색인한다. 같은 ID는 처음 것만 남긴다. */
+    private static LinkedHashMap<String, JsonNode> index(JsonNode elements) {
+        final var index = LinkedHashMap.<String, JsonNode>newLinkedHashMap(elements.size());
+        for (final var element : elements) {
+            final var id = element.path("id").asText("");
+            if (!id.isEmpty()) {
+                index.putIfAbsent(id, element);
+            }
+        }
+        return index;
+    }
+
+    /** 트리가 같거나, UI 상태를 뺀 정규화 다이제스트가 같으면 같은 원소로 본다. */
+    private static boolean sameElement(JsonNode before, JsonNode after) {
+        return (
+            before.equals(after) ||
+            Arrays.equals(
+                DiagramContentCanonicalizer.elementDigest(before),
+                DiagramContentCanonicalizer.elementDigest(after)
+            )
+        );
+    }
+
+    private static DiagramDiff.TableChange tableChange(ErdTable table, DiagramChangeKind kind) {
+        return new DiagramDiff.TableChange(table.id(), kind, table.label(), table.x(), table.y(), null, null, null);
+    }
+
+    private static DiagramDiff.ColumnChange columnChange(
+        ErdTable table,
+        String columnId,
+        DiagramChangeKind kind,
+        @Nullable ErdColumn before,
+        @Nullable ErdColumn after
+    ) {
+        return new DiagramDiff.ColumnChange(table.id(), columnId, kind, before, after);
+    }
+}
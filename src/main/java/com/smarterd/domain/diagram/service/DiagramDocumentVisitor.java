@@ -0,0 +1,74 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.Set;
+
+/**
+ * 다이어그램 문서를 최상위 필드와 {@code nodes}·{@code edges} 배열 원소 단위로 받는 방문자.
+ *
+ * <p>
+ * 스트리밍 저장({@link DiagramContentStreamWriter})은 원소 하나씩, 트리로 올라온 문서는 {@link #walk}로 같은 순서의
+ * 호출을 만들어 내므로, 정규화 해시나 리비전 델타처럼 문서 전체를 훑는 계산을 두 경로에서 한 구현으로 쓴다.
+ * </p>
+ */
+public interface DiagramDocumentVisitor {
+
+    /** 원소 단위로 방문하는 최상위 배열 필드 */
+    Set<String> ELEMENT_ARRAYS = Set.of("nodes", "edges");
+
+    /** 아무것도 하지 않는 방문자 */
+    DiagramDocumentVisitor NONE = new DiagramDocumentVisitor() {
+        @Override
+        public void field(String name, JsonNode value) {}
+
+        @Override
+        public void startArray(String name) {}
+
+        @Override
+        public void element(String name, JsonNode element) {}
+    };
+
+    /**
+     * {@code nodes}·{@code edges} 배열이 아닌 최상위 필드 값 전체를 받는다.
+     *
+     * @param name  필드 이름
+     * @param value 필드 값
+     */
+    void field(String name, JsonNode value);
+
+    /**
+     * {@code nodes}·{@code edges} 배열 필드를 시작한다. 이어서 {@link #element}로 원소가 순서대로 들어온다.
+     *
+     * @param name 필드 이름
+     */
+    void startArray(String name);
+
+    /**
+     * {@link #startArray}로 시작한 배열의 원소 하나를 받는다.
+     *
+     * @param name    배열 필드 이름
+     * @param element 배열 원소
+     */
+    void element(String name, JsonNode element);
+
+    /**
+     * 트리로 올라온 문서를 스트리밍 저장과 같은 순서로 방문한다.
+     *
+     * @param document React Flow JSON 객체
+     * @param visitor  방문자
+     */
+    static void walk(JsonNode document, DiagramDocumentVisitor visitor) {
+        for (final var field : document.properties()) {
+            final var name = field.getKey();
+            final var value = field.getValue();
+            if (ELEMENT_ARRAYS.contains(name) && value.isArray()) {
+                visitor.startArray(name);
+                for (final var element : value) {
+                    visitor.element(name, element);
+                }
+            } else {
+                visitor.field(name, value);
+            }
+        }
+    }
+}
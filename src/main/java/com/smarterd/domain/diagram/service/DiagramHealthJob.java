@@ -0,0 +1,66 @@
+package com.smarterd.domain.diagram.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 다이어그램 저장 뒤 관계 그래프 건강 상태를 백그라운드에서 갱신하는 작업.
+ *
+ * <p>{@link DiagramThumbnailJob}과 같이 저장이 커밋된 뒤 전용 스레드 하나에서 처리하며, 아직 처리하지 않은 다이어그램이
+ * 다시 저장되면 작업을 하나로 합친다. 삭제가 커밋되면 분석기를 버린다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramHealthJob {
+
+    /** 건강 상태 서비스 */
+    private final DiagramHealthService diagramHealthService;
+
+    /** 대기 중인 다이어그램 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 분석 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> {
+        final var thread = new Thread(runnable, "diagram-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 저장된 다이어그램의 분석 갱신을 예약한다.
+     *
+     * @param event 저장 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentSaved(DiagramContentSavedEvent event) {
+        final var diagramId = event.diagramId();
+        if (pending.add(diagramId)) {
+            executor.execute(() -> {
+                pending.remove(diagramId);
+                diagramHealthService.refresh(diagramId);
+            });
+        }
+    }
+
+    /**
+     * 삭제된 다이어그램의 분석기를 버린다.
+     *
+     * @param event 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeleted(DiagramDeletedEvent event) {
+        executor.execute(() -> diagramHealthService.evict(event.diagramId()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
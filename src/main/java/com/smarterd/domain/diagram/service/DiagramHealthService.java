@@ -0,0 +1,96 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.health.DiagramHealthAnalyzer;
+import com.smarterd.domain.diagram.health.DiagramHealthReport;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 관계 그래프 건강 상태 서비스.
+ *
+ * <p>
+ * 다이어그램마다 {@link DiagramHealthAnalyzer}를 메모리에 두고, content 해시가 바뀌면 정규화 모델로 재구성한 문서를 넘겨
+ * 바뀐 테이블·관계만 다시 분석한다. 저장이 커밋되면 {@link DiagramHealthJob}이 백그라운드에서 갱신해 두므로, 조회는 대개
+ * 보관된 보고서를 그대로 반환한다. 분석기는 최근에 쓴 {@value #CACHE_CAPACITY}개 다이어그램만 남긴다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramHealthService {
+
+    /** 분석기를 보관할 최대 다이어그램 수 */
+    static final int CACHE_CAPACITY = 64;
+
+    /** 다이어그램 서비스 (접근 확인) */
+    private final DiagramService diagramService;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 정규화 모델 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /** 다이어그램 ID별 분석기 (LRU) */
+    private final Map<Long, DiagramHealthAnalyzer> analyzers = new LinkedHashMap<>(CACHE_CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, DiagramHealthAnalyzer> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * 다이어그램 건강 상태 보고서를 반환한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 현재 content의 보고서
+     */
+    public DiagramHealthReport getReport(String loginId, Long teamId, Long projectId, Long diagramId) {
+        final var header = diagramService.findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        return analyze(diagramId, header.contentHash());
+    }
+
+    /**
+     * 현재 content로 분석을 갱신해 둔다. 접근 권한은 확인하지 않으며, 다이어그램이 그사이 삭제되었으면 아무것도 하지 않는다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void refresh(Long diagramId) {
+        diagramRepository.findHeaderById(diagramId).ifPresent((header) -> analyze(diagramId, header.contentHash()));
+    }
+
+    /**
+     * 다이어그램의 분석기를 버린다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void evict(Long diagramId) {
+        synchronized (analyzers) {
+            analyzers.remove(diagramId);
+        }
+    }
+
+    private DiagramHealthReport analyze(Long diagramId, String contentHash) {
+        final DiagramHealthAnalyzer analyzer;
+        synchronized (analyzers) {
+            analyzer = analyzers.computeIfAbsent(diagramId, (id) -> new DiagramHealthAnalyzer());
+        }
+        synchronized (analyzer) {
+            if (!contentHash.equals(analyzer.contentHash())) {
+                analyzer.update(
+                    contentHash,
+                    diagramModelService.reconstruct(diagramRepository.getReferenceById(diagramId), null)
+                );
+            }
+            return analyzer.report();
+        }
+    }
+}
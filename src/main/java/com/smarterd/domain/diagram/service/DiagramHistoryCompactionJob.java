@@ -0,0 +1,41 @@
+package com.smarterd.domain.diagram.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 다이어그램 리비전 기록을 주기적으로 솎아 내는 배치 작업.
+ *
+ * <p>{@code smart-erd.history.compaction-cron}(기본: 매일 03:30)마다 실행되며, 최근
+ * {@link #RETAIN_ALL} 동안의 기록은 모두 남기고 그 이전 기록은 날짜별 마지막 기록만 남긴다.
+ * 다이어그램마다 별도 트랜잭션({@link DiagramHistoryService#compact})으로 처리하므로, 도중에 실패해도 앞서
+ * 처리한 다이어그램의 압축은 되돌려지지 않으며 남은 다이어그램은 다음 실행 때 처리된다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramHistoryCompactionJob {
+
+    /** 모든 기록을 남기는 기간 */
+    static final Duration RETAIN_ALL = Duration.ofDays(7);
+
+    /** 다이어그램 리비전 기록 서비스 */
+    private final DiagramHistoryService diagramHistoryService;
+
+    /**
+     * 압축 대상 다이어그램의 오래된 리비전 기록을 솎아 낸다.
+     *
+     * @return 지운 기록 수
+     */
+    @Scheduled(cron = "${smart-erd.history.compaction-cron:0 30 3 * * *}")
+    public int compact() {
+        final var cutoff = LocalDateTime.now().minus(RETAIN_ALL);
+        var dropped = 0;
+        for (final var diagramId : diagramHistoryService.findCompactionCandidates(cutoff)) {
+            dropped += diagramHistoryService.compact(diagramId, cutoff);
+        }
+        return dropped;
+    }
+}
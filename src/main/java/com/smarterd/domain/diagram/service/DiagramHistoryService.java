@@ -0,0 +1,347 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramContentCodec;
+import com.smarterd.domain.diagram.entity.DiagramRevision;
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import com.smarterd.domain.diagram.index.DiagramIndexCache;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import com.smarterd.domain.diagram.repository.DiagramRevisionItem;
+import com.smarterd.domain.diagram.repository.DiagramRevisionRepository;
+import com.smarterd.domain.diagram.repository.DiagramRevisionStore;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 리비전 기록(히스토리) 서비스.
+ *
+ * <p>
+ * content가 바뀐 저장마다 리비전 기록을 남긴다. 직전 기록 대비 구조적 델타({@link DiagramDelta})를 저장하되,
+ * 스냅샷에서 델타가 {@value #MAX_DEPTH}개 쌓였거나 델타가 {@value #DELTA_LIMIT_BYTES}바이트를 넘으면 전체 스냅샷을
+ * 저장한다. 원소가 {@value DiagramDelta#MANIFEST_LIMIT_ELEMENTS}개를 넘는 문서는 매니페스트를 원소별로 만들지 않으므로
+ * 항상 스냅샷으로 저장한다. 따라서 어떤 리비전이든 스냅샷 하나와 델타 최대 {@value #MAX_DEPTH}개로 복원되며, 저장 공간은 실제로 바뀐
+ * 원소 수에 비례해 늘어난다.
+ * </p>
+ *
+ * <p>
+ * 델타 계산의 기준이 되는 직전 리비전의 매니페스트(원소별 다이제스트)는 content 해시를 열쇠로 메모리에 캐시한다.
+ * 캐시에 없을 때만 호출 측이 넘긴 공급자로 저장된 content를 다시 읽는다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramHistoryService {
+
+    /** 스냅샷 하나에 이어 쌓을 수 있는 최대 델타 수 */
+    static final int MAX_DEPTH = 15;
+
+    /** 델타 크기 상한 (넘으면 스냅샷으로 저장) */
+    static final long DELTA_LIMIT_BYTES = 1024 * 1024;
+
+    /** 매니페스트를 캐시할 최대 다이어그램 수 */
+    static final int CACHE_CAPACITY = 64;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 리비전 기록 레포지토리 */
+    private final DiagramRevisionRepository diagramRevisionRepository;
+
+    /** 리비전 payload 저장소 */
+    private final DiagramRevisionStore diagramRevisionStore;
+
+    /** JSON 직렬화기 */
+    private final ObjectMapper objectMapper;
+
+    /** 다이어그램별 최신 리비전 매니페스트 캐시 */
+    private final DiagramIndexCache<DiagramDelta.Manifest> manifests = new DiagramIndexCache<>(CACHE_CAPACITY);
+
+    /**
+     * 새 리비전 기록을 준비한다. content를 덮어쓰기 전에 호출하고, 반환된 {@link Recording#visitor()}로 새 문서를
+     * 방문시킨 뒤 {@link #record}로 마무리한다.
+     *
+     * @param diagramId   다이어그램 ID
+     * @param currentHash 덮어쓰기 전 content 해시
+     * @param current     덮어쓰기 전 content의 매니페스트 공급자 (캐시에 없을 때만 호출된다)
+     * @return 리비전 기록 작업
+     */
+    public Recording begin(Long diagramId, @Nullable String currentHash, Supplier<DiagramDelta.Manifest> current) {
+        final var head = diagramRevisionRepository.findHead(diagramId).orElse(null);
+        if (head == null || !head.contentHash().equals(currentHash) || head.depth() >= MAX_DEPTH) {
+            return new Recording(null, DiagramDelta.builder(null, DELTA_LIMIT_BYTES));
+        }
+        final var base = manifests.get(diagramId, currentHash, current);
+        return new Recording(head, DiagramDelta.builder(base, DELTA_LIMIT_BYTES));
+    }
+
+    /**
+     * 저장된 새 content의 리비전 기록을 남긴다. content 갱신이 DB에 반영(flush)된 뒤 호출해야 한다.
+     *
+     * @param diagramId   다이어그램 ID
+     * @param revision    새 리비전
+     * @param contentHash 새 content 해시
+     * @param byteSize    새 평문 content 크기 (바이트)
+     * @param recording   {@link #begin}으로 준비하고 새 문서를 방문시킨 기록 작업
+     */
+    @Transactional
+    public void record(Long diagramId, Long revision, String contentHash, long byteSize, Recording recording) {
+        final var result = recording.builder().finish();
+        final var head = recording.head();
+        if (head != null && result.delta() != null) {
+            diagramRevisionRepository.save(
+                DiagramRevision.builder()
+                    .diagram(diagramRepository.getReferenceById(diagramId))
+                    .revision(revision)
+                    .baseRevision(head.revision())
+                    .depth(head.depth() + 1)
+                    .contentHash(contentHash)
+                    .byteSize(byteSize)
+                    .delta(result.delta())
+                    .build()
+            );
+        } else {
+            diagramRevisionStore.insertSnapshot(diagramId, byteSize);
+        }
+        manifests.get(diagramId, contentHash, result::manifest);
+    }
+
+    /**
+     * 현재 content 전체를 스냅샷 기록으로 남긴다. 다이어그램 생성 직후처럼 직전 기록이 없을 때 사용한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param byteSize  평문 content 크기 (바이트)
+     */
+    @Transactional
+    public void recordSnapshot(Long diagramId, long byteSize) {
+        diagramRevisionStore.insertSnapshot(diagramId, byteSize);
+    }
+
+    /**
+     * 다이어그램의 리비전 기록을 최신순으로 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 리비전 기록 목록
+     */
+    public List<DiagramRevisionItem> getRevisions(Long diagramId) {
+        return diagramRevisionRepository.findItemsByDiagramId(diagramId);
+    }
+
+    /**
+     * 리비전 기록을 조회한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param revision  다이어그램 리비전
+     * @return 리비전 기록
+     * @throws EntityNotFoundException 기록이 없는 경우
+     */
+    public DiagramRevisionItem getRevision(Long diagramId, Long revision) {
+        return diagramRevisionRepository
+            .findItem(diagramId, revision)
+            .orElseThrow(() -> new EntityNotFoundException("Revision not found: " + revision));
+    }
+
+    /**
+     * 리비전 기록의 content를 가장 가까운 스냅샷과 그 뒤 델타들로 복원한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param revision  다이어그램 리비전
+     * @return 복원된 React Flow JSON 객체
+     * @throws EntityNotFoundException 기록이 없는 경우
+     */
+    public ObjectNode reconstruct(Long diagramId, Long revision) {
+        final var target = getRevision(diagramId, revision);
+        final var snapshot = diagramRevisionRepository.findLatestRevisionOfKind(
+            diagramId,
+            target.revision(),
+            DiagramRevisionKind.SNAPSHOT
+        );
+        if (snapshot == null) {
+            throw new IllegalStateException("No snapshot precedes revision " + revision + " of diagram " + diagramId);
+        }
+        final var chain = diagramRevisionRepository.findItemsBetween(diagramId, snapshot, target.revision());
+        ObjectNode document = null;
+        DiagramRevisionItem previous = null;
+        for (final var item : chain) {
+            document = advance(document, previous, item);
+            previous = item;
+        }
+        return document;
+    }
+
+    /**
+     * 오래된 리비전 기록을 솎아 낸다.
+     *
+     * <p>기준 시각 이후 기록과 최신 기록은 모두 남기고, 그 이전 기록은 날짜별로 마지막 기록만 남긴다. 남는 기록의
+     * 기준 리비전이 지워지면 직전에 남는 기록 대비 델타로 다시 계산하며, 스냅샷이 지워져 델타가
+     * {@value #MAX_DEPTH}개를 넘게 되면 스냅샷으로 바꾼다. 기록을 순서대로 한 번 훑으므로 메모리에는 문서가 많아야
+     * 두 개만 남고, 마지막으로 지운 기록 뒤에서 기준과 깊이가 그대로인 기록을 만나면 멈춘다.</p>
+     *
+     * @param diagramId 다이어그램 ID
+     * @param cutoff    모든 기록을 남길 기준 시각
+     * @return 지운 기록 수
+     */
+    @Transactional
+    public int compact(Long diagramId, LocalDateTime cutoff) {
+        final var items = diagramRevisionRepository.findItemsByDiagramId(diagramId).reversed();
+        final var dropped = new HashSet<Long>();
+        var lastDropped = -1;
+        for (var i = 0; i < items.size() - 1; i++) {
+            final var item = items.get(i);
+            final var next = items.get(i + 1);
+            final var sameDay = item.createdAt().toLocalDate().equals(next.createdAt().toLocalDate());
+            if (item.createdAt().isBefore(cutoff) && next.createdAt().isBefore(cutoff) && sameDay) {
+                dropped.add(item.id());
+                lastDropped = i;
+            }
+        }
+        if (dropped.isEmpty()) {
+            return 0;
+        }
+
+        ObjectNode document = null;
+        DiagramRevisionItem previous = null;
+        ObjectNode keptDocument = null;
+        DiagramRevisionItem kept = null;
+        var keptDepth = 0;
+        for (var i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            document = advance(document, previous, item);
+            previous = item;
+            if (dropped.contains(item.id())) {
+                continue;
+            }
+            final var depth = rewrite(item, kept, keptDepth, keptDocument, document);
+            if (i > lastDropped && depth == item.depth()) {
+                // 이후 기록은 기준과 깊이가 모두 그대로이다
+                break;
+            }
+            kept = item;
+            keptDepth = depth;
+            // 다음 기록이 지워질 때만 그 뒤 기록의 델타 기준으로 쓸 문서를 보관한다
+            final var nextDropped = i + 1 < items.size() && dropped.contains(items.get(i + 1).id());
+            keptDocument = nextDropped ? document.deepCopy() : null;
+        }
+        diagramRevisionRepository.deleteByIdIn(dropped);
+        return dropped.size();
+    }
+
+    /**
+     * 압축 대상 후보 다이어그램 ID를 조회한다.
+     *
+     * @param cutoff 모든 기록을 남길 기준 시각
+     * @return 기준 시각 이전 기록이 둘 이상인 다이어그램 ID 목록
+     */
+    public List<Long> findCompactionCandidates(LocalDateTime cutoff) {
+        return diagramRevisionRepository.findDiagramIdsWithRevisionsBefore(cutoff);
+    }
+
+    /**
+     * 다이어그램의 리비전 기록을 모두 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Transactional
+    public void delete(Diagram diagram) {
+        diagramRevisionRepository.deleteByDiagram(diagram);
+        manifests.evict(diagram.getId());
+    }
+
+    /** 직전 기록까지 복원한 문서에 기록 하나를 반영한다. */
+    private ObjectNode advance(
+        @Nullable ObjectNode document,
+        @Nullable DiagramRevisionItem previous,
+        DiagramRevisionItem item
+    ) {
+        final var payload = readPayload(item);
+        if (item.kind() == DiagramRevisionKind.SNAPSHOT) {
+            return (ObjectNode) payload;
+        }
+        if (document == null || previous == null || !previous.revision().equals(item.baseRevision())) {
+            throw new IllegalStateException(
+                "Broken revision chain: revision " + item.revision() + " expects base " + item.baseRevision()
+            );
+        }
+        DiagramDelta.apply(document, payload);
+        return document;
+    }
+
+    /** 남는 기록을 직전에 남는 기록 기준으로 다시 쓰고, 새 델타 깊이를 반환한다. */
+    private int rewrite(
+        DiagramRevisionItem item,
+        @Nullable DiagramRevisionItem kept,
+        int keptDepth,
+        @Nullable ObjectNode keptDocument,
+        ObjectNode document
+    ) {
+        if (item.kind() == DiagramRevisionKind.SNAPSHOT) {
+            return 0;
+        }
+        if (kept != null && Objects.equals(item.baseRevision(), kept.revision())) {
+            if (item.depth() == keptDepth + 1) {
+                return item.depth();
+            }
+            if (keptDepth + 1 <= MAX_DEPTH) {
+                diagramRevisionRepository.updateDepth(item.id(), keptDepth + 1);
+                return keptDepth + 1;
+            }
+        } else if (kept != null && keptDocument != null && keptDepth + 1 <= MAX_DEPTH) {
+            final var builder = DiagramDelta.builder(DiagramDelta.manifest(keptDocument), DELTA_LIMIT_BYTES);
+            DiagramDocumentVisitor.walk(document, builder);
+            final var delta = builder.finish().delta();
+            if (delta != null) {
+                final var payload = DiagramContentCodec.encode(delta);
+                diagramRevisionRepository.rewrite(
+                    item.id(),
+                    DiagramRevisionKind.DELTA,
+                    kept.revision(),
+                    keptDepth + 1,
+                    payload,
+                    payload.length
+                );
+                return keptDepth + 1;
+            }
+        }
+        final var payload = DiagramContentCodec.encode(document.toString());
+        diagramRevisionRepository.rewrite(item.id(), DiagramRevisionKind.SNAPSHOT, null, 0, payload, payload.length);
+        return 0;
+    }
+
+    private JsonNode readPayload(DiagramRevisionItem item) {
+        final var holder = new JsonNode[1];
+        diagramRevisionStore.readPayload(item.id(), (in) -> holder[0] = objectMapper.readTree(in));
+        if (holder[0] == null || !holder[0].isObject()) {
+            throw new IllegalStateException("Missing payload of revision " + item.revision());
+        }
+        return holder[0];
+    }
+
+    /**
+     * 진행 중인 리비전 기록 작업.
+     *
+     * @param head    직전 리비전 기록 (nullable, 없거나 델타를 이어 붙일 수 없으면 {@code null} — 스냅샷으로 저장)
+     * @param builder 새 문서를 방문시킬 델타 작성기
+     */
+    public record Recording(@Nullable DiagramRevisionItem head, DiagramDelta.Builder builder) {
+        /**
+         * 새 문서를 방문시킬 방문자를 반환한다.
+         *
+         * @return 방문자
+         */
+        public DiagramDocumentVisitor visitor() {
+            return builder;
+        }
+    }
+}
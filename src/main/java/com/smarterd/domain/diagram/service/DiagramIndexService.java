@@ -0,0 +1,78 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.index.DiagramAdjacencyIndex;
+import com.smarterd.domain.diagram.index.DiagramIndexCache;
+import com.smarterd.domain.diagram.index.DiagramQuadtree;
+import com.smarterd.domain.diagram.repository.DiagramHeader;
+import com.smarterd.domain.diagram.repository.DiagramRelationshipRepository;
+import com.smarterd.domain.diagram.repository.DiagramTableRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 메모리 색인 서비스.
+ *
+ * <p>
+ * 정규화 모델 행으로부터 질의용 색인을 만들어 다이어그램 ID별로 캐시한다. 캐시 항목은 content 해시로 구분되므로,
+ * 저장으로 content가 바뀌면 다음 조회에서 새 행으로 다시 만들어진다. 저장 경로에는 비용을 더하지 않는다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramIndexService {
+
+    /** 색인 종류별로 캐시할 최대 다이어그램 수 */
+    static final int CACHE_CAPACITY = 64;
+
+    /** 다이어그램 테이블 레포지토리 */
+    private final DiagramTableRepository diagramTableRepository;
+
+    /** 다이어그램 관계 레포지토리 */
+    private final DiagramRelationshipRepository diagramRelationshipRepository;
+
+    /** 노드 위치 사분트리 캐시 */
+    private final DiagramIndexCache<DiagramQuadtree> spatialIndexes = new DiagramIndexCache<>(CACHE_CAPACITY);
+
+    /** 테이블 간 관계 인접 색인 캐시 */
+    private final DiagramIndexCache<DiagramAdjacencyIndex> adjacencyIndexes = new DiagramIndexCache<>(CACHE_CAPACITY);
+
+    /**
+     * 다이어그램 테이블 노드 위치의 공간 색인을 반환한다.
+     *
+     * @param header 다이어그램 메타데이터 (현재 content 해시 포함)
+     * @return 노드 위치 사분트리
+     */
+    public DiagramQuadtree spatialIndex(DiagramHeader header) {
+        return spatialIndexes.get(header.id(), header.contentHash(), () ->
+            DiagramQuadtree.build(diagramTableRepository.findPositionsByDiagramId(header.id()))
+        );
+    }
+
+    /**
+     * 다이어그램 테이블 간 관계의 인접 색인을 반환한다.
+     *
+     * @param header 다이어그램 메타데이터 (현재 content 해시 포함)
+     * @return 인접 색인
+     */
+    public DiagramAdjacencyIndex adjacencyIndex(DiagramHeader header) {
+        return adjacencyIndexes.get(header.id(), header.contentHash(), () ->
+            DiagramAdjacencyIndex.build(
+                diagramTableRepository.findNodeIdsByDiagramId(header.id()),
+                diagramRelationshipRepository.findEndpointsByDiagramId(header.id())
+            )
+        );
+    }
+
+    /**
+     * 다이어그램의 캐시된 색인을 모두 버린다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void evict(Long diagramId) {
+        spatialIndexes.evict(diagramId);
+        adjacencyIndexes.evict(diagramId);
+    }
+}
@@ -0,0 +1,322 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramColumn;
+import com.smarterd.domain.diagram.entity.DiagramRelationship;
+import com.smarterd.domain.diagram.entity.DiagramSummary;
+import com.smarterd.domain.diagram.entity.DiagramTable;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.diagram.repository.DiagramColumnCheckRepository;
+import com.smarterd.domain.diagram.repository.DiagramColumnRepository;
+import com.smarterd.domain.diagram.repository.DiagramRelationshipRepository;
+import com.smarterd.domain.diagram.repository.DiagramSummaryRepository;
+import com.smarterd.domain.diagram.repository.DiagramTableRepository;
+import com.smarterd.domain.diagram.repository.DiagramValidationRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 정규화 모델(테이블·컬럼·관계 행) 동기화 서비스.
+ *
+ * <p>
+ * 저장 시 파싱된 {@link ErdDocument}를 기존 행과 클라이언트 ID 기준으로 비교하여, 새 항목은 INSERT,
+ * 사라진 항목은 DELETE 하고 나머지는 값만 대입한다. 값이 바뀌지 않은 행은 JPA dirty checking에 의해
+ * UPDATE가 발생하지 않으므로, 노드 하나를 옮긴 저장은 행 하나만 갱신한다.
+ * 조회 시에는 행으로부터 React Flow JSON 뷰를 재구성하며, 노드 ID를 지정하면 해당 테이블만 부분 로딩한다.
+ * 동기화가 끝난 행을 집계하여 목록용 요약({@link DiagramSummary})도 함께 갱신한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramModelService {
+
+    /** 다이어그램 테이블 레포지토리 */
+    private final DiagramTableRepository diagramTableRepository;
+
+    /** 다이어그램 컬럼 레포지토리 */
+    private final DiagramColumnRepository diagramColumnRepository;
+
+    /** 다이어그램 관계 레포지토리 */
+    private final DiagramRelationshipRepository diagramRelationshipRepository;
+
+    /** 다이어그램 요약 레포지토리 */
+    private final DiagramSummaryRepository diagramSummaryRepository;
+
+    /** 사전 검사 상태 레포지토리 */
+    private final DiagramValidationRepository diagramValidationRepository;
+
+    /** 컬럼 사전 검사 결과 레포지토리 */
+    private final DiagramColumnCheckRepository diagramColumnCheckRepository;
+
+    /** 엔티티 매니저 (스트리밍 동기화 시 청크 단위 flush/clear) */
+    private final EntityManager entityManager;
+
+    /**
+     * 정규화 모델을 문서 내용과 일치시킨다. 바뀐 행만 INSERT/UPDATE/DELETE 된다.
+     *
+     * @param diagram  다이어그램
+     * @param document 새로 저장된 문서
+     */
+    @Transactional
+    public void synchronize(Diagram diagram, ErdDocument document) {
+        final var tables = index(diagramTableRepository.findByDiagramOrderById(diagram), DiagramTable::getNodeId);
+        final var columns = index(diagramColumnRepository.findByDiagram(diagram), DiagramColumn::getColumnId);
+        final var relationships = index(
+            diagramRelationshipRepository.findByDiagramOrderById(diagram),
+            DiagramRelationship::getEdgeId
+        );
+
+        final var newTables = new ArrayList<DiagramTable>();
+        final var newColumns = new ArrayList<DiagramColumn>();
+        for (final var table : document.tables()) {
+            final var existingTable = tables.remove(table.id());
+            if (existingTable == null) {
+                newTables.add(DiagramTable.builder().diagram(diagram).table(table).build());
+            } else {
+                existingTable.apply(table);
+            }
+
+            for (var ordinal = 0; ordinal < table.columns().size(); ordinal++) {
+                final var column = table.columns().get(ordinal);
+                final var existingColumn = columns.remove(column.id());
+                if (existingColumn == null) {
+                    newColumns.add(
+                        DiagramColumn.builder()
+                            .diagram(diagram)
+                            .tableNodeId(table.id())
+                            .ordinal(ordinal)
+                            .column(column)
+                            .build()
+                    );
+                } else {
+                    existingColumn.apply(table.id(), ordinal, column);
+                }
+            }
+        }
+
+        final var newRelationships = new ArrayList<DiagramRelationship>();
+        for (final var relationship : document.relationships()) {
+            final var existing = relationships.remove(relationship.id());
+            if (existing == null) {
+                newRelationships.add(DiagramRelationship.builder().diagram(diagram).relationship(relationship).build());
+            } else {
+                existing.apply(relationship);
+            }
+        }
+
+        diagramRelationshipRepository.deleteAllInBatch(relationships.values());
+        diagramColumnRepository.deleteAllInBatch(columns.values());
+        diagramTableRepository.deleteAllInBatch(tables.values());
+
+        diagramTableRepository.saveAll(newTables);
+        diagramColumnRepository.saveAll(newColumns);
+        diagramRelationshipRepository.saveAll(newRelationships);
+    }
+
+    /**
+     * 정규화 모델 행을 집계하여 다이어그램 요약을 갱신한다. 요약 행이 없으면 새로 만든다.
+     *
+     * <p>{@link #synchronize} 또는 {@link DiagramModelSynchronizer#finish()} 이후에 호출한다.
+     * 집계 쿼리는 인덱스가 걸린 {@code diagram_id}로만 행을 훑으며 content LOB은 읽지 않는다.</p>
+     *
+     * @param diagram  다이어그램 (프록시 참조여도 된다)
+     * @param byteSize 저장된 평문 content 크기 (UTF-8 바이트)
+     */
+    @Transactional
+    public void summarize(Diagram diagram, long byteSize) {
+        final var summary = diagramSummaryRepository
+            .findById(diagram.getId())
+            .orElseGet(() -> diagramSummaryRepository.save(DiagramSummary.builder().diagram(diagram).build()));
+        final var tables = diagramTableRepository.summarizeByDiagram(diagram);
+
+        summary.updateCounts(
+            Math.toIntExact(tables.tableCount()),
+            Math.toIntExact(diagramColumnRepository.countByDiagram(diagram)),
+            Math.toIntExact(diagramRelationshipRepository.countByDiagram(diagram))
+        );
+        summary.updateBounds(tables.minX(), tables.minY(), tables.maxX(), tables.maxY());
+        summary.updateByteSize(byteSize);
+    }
+
+    /**
+     * 문서를 한 번에 올리지 않는 스트리밍 저장을 위해 청크 단위 동기화기를 연다.
+     *
+     * <p>호출한 트랜잭션 안에서만 사용해야 하며, 청크마다 영속성 컨텍스트를 비우므로
+     * 호출 측이 관리 중인 엔티티는 준영속 상태가 된다.</p>
+     *
+     * @param diagram 다이어그램 (프록시 참조여도 된다)
+     * @return 동기화기
+     */
+    public DiagramModelSynchronizer openSynchronizer(Diagram diagram) {
+        return new DiagramModelSynchronizer(
+            diagram,
+            diagramTableRepository,
+            diagramColumnRepository,
+            diagramRelationshipRepository,
+            entityManager
+        );
+    }
+
+    /**
+     * 정규화 모델로부터 문서를 재구성한다.
+     *
+     * @param diagram 다이어그램 (content를 읽지 않으므로 프록시 참조여도 된다)
+     * @param nodeIds 부분 로딩할 테이블 노드 ID 목록, {@code null}이면 전체
+     * @return 재구성된 문서 (부분 로딩 시 양 끝이 모두 포함된 관계만 담는다)
+     */
+    public ErdDocument reconstruct(Diagram diagram, @Nullable Collection<String> nodeIds) {
+        final List<DiagramTable> tables;
+        final List<DiagramColumn> columns;
+        final List<DiagramRelationship> relationships;
+        if (nodeIds == null) {
+            tables = diagramTableRepository.findByDiagramOrderById(diagram);
+            columns = diagramColumnRepository.findByDiagram(diagram);
+            relationships = diagramRelationshipRepository.findByDiagramOrderById(diagram);
+        } else if (nodeIds.isEmpty()) {
+            return ErdDocument.EMPTY;
+        } else {
+            tables = diagramTableRepository.findByDiagramAndNodeIdInOrderById(diagram, nodeIds);
+            columns = diagramColumnRepository.findByDiagramAndTableNodeIdInOrderByOrdinal(diagram, nodeIds);
+            relationships = diagramRelationshipRepository.findWithin(diagram, nodeIds);
+        }
+        return assemble(tables, columns, relationships);
+    }
+
+    /**
+     * 지정한 테이블과, 그중 하나라도 끝점으로 가진 관계로 문서를 재구성한다.
+     *
+     * <p>뷰포트 부분 로딩용이다. {@link #reconstruct}와 달리 반대쪽 끝이 영역 밖에 있는 관계도 담아서,
+     * 클라이언트가 화면 밖으로 이어지는 선을 그리거나 인접 영역을 미리 불러올 수 있게 한다.
+     * 노드 ID가 많으면 {@value DiagramModelSynchronizer#CHUNK_SIZE}개씩 나누어 조회한다.</p>
+     *
+     * @param diagram 다이어그램 (content를 읽지 않으므로 프록시 참조여도 된다)
+     * @param nodeIds 테이블 노드 ID 목록
+     * @return 재구성된 문서
+     */
+    public ErdDocument reconstructRegion(Diagram diagram, List<String> nodeIds) {
+        final var tables = new ArrayList<DiagramTable>(nodeIds.size());
+        final var columns = new ArrayList<DiagramColumn>();
+        final var relationships = new LinkedHashMap<Long, DiagramRelationship>();
+        final var chunkSize = DiagramModelSynchronizer.CHUNK_SIZE;
+        for (var from = 0; from < nodeIds.size(); from += chunkSize) {
+            final var slice = nodeIds.subList(from, Math.min(from + chunkSize, nodeIds.size()));
+            tables.addAll(diagramTableRepository.findByDiagramAndNodeIdInOrderById(diagram, slice));
+            columns.addAll(diagramColumnRepository.findByDiagramAndTableNodeIdInOrderByOrdinal(diagram, slice));
+            // 출발·도착 조건을 OR로 묶으면 인덱스를 타지 못하므로 따로 조회해 합친다
+            final var outgoing = diagramRelationshipRepository.findByDiagramAndSourceNodeIdIn(diagram, slice);
+            final var incoming = diagramRelationshipRepository.findByDiagramAndTargetNodeIdIn(diagram, slice);
+            for (final var relationship : outgoing) {
+                relationships.putIfAbsent(relationship.getId(), relationship);
+            }
+            for (final var relationship : incoming) {
+                relationships.putIfAbsent(relationship.getId(), relationship);
+            }
+        }
+        tables.sort(Comparator.comparing(DiagramTable::getId));
+        final var sortedRelationships = new ArrayList<>(relationships.values());
+        sortedRelationships.sort(Comparator.comparing(DiagramRelationship::getId));
+        return assemble(tables, columns, sortedRelationships);
+    }
+
+    /**
+     * 지정한 테이블과 관계만으로 문서를 재구성한다. 색인으로 이미 관계를 골라 둔 경우에 쓴다.
+     *
+     * @param diagram 다이어그램 (content를 읽지 않으므로 프록시 참조여도 된다)
+     * @param nodeIds 테이블 노드 ID 목록
+     * @param edgeIds 관계 엣지 ID 목록
+     * @return 재구성된 문서
+     */
+    public ErdDocument reconstructSubgraph(Diagram diagram, List<String> nodeIds, List<String> edgeIds) {
+        final var tables = new ArrayList<DiagramTable>(nodeIds.size());
+        final var columns = new ArrayList<DiagramColumn>();
+        final var relationships = new ArrayList<DiagramRelationship>(edgeIds.size());
+        final var chunkSize = DiagramModelSynchronizer.CHUNK_SIZE;
+        for (var from = 0; from < nodeIds.size(); from += chunkSize) {
+            final var slice = nodeIds.subList(from, Math.min(from + chunkSize, nodeIds.size()));
+            tables.addAll(diagramTableRepository.findByDiagramAndNodeIdInOrderById(diagram, slice));
+            columns.addAll(diagramColumnRepository.findByDiagramAndTableNodeIdInOrderByOrdinal(diagram, slice));
+        }
+        for (var from = 0; from < edgeIds.size(); from += chunkSize) {
+            final var slice = edgeIds.subList(from, Math.min(from + chunkSize, edgeIds.size()));
+            relationships.addAll(diagramRelationshipRepository.findByDiagramAndEdgeIdIn(diagram, slice));
+        }
+        tables.sort(Comparator.comparing(DiagramTable::getId));
+        relationships.sort(Comparator.comparing(DiagramRelationship::getId));
+        return assemble(tables, columns, relationships);
+    }
+
+    private static ErdDocument assemble(
+        List<DiagramTable> tables,
+        List<DiagramColumn> columns,
+        List<DiagramRelationship> relationships
+    ) {
+        final var columnsByTable = new HashMap<String, List<DiagramColumn>>();
+        for (final var column : columns) {
+            columnsByTable.computeIfAbsent(column.getTableNodeId(), (key) -> new ArrayList<>()).add(column);
+        }
+
+        final var erdTables = new ArrayList<ErdTable>(tables.size());
+        for (final var table : tables) {
+            final var tableColumns = columnsByTable.getOrDefault(table.getNodeId(), List.of());
+            final var erdColumns = tableColumns
+                .stream()
+                .sorted((a, b) -> Integer.compare(a.getOrdinal(), b.getOrdinal()))
+                .map(DiagramColumn::toModel)
+                .toList();
+            erdTables.add(
+                new ErdTable(
+                    table.getNodeId(),
+                    table.getNodeType(),
+                    table.getPositionX(),
+                    table.getPositionY(),
+                    table.getLabel(),
+                    erdColumns
+                )
+            );
+        }
+
+        final List<ErdRelationship> erdRelationships = relationships
+            .stream()
+            .map(DiagramRelationship::toModel)
+            .toList();
+        return new ErdDocument(List.copyOf(erdTables), erdRelationships);
+    }
+
+    /**
+     * 다이어그램의 정규화 모델 행과 요약, 사전 검사 결과를 모두 삭제한다.
+     *
+     * @param diagram 다이어그램
+     */
+    @Transactional
+    public void delete(Diagram diagram) {
+        diagramSummaryRepository.deleteByDiagram(diagram);
+        diagramValidationRepository.deleteByDiagram(diagram);
+        diagramColumnCheckRepository.deleteByDiagram(diagram);
+        diagramRelationshipRepository.deleteByDiagram(diagram);
+        diagramColumnRepository.deleteByDiagram(diagram);
+        diagramTableRepository.deleteByDiagram(diagram);
+    }
+
+    private static <T> Map<String, T> index(List<T> rows, Function<T, String> key) {
+        final var map = new HashMap<String, T>(rows.size() * 2);
+        for (final var row : rows) {
+            map.put(key.apply(row), row);
+        }
+        return map;
+    }
+}
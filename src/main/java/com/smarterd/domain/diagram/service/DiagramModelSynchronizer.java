@@ -0,0 +1,266 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramColumn;
+import com.smarterd.domain.diagram.entity.DiagramRelationship;
+import com.smarterd.domain.diagram.entity.DiagramTable;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.diagram.repository.DiagramColumnRepository;
+import com.smarterd.domain.diagram.repository.DiagramRelationshipRepository;
+import com.smarterd.domain.diagram.repository.DiagramRowKey;
+import com.smarterd.domain.diagram.repository.DiagramTableRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 스트리밍 저장용 정규화 모델 동기화기.
+ *
+ * <p>
+ * {@link DiagramModelService#synchronize}와 같은 규칙(새 ID는 INSERT, 기존 ID는 값만 대입, 사라진 ID는 DELETE)을
+ * {@value #CHUNK_SIZE}개 단위로 나누어 적용하고, 단위마다 영속성 컨텍스트를 비운다.
+ * 사라진 행을 찾기 위해 문서에 나온 ID의 64비트 지문만 보관하므로, 문서 전체를 메모리에 올리지 않는다.
+ * 여러 청크에 걸쳐 같은 ID가 반복되면 나중 것이 앞의 값을 덮어쓴다.
+ * </p>
+ *
+ * <p>트랜잭션 안에서 {@link DiagramModelService#openSynchronizer(Diagram)}로 얻어 사용하고, 마지막에
+ * {@link #finish()}를 호출해야 한다.</p>
+ */
+public class DiagramModelSynchronizer {
+
+    /** 한 번에 조회·반영하는 원소 수 */
+    static final int CHUNK_SIZE = 500;
+
+    private final Diagram diagram;
+    private final DiagramTableRepository diagramTableRepository;
+    private final DiagramColumnRepository diagramColumnRepository;
+    private final DiagramRelationshipRepository diagramRelationshipRepository;
+    private final EntityManager entityManager;
+
+    private final LinkedHashMap<String, ErdTable> pendingTables = new LinkedHashMap<>();
+    private final LinkedHashMap<String, ErdRelationship> pendingRelationships = new LinkedHashMap<>();
+
+    private final Fingerprints tableIds = new Fingerprints();
+    private final Fingerprints columnIds = new Fingerprints();
+    private final Fingerprints edgeIds = new Fingerprints();
+
+    DiagramModelSynchronizer(
+        Diagram diagram,
+        DiagramTableRepository diagramTableRepository,
+        DiagramColumnRepository diagramColumnRepository,
+        DiagramRelationshipRepository diagramRelationshipRepository,
+        EntityManager entityManager
+    ) {
+        this.diagram = diagram;
+        this.diagramTableRepository = diagramTableRepository;
+        this.diagramColumnRepository = diagramColumnRepository;
+        this.diagramRelationshipRepository = diagramRelationshipRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * 테이블 하나를 반영 대기열에 넣는다. 같은 청크 안에서 중복된 ID는 처음 것만 사용한다.
+     *
+     * @param table 테이블
+     */
+    public void table(ErdTable table) {
+        pendingTables.putIfAbsent(table.id(), table);
+        if (pendingTables.size() >= CHUNK_SIZE) {
+            flushTables();
+        }
+    }
+
+    /**
+     * 관계 하나를 반영 대기열에 넣는다. 같은 청크 안에서 중복된 ID는 처음 것만 사용한다.
+     *
+     * @param relationship 관계
+     */
+    public void relationship(ErdRelationship relationship) {
+        pendingRelationships.putIfAbsent(relationship.id(), relationship);
+        if (pendingRelationships.size() >= CHUNK_SIZE) {
+            flushRelationships();
+        }
+    }
+
+    /**
+     * 남은 대기열을 반영하고, 문서에 나오지 않은 행을 삭제한다.
+     */
+    public void finish() {
+        flushTables();
+        flushRelationships();
+        tableIds.seal();
+        columnIds.seal();
+        edgeIds.seal();
+
+        deleteMissing(
+            diagramTableRepository.streamKeysByDiagram(diagram),
+            tableIds,
+            diagramTableRepository::deleteAllByIdInBatch
+        );
+        deleteMissing(
+            diagramColumnRepository.streamKeysByDiagram(diagram),
+            columnIds,
+            diagramColumnRepository::deleteAllByIdInBatch
+        );
+        deleteMissing(
+            diagramRelationshipRepository.streamKeysByDiagram(diagram),
+            edgeIds,
+            diagramRelationshipRepository::deleteAllByIdInBatch
+        );
+    }
+
+    private void flushTables() {
+        if (pendingTables.isEmpty()) {
+            return;
+        }
+        final var existingTables = index(
+            diagramTableRepository.findByDiagramAndNodeIdInOrderById(diagram, pendingTables.keySet()),
+            DiagramTable::getNodeId
+        );
+
+        final var pendingColumnIds = new ArrayList<String>();
+        for (final var table : pendingTables.values()) {
+            for (final var column : table.columns()) {
+                pendingColumnIds.add(column.id());
+            }
+        }
+        final var existingColumns = new LinkedHashMap<String, DiagramColumn>();
+        for (var from = 0; from < pendingColumnIds.size(); from += CHUNK_SIZE) {
+            final var slice = pendingColumnIds.subList(from, Math.min(from + CHUNK_SIZE, pendingColumnIds.size()));
+            existingColumns.putAll(
+                index(diagramColumnRepository.findByDiagramAndColumnIdIn(diagram, slice), DiagramColumn::getColumnId)
+            );
+        }
+
+        final var newTables = new ArrayList<DiagramTable>();
+        final var newColumns = new LinkedHashMap<String, DiagramColumn>();
+        for (final var table : pendingTables.values()) {
+            tableIds.add(table.id());
+            final var existingTable = existingTables.get(table.id());
+            if (existingTable == null) {
+                newTables.add(DiagramTable.builder().diagram(diagram).table(table).build());
+            } else {
+                existingTable.apply(table);
+            }
+
+            for (var ordinal = 0; ordinal < table.columns().size(); ordinal++) {
+                final var column = table.columns().get(ordinal);
+                columnIds.add(column.id());
+                final var existingColumn = existingColumns.get(column.id());
+                if (existingColumn != null) {
+                    existingColumn.apply(table.id(), ordinal, column);
+                } else if (!newColumns.containsKey(column.id())) {
+                    newColumns.put(
+                        column.id(),
+                        DiagramColumn.builder()
+                            .diagram(diagram)
+                            .tableNodeId(table.id())
+                            .ordinal(ordinal)
+                            .column(column)
+                            .build()
+                    );
+                }
+            }
+        }
+        diagramTableRepository.saveAll(newTables);
+        diagramColumnRepository.saveAll(newColumns.values());
+        pendingTables.clear();
+        clearPersistenceContext();
+    }
+
+    private void flushRelationships() {
+        if (pendingRelationships.isEmpty()) {
+            return;
+        }
+        final var existing = index(
+            diagramRelationshipRepository.findByDiagramAndEdgeIdIn(diagram, pendingRelationships.keySet()),
+            DiagramRelationship::getEdgeId
+        );
+
+        final var newRelationships = new ArrayList<DiagramRelationship>();
+        for (final var relationship : pendingRelationships.values()) {
+            edgeIds.add(relationship.id());
+            final var existingRelationship = existing.get(relationship.id());
+            if (existingRelationship == null) {
+                newRelationships.add(DiagramRelationship.builder().diagram(diagram).relationship(relationship).build());
+            } else {
+                existingRelationship.apply(relationship);
+            }
+        }
+        diagramRelationshipRepository.saveAll(newRelationships);
+        pendingRelationships.clear();
+        clearPersistenceContext();
+    }
+
+    /** 문서에 나오지 않은 행을 삭제한다. 전체 교체처럼 지울 행이 많아도 행당 8바이트만 쓰도록 {@code long}으로 모은다. */
+    private static void deleteMissing(Stream<DiagramRowKey> rows, Fingerprints present, Consumer<List<Long>> delete) {
+        final long[] missing;
+        try (rows) {
+            missing = rows.filter((row) -> !present.contains(row.clientId())).mapToLong(DiagramRowKey::id).toArray();
+        }
+        for (var from = 0; from < missing.length; from += CHUNK_SIZE) {
+            delete.accept(
+                Arrays.stream(missing, from, Math.min(from + CHUNK_SIZE, missing.length)).boxed().toList()
+            );
+        }
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static <T> Map<String, T> index(List<T> rows, Function<T, String> key) {
+        final var map = new HashMap<String, T>(rows.size() * 2);
+        for (final var row : rows) {
+            map.put(key.apply(row), row);
+        }
+        return map;
+    }
+
+    /**
+     * 문자열 ID의 64비트 FNV-1a 지문 집합. 정렬된 {@code long} 배열로 보관하여 ID당 8바이트만 사용한다.
+     */
+    private static final class Fingerprints {
+
+        private long[] values = new long[1024];
+        private int size;
+        private boolean sealed;
+
+        void add(String id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = fingerprint(id);
+        }
+
+        void seal() {
+            Arrays.sort(values, 0, size);
+            sealed = true;
+        }
+
+        boolean contains(String id) {
+            if (!sealed) {
+                throw new IllegalStateException("Fingerprints must be sealed before lookup");
+            }
+            return Arrays.binarySearch(values, 0, size, fingerprint(id)) >= 0;
+        }
+
+        private static long fingerprint(String id) {
+            var hash = 0xcbf29ce484222325L;
+            for (var i = 0; i < id.length(); i++) {
+                hash ^= id.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.api.diagram.dto.DiagramPatchOperation;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.ConflictException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON Patch(RFC 6902) 적용기.
+ *
+ * <p>다이어그램 JSON 문서에 {@code add}, {@code remove}, {@code replace}, {@code move}, {@code copy},
+ * {@code test} 연산을 순서대로 적용한다. 원본 문서는 변경하지 않고 복사본에 적용한 결과를 반환하므로,
+ * 연산 도중 실패하면 아무것도 반영되지 않는다(원자적 적용).</p>
+ */
+@Component
+public class DiagramPatchApplier {
+
+    /**
+     * 문서에 패치 연산 목록을 순서대로 적용한다.
+     *
+     * @param document   원본 JSON 문서 (변경되지 않음)
+     * @param operations 적용할 연산 목록
+     * @return 패치가 적용된 새 문서
+     * @throws BusinessException 연산 형식이 잘못되었거나 경로가 존재하지 않는 경우
+     * @throws ConflictException {@code test} 연산이 실패한 경우
+     */
+    public JsonNode apply(JsonNode document, List<DiagramPatchOperation> operations) {
+        var result = document.deepCopy();
+        for (final var operation : operations) {
+            result = applyOperation(result, operation);
+        }
+        return result;
+    }
+
+    private JsonNode applyOperation(JsonNode document, DiagramPatchOperation operation) {
+        final var path = parsePointer(operation.path());
+        return switch (operation.op()) {
+            case "add" -> add(document, path, requireValue(operation));
+            case "remove" -> {
+                remove(document, path);
+                yield document;
+            }
+            case "replace" -> replace(document, path, requireValue(operation));
+            case "move" -> {
+                final var from = parsePointer(requireFrom(operation));
+                if (isProperPrefix(from, path)) {
+                    throw new BusinessException("Cannot move a value into one of its children: " + operation.path());
+                }
+                final var value = remove(document, from);
+                yield add(document, path, value);
+            }
+            case "copy" -> {
+                final var from = parsePointer(requireFrom(operation));
+                yield add(document, path, resolve(document, from).deepCopy());
+            }
+            case "test" -> {
+                if (!resolve(document, path).equals(requireValue(operation))) {
+                    throw new ConflictException("Patch test failed at " + operation.path());
+                }
+                yield document;
+            }
+            default -> throw new BusinessException("Unsupported patch operation: " + operation.op());
+        };
+    }
+
+    private JsonNode add(JsonNode document, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value.deepCopy();
+        }
+        final var parent = resolve(document, path.subList(0, path.size() - 1));
+        final var token = path.getLast();
+        if (parent instanceof ObjectNode object) {
+            object.set(token, value.deepCopy());
+        } else if (parent instanceof ArrayNode array) {
+            if ("-".equals(token)) {
+                array.add(value.deepCopy());
+            } else {
+                array.insert(arrayIndex(array, token, true), value.deepCopy());
+            }
+        } else {
+            throw new BusinessException("Patch target is not a container: /" + String.join("/", path));
+        }
+        return document;
+    }
+
+    private JsonNode replace(JsonNode document, List<String> path, JsonNode value) {
+        if (path.isEmpty()) {
+            return value.deepCopy();
+        }
+        final var parent = resolve(document, path.subList(0, path.size() - 1));
+        final var token = path.getLast();
+        if (parent instanceof ObjectNode object && object.has(token)) {
+            object.set(token, value.deepCopy());
+        } else if (parent instanceof ArrayNode array) {
+            array.set(arrayIndex(array, token, false), value.deepCopy());
+        } else {
+            throw new BusinessException("Patch path not found: /" + String.join("/", path));
+        }
+        return document;
+    }
+
+    private JsonNode remove(JsonNode document, List<String> path) {
+        if (path.isEmpty()) {
+            throw new BusinessException("Cannot remove the document root");
+        }
+        final var parent = resolve(document, path.subList(0, path.size() - 1));
+        final var token = path.getLast();
+        if (parent instanceof ObjectNode object) {
+            final var removed = object.remove(token);
+            if (removed == null) {
+                throw new BusinessException("Patch path not found: /" + String.join("/", path));
+            }
+            return removed;
+        }
+        if (parent instanceof ArrayNode array) {
+            return array.remove(arrayIndex(array, token, false));
+        }
+        throw new BusinessException("Patch target is not a container: /" + String.join("/", path));
+    }
+
+    private JsonNode resolve(JsonNode document, List<String> path) {
+        var current = document;
+        for (final var token : path) {
+            if (current instanceof ObjectNode object && object.has(token)) {
+                current = object.get(token);
+            } else if (current instanceof ArrayNode array) {
+                current = array.get(arrayIndex(array, token, false));
+            } else {
+                throw new BusinessException("Patch path not found: /" + String.join("/", path));
+            }
+        }
+        return current;
+    }
+
+    private int arrayIndex(ArrayNode array, String token, boolean allowEnd) {
+        final var leadingZero = token.length() > 1 && token.charAt(0) == '0';
+        if (token.isEmpty() || token.length() > 9 || leadingZero || !token.chars().allMatch(Character::isDigit)) {
+            throw new BusinessException("Invalid array index in patch path: " + token);
+        }
+        final var index = Integer.parseInt(token);
+        final var limit = allowEnd ? array.size() : array.size() - 1;
+        if (index > limit) {
+            throw new BusinessException("Array index out of bounds in patch path: " + token);
+        }
+        return index;
+    }
+
+    private List<String> parsePointer(String pointer) {
+        if (pointer.isEmpty()) {
+            return List.of();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new BusinessException("Invalid JSON pointer: " + pointer);
+        }
+        final var tokens = new ArrayList<String>();
+        for (final var raw : pointer.substring(1).split("/", -1)) {
+            tokens.add(raw.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+
+    private boolean isProperPrefix(List<String> prefix, List<String> path) {
+        return prefix.size() < path.size() && path.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private JsonNode requireValue(DiagramPatchOperation operation) {
+        if (operation.value() == null) {
+            throw new BusinessException("Patch operation '" + operation.op() + "' requires a value");
+        }
+        return operation.value();
+    }
+
+    private String requireFrom(DiagramPatchOperation operation) {
+        if (operation.from() == null) {
+            throw new BusinessException("Patch operation '" + operation.op() + "' requires a from pointer");
+        }
+        return operation.from();
+    }
+}
@@ -0,0 +1,88 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.index.DiagramIndexCache;
+import com.smarterd.domain.diagram.render.DiagramScene;
+import com.smarterd.domain.diagram.render.DiagramThumbnail;
+import com.smarterd.domain.diagram.repository.DiagramHeader;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 이미지 렌더링 서비스.
+ *
+ * <p>
+ * content LOB이 아니라 정규화 모델 행으로부터 장면({@link DiagramScene})을 만든다. 미리보기 PNG는 content 해시를
+ * 열쇠로 캐시하며, 저장 직후 {@link DiagramThumbnailJob}이 백그라운드에서 미리 그려 두므로 목록 화면의 첫 요청도
+ * 대개 정규화 모델을 읽지 않는다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramRenderService {
+
+    /** 미리보기를 캐시할 최대 다이어그램 수 (미리보기 하나는 수십 KB) */
+    static final int CACHE_CAPACITY = 256;
+
+    /** 다이어그램 서비스 (접근 확인) */
+    private final DiagramService diagramService;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 정규화 모델 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /** 다이어그램별 미리보기 캐시 */
+    private final DiagramIndexCache<DiagramThumbnail> thumbnails = new DiagramIndexCache<>(CACHE_CAPACITY);
+
+    /**
+     * 다이어그램 미리보기를 반환한다. content가 그대로이면 캐시된 PNG를 반환한다.
+     *
+     * <p>컨트롤러가 {@link DiagramService#findAccessibleDiagramHeader}로 얻은 ETag를 {@code If-None-Match}와 먼저
+     * 비교하고, 달라서 본문이 필요할 때만 호출한다.</p>
+     *
+     * @param header {@link DiagramService#findAccessibleDiagramHeader}로 조회한 다이어그램 메타데이터
+     * @return 현재 content의 미리보기
+     */
+    public DiagramThumbnail getThumbnail(DiagramHeader header) {
+        return thumbnail(header.id(), header.contentHash());
+    }
+
+    /**
+     * 다이어그램 전체 장면을 만든다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 장면
+     */
+    public DiagramScene getScene(String loginId, Long teamId, Long projectId, Long diagramId) {
+        diagramService.findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        return scene(diagramId);
+    }
+
+    /**
+     * 현재 content의 미리보기가 캐시에 없으면 그려 둔다. 접근 권한은 확인하지 않으며, 다이어그램이 그사이 삭제되었으면
+     * 아무것도 하지 않는다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void refreshThumbnail(Long diagramId) {
+        diagramRepository
+            .findHeaderById(diagramId)
+            .ifPresent((header) -> thumbnail(diagramId, header.contentHash()));
+    }
+
+    private DiagramThumbnail thumbnail(Long diagramId, String contentHash) {
+        return thumbnails.get(diagramId, contentHash, () -> DiagramThumbnail.render(contentHash, scene(diagramId)));
+    }
+
+    private DiagramScene scene(Long diagramId) {
+        return DiagramScene.of(diagramModelService.reconstruct(diagramRepository.getReferenceById(diagramId), null));
+    }
+}
@@ -0,0 +1,897 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.api.diagram.dto.CreateDiagramRequest;
+import com.smarterd.api.diagram.dto.DiagramDetailResponse;
+import com.smarterd.api.diagram.dto.DiagramDiffResponse;
+import com.smarterd.api.diagram.dto.DiagramHistoryDetailResponse;
+import com.smarterd.api.diagram.dto.DiagramHistoryItemResponse;
+import com.smarterd.api.diagram.dto.DiagramResponse;
+import com.smarterd.api.diagram.dto.DiagramRevisionResponse;
+import com.smarterd.api.diagram.dto.DiagramSummaryResponse;
+import com.smarterd.api.diagram.dto.PatchDiagramRequest;
+import com.smarterd.api.diagram.dto.RenameDiagramRequest;
+import com.smarterd.api.diagram.dto.SaveDiagramRequest;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.ConflictException;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.common.exception.PreconditionFailedException;
+import com.smarterd.domain.diagram.ddl.DdlImporter;
+import com.smarterd.domain.diagram.entity.Diagram;
+import com.smarterd.domain.diagram.entity.DiagramETags;
+import com.smarterd.domain.diagram.layout.DiagramLayoutEngine;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramContentStore;
+import com.smarterd.domain.diagram.repository.DiagramHeader;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import com.smarterd.domain.project.entity.Project;
+import com.smarterd.domain.project.service.ProjectService;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 관련 비즈니스 로직 서비스.
+ *
+ * <p>
+ * 다이어그램 CRUD와 JSON Patch 기반 부분 저장을 처리하며, 팀 소속 및 프로젝트·다이어그램 소속 관계를 확인한다.
+ * content가 바뀔 때마다 정규화 모델({@link DiagramModelService})을 함께 동기화하고, 리비전 기록
+ * ({@link DiagramHistoryService})을 남긴다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramService {
+
+    /** 빈 캔버스의 React Flow JSON */
+    public static final String EMPTY_CONTENT = "{\"nodes\":[],\"edges\":[]}";
+
+    /** 크기를 모르는 노드의 배치용 너비 */
+    private static final double LAYOUT_NODE_WIDTH = 280;
+
+    /** 크기를 모르는 노드의 배치용 머리글 높이 */
+    private static final double LAYOUT_HEADER_HEIGHT = 48;
+
+    /** 크기를 모르는 노드의 배치용 컬럼 한 줄 높이 */
+    private static final double LAYOUT_ROW_HEIGHT = 28;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 프로젝트 서비스 (프로젝트 조회, 팀 소속 확인) */
+    private final ProjectService projectService;
+
+    /** content LOB 스트리밍 저장소 */
+    private final DiagramContentStore diagramContentStore;
+
+    /** content JSON 스트리밍 검증·변환기 */
+    private final DiagramContentStreamWriter diagramContentStreamWriter;
+
+    /** JSON Patch 적용기 */
+    private final DiagramPatchApplier diagramPatchApplier;
+
+    /** React Flow JSON ↔ ERD 문서 변환기 */
+    private final ErdDocumentParser erdDocumentParser;
+
+    /** 정규화 모델(테이블·컬럼·관계 행) 동기화 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /** 다이어그램 메모리 색인 서비스 */
+    private final DiagramIndexService diagramIndexService;
+
+    /** 다이어그램 리비전 기록 서비스 */
+    private final DiagramHistoryService diagramHistoryService;
+
+    /** 다이어그램 구조적 비교기 */
+    private final DiagramDiffer diagramDiffer;
+
+    /** JSON 직렬화기 */
+    private final ObjectMapper objectMapper;
+
+    /** SQL DDL 덤프 가져오기 */
+    private final DdlImporter ddlImporter;
+
+    /** 자동 배치 엔진 */
+    private final DiagramLayoutEngine diagramLayoutEngine;
+
+    /** 저장·삭제 이벤트 발행기 (미리보기 렌더링, 팀 색인 갱신 등 커밋 뒤 작업) */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 빈 캔버스로 초기화된 다이어그램을 생성한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param request   다이어그램 생성 요청
+     * @return 생성된 다이어그램 응답
+     */
+    @Transactional
+    public DiagramResponse createDiagram(String loginId, Long teamId, Long projectId, CreateDiagramRequest request) {
+        final var project = findAccessibleProject(loginId, teamId, projectId);
+
+        final var diagram = Diagram.builder()
+            .name(request.name())
+            .project(project)
+            .content(EMPTY_CONTENT)
+            .contentHash(DiagramContentCanonicalizer.hash(readDocument(EMPTY_CONTENT)))
+            .build();
+        diagramRepository.saveAndFlush(diagram);
+        diagramModelService.summarize(diagram, byteSize(EMPTY_CONTENT));
+        diagramHistoryService.recordSnapshot(diagram.getId(), byteSize(EMPTY_CONTENT));
+        eventPublisher.publishEvent(new DiagramContentSavedEvent(diagram.getId()));
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * SQL DDL 덤프를 역설계하여 새 다이어그램을 생성한다.
+     *
+     * <p>덤프는 스트림으로 읽으며 {@code CREATE TABLE}과 {@code ALTER TABLE ... FOREIGN KEY} 문만 파싱하고,
+     * 데이터 문은 버퍼에 올리지 않고 건너뛴다. 테이블은 덤프 순서대로 격자에 배치한다.
+     * 덤프는 테이블 수천 개 규모일 수 있으므로 정규화 모델은 스트리밍 저장과 같이 청크 단위로 기록한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param request   다이어그램 생성 요청
+     * @param body      UTF-8 SQL 덤프 스트림
+     * @return 생성된 다이어그램 응답
+     * @throws BusinessException 덤프에 테이블 정의가 없거나 정의 문이 너무 긴 경우
+     */
+    @Transactional
+    public DiagramResponse importDiagram(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        CreateDiagramRequest request,
+        InputStream body
+    ) {
+        final var project = findAccessibleProject(loginId, teamId, projectId);
+        final ErdDocument imported;
+        try {
+            imported = ddlImporter.read(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var document = erdDocumentParser.toJson(imported);
+        final var content = writeDocument(document);
+        final var diagram = Diagram.builder()
+            .name(request.name())
+            .project(project)
+            .content(content)
+            .contentHash(DiagramContentCanonicalizer.hash(document))
+            .build();
+        diagramRepository.saveAndFlush(diagram);
+
+        final var synchronizer = diagramModelService.openSynchronizer(diagram);
+        imported.tables().forEach(synchronizer::table);
+        imported.relationships().forEach(synchronizer::relationship);
+        synchronizer.finish();
+        diagramModelService.summarize(diagramRepository.getReferenceById(diagram.getId()), byteSize(content));
+        diagramHistoryService.recordSnapshot(diagram.getId(), byteSize(content));
+        eventPublisher.publishEvent(new DiagramContentSavedEvent(diagram.getId()));
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * 프로젝트의 다이어그램 목록을 요약 통계와 함께 조회한다.
+     *
+     * <p>저장 시 갱신해 둔 요약 행만 읽으므로 content LOB을 로딩하지 않는다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @return 다이어그램 요약 응답 목록
+     */
+    public List<DiagramSummaryResponse> getDiagrams(String loginId, Long teamId, Long projectId) {
+        final var project = findAccessibleProject(loginId, teamId, projectId);
+        return diagramRepository.findListItemsByProject(project).stream().map(DiagramSummaryResponse::from).toList();
+    }
+
+    /**
+     * 접근 확인을 마친 다이어그램의 상세(content 포함)를 조회한다.
+     *
+     * <p>컨트롤러가 {@link #findAccessibleDiagramHeader}로 얻은 ETag를 {@code If-None-Match}와 먼저 비교하고,
+     * 달라졌을 때만 이 메서드로 LOB을 읽는다.</p>
+     *
+     * @param header {@link #findAccessibleDiagramHeader}로 조회한 다이어그램 메타데이터
+     * @return 다이어그램 상세 응답
+     */
+    public DiagramDetailResponse getDiagram(DiagramHeader header) {
+        return diagramRepository
+            .findById(header.id())
+            .map(DiagramDetailResponse::from)
+            .orElseThrow(() -> new EntityNotFoundException("Diagram not found: " + header.id()));
+    }
+
+    /**
+     * 정규화 모델(테이블·컬럼·관계 행)로부터 재구성한 다이어그램을 조회한다.
+     *
+     * <p>content LOB을 읽지 않는다. {@code nodeIds}를 지정하면 해당 테이블과 그 사이의 관계만 반환한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param nodeIds   부분 로딩할 테이블 노드 ID 목록 (nullable, 없으면 전체)
+     * @return 재구성된 content를 담은 다이어그램 상세 응답
+     */
+    public DiagramDetailResponse getDiagramModel(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        @Nullable List<String> nodeIds
+    ) {
+        final var header = findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var document = diagramModelService.reconstruct(diagramRepository.getReferenceById(diagramId), nodeIds);
+        return DiagramDetailResponse.of(header, writeDocument(erdDocumentParser.toJson(document)));
+    }
+
+    /**
+     * 캔버스 영역 안에 위치한 테이블과 그 테이블에 닿는 관계만으로 재구성한 다이어그램을 조회한다.
+     *
+     * <p>노드 위치 공간 색인({@link DiagramIndexService#spatialIndex})으로 영역을 질의하므로, 테이블 수천 개짜리
+     * 다이어그램에서도 화면에 보이는 부분만 읽는다. 노드 위치는 좌상단 좌표 기준이며, {@code margin}만큼 사방으로
+     * 넓힌 영역을 질의하여 스크롤할 부분을 미리 받을 수 있다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param minX      영역 왼쪽 X
+     * @param minY      영역 위쪽 Y
+     * @param maxX      영역 오른쪽 X
+     * @param maxY      영역 아래쪽 Y
+     * @param margin    사방으로 넓힐 여유 폭 (0 이상)
+     * @return 영역 안 테이블과 닿는 관계로 재구성한 content를 담은 다이어그램 상세 응답
+     * @throws BusinessException 영역의 최솟값이 최댓값보다 크거나 여유 폭이 음수인 경우
+     */
+    public DiagramDetailResponse getDiagramViewport(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        double minX,
+        double minY,
+        double maxX,
+        double maxY,
+        double margin
+    ) {
+        if (!(minX <= maxX && minY <= maxY)) {
+            throw new BusinessException(
+                "Viewport min must not exceed max: (" + minX + ", " + minY + ") > (" + maxX + ", " + maxY + ")"
+            );
+        }
+        if (!(margin >= 0)) {
+            throw new BusinessException("Viewport margin must not be negative: " + margin);
+        }
+        final var header = findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var index = diagramIndexService.spatialIndex(header);
+        final var nodeIds = index.query(minX - margin, minY - margin, maxX + margin, maxY + margin);
+        final var diagram = diagramRepository.getReferenceById(diagramId);
+        // 캔버스 전체가 들어오면 노드 ID로 나눠 조회하지 않고 다이어그램 단위로 한 번에 읽는다
+        final var document = nodeIds.size() == index.size()
+            ? diagramModelService.reconstruct(diagram, null)
+            : diagramModelService.reconstructRegion(diagram, nodeIds);
+        return DiagramDetailResponse.of(header, writeDocument(erdDocumentParser.toJson(document)));
+    }
+
+    /**
+     * 테이블 하나에서 관계를 N번 이하로 건너 닿는 테이블들과 그 사이의 관계로 재구성한 다이어그램을 조회한다.
+     *
+     * <p>테이블 간 관계 인접 색인({@link DiagramIndexService#adjacencyIndex})을 너비 우선으로 탐색하며, 관계 방향과
+     * 무관하게 참조하는 쪽과 참조되는 쪽을 모두 따라간다. 탐색 결과에 든 행만 정규화 모델에서 읽는다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param nodeId    시작 테이블 노드 ID
+     * @param hops      최대 홉 수 (0 이상, 0이면 시작 테이블만)
+     * @return 부분 그래프로 재구성한 content를 담은 다이어그램 상세 응답
+     * @throws BusinessException       홉 수가 음수인 경우
+     * @throws EntityNotFoundException 시작 테이블이 다이어그램에 없는 경우
+     */
+    public DiagramDetailResponse getDiagramNeighbourhood(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        String nodeId,
+        int hops
+    ) {
+        if (hops < 0) {
+            throw new BusinessException("Hops must not be negative: " + hops);
+        }
+        final var header = findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var index = diagramIndexService.adjacencyIndex(header);
+        if (!index.contains(nodeId)) {
+            throw new EntityNotFoundException("Table not found: " + nodeId);
+        }
+        final var neighbourhood = index.neighbourhood(nodeId, hops);
+        final var document = diagramModelService.reconstructSubgraph(
+            diagramRepository.getReferenceById(diagramId),
+            neighbourhood.nodeIds(),
+            neighbourhood.edgeIds()
+        );
+        return DiagramDetailResponse.of(header, writeDocument(erdDocumentParser.toJson(document)));
+    }
+
+    /**
+     * 다이어그램 content 전체를 저장한다.
+     *
+     * <p>정규화 해시({@link DiagramContentCanonicalizer})가 저장된 해시와 같으면 UI 상태나 키 순서만 다른 저장으로 보고,
+     * DB에 쓰지 않으며 리비전과 수정 시각도 그대로 둔다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   다이어그램 저장 요청
+     * @param ifMatch   {@code If-Match} 헤더 값 (nullable, 있으면 현재 content ETag와 일치해야 저장)
+     * @return 저장된 다이어그램 응답
+     * @throws PreconditionFailedException {@code If-Match}가 현재 content ETag와 다른 경우
+     */
+    @Transactional
+    public DiagramResponse saveDiagram(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        SaveDiagramRequest request,
+        @Nullable String ifMatch
+    ) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+        verifyIfMatch(ifMatch, diagram.getContentHash());
+        final var document = readDocument(request.content());
+        final var contentHash = DiagramContentCanonicalizer.hash(document);
+
+        if (!contentHash.equals(diagram.getContentHash())) {
+            storeContent(diagram, document, request.content(), contentHash, () -> readDocument(diagram.getContent()));
+        }
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * 요청 본문 스트림을 그대로 읽어 다이어그램 content 전체를 저장한다.
+     *
+     * <p>본문을 문자열이나 JSON 트리로 올리지 않고 토큰 단위로 검증하면서 압축하여 LOB 스트림에 기록하고,
+     * 정규화 모델도 청크 단위로 동기화한다. 요청당 힙 사용량이 문서 크기와 무관하므로 수 MB 이상의
+     * 대용량 다이어그램 저장에 사용한다.</p>
+     *
+     * <p>정규화 해시는 본문을 끝까지 읽어야 알 수 있으므로, 먼저 임시 파일에 압축하며 해시를 구하고
+     * 저장된 해시와 같으면 DB에 아무것도 쓰지 않는다. 달라졌을 때만 LOB을 갱신한 뒤 저장된 content를 다시 읽어
+     * 정규화 모델을 동기화하고, 같은 흐름에서 리비전 기록의 델타도 원소 단위로 계산한다.</p>
+     *
+     * <p>리비전 기록은 조회한 리비전을 기준으로 델타를 만들므로, {@code If-Match}가 없어도 조회한 리비전일 때만
+     * content를 갱신한다. 그 사이 다른 저장이 끼어들면 {@code If-Match}가 있으면 412, 없으면 409로 거부한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param body      React Flow JSON 본문 스트림
+     * @param ifMatch   {@code If-Match} 헤더 값 (nullable, 있으면 현재 content ETag와 일치해야 저장)
+     * @return 저장된 다이어그램 응답
+     * @throws PreconditionFailedException {@code If-Match}가 현재 content ETag와 다르거나, 저장 도중 다른 저장이 끼어든 경우
+     * @throws ConflictException           {@code If-Match} 없이 저장하는 도중 다른 저장이 끼어든 경우
+     */
+    @Transactional
+    public DiagramResponse saveDiagramContent(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        InputStream body,
+        @Nullable String ifMatch
+    ) {
+        final var project = findAccessibleProject(loginId, teamId, projectId);
+        final var header = findHeader(project, diagramId);
+        verifyIfMatch(ifMatch, header.contentHash());
+
+        final var recording = diagramHistoryService.begin(diagramId, header.contentHash(), () ->
+            storedManifest(diagramId)
+        );
+        final boolean written;
+        try {
+            written = diagramContentStore.writeContent(diagramId, header.revision(), header.contentHash(), (out) ->
+                diagramContentStreamWriter.write(body, out, (table) -> {}, (relationship) -> {}).contentHash()
+            );
+        } catch (PreconditionFailedException e) {
+            if (ifMatch != null) {
+                throw e;
+            }
+            throw new ConflictException("Diagram was saved concurrently, revision " + header.revision() + " is stale");
+        }
+        if (!written) {
+            return DiagramResponse.from(header);
+        }
+
+        final var diagram = diagramRepository.getReferenceById(diagramId);
+        final var synchronizer = diagramModelService.openSynchronizer(diagram);
+        final var storedBytes = new long[1];
+        diagramContentStore.readContent(diagramId, (in) ->
+            storedBytes[0] = diagramContentStreamWriter
+                .write(
+                    in,
+                    OutputStream.nullOutputStream(),
+                    synchronizer::table,
+                    synchronizer::relationship,
+                    recording.visitor()
+                )
+                .byteSize()
+        );
+        synchronizer.finish();
+        diagramModelService.summarize(diagram, storedBytes[0]);
+
+        final var saved = findHeader(project, diagramId);
+        diagramHistoryService.record(diagramId, saved.revision(), saved.contentHash(), storedBytes[0], recording);
+        eventPublisher.publishEvent(new DiagramContentSavedEvent(diagramId));
+        return DiagramResponse.from(saved);
+    }
+
+    /**
+     * 다이어그램 content를 평문 JSON으로 출력 스트림에 복사한다. 접근 권한은 호출 측에서 먼저 확인해야 한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param out       출력 스트림
+     * @see #findAccessibleDiagramHeader(String, Long, Long, Long)
+     */
+    public void copyContent(Long diagramId, OutputStream out) {
+        diagramContentStore.copyContent(diagramId, out);
+    }
+
+    /**
+     * 기준 리비전 위에 JSON Patch 연산 목록을 적용하여 다이어그램을 부분 저장한다.
+     *
+     * <p>기준 리비전이 현재 리비전과 다르면 다른 사용자의 변경을 덮어쓰지 않도록 거부한다.
+     * 연산 적용 결과의 정규화 해시가 저장된 해시와 같으면(UI 상태만 바뀐 경우 포함) 쓰기를 생략하고
+     * 현재 리비전을 그대로 반환한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   다이어그램 패치 요청
+     * @param ifMatch   {@code If-Match} 헤더 값 (nullable, 있으면 현재 content ETag와 일치해야 저장)
+     * @return 패치 적용 후 리비전 응답
+     * @throws ConflictException           기준 리비전이 현재 리비전과 다르거나 {@code test} 연산이 실패한 경우
+     * @throws PreconditionFailedException {@code If-Match}가 현재 content ETag와 다른 경우
+     */
+    @Transactional
+    public DiagramRevisionResponse patchDiagram(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        PatchDiagramRequest request,
+        @Nullable String ifMatch
+    ) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+        verifyIfMatch(ifMatch, diagram.getContentHash());
+        if (!diagram.getRevision().equals(request.baseRevision())) {
+            throw new ConflictException(
+                "Stale base revision " + request.baseRevision() + ", current revision is " + diagram.getRevision()
+            );
+        }
+
+        final var document = readDocument(diagram.getContent());
+        final var patched = diagramPatchApplier.apply(document, request.operations());
+        if (!patched.isObject()) {
+            throw new BusinessException("Patched diagram content must be a JSON object");
+        }
+
+        final var contentHash = DiagramContentCanonicalizer.hash(patched);
+        if (!contentHash.equals(diagram.getContentHash())) {
+            storeContent(diagram, patched, writeDocument(patched), contentHash, () -> document);
+        }
+
+        return DiagramRevisionResponse.from(diagram);
+    }
+
+    /**
+     * 다이어그램의 리비전 기록 목록을 최신순으로 조회한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 리비전 기록 응답 목록
+     */
+    public List<DiagramHistoryItemResponse> getRevisions(String loginId, Long teamId, Long projectId, Long diagramId) {
+        findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        return diagramHistoryService.getRevisions(diagramId).stream().map(DiagramHistoryItemResponse::from).toList();
+    }
+
+    /**
+     * 지난 리비전의 content를 스냅샷과 델타로 복원하여 조회한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param revision  조회할 리비전
+     * @return 리비전 content 응답
+     * @throws EntityNotFoundException 다이어그램이나 리비전 기록이 없는 경우
+     */
+    public DiagramHistoryDetailResponse getRevision(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        Long revision
+    ) {
+        findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var item = diagramHistoryService.getRevision(diagramId, revision);
+        final var document = diagramHistoryService.reconstruct(diagramId, revision);
+        return DiagramHistoryDetailResponse.of(diagramId, item, writeDocument(document));
+    }
+
+    /**
+     * 두 리비전 사이의 구조적 차이(테이블·컬럼·관계 단위)를 계산한다.
+     *
+     * <p>두 리비전의 content 해시가 같으면 문서를 읽지 않고 빈 차이를 반환한다. {@code to}를 생략하면 현재 content와
+     * 비교한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param from      기준 리비전
+     * @param to        비교할 리비전 (nullable, 없으면 현재 리비전)
+     * @return 구조적 차이 응답
+     * @throws EntityNotFoundException 다이어그램이나 리비전 기록이 없는 경우
+     */
+    public DiagramDiffResponse getDiagramDiff(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        Long from,
+        @Nullable Long to
+    ) {
+        final var header = findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var base = diagramHistoryService.getRevision(diagramId, from);
+        final var target = to == null ? null : diagramHistoryService.getRevision(diagramId, to);
+        final var targetRevision = target == null ? header.revision() : target.revision();
+        final var targetHash = target == null ? header.contentHash() : target.contentHash();
+        if (base.contentHash().equals(targetHash)) {
+            return DiagramDiffResponse.of(diagramId, from, targetRevision, DiagramDiff.EMPTY);
+        }
+
+        final var before = readRevisionDocument(diagramId, from);
+        final var after = readRevisionDocument(diagramId, to);
+        return DiagramDiffResponse.of(diagramId, from, targetRevision, diagramDiffer.diff(before, after));
+    }
+
+    /**
+     * 지난 리비전의 content를 새 리비전으로 저장하여 되돌린다.
+     *
+     * <p>기록은 지우지 않으며, 되돌린 결과도 하나의 새 리비전으로 남는다. 되돌릴 content가 현재 content와 의미상 같으면
+     * 쓰기를 생략한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param revision  되돌릴 리비전
+     * @param ifMatch   {@code If-Match} 헤더 값 (nullable, 있으면 현재 content ETag와 일치해야 저장)
+     * @return 저장된 다이어그램 응답
+     * @throws EntityNotFoundException     다이어그램이나 리비전 기록이 없는 경우
+     * @throws PreconditionFailedException {@code If-Match}가 현재 content ETag와 다른 경우
+     */
+    @Transactional
+    public DiagramResponse restoreRevision(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        Long revision,
+        @Nullable String ifMatch
+    ) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+        verifyIfMatch(ifMatch, diagram.getContentHash());
+        final var document = diagramHistoryService.reconstruct(diagramId, revision);
+        final var contentHash = DiagramContentCanonicalizer.hash(document);
+
+        if (!contentHash.equals(diagram.getContentHash())) {
+            storeContent(diagram, document, writeDocument(document), contentHash, () ->
+                readDocument(diagram.getContent())
+            );
+        }
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * 관계 그래프로 테이블 위치를 다시 계산하여 새 리비전으로 저장한다.
+     *
+     * <p>노드 크기는 React Flow가 잰 {@code measured} 크기나 {@code width}·{@code height}를 쓰고, 없으면 컬럼 수로
+     * 어림한다. 계산한 좌상단 좌표를 각 노드의 {@code position}에 쓰며, 나머지 필드는 건드리지 않는다.
+     * 배치 결과가 현재 content와 같으면 쓰기를 생략한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param ifMatch   {@code If-Match} 헤더 값 (nullable, 있으면 현재 content ETag와 일치해야 저장)
+     * @return 저장된 다이어그램 응답
+     * @throws PreconditionFailedException {@code If-Match}가 현재 content ETag와 다른 경우
+     */
+    @Transactional
+    public DiagramResponse layoutDiagram(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        @Nullable String ifMatch
+    ) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+        verifyIfMatch(ifMatch, diagram.getContentHash());
+        final var document = readDocument(diagram.getContent());
+
+        final var nodes = new ArrayList<DiagramLayoutEngine.Node>();
+        final var objects = new HashMap<String, ObjectNode>();
+        for (final var node : document.path("nodes")) {
+            final var id = node.path("id").asText("");
+            if (node instanceof ObjectNode object && !id.isEmpty() && objects.putIfAbsent(id, object) == null) {
+                nodes.add(new DiagramLayoutEngine.Node(id, nodeWidth(node), nodeHeight(node)));
+            }
+        }
+        final var edges = new ArrayList<DiagramLayoutEngine.Edge>();
+        for (final var edge : document.path("edges")) {
+            edges.add(new DiagramLayoutEngine.Edge(edge.path("source").asText(""), edge.path("target").asText("")));
+        }
+        for (final var placement : diagramLayoutEngine.layout(nodes, edges)) {
+            objects
+                .get(placement.id())
+                .putObject("position")
+                .put("x", (long) placement.x())
+                .put("y", (long) placement.y());
+        }
+
+        final var contentHash = DiagramContentCanonicalizer.hash(document);
+        if (!contentHash.equals(diagram.getContentHash())) {
+            storeContent(diagram, document, writeDocument(document), contentHash, () ->
+                readDocument(diagram.getContent())
+            );
+        }
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * 다이어그램 이름을 변경한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param request   이름 변경 요청
+     * @return 변경된 다이어그램 응답
+     */
+    @Transactional
+    public DiagramResponse renameDiagram(
+        String loginId,
+        Long teamId,
+        Long projectId,
+        Long diagramId,
+        RenameDiagramRequest request
+    ) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+
+        diagram.rename(request.name());
+        diagramRepository.flush();
+
+        return DiagramResponse.from(diagram);
+    }
+
+    /**
+     * 다이어그램을 삭제한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     */
+    @Transactional
+    public void deleteDiagram(String loginId, Long teamId, Long projectId, Long diagramId) {
+        final var diagram = findAccessibleDiagram(loginId, teamId, projectId, diagramId);
+        diagramModelService.delete(diagram);
+        diagramHistoryService.delete(diagram);
+        diagramRepository.delete(diagram);
+        diagramIndexService.evict(diagramId);
+        eventPublisher.publishEvent(new DiagramDeletedEvent(diagramId));
+    }
+
+    /**
+     * 요청 사용자가 접근 가능한 다이어그램을 조회한다.
+     *
+     * <p>팀 멤버십, 프로젝트의 팀 소속, 다이어그램의 프로젝트 소속을 순서대로 확인한다.</p>
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 다이어그램 엔티티
+     * @throws EntityNotFoundException 다이어그램이 존재하지 않거나 해당 프로젝트에 속하지 않는 경우
+     */
+    public Diagram findAccessibleDiagram(String loginId, Long teamId, Long projectId, Long diagramId) {
+        final var project = findAccessibleProject(loginId, teamId, projectId);
+        return diagramRepository
+            .findByProjectAndId(project, diagramId)
+            .orElseThrow(() -> new EntityNotFoundException("Diagram not found: " + diagramId));
+    }
+
+    /**
+     * 요청 사용자가 접근 가능한 다이어그램의 메타데이터를 content(LOB) 로딩 없이 조회한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 다이어그램 메타데이터
+     * @throws EntityNotFoundException 다이어그램이 존재하지 않거나 해당 프로젝트에 속하지 않는 경우
+     */
+    public DiagramHeader findAccessibleDiagramHeader(String loginId, Long teamId, Long projectId, Long diagramId) {
+        return findHeader(findAccessibleProject(loginId, teamId, projectId), diagramId);
+    }
+
+    private DiagramHeader findHeader(Project project, Long diagramId) {
+        return diagramRepository
+            .findHeaderByProjectAndId(project, diagramId)
+            .orElseThrow(() -> new EntityNotFoundException("Diagram not found: " + diagramId));
+    }
+
+    /**
+     * 새 content를 엔티티에 반영하고 정규화 모델·요약·리비전 기록을 함께 갱신한 뒤 저장 이벤트를 발행한다.
+     *
+     * @param diagram     다이어그램 엔티티
+     * @param document    새 content 문서
+     * @param content     새 content JSON
+     * @param contentHash 새 content 해시
+     * @param previous    덮어쓰기 전 content 문서 공급자 (리비전 매니페스트가 캐시에 없을 때만 호출된다)
+     */
+    private void storeContent(
+        Diagram diagram,
+        JsonNode document,
+        String content,
+        String contentHash,
+        Supplier<JsonNode> previous
+    ) {
+        final var recording = diagramHistoryService.begin(diagram.getId(), diagram.getContentHash(), () ->
+            DiagramDelta.manifest(previous.get())
+        );
+        DiagramDocumentVisitor.walk(document, recording.visitor());
+
+        final var byteSize = byteSize(content);
+        diagram.updateContent(content, contentHash);
+        diagramModelService.synchronize(diagram, erdDocumentParser.parse(document));
+        diagramModelService.summarize(diagram, byteSize);
+        diagramRepository.flush();
+        diagramHistoryService.record(diagram.getId(), diagram.getRevision(), contentHash, byteSize, recording);
+        eventPublisher.publishEvent(new DiagramContentSavedEvent(diagram.getId()));
+    }
+
+    /**
+     * 지난 리비전이나 현재 content를 JSON 트리로 읽는다. 접근 권한은 호출자가 확인한다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @param revision  리비전 (nullable, 없으면 현재 content)
+     * @return React Flow JSON
+     * @throws EntityNotFoundException 다이어그램이나 리비전 기록이 없는 경우
+     */
+    JsonNode readRevisionDocument(Long diagramId, @Nullable Long revision) {
+        return revision == null
+            ? readStoredDocument(diagramId)
+            : diagramHistoryService.reconstruct(diagramId, revision);
+    }
+
+    /** 저장된 content를 문자열로 복사하지 않고 스트림에서 바로 JSON 트리로 읽는다. */
+    private JsonNode readStoredDocument(Long diagramId) {
+        final var holder = new JsonNode[1];
+        diagramContentStore.readContent(diagramId, (in) -> holder[0] = objectMapper.readTree(in));
+        if (holder[0] == null) {
+            throw new EntityNotFoundException("Diagram not found: " + diagramId);
+        }
+        return holder[0];
+    }
+
+    /** 저장된 content를 스트림으로 읽어 리비전 매니페스트를 만든다. */
+    private DiagramDelta.Manifest storedManifest(Long diagramId) {
+        final var builder = DiagramDelta.manifestBuilder();
+        diagramContentStore.readContent(diagramId, (in) ->
+            diagramContentStreamWriter.write(
+                in,
+                OutputStream.nullOutputStream(),
+                (table) -> {},
+                (relationship) -> {},
+                builder
+            )
+        );
+        return builder.build();
+    }
+
+    /** 노드 너비: React Flow가 잰 크기, 지정된 크기, 기본 너비 순으로 쓴다. */
+    private static double nodeWidth(JsonNode node) {
+        return node.path("measured").path("width").asDouble(node.path("width").asDouble(LAYOUT_NODE_WIDTH));
+    }
+
+    /** 노드 높이: React Flow가 잰 크기, 지정된 크기가 없으면 머리글과 컬럼 줄 높이로 어림한다. */
+    private static double nodeHeight(JsonNode node) {
+        final var estimate = LAYOUT_HEADER_HEIGHT + LAYOUT_ROW_HEIGHT * node.path("data").path("columns").size();
+        return node.path("measured").path("height").asDouble(node.path("height").asDouble(estimate));
+    }
+
+    private static void verifyIfMatch(@Nullable String ifMatch, @Nullable String contentHash) {
+        if (!DiagramETags.satisfiesIfMatch(ifMatch, contentHash)) {
+            throw new PreconditionFailedException(
+                "Diagram content has changed, If-Match " + ifMatch + " does not match " + DiagramETags.of(contentHash)
+            );
+        }
+    }
+
+    private Project findAccessibleProject(String loginId, Long teamId, Long projectId) {
+        final var user = authService.findUserByLoginId(loginId);
+        final var team = teamService.findTeamById(teamId);
+        teamService.verifyMembership(team, user);
+
+        final var project = projectService.findProjectById(projectId);
+        projectService.verifyProjectBelongsToTeam(project, teamId);
+        return project;
+    }
+
+    private JsonNode readDocument(String content) {
+        try {
+            final var document = objectMapper.readTree(content == null ? EMPTY_CONTENT : content);
+            if (document == null || !document.isObject()) {
+                throw new BusinessException("Diagram content must be a JSON object");
+            }
+            return document;
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Invalid diagram content JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static long byteSize(String content) {
+        return content.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String writeDocument(JsonNode document) {
+        try {
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException("Failed to serialize diagram content: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.smarterd.domain.diagram.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 다이어그램 저장 뒤 미리보기를 백그라운드에서 그려 두는 작업.
+ *
+ * <p>{@link DiagramContentSavedEvent}를 저장 트랜잭션이 커밋된 뒤에 받아 전용 스레드 하나에 넘기므로, 저장 응답은
+ * 렌더링을 기다리지 않는다. 아직 처리하지 않은 다이어그램이 다시 저장되면 작업을 하나로 합치고, 작업을 시작할 때의
+ * 최신 content만 그린다. 그리다 실패해도 저장에는 영향이 없으며, 미리보기는 다음 조회 때 다시 그린다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramThumbnailJob {
+
+    /** 다이어그램 렌더링 서비스 */
+    private final DiagramRenderService diagramRenderService;
+
+    /** 대기 중인 다이어그램 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 렌더링 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> {
+        final var thread = new Thread(runnable, "diagram-thumbnail");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 저장된 다이어그램의 미리보기 렌더링을 예약한다.
+     *
+     * @param event 저장 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentSaved(DiagramContentSavedEvent event) {
+        final var diagramId = event.diagramId();
+        if (pending.add(diagramId)) {
+            executor.execute(() -> {
+                pending.remove(diagramId);
+                diagramRenderService.refreshThumbnail(diagramId);
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
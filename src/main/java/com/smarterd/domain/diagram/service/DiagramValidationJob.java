@@ -0,0 +1,89 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.dictionary.service.DictionaryChangedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 다이어그램 저장 뒤 사전 검사 결과를 백그라운드에서 갱신하는 작업.
+ *
+ * <p>{@link DiagramHealthJob}과 같이 저장이 커밋된 뒤 전용 스레드 하나에서 바뀐 컬럼만 다시 검사하며, 아직 처리하지 않은
+ * 다이어그램이 다시 저장되면 작업을 하나로 합친다. 삭제가 커밋되면 검사기를 버린다. 팀 사전 변경이 커밋되면 바로 변경을
+ * 기록하고, 같은 스레드에서 팀 규칙을 새로 만들어 그 팀의 저장된 검사 결과를 오래된 것으로 표시한다. 한 트랜잭션에서 여러
+ * 행을 쓰면 사전 변경 이벤트도 여러 번 오므로, 아직 처리하지 않은 팀의 표시는 하나로 합친다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DiagramValidationJob {
+
+    /** 사전 검사 서비스 */
+    private final DiagramValidationService diagramValidationService;
+
+    /** 대기 중인 다이어그램 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 저장된 결과 표시를 기다리는 팀 ID */
+    private final Set<Long> pendingTeams = ConcurrentHashMap.newKeySet();
+
+    /** 검사 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> {
+        final var thread = new Thread(runnable, "diagram-validation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 저장된 다이어그램의 검사 갱신을 예약한다.
+     *
+     * @param event 저장 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentSaved(DiagramContentSavedEvent event) {
+        final var diagramId = event.diagramId();
+        if (pending.add(diagramId)) {
+            executor.execute(() -> {
+                pending.remove(diagramId);
+                diagramValidationService.refresh(diagramId);
+            });
+        }
+    }
+
+    /**
+     * 삭제된 다이어그램의 검사기를 버린다.
+     *
+     * @param event 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeleted(DiagramDeletedEvent event) {
+        executor.execute(() -> diagramValidationService.evict(event.diagramId()));
+    }
+
+    /**
+     * 사전이 바뀐 팀의 저장된 검사 결과를 오래된 것으로 표시한다.
+     *
+     * @param event 사전 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDictionaryChanged(DictionaryChangedEvent event) {
+        final var teamId = event.teamId();
+        diagramValidationService.dictionaryChanged(teamId);
+        if (pendingTeams.add(teamId)) {
+            executor.execute(() -> {
+                pendingTeams.remove(teamId);
+                diagramValidationService.markStale(teamId);
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
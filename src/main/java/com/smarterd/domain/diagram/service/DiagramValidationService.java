@@ -0,0 +1,210 @@
+package com.smarterd.domain.diagram.service;
+
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import com.smarterd.domain.diagram.repository.DiagramValidationStore;
+import com.smarterd.domain.dictionary.service.DictionaryRuleIndexer;
+import com.smarterd.domain.dictionary.validation.DictionaryRuleSet;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationEngine;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport;
+import com.smarterd.domain.dictionary.validation.IncrementalDictionaryValidator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 다이어그램 사전 검사 서비스.
+ *
+ * <p>
+ * 팀 사전은 {@link DictionaryRuleIndexer}가 해시 표로 한 번 만들어 두고 사전이 바뀔 때만 다시 만든다. 다이어그램마다
+ * {@link IncrementalDictionaryValidator}를 두어, content 해시가 바뀌면 이름·타입이 바뀐 컬럼만, 팀 규칙이 바뀌면
+ * 바뀐 용어·도메인을 참조하는 컬럼만 다시 검사한다. 저장이 커밋되면 {@link DiagramValidationJob}이 백그라운드에서 갱신해
+ * 두므로, 조회는 대개 보관된 보고서를 그대로 반환한다.
+ * </p>
+ *
+ * <p>
+ * 다시 검사한 컬럼 결과와 검사한 content 해시는 {@link DiagramValidationStore}로 테이블에 남긴다. 메모리에는 최근에 쓴
+ * {@value #CACHE_CAPACITY}개 다이어그램의 검사기만 두고, 밀려난 다이어그램은 저장된 결과로 검사기를 다시 채운 뒤 입력이
+ * 바뀐 컬럼만 검사한다. 팀 사전이 바뀌면 {@link DiagramValidationJob}이 그 팀의 저장된 결과를 오래된 것으로 표시하고,
+ * 오래된 결과는 쓰지 않고 처음부터 검사한다. 사전 변경이 커밋된 뒤 표시가 끝나기 전이나 검사 도중 사전이 바뀐 검사는
+ * 옛 규칙을 썼을 수 있으므로, 저장된 결과로 검사기를 채우지 않고 결과는 남기되 오래된 표시를 지우지 않는다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DiagramValidationService {
+
+    /** 검사기를 보관할 최대 다이어그램 수 */
+    static final int CACHE_CAPACITY = 64;
+
+    /** 다이어그램 서비스 (접근 확인) */
+    private final DiagramService diagramService;
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 정규화 모델 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /** 팀별 사전 검사 규칙 */
+    private final DictionaryRuleIndexer dictionaryRuleIndexer;
+
+    /** 사전 검사 엔진 */
+    private final DictionaryValidationEngine dictionaryValidationEngine;
+
+    /** 검사 결과 저장소 */
+    private final DiagramValidationStore diagramValidationStore;
+
+    /** 팀 ID별 사전 변경 세대 (사전 변경이 커밋될 때마다 증가) */
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+
+    /** 팀 ID별 규칙을 새로 만들고 저장된 결과를 오래된 것으로 표시한 세대 */
+    private final Map<Long, Long> markedGenerations = new ConcurrentHashMap<>();
+
+    /** 다이어그램 ID별 검사기 (LRU) */
+    private final Map<Long, IncrementalDictionaryValidator> validators = new LinkedHashMap<>(
+        CACHE_CAPACITY * 2,
+        0.75f,
+        true
+    ) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, IncrementalDictionaryValidator> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * 다이어그램의 모든 컬럼을 팀 용어·도메인 사전과 비교한 보고서를 반환한다.
+     *
+     * @param loginId   요청 사용자의 로그인 ID
+     * @param teamId    팀 ID
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @return 현재 content와 사전의 검사 보고서
+     */
+    public DictionaryValidationReport validate(String loginId, Long teamId, Long projectId, Long diagramId) {
+        final var header = diagramService.findAccessibleDiagramHeader(loginId, teamId, projectId, diagramId);
+        final var generation = generations.getOrDefault(teamId, 0L);
+        final var settled = generation == markedGenerations.getOrDefault(teamId, 0L);
+        return validate(
+            teamId,
+            generation,
+            settled,
+            diagramId,
+            header.contentHash(),
+            dictionaryRuleIndexer.rules(teamId)
+        );
+    }
+
+    /**
+     * 현재 content로 검사를 갱신해 둔다. 접근 권한은 확인하지 않으며, 다이어그램이 그사이 삭제되었으면 아무것도 하지 않는다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void refresh(Long diagramId) {
+        diagramRepository.findLocationById(diagramId).ifPresent((location) -> {
+            final var teamId = location.teamId();
+            final var generation = generations.getOrDefault(teamId, 0L);
+            final var settled = generation == markedGenerations.getOrDefault(teamId, 0L);
+            diagramRepository.findHeaderById(diagramId).ifPresent((header) ->
+                validate(
+                    teamId,
+                    generation,
+                    settled,
+                    diagramId,
+                    header.contentHash(),
+                    dictionaryRuleIndexer.rules(teamId)
+                )
+            );
+        });
+    }
+
+    /**
+     * 다이어그램의 검사기를 버린다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void evict(Long diagramId) {
+        synchronized (validators) {
+            validators.remove(diagramId);
+        }
+    }
+
+    /**
+     * 팀 사전 변경이 커밋되었음을 기록한다. {@link #markStale}이 끝날 때까지 그 팀의 검사는 저장된 결과를 쓰지 않는다.
+     *
+     * @param teamId 팀 ID
+     */
+    public void dictionaryChanged(Long teamId) {
+        generations.merge(teamId, 1L, Long::sum);
+    }
+
+    /**
+     * 팀 규칙을 새로 만들고 팀에 속한 다이어그램의 저장된 결과를 오래된 것으로 표시한다. 메모리의 검사기는 다음 검사에서
+     * 바뀐 규칙만큼 다시 검사하므로 그대로 둔다.
+     *
+     * @param teamId 팀 ID
+     */
+    public void markStale(Long teamId) {
+        final var generation = generations.getOrDefault(teamId, 0L);
+        dictionaryRuleIndexer.refresh(teamId);
+        diagramValidationStore.markStale(teamId);
+        markedGenerations.merge(teamId, generation, Math::max);
+    }
+
+    private DictionaryValidationReport validate(
+        Long teamId,
+        long generation,
+        boolean settled,
+        Long diagramId,
+        String contentHash,
+        DictionaryRuleSet rules
+    ) {
+        final IncrementalDictionaryValidator validator;
+        synchronized (validators) {
+            validator = validators.computeIfAbsent(
+                diagramId,
+                (id) -> new IncrementalDictionaryValidator(dictionaryValidationEngine)
+            );
+        }
+        synchronized (validator) {
+            final var previousHash = validator.contentHash();
+            var replace = false;
+            if (previousHash == null) {
+                final var stored = settled ? diagramValidationStore.load(diagramId) : null;
+                if (stored == null) {
+                    replace = true;
+                } else {
+                    validator.restore(stored, rules);
+                }
+            }
+            if (contentHash.equals(previousHash)) {
+                validator.updateRules(rules);
+            } else {
+                validator.update(
+                    contentHash,
+                    diagramModelService.reconstruct(diagramRepository.getReferenceById(diagramId), null),
+                    rules
+                );
+            }
+
+            final var checked = validator.checkedColumns();
+            final var removed = validator.removedColumnIds();
+            if (replace || !contentHash.equals(previousHash) || !checked.isEmpty() || !removed.isEmpty()) {
+                final var stale = !settled || generation != generations.getOrDefault(teamId, 0L);
+                try {
+                    diagramValidationStore.save(diagramId, contentHash, stale, replace, checked, removed);
+                } catch (RuntimeException e) {
+                    // 저장된 결과와 어긋난 검사기는 버리고 다음 검사에서 저장된 결과로 다시 채운다
+                    evict(diagramId);
+                    throw e;
+                }
+            }
+            return validator.report();
+        }
+    }
+}
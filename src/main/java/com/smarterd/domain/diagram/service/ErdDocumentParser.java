@@ -0,0 +1,214 @@
+package com.smarterd.domain.diagram.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * React Flow JSON ↔ {@link ErdDocument} 변환기.
+ *
+ * <p>알 수 없는 속성(선택 상태, 측정 크기 등 UI 상태)은 무시하고 테이블·컬럼·관계 구조만 읽는다.
+ * 같은 ID가 두 번 이상 나오면 처음 것만 사용한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ErdDocumentParser {
+
+    /** 노드·컬럼·엣지 ID 최대 길이 */
+    static final int MAX_ID_LENGTH = 64;
+
+    /** 핸들·엣지 ID 최대 길이 */
+    static final int MAX_HANDLE_LENGTH = 255;
+
+    /** 이름·라벨 최대 길이 */
+    static final int MAX_NAME_LENGTH = 255;
+
+    /** 데이터 타입 최대 길이 */
+    static final int MAX_TYPE_LENGTH = 100;
+
+    /** JSON 직렬화기 */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * React Flow JSON 트리를 ERD 문서로 변환한다.
+     *
+     * @param document {@code nodes}, {@code edges} 배열을 가진 JSON 객체
+     * @return ERD 문서
+     * @throws BusinessException ID나 이름이 허용 길이를 넘는 경우
+     */
+    public ErdDocument parse(JsonNode document) {
+        final var tables = new ArrayList<ErdTable>();
+        final var tableIds = new HashSet<String>();
+        final var columnIds = new HashSet<String>();
+        for (final var node : document.path("nodes")) {
+            final var table = parseTable(node);
+            if (table == null || !tableIds.add(table.id())) {
+                continue;
+            }
+            final var columns = table.columns().stream().filter((column) -> columnIds.add(column.id())).toList();
+            tables.add(
+                columns.size() == table.columns().size()
+                    ? table
+                    : new ErdTable(table.id(), table.type(), table.x(), table.y(), table.label(), columns)
+            );
+        }
+
+        final var relationships = new ArrayList<ErdRelationship>();
+        final var edgeIds = new HashSet<String>();
+        for (final var edge : document.path("edges")) {
+            final var relationship = parseRelationship(edge);
+            if (relationship != null && edgeIds.add(relationship.id())) {
+                relationships.add(relationship);
+            }
+        }
+        return new ErdDocument(List.copyOf(tables), List.copyOf(relationships));
+    }
+
+    /**
+     * React Flow 노드 하나를 테이블로 변환한다. 한 테이블 안에서 중복된 컬럼 ID는 처음 것만 사용한다.
+     *
+     * @param node React Flow 노드 JSON
+     * @return 테이블, ID가 비어 있으면 {@code null}
+     * @throws BusinessException ID나 이름이 허용 길이를 넘는 경우
+     */
+    @Nullable
+    public ErdTable parseTable(JsonNode node) {
+        final var id = text(node, "id", MAX_ID_LENGTH);
+        if (id.isEmpty()) {
+            return null;
+        }
+        final var data = node.path("data");
+        final var columns = new ArrayList<ErdColumn>();
+        final var columnIds = new HashSet<String>();
+        for (final var column : data.path("columns")) {
+            final var columnId = text(column, "id", MAX_ID_LENGTH);
+            if (columnId.isEmpty() || !columnIds.add(columnId)) {
+                continue;
+            }
+            columns.add(
+                new ErdColumn(
+                    columnId,
+                    text(column, "name", MAX_NAME_LENGTH),
+                    text(column, "type", MAX_TYPE_LENGTH),
+                    column.path("pk").asBoolean(false),
+                    column.path("fk").asBoolean(false),
+                    column.path("nullable").asBoolean(false)
+                )
+            );
+        }
+        return new ErdTable(
+            id,
+            node.path("type").asText("table"),
+            node.path("position").path("x").asDouble(0),
+            node.path("position").path("y").asDouble(0),
+            text(data, "label", MAX_NAME_LENGTH),
+            List.copyOf(columns)
+        );
+    }
+
+    /**
+     * React Flow 엣지 하나를 관계로 변환한다.
+     *
+     * @param edge React Flow 엣지 JSON
+     * @return 관계, ID가 비어 있으면 {@code null}
+     * @throws BusinessException ID나 핸들이 허용 길이를 넘는 경우
+     */
+    @Nullable
+    public ErdRelationship parseRelationship(JsonNode edge) {
+        final var id = text(edge, "id", MAX_HANDLE_LENGTH);
+        if (id.isEmpty()) {
+            return null;
+        }
+        return new ErdRelationship(
+            id,
+            text(edge, "source", MAX_ID_LENGTH),
+            nullableText(edge, "sourceHandle"),
+            text(edge, "target", MAX_ID_LENGTH),
+            nullableText(edge, "targetHandle"),
+            edge.path("type").asText("step")
+        );
+    }
+
+    /**
+     * ERD 문서를 React Flow JSON 트리로 변환한다.
+     *
+     * @param document ERD 문서
+     * @return {@code nodes}, {@code edges} 배열을 가진 JSON 객체
+     */
+    public ObjectNode toJson(ErdDocument document) {
+        final var root = objectMapper.createObjectNode();
+        final var nodes = root.putArray("nodes");
+        for (final var table : document.tables()) {
+            final var node = nodes.addObject();
+            node.put("id", table.id());
+            node.put("type", table.type());
+            final var position = node.putObject("position");
+            putNumber(position, "x", table.x());
+            putNumber(position, "y", table.y());
+            final var data = node.putObject("data");
+            data.put("label", table.label());
+            final var columns = data.putArray("columns");
+            for (final var column : table.columns()) {
+                columns
+                    .addObject()
+                    .put("id", column.id())
+                    .put("name", column.name())
+                    .put("type", column.type())
+                    .put("pk", column.pk())
+                    .put("fk", column.fk())
+                    .put("nullable", column.nullable());
+            }
+        }
+
+        final var edges = root.putArray("edges");
+        for (final var relationship : document.relationships()) {
+            final var edge = edges.addObject();
+            edge.put("id", relationship.id());
+            edge.put("source", relationship.source());
+            edge.put("sourceHandle", relationship.sourceHandle());
+            edge.put("target", relationship.target());
+            edge.put("targetHandle", relationship.targetHandle());
+            edge.put("type", relationship.type());
+            edge.putObject("markerEnd").put("type", "arrowclosed");
+        }
+        return root;
+    }
+
+    private static void putNumber(ObjectNode node, String field, double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            node.put(field, (long) value);
+        } else {
+            node.put(field, value);
+        }
+    }
+
+    private static String text(JsonNode node, String field, int maxLength) {
+        final var value = node.path(field).asText("");
+        if (value.length() > maxLength) {
+            throw new BusinessException(
+                "Diagram " + field + " exceeds " + maxLength + " characters: " + value.substring(0, 32) + "..."
+            );
+        }
+        return value;
+    }
+
+    @Nullable
+    private static String nullableText(JsonNode node, String field) {
+        final var value = node.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        return text(node, field, MAX_HANDLE_LENGTH);
+    }
+}
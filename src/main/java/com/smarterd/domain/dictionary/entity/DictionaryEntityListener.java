@@ -0,0 +1,32 @@
+package com.smarterd.domain.dictionary.entity;
+
+import com.smarterd.domain.dictionary.service.DictionaryChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 용어·도메인 엔티티가 쓰일 때마다 {@link DictionaryChangedEvent}를 발행하는 JPA 엔티티 리스너.
+ *
+ * <p>Hibernate가 Spring 빈 컨테이너로 생성하므로 이벤트 발행기를 주입받는다. 한 트랜잭션에서 여러 행을 쓰면 이벤트도
+ * 여러 번 발행되며, 받는 쪽이 팀 단위로 합친다.</p>
+ */
+@RequiredArgsConstructor
+public class DictionaryEntityListener {
+
+    /** 이벤트 발행기 */
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onWrite(Object entity) {
+        if (entity instanceof Term term) {
+            eventPublisher.publishEvent(new DictionaryChangedEvent(term.getTeam().getId()));
+        } else if (entity instanceof Domain domain) {
+            eventPublisher.publishEvent(new DictionaryChangedEvent(domain.getTeam().getId()));
+        }
+    }
+}
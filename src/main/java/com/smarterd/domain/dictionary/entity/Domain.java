@@ -4,6 +4,7 @@ import com.smarterd.domain.common.entity.BaseTimeEntity;
 import com.smarterd.domain.team.entity.Team;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -25,6 +26,7 @@ import lombok.NoArgsConstructor;
  * @see Term
  */
 @Entity
+@EntityListeners(DictionaryEntityListener.class)
 @Table(name = "domains")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
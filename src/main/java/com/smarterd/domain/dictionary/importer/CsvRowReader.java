@@ -0,0 +1,148 @@
+package com.smarterd.domain.dictionary.importer;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * RFC 4180 CSV 행 리더.
+ *
+ * <p>쉼표로 나누고, 큰따옴표로 감싼 셀 안의 쉼표·줄바꿈과 {@code ""}(따옴표 하나)를 지원한다. 줄 끝은 CRLF와 LF를
+ * 모두 받는다. 셀 하나는 {@value #MAX_CELL_LENGTH}자까지 읽는다.</p>
+ */
+final class CsvRowReader implements SpreadsheetRowReader {
+
+    /** 셀 하나의 최대 길이 (문자, Excel 셀 한도와 같다) */
+    static final int MAX_CELL_LENGTH = 32_767;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader in;
+
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    private int position;
+
+    private int limit;
+
+    private final StringBuilder cell = new StringBuilder();
+
+    private int rowNumber;
+
+    private CsvRowReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * 바이트 스트림을 여는 리더를 만든다. UTF-8 BOM이 있으면 건너뛰고 UTF-8로 읽는다.
+     *
+     * @param in      바이트 스트림 ({@code mark}를 지원해야 한다)
+     * @param charset 문자 인코딩
+     * @return 리더
+     * @throws IOException 읽기에 실패한 경우
+     */
+    static CsvRowReader open(InputStream in, Charset charset) throws IOException {
+        in.mark(3);
+        final var bom = in.readNBytes(3);
+        if (bom.length == 3 && (bom[0] & 0xFF) == 0xEF && (bom[1] & 0xFF) == 0xBB && (bom[2] & 0xFF) == 0xBF) {
+            return new CsvRowReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        in.reset();
+        return new CsvRowReader(new InputStreamReader(in, charset));
+    }
+
+    @Nullable
+    @Override
+    public List<String> next() throws IOException {
+        var c = read();
+        if (c < 0) {
+            return null;
+        }
+        rowNumber++;
+        final var cells = new ArrayList<String>();
+        while (true) {
+            cell.setLength(0);
+            if (c == '"') {
+                c = readQuoted();
+            }
+            while (c >= 0 && c != ',' && c != '\n' && c != '\r') {
+                append(c);
+                c = read();
+            }
+            cells.add(cell.toString());
+            if (c != ',') {
+                break;
+            }
+            c = read();
+        }
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        return cells;
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /** 여는 따옴표 다음부터 닫는 따옴표까지 읽고, 그 다음 문자를 돌려준다. */
+    private int readQuoted() throws IOException {
+        while (true) {
+            final var c = read();
+            if (c < 0) {
+                throw new BusinessException("Unterminated quoted cell in CSV row " + rowNumber);
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    return read();
+                }
+                read();
+            }
+            append(c);
+        }
+    }
+
+    private void append(int c) {
+        if (cell.length() == MAX_CELL_LENGTH) {
+            throw new BusinessException("CSV cell exceeds " + MAX_CELL_LENGTH + " characters in row " + rowNumber);
+        }
+        cell.append((char) c);
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        final var read = in.read(buffer);
+        if (read <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
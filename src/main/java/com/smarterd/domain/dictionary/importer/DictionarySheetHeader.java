@@ -0,0 +1,120 @@
+package com.smarterd.domain.dictionary.importer;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.dictionary.index.DictionaryItem;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.lang.Nullable;
+
+/**
+ * 사전 가져오기 파일의 머리글 행. 열 이름을 열 위치로 바꾼다.
+ *
+ * <p>
+ * 열 이름은 대소문자·공백·밑줄·하이픈을 무시하고, 영문과 한글 별칭을 모두 받는다. 열 순서는 자유이며 모르는 열은 무시한다.
+ * </p>
+ *
+ * <ul>
+ * <li>{@code kind} (필수) — {@code TERM}/{@code 용어} 또는 {@code DOMAIN}/{@code 도메인}</li>
+ * <li>{@code logical_name} (필수) — 논리명</li>
+ * <li>{@code physical_name} — 용어 물리명</li>
+ * <li>{@code physical_type} — 도메인 물리 타입</li>
+ * <li>{@code domain} — 용어에 연결할 도메인 논리명</li>
+ * </ul>
+ *
+ * @param kind         종류 열 위치
+ * @param logicalName  논리명 열 위치
+ * @param physicalName 물리명 열 위치 (없으면 -1)
+ * @param physicalType 물리 타입 열 위치 (없으면 -1)
+ * @param domain       도메인 열 위치 (없으면 -1)
+ */
+public record DictionarySheetHeader(int kind, int logicalName, int physicalName, int physicalType, int domain) {
+
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+        Map.entry("kind", "kind"),
+        Map.entry("type", "kind"),
+        Map.entry("구분", "kind"),
+        Map.entry("종류", "kind"),
+        Map.entry("logicalname", "logicalName"),
+        Map.entry("논리명", "logicalName"),
+        Map.entry("physicalname", "physicalName"),
+        Map.entry("물리명", "physicalName"),
+        Map.entry("physicaltype", "physicalType"),
+        Map.entry("datatype", "physicalType"),
+        Map.entry("물리타입", "physicalType"),
+        Map.entry("데이터타입", "physicalType"),
+        Map.entry("domain", "domain"),
+        Map.entry("domainname", "domain"),
+        Map.entry("도메인", "domain"),
+        Map.entry("도메인명", "domain")
+    );
+
+    /**
+     * 머리글 행을 읽는다.
+     *
+     * @param cells 첫 행의 셀
+     * @return 머리글
+     * @throws BusinessException 종류나 논리명 열이 없는 경우
+     */
+    public static DictionarySheetHeader of(List<String> cells) {
+        var kind = -1;
+        var logicalName = -1;
+        var physicalName = -1;
+        var physicalType = -1;
+        var domain = -1;
+        for (var i = cells.size() - 1; i >= 0; i--) {
+            final var column = ALIASES.get(normalize(cells.get(i)));
+            if (column == null) {
+                continue;
+            }
+            switch (column) {
+                case "kind" -> kind = i;
+                case "logicalName" -> logicalName = i;
+                case "physicalName" -> physicalName = i;
+                case "physicalType" -> physicalType = i;
+                default -> domain = i;
+            }
+        }
+        if (kind < 0 || logicalName < 0) {
+            throw new BusinessException("Header row must contain kind and logical_name columns");
+        }
+        return new DictionarySheetHeader(kind, logicalName, physicalName, physicalType, domain);
+    }
+
+    /**
+     * 행에서 열 값을 꺼낸다.
+     *
+     * @param row    행 셀
+     * @param column 열 위치 (-1이면 열 없음)
+     * @return 앞뒤 공백을 지운 값 (열이 없거나 셀이 모자라면 빈 문자열)
+     */
+    public static String cell(List<String> row, int column) {
+        return column < 0 || column >= row.size() ? "" : row.get(column).strip();
+    }
+
+    /**
+     * 종류 값을 읽는다.
+     *
+     * @param value 종류 셀 ({@code TERM}/{@code 용어}, {@code DOMAIN}/{@code 도메인}, 대소문자 무시)
+     * @return 종류 (알 수 없으면 {@code null})
+     */
+    @Nullable
+    public static DictionaryItem.Kind parseKind(String value) {
+        return switch (value.strip().toUpperCase(Locale.ROOT)) {
+            case "TERM", "용어" -> DictionaryItem.Kind.TERM;
+            case "DOMAIN", "도메인" -> DictionaryItem.Kind.DOMAIN;
+            default -> null;
+        };
+    }
+
+    private static String normalize(String name) {
+        final var normalized = new StringBuilder(name.length());
+        for (var i = 0; i < name.length(); i++) {
+            final var c = name.charAt(i);
+            if (c != '_' && c != '-' && !Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
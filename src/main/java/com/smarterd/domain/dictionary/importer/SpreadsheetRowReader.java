@@ -0,0 +1,59 @@
+package com.smarterd.domain.dictionary.importer;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import org.springframework.lang.Nullable;
+
+/**
+ * 표 형식 업로드(CSV, XLSX)를 한 행씩 읽는 리더.
+ *
+ * <p>행을 모두 메모리에 올리지 않고 차례로 돌려준다. 형식은 내용의 첫 바이트로 판별하므로 업로드의 Content-Type에
+ * 기대지 않는다.</p>
+ */
+public interface SpreadsheetRowReader extends Closeable {
+
+    /**
+     * 다음 행을 읽는다.
+     *
+     * @return 셀 값 (빈 셀은 빈 문자열), 더 없으면 {@code null}
+     * @throws IOException 읽기에 실패한 경우
+     */
+    @Nullable
+    List<String> next() throws IOException;
+
+    /**
+     * 마지막으로 읽은 행의 번호. 파일의 첫 행이 1이다.
+     *
+     * @return 행 번호
+     */
+    int rowNumber();
+
+    /**
+     * 업로드를 여는 리더를 만든다. ZIP 시그니처({@code PK\3\4})로 시작하면 XLSX, 아니면 CSV로 읽는다.
+     *
+     * @param in      업로드 바이트 스트림
+     * @param charset CSV 문자 인코딩 (UTF-8 BOM이 있으면 무시하고 UTF-8로 읽는다)
+     * @return 행 리더
+     * @throws IOException 읽기에 실패한 경우
+     */
+    static SpreadsheetRowReader open(InputStream in, Charset charset) throws IOException {
+        final var buffered = new BufferedInputStream(in);
+        buffered.mark(4);
+        final var signature = buffered.readNBytes(4);
+        buffered.reset();
+        if (isZip(signature)) {
+            return XlsxRowReader.open(buffered);
+        }
+        return CsvRowReader.open(buffered, charset);
+    }
+
+    /** ZIP 로컬 파일 헤더 시그니처인지 확인한다. */
+    private static boolean isZip(byte[] signature) {
+        return signature.length == 4 && signature[0] == 'P' && signature[1] == 'K' && signature[2] == 3 &&
+            signature[3] == 4;
+    }
+}
@@ -0,0 +1,302 @@
+package com.smarterd.domain.dictionary.importer;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.springframework.lang.Nullable;
+
+/**
+ * XLSX(Office Open XML 통합 문서) 첫 시트의 행 리더.
+ *
+ * <p>
+ * 시트 XML과 공유 문자열 표의 순서가 ZIP 안에서 정해져 있지 않으므로 업로드를 임시 파일에 받아 두고 연다. 공유 문자열만
+ * 메모리에 올리고, 시트는 StAX로 행 단위로 읽는다. 셀은 문자열(공유·인라인·수식 결과)과 숫자·논리값을 글자 그대로
+ * 돌려주며 서식은 무시한다. DTD와 외부 엔티티는 읽지 않는다.
+ * </p>
+ */
+final class XlsxRowReader implements SpreadsheetRowReader {
+
+    /** 공유 문자열 최대 수 */
+    static final int MAX_SHARED_STRINGS = 2_000_000;
+
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+
+    private static final String WORKBOOK = "xl/workbook.xml";
+
+    private static final String WORKBOOK_RELS = "xl/_rels/workbook.xml.rels";
+
+    private static final String DEFAULT_SHEET = "xl/worksheets/sheet1.xml";
+
+    private static final String RELATIONSHIP_NS =
+        "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private static final XMLInputFactory XML = createFactory();
+
+    private final Path file;
+
+    private final ZipFile zip;
+
+    private final List<String> sharedStrings;
+
+    private final XMLStreamReader sheet;
+
+    private int rowNumber;
+
+    private XlsxRowReader(Path file, ZipFile zip, List<String> sharedStrings, XMLStreamReader sheet) {
+        this.file = file;
+        this.zip = zip;
+        this.sharedStrings = sharedStrings;
+        this.sheet = sheet;
+    }
+
+    /**
+     * 업로드를 임시 파일에 받아 첫 시트를 연다.
+     *
+     * @param in 업로드 바이트 스트림
+     * @return 리더
+     * @throws IOException       임시 파일을 쓰거나 읽지 못한 경우
+     * @throws BusinessException XLSX가 아니거나 시트가 없는 경우
+     */
+    static XlsxRowReader open(InputStream in) throws IOException {
+        final var file = Files.createTempFile("dictionary-import", ".xlsx");
+        ZipFile zip = null;
+        try {
+            Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            zip = new ZipFile(file.toFile());
+            final var sharedStrings = readSharedStrings(zip);
+            final var entry = zip.getEntry(firstSheet(zip));
+            if (entry == null) {
+                throw new BusinessException("XLSX has no worksheet");
+            }
+            final var sheet = XML.createXMLStreamReader(zip.getInputStream(entry));
+            return new XlsxRowReader(file, zip, sharedStrings, sheet);
+        } catch (ZipException | XMLStreamException e) {
+            close(zip, file);
+            throw new BusinessException("Malformed XLSX: " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            close(zip, file);
+            throw e;
+        }
+    }
+
+    @Nullable
+    @Override
+    public List<String> next() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    final var r = sheet.getAttributeValue(null, "r");
+                    rowNumber = r == null ? rowNumber + 1 : Integer.parseInt(r);
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new BusinessException("Malformed XLSX worksheet near row " + rowNumber + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int rowNumber() {
+        return rowNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException e) {
+            // 임시 파일은 아래에서 지운다.
+        }
+        close(zip, file);
+    }
+
+    /** {@code <row>} 시작 다음부터 끝까지 읽는다. 참조({@code r})가 건너뛴 열은 빈 문자열로 채운다. */
+    private List<String> readRow() throws XMLStreamException {
+        final var cells = new ArrayList<String>();
+        while (sheet.hasNext()) {
+            final var event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT || !"c".equals(sheet.getLocalName())) {
+                continue;
+            }
+            final var reference = sheet.getAttributeValue(null, "r");
+            final var column = reference == null ? cells.size() : column(reference);
+            final var type = sheet.getAttributeValue(null, "t");
+            final var value = readCell(type);
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            if (column == cells.size()) {
+                cells.add(value);
+            }
+        }
+        return cells;
+    }
+
+    /** {@code <c>} 시작 다음부터 끝까지 읽어 셀 값을 만든다. */
+    private String readCell(@Nullable String type) throws XMLStreamException {
+        final var value = new StringBuilder();
+        while (sheet.hasNext()) {
+            final var event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final var name = sheet.getLocalName();
+                if ("v".equals(name) || "t".equals(name)) {
+                    value.append(sheet.getElementText());
+                }
+            }
+        }
+        if ("s".equals(type)) {
+            final var index = Integer.parseInt(value.toString().strip());
+            if (index < 0 || index >= sharedStrings.size()) {
+                throw new BusinessException("XLSX shared string index out of range in row " + rowNumber);
+            }
+            return sharedStrings.get(index);
+        }
+        if ("b".equals(type)) {
+            return "1".equals(value.toString()) ? "TRUE" : "FALSE";
+        }
+        return value.toString();
+    }
+
+    /** 셀 참조({@code AB12})의 열 번호 (0부터) */
+    private static int column(String reference) {
+        var column = 0;
+        for (var i = 0; i < reference.length(); i++) {
+            final var c = reference.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+            if (column > 16_384) {
+                throw new BusinessException("XLSX cell reference out of range: " + reference);
+            }
+        }
+        return column - 1;
+    }
+
+    /** 공유 문자열 표를 읽는다. 서식 조각({@code <r><t>})은 이어 붙이고, 윗주({@code <rPh>})는 뺀다. */
+    private static List<String> readSharedStrings(ZipFile zip) throws IOException, XMLStreamException {
+        final var entry = zip.getEntry(SHARED_STRINGS);
+        final var strings = new ArrayList<String>();
+        if (entry == null) {
+            return strings;
+        }
+        try (var in = zip.getInputStream(entry)) {
+            final var reader = XML.createXMLStreamReader(in);
+            final var value = new StringBuilder();
+            var phonetic = 0;
+            while (reader.hasNext()) {
+                final var event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch (reader.getLocalName()) {
+                        case "si" -> value.setLength(0);
+                        case "rPh" -> phonetic++;
+                        case "t" -> {
+                            final var text = reader.getElementText();
+                            if (phonetic == 0) {
+                                value.append(text);
+                            }
+                        }
+                        default -> {}
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("rPh".equals(reader.getLocalName())) {
+                        phonetic--;
+                    } else if ("si".equals(reader.getLocalName())) {
+                        if (strings.size() == MAX_SHARED_STRINGS) {
+                            throw new BusinessException("XLSX has more than " + MAX_SHARED_STRINGS + " shared strings");
+                        }
+                        strings.add(value.toString());
+                    }
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    /** 통합 문서에 나열된 첫 시트의 ZIP 경로. 관계를 풀 수 없으면 {@code sheet1.xml}로 본다. */
+    private static String firstSheet(ZipFile zip) throws IOException, XMLStreamException {
+        final var relationshipId = firstAttribute(zip, WORKBOOK, "sheet", RELATIONSHIP_NS, "id", null);
+        if (relationshipId == null) {
+            return DEFAULT_SHEET;
+        }
+        final var target = firstAttribute(zip, WORKBOOK_RELS, "Relationship", null, "Target", relationshipId);
+        if (target == null) {
+            return DEFAULT_SHEET;
+        }
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    /**
+     * ZIP 항목에서 처음 나오는 요소의 속성 값을 찾는다.
+     *
+     * @param id {@code null}이 아니면 {@code Id} 속성이 이 값인 요소만 본다
+     */
+    @Nullable
+    private static String firstAttribute(
+        ZipFile zip,
+        String path,
+        String element,
+        @Nullable String namespace,
+        String attribute,
+        @Nullable String id
+    ) throws IOException, XMLStreamException {
+        final var entry = zip.getEntry(path);
+        if (entry == null) {
+            return null;
+        }
+        try (var in = zip.getInputStream(entry)) {
+            final var reader = XML.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (
+                        reader.next() == XMLStreamConstants.START_ELEMENT &&
+                        element.equals(reader.getLocalName()) &&
+                        (id == null || id.equals(reader.getAttributeValue(null, "Id")))
+                    ) {
+                        return reader.getAttributeValue(namespace, attribute);
+                    }
+                }
+                return null;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static void close(@Nullable ZipFile zip, Path file) throws IOException {
+        try {
+            if (zip != null) {
+                zip.close();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static XMLInputFactory createFactory() {
+        final var factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
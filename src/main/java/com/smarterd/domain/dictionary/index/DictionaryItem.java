@@ -0,0 +1,29 @@
+package com.smarterd.domain.dictionary.index;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 사전 검색 색인에 넣는 용어·도메인 하나.
+ *
+ * @param kind         종류
+ * @param id           용어 또는 도메인 ID
+ * @param logicalName  논리명 (검색 대상)
+ * @param physicalName 용어 물리명 (도메인이면 {@code null})
+ * @param physicalType 도메인 물리 타입, 용어는 연결된 도메인의 물리 타입 (없으면 {@code null})
+ */
+public record DictionaryItem(
+    Kind kind,
+    Long id,
+    String logicalName,
+    @Nullable String physicalName,
+    @Nullable String physicalType
+) {
+    /** 사전 항목 종류. */
+    public enum Kind {
+        /** 용어 ({@code Term}) */
+        TERM,
+
+        /** 도메인 ({@code Domain}) */
+        DOMAIN,
+    }
+}
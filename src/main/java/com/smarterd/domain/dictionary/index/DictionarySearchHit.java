@@ -0,0 +1,9 @@
+package com.smarterd.domain.dictionary.index;
+
+/**
+ * 사전 검색 결과 하나.
+ *
+ * @param item  용어·도메인
+ * @param score 점수 (자모 n-gram 유사도에 일치·접두·포함 가산점을 더한 값, 클수록 앞)
+ */
+public record DictionarySearchHit(DictionaryItem item, double score) {}
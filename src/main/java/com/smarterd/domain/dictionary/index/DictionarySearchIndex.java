@@ -0,0 +1,395 @@
+package com.smarterd.domain.dictionary.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 하나의 용어·도메인 논리명 검색 색인. 초성 검색, 조합 중인 입력, 오타를 허용한다.
+ *
+ * <p>
+ * 논리명을 {@link HangulJamo}로 자모 문자열과 초성 문자열로 바꾸고, 각각 앞에 시작 표시를 붙인 2-gram을 역색인한다.
+ * 게시 목록은 문서 번호 오름차순의 {@code int} 배열이고 문서 번호는 지운 자리를 다시 쓰므로 항목 10만 개도 배열 몇 개에
+ * 들어간다. 조회는 짧은 게시 목록에서만 후보를 모으고 긴 목록은 후보마다 이진 탐색하므로 흔한 2-gram을 모두 훑지 않는다.
+ * </p>
+ *
+ * <p>
+ * 입력이 초성으로만 되어 있으면({@code ㅅㅇㅈ}) 초성 문자열에 입력이 들어 있는 항목을 찾는다. 그 밖에는 입력의 자모 2-gram을
+ * 게시 목록에서 세어, 공유한 2-gram 비율(Dice 계수)에 이름 전체 일치·접두·포함 가산점을 더해 순위를 매긴다. 자모가 6개
+ * 이상이면 오타 한 개, 10개 이상이면 두 개만큼 2-gram이 빠져도 후보로 남긴다. 자모로 비교하므로 {@code 사용ㅈ}·{@code 사요}
+ * 같은 조합 중인 입력도 {@code 사용자명}의 앞부분으로 찾는다.
+ * </p>
+ *
+ * <p>다시 맞출 때는 {@link #update}에 현재 항목 전체를 넘기면 논리명이 바뀐 항목의 게시만 옮긴다. 읽기·쓰기 잠금으로
+ * 보호하므로 조회는 서로 막지 않는다.</p>
+ */
+public final class DictionarySearchIndex {
+
+    /** 첫 글자도 2-gram에 들어가게 앞에 붙이는 표시 */
+    private static final char START = '\u0001';
+
+    /** 점수 내림차순, 짧은 이름, 이름, 종류, ID 순 */
+    private static final Comparator<DictionarySearchHit> ORDER = Comparator.comparingDouble(DictionarySearchHit::score)
+        .reversed()
+        .thenComparingInt((hit) -> hit.item().logicalName().length())
+        .thenComparing((hit) -> hit.item().logicalName())
+        .thenComparing((hit) -> hit.item().kind())
+        .thenComparing((hit) -> hit.item().id());
+
+    /** 2-gram이 색인에 없을 때 쓰는 빈 게시 목록 */
+    private static final IntList EMPTY = new IntList();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 자모 2-gram별 문서 번호 */
+    private final Map<Integer, IntList> jamoGrams = new HashMap<>();
+
+    /** 초성 2-gram별 문서 번호 */
+    private final Map<Integer, IntList> choseongGrams = new HashMap<>();
+
+    /** 문서 번호별 문서 (지운 자리는 {@code null}) */
+    private final List<Document> documents = new ArrayList<>();
+
+    /** 다시 쓸 문서 번호 */
+    private final IntList free = new IntList();
+
+    /** 종류별·ID별 문서 번호 */
+    private Map<DictionaryItem.Kind, Map<Long, Integer>> items = new EnumMap<>(DictionaryItem.Kind.class);
+
+    /**
+     * 팀의 현재 항목 전체로 색인을 맞춘다. 그대로인 항목은 건드리지 않고, 논리명이 같으면 게시는 그대로 두고 항목만 바꾼다.
+     *
+     * @param current 팀의 현재 용어·도메인 (종류·ID 중복 시 처음 것만 사용)
+     * @return 다시 색인하거나 바꾸거나 지운 항목 수
+     */
+    public int update(Collection<DictionaryItem> current) {
+        lock.writeLock().lock();
+        try {
+            final var next = new EnumMap<DictionaryItem.Kind, Map<Long, Integer>>(DictionaryItem.Kind.class);
+            var changed = 0;
+            for (final var item : current) {
+                final var ids = next.computeIfAbsent(item.kind(), (kind) -> new HashMap<>());
+                if (ids.containsKey(item.id())) {
+                    continue;
+                }
+                final var previous = items.getOrDefault(item.kind(), Map.of()).get(item.id());
+                if (previous == null) {
+                    ids.put(item.id(), add(item));
+                    changed++;
+                    continue;
+                }
+                final var document = documents.get(previous);
+                if (!document.item().equals(item)) {
+                    if (document.item().logicalName().equals(item.logicalName())) {
+                        documents.set(previous, document.with(item));
+                        ids.put(item.id(), previous);
+                    } else {
+                        drop(previous);
+                        ids.put(item.id(), add(item));
+                    }
+                    changed++;
+                } else {
+                    ids.put(item.id(), previous);
+                }
+            }
+            for (final var entry : items.entrySet()) {
+                final var ids = next.getOrDefault(entry.getKey(), Map.of());
+                for (final var id : entry.getValue().entrySet()) {
+                    if (!ids.containsKey(id.getKey())) {
+                        drop(id.getValue());
+                        changed++;
+                    }
+                }
+            }
+            items = next;
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 논리명으로 용어·도메인을 찾는다.
+     *
+     * @param query 입력 (초성만, 완성형·조합 중인 한글, 영문 모두 가능, 공백·대소문자 무시)
+     * @param limit 최대 결과 수
+     * @return 점수 순 결과
+     */
+    public List<DictionarySearchHit> search(String query, int limit) {
+        final var normalized = HangulJamo.normalize(query);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (HangulJamo.isChoseongOnly(normalized)) {
+                return search(choseongGrams, normalized, 0, limit, (document) -> {
+                    final var choseong = document.choseong();
+                    if (!choseong.contains(normalized)) {
+                        return -1;
+                    }
+                    return bonus(choseong.equals(normalized), choseong.startsWith(normalized), true);
+                });
+            }
+            final var jamo = HangulJamo.decompose(normalized);
+            final var typos = jamo.length() >= 10 ? 2 : jamo.length() >= 6 ? 1 : 0;
+            return search(jamoGrams, jamo, typos, limit, (document) -> {
+                final var contains = document.jamo().contains(jamo);
+                if (typos == 0 && !contains) {
+                    return -1;
+                }
+                return bonus(document.normalized().equals(normalized), document.jamo().startsWith(jamo), contains);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 항목 수.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size() - free.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 입력의 2-gram을 게시 목록에서 세어 후보를 고르고 점수를 매긴다.
+     *
+     * @param index  2-gram 역색인
+     * @param key    자모 또는 초성 문자열
+     * @param typos  허용할 오타 수 (오타 하나에 2-gram 두 개까지 빠진다)
+     * @param limit  최대 결과 수
+     * @param scorer 가산점 (음수면 후보에서 뺀다)
+     */
+    private List<DictionarySearchHit> search(
+        Map<Integer, IntList> index,
+        String key,
+        int typos,
+        int limit,
+        Scorer scorer
+    ) {
+        final var grams = grams(key);
+        final var postings = new IntList[grams.length];
+        for (var i = 0; i < grams.length; i++) {
+            postings[i] = index.getOrDefault(grams[i], EMPTY);
+        }
+        Arrays.sort(postings, Comparator.comparingInt((posting) -> posting.size));
+        // 접두가 아니면 시작 표시 2-gram은 빠진다.
+        final var min = Math.max(1, grams.length - 1 - 2 * typos);
+
+        // min개 이상 공유하려면 짧은 게시 목록 (grams - min + 1)개 중 하나에는 들어 있어야 하므로 거기서만 후보를 모은다.
+        final var probes = grams.length - min + 1;
+        final var counts = new int[documents.size()];
+        final var touched = new IntList();
+        for (var i = 0; i < probes; i++) {
+            final var posting = postings[i];
+            for (var j = 0; j < posting.size; j++) {
+                if (counts[posting.values[j]]++ == 0) {
+                    touched.add(posting.values[j]);
+                }
+            }
+        }
+        // 나머지 긴 목록은 후보가 적으면 후보마다 이진 탐색하고, 많으면 목록을 훑으며 후보만 센다.
+        for (var i = probes; i < postings.length; i++) {
+            final var posting = postings[i];
+            if ((long) touched.size * (32 - Integer.numberOfLeadingZeros(posting.size)) < posting.size) {
+                for (var j = 0; j < touched.size; j++) {
+                    if (posting.contains(touched.values[j])) {
+                        counts[touched.values[j]]++;
+                    }
+                }
+            } else {
+                for (var j = 0; j < posting.size; j++) {
+                    if (counts[posting.values[j]] > 0) {
+                        counts[posting.values[j]]++;
+                    }
+                }
+            }
+        }
+        final var top = new PriorityQueue<DictionarySearchHit>(ORDER.reversed());
+        for (var i = 0; i < touched.size; i++) {
+            final var id = touched.values[i];
+            if (counts[id] < min) {
+                continue;
+            }
+            final var document = documents.get(id);
+            final var size = index == jamoGrams ? document.jamoGrams() : document.choseongGrams();
+            final var dice = 2.0 * counts[id] / (grams.length + size);
+            // 가산점은 1을 넘지 않으므로 이미 찬 상위 목록에 들 수 없는 후보는 이름을 비교하지 않는다.
+            if (top.size() == limit && dice + 1 < top.peek().score()) {
+                continue;
+            }
+            final var bonus = scorer.bonus(document);
+            if (bonus < 0) {
+                continue;
+            }
+            final var score = Math.round((dice + bonus) * 1000) / 1000.0;
+            if (top.size() == limit && score < top.peek().score()) {
+                continue;
+            }
+            top.add(new DictionarySearchHit(document.item(), score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        final var hits = new ArrayList<>(top);
+        hits.sort(ORDER);
+        return hits;
+    }
+
+    private int add(DictionaryItem item) {
+        final var id = free.size > 0 ? free.values[--free.size] : documents.size();
+        final var document = Document.of(item);
+        if (id == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(id, document);
+        }
+        for (final var gram : grams(document.jamo())) {
+            jamoGrams.computeIfAbsent(gram, (k) -> new IntList()).insert(id);
+        }
+        for (final var gram : grams(document.choseong())) {
+            choseongGrams.computeIfAbsent(gram, (k) -> new IntList()).insert(id);
+        }
+        return id;
+    }
+
+    private void drop(int id) {
+        final var document = documents.set(id, null);
+        for (final var gram : grams(document.jamo())) {
+            remove(jamoGrams, gram, id);
+        }
+        for (final var gram : grams(document.choseong())) {
+            remove(choseongGrams, gram, id);
+        }
+        free.add(id);
+    }
+
+    private static void remove(Map<Integer, IntList> index, int gram, int id) {
+        final var posting = index.get(gram);
+        if (posting != null && posting.remove(id) && posting.size == 0) {
+            index.remove(gram);
+        }
+    }
+
+    /** 시작 표시를 붙인 문자열의 서로 다른 2-gram ({@code (앞 글자 << 16) | 뒤 글자}) */
+    private static int[] grams(String text) {
+        final var grams = new int[text.length()];
+        var previous = START;
+        for (var i = 0; i < text.length(); i++) {
+            grams[i] = previous << 16 | text.charAt(i);
+            previous = text.charAt(i);
+        }
+        Arrays.sort(grams);
+        var size = 0;
+        for (var i = 0; i < grams.length; i++) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[size++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, size);
+    }
+
+    private static double bonus(boolean equal, boolean prefix, boolean contains) {
+        return equal ? 1 : prefix ? 0.5 : contains ? 0.25 : 0;
+    }
+
+    @FunctionalInterface
+    private interface Scorer {
+        double bonus(Document document);
+    }
+
+    /**
+     * 색인된 항목과 그 검색 키.
+     *
+     * @param item          항목
+     * @param normalized    공백을 지운 소문자 논리명
+     * @param jamo          자모 문자열
+     * @param choseong      초성 문자열
+     * @param jamoGrams     서로 다른 자모 2-gram 수
+     * @param choseongGrams 서로 다른 초성 2-gram 수
+     */
+    private record Document(
+        DictionaryItem item,
+        String normalized,
+        String jamo,
+        String choseong,
+        int jamoGrams,
+        int choseongGrams
+    ) {
+        static Document of(DictionaryItem item) {
+            final var normalized = HangulJamo.normalize(item.logicalName());
+            final var jamo = HangulJamo.decompose(normalized);
+            final var choseong = HangulJamo.choseong(normalized);
+            return new Document(item, normalized, jamo, choseong, grams(jamo).length, grams(choseong).length);
+        }
+
+        Document with(DictionaryItem other) {
+            return new Document(other, normalized, jamo, choseong, jamoGrams, choseongGrams);
+        }
+    }
+
+    /** 늘어나는 {@code int} 배열. 게시 목록은 {@link #insert}·{@link #remove}로 오름차순을 지킨다. */
+    private static final class IntList {
+
+        private int[] values = new int[2];
+
+        private int size;
+
+        /** 끝에 붙인다. */
+        void add(int value) {
+            insertAt(size, value);
+        }
+
+        /** 오름차순 자리에 넣는다. 새 문서 번호는 대개 가장 크므로 끝에 붙는다. */
+        void insert(int value) {
+            if (size == 0 || values[size - 1] < value) {
+                add(value);
+                return;
+            }
+            final var found = Arrays.binarySearch(values, 0, size, value);
+            if (found < 0) {
+                insertAt(-found - 1, value);
+            }
+        }
+
+        /** 오름차순 목록에서 뺀다. */
+        boolean remove(int value) {
+            final var found = Arrays.binarySearch(values, 0, size, value);
+            if (found < 0) {
+                return false;
+            }
+            System.arraycopy(values, found + 1, values, found, size - found - 1);
+            size--;
+            return true;
+        }
+
+        /** 오름차순 목록에 있는지 확인한다. */
+        boolean contains(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        private void insertAt(int index, int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+        }
+    }
+}
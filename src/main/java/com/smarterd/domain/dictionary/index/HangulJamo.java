@@ -0,0 +1,128 @@
+package com.smarterd.domain.dictionary.index;
+
+import java.util.Locale;
+
+/**
+ * 사전 검색용 한글 분해.
+ *
+ * <p>
+ * 완성형 음절은 자판으로 치는 순서대로 호환 자모로 나눈다. 겹모음·겹받침도 두 글자로 나누므로({@code 과} → {@code ㄱㅗㅏ},
+ * {@code 값} → {@code ㄱㅏㅂㅅ}) 조합 중인 입력({@code 사요}, {@code 고})도 완성된 이름의 앞부분과 같아진다. 따로 입력한
+ * 호환 자모도 같은 규칙으로 나누고, 한글이 아닌 문자는 소문자로 바꿔 그대로 둔다. 공백은 모두 지운다.
+ * </p>
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = '가';
+
+    private static final char SYLLABLE_LAST = '힣';
+
+    private static final char JAMO_FIRST = 'ㄱ';
+
+    private static final char CONSONANT_LAST = 'ㅎ';
+
+    /** 초성 (19) */
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    /** 중성 (21, 겹모음은 두 글자) */
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+        "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ",
+    };
+
+    /** 종성 (28, 첫 항목은 받침 없음, 겹받침은 두 글자) */
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+        "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ",
+    };
+
+    /** 호환 자모 겹글자 */
+    private static final String COMPOUNDS = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+
+    /** {@link #COMPOUNDS}의 분해 */
+    private static final String[] COMPOUND_JAMO = {
+        "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+        "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ",
+    };
+
+    private HangulJamo() {}
+
+    /**
+     * 이름을 자모 문자열로 바꾼다. {@code 사용자 명} → {@code ㅅㅏㅇㅛㅇㅈㅏㅁㅕㅇ}
+     *
+     * @param text 이름
+     * @return 자모 문자열
+     */
+    public static String decompose(String text) {
+        final var jamo = new StringBuilder(text.length() * 3);
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                final var code = c - SYLLABLE_FIRST;
+                jamo.append(CHOSEONG.charAt(code / 588));
+                jamo.append(JUNGSEONG[code % 588 / 28]);
+                jamo.append(JONGSEONG[code % 28]);
+            } else if (COMPOUNDS.indexOf(c) >= 0) {
+                jamo.append(COMPOUND_JAMO[COMPOUNDS.indexOf(c)]);
+            } else if (!Character.isWhitespace(c)) {
+                jamo.append(Character.toLowerCase(c));
+            }
+        }
+        return jamo.toString();
+    }
+
+    /**
+     * 이름의 초성 문자열을 만든다. 한글이 아닌 문자는 소문자로 바꿔 그대로 둔다. {@code 사용자ID} → {@code ㅅㅇㅈid}
+     *
+     * @param text 이름
+     * @return 초성 문자열
+     */
+    public static String choseong(String text) {
+        final var choseong = new StringBuilder(text.length());
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                choseong.append(CHOSEONG.charAt((c - SYLLABLE_FIRST) / 588));
+            } else if (!Character.isWhitespace(c)) {
+                choseong.append(Character.toLowerCase(c));
+            }
+        }
+        return choseong.toString();
+    }
+
+    /**
+     * 입력이 초성으로만 되어 있는지 확인한다 (공백 무시). {@code ㅅㅇㅈ}
+     *
+     * @param text 입력
+     * @return 호환 자모 자음만 있으면 {@code true}
+     */
+    public static boolean isChoseongOnly(String text) {
+        var found = false;
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (c >= JAMO_FIRST && c <= CONSONANT_LAST) {
+                found = true;
+            } else if (!Character.isWhitespace(c)) {
+                return false;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 공백을 지우고 소문자로 바꾼다.
+     *
+     * @param text 이름
+     * @return 정규화한 이름
+     */
+    public static String normalize(String text) {
+        final var normalized = new StringBuilder(text.length());
+        for (var i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,172 @@
+package com.smarterd.domain.dictionary.index;
+
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 팀 하나의 용어 자동완성 색인. 논리명과 물리명 앞부분으로 용어를 찾는다.
+ *
+ * <p>
+ * 두 이름을 소문자로 바꾼 키를 정렬하여 문자 배열 하나에 이어 붙이고 오프셋 배열로 나눈다. 정렬된 키에서는 접두사가 같은
+ * 키가 연속 구간을 이루므로, 트라이에서 접두사 노드를 찾는 일은 구간 시작을 찾는 이진 탐색 한 번과 같고 결과는 그 구간의
+ * 앞쪽 키를 차례로 읽으면 된다. 키마다 객체를 두지 않으므로 용어 10만 개도 배열 몇 개에 들어가며, 조회는 키 수와 무관하게 O(log n + k)이다.
+ * </p>
+ *
+ * <p>한 번 만들면 바뀌지 않으므로 잠금 없이 여러 스레드가 함께 읽는다. 사전이 바뀌면 새로 만들어 통째로 바꾼다.</p>
+ */
+public final class TermPrefixIndex {
+
+    /** 용어가 없는 색인 */
+    public static final TermPrefixIndex EMPTY = build(List.of());
+
+    /** 정렬된 키를 이어 붙인 문자 */
+    private final char[] chars;
+
+    /** 키 {@code i}는 {@code chars[offsets[i], offsets[i + 1])} */
+    private final int[] offsets;
+
+    /** 키별 용어 위치 */
+    private final int[] owners;
+
+    /** 용어 */
+    private final TermDictionaryEntry[] entries;
+
+    private TermPrefixIndex(char[] chars, int[] offsets, int[] owners, TermDictionaryEntry[] entries) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.owners = owners;
+        this.entries = entries;
+    }
+
+    /**
+     * 용어 목록으로 색인을 만든다.
+     *
+     * @param terms 팀 용어
+     * @return 색인
+     */
+    public static TermPrefixIndex build(List<TermDictionaryEntry> terms) {
+        final var entries = terms.toArray(TermDictionaryEntry[]::new);
+        final var keys = new ArrayList<Key>(entries.length * 2);
+        for (var i = 0; i < entries.length; i++) {
+            final var logical = normalize(entries[i].logicalName());
+            final var physical = normalize(entries[i].physicalName());
+            keys.add(new Key(logical, i));
+            if (!physical.equals(logical)) {
+                keys.add(new Key(physical, i));
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text).thenComparingInt(Key::owner));
+
+        final var offsets = new int[keys.size() + 1];
+        final var owners = new int[keys.size()];
+        var length = 0;
+        for (var i = 0; i < keys.size(); i++) {
+            offsets[i] = length;
+            owners[i] = keys.get(i).owner();
+            length += keys.get(i).text().length();
+        }
+        offsets[keys.size()] = length;
+        final var chars = new char[length];
+        for (var i = 0; i < keys.size(); i++) {
+            keys.get(i).text().getChars(0, keys.get(i).text().length(), chars, offsets[i]);
+        }
+        return new TermPrefixIndex(chars, offsets, owners, entries);
+    }
+
+    /**
+     * 논리명이나 물리명이 접두사로 시작하는 용어를 찾는다 (대소문자 무시).
+     *
+     * <p>일치한 이름의 사전 순으로 돌려주므로 접두사와 똑같은 이름이 맨 앞에 온다. 두 이름이 모두 일치하는 용어는
+     * 앞쪽 이름의 자리에 한 번만 나온다.</p>
+     *
+     * @param prefix 접두사 (앞뒤 공백 무시, 비어 있으면 결과 없음)
+     * @param limit  최대 결과 수
+     * @return 일치한 용어
+     */
+    public List<TermDictionaryEntry> suggest(String prefix, int limit) {
+        final var key = normalize(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        final var result = new ArrayList<TermDictionaryEntry>(Math.min(limit, entries.length));
+        final var seen = new int[Math.min(limit, entries.length)];
+        for (var i = lowerBound(key); i < owners.length && result.size() < limit && startsWith(i, key); i++) {
+            final var owner = owners[i];
+            if (!contains(seen, result.size(), owner)) {
+                seen[result.size()] = owner;
+                result.add(entries[owner]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 색인된 용어 수.
+     *
+     * @return 용어 수
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /** 키가 {@code key} 이상인 첫 위치 */
+    private int lowerBound(String key) {
+        var low = 0;
+        var high = owners.length;
+        while (low < high) {
+            final var mid = (low + high) >>> 1;
+            if (compare(mid, key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int index, String key) {
+        final var start = offsets[index];
+        final var length = offsets[index + 1] - start;
+        final var common = Math.min(length, key.length());
+        for (var i = 0; i < common; i++) {
+            final var diff = chars[start + i] - key.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - key.length();
+    }
+
+    private boolean startsWith(int index, String prefix) {
+        final var start = offsets[index];
+        if (offsets[index + 1] - start < prefix.length()) {
+            return false;
+        }
+        for (var i = 0; i < prefix.length(); i++) {
+            if (chars[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 결과 수는 작으므로 선형으로 찾는다. */
+    private static boolean contains(int[] values, int size, int value) {
+        for (var i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String normalize(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** 정렬 전 키와 그 용어 위치. */
+    private record Key(String text, int owner) {}
+}
@@ -0,0 +1,106 @@
+package com.smarterd.domain.dictionary.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 용어·도메인을 엔티티를 거치지 않고 JDBC 배치로 추가하는 저장소.
+ *
+ * <p>
+ * 대량 가져오기에서 행마다 엔티티를 영속화하면 영속성 컨텍스트 관리와 flush 비용이 INSERT 자체보다 크다. 여기서는
+ * {@value #BATCH_SIZE}행씩 묶어 {@code PreparedStatement} 배치로 보내고, ID는 DB가 채운다. 생성된 키를 돌려받지
+ * 않으므로 ID 생성 방식과 무관하게 배치가 나뉘지 않는다. 엔티티 리스너(감사 시각, 사전 변경 이벤트)를 거치지 않으므로
+ * 시각은 직접 채우고, 이벤트는 호출자가 발행한다.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class DictionaryBulkStore {
+
+    /** JDBC 배치 크기 */
+    static final int BATCH_SIZE = 1_000;
+
+    /** 도메인 추가 쿼리 */
+    private static final String INSERT_DOMAIN =
+        "insert into domains (logical_name, physical_type, team_id, created_at, updated_at) values (?, ?, ?, ?, ?)";
+
+    /** 용어 추가 쿼리 */
+    private static final String INSERT_TERM =
+        "insert into terms (logical_name, physical_name, team_id, domain_id, created_at, updated_at) " +
+        "values (?, ?, ?, ?, ?, ?)";
+
+    /** JDBC 템플릿 (JPA 트랜잭션 안에서는 같은 커넥션을 사용한다) */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팀 도메인을 추가한다.
+     *
+     * @param teamId  팀 ID
+     * @param domains 추가할 도메인
+     */
+    public void insertDomains(Long teamId, List<NewDomain> domains) {
+        final var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            INSERT_DOMAIN,
+            domains,
+            BATCH_SIZE,
+            (statement, domain) -> {
+                statement.setString(1, domain.logicalName());
+                statement.setString(2, domain.physicalType());
+                statement.setLong(3, teamId);
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+            }
+        );
+    }
+
+    /**
+     * 팀 용어를 추가한다.
+     *
+     * @param teamId 팀 ID
+     * @param terms  추가할 용어
+     */
+    public void insertTerms(Long teamId, List<NewTerm> terms) {
+        final var now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+            INSERT_TERM,
+            terms,
+            BATCH_SIZE,
+            (statement, term) -> {
+                statement.setString(1, term.logicalName());
+                statement.setString(2, term.physicalName());
+                statement.setLong(3, teamId);
+                if (term.domainId() == null) {
+                    statement.setNull(4, Types.BIGINT);
+                } else {
+                    statement.setLong(4, term.domainId());
+                }
+                statement.setTimestamp(5, now);
+                statement.setTimestamp(6, now);
+            }
+        );
+    }
+
+    /**
+     * 추가할 도메인.
+     *
+     * @param logicalName  논리명
+     * @param physicalType 물리 데이터 타입
+     */
+    public record NewDomain(String logicalName, String physicalType) {}
+
+    /**
+     * 추가할 용어.
+     *
+     * @param logicalName  논리명
+     * @param physicalName 물리명
+     * @param domainId     연결할 도메인 ID (없으면 {@code null})
+     */
+    public record NewTerm(String logicalName, String physicalName, @Nullable Long domainId) {}
+}
@@ -0,0 +1,23 @@
+package com.smarterd.domain.dictionary.repository;
+
+import java.time.LocalDateTime;
+import org.springframework.lang.Nullable;
+
+/**
+ * 팀 사전 테이블의 변경 여부를 싸게 판별하기 위한 행 수·최종 수정 시각 프로젝션.
+ *
+ * <p>행이 추가·삭제되면 행 수가, 수정되면 최종 수정 시각이 바뀌므로 사전 내용으로 만든 캐시의 열쇠로 쓴다.</p>
+ *
+ * @param count          행 수
+ * @param lastModifiedAt 최종 수정 시각 (행이 없으면 {@code null})
+ */
+public record DictionaryStamp(long count, @Nullable LocalDateTime lastModifiedAt) {
+    /**
+     * 캐시 열쇠에 넣을 문자열을 반환한다.
+     *
+     * @return {@code 행 수@최종 수정 시각}
+     */
+    public String key() {
+        return count + "@" + lastModifiedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.smarterd.domain.dictionary.repository;
+
+/**
+ * 도메인 프로젝션.
+ *
+ * @param domainId     도메인 ID
+ * @param logicalName  도메인 논리명 (예: {@code 이름})
+ * @param physicalType 물리 데이터 타입 (예: {@code VARCHAR(50)})
+ */
+public record DomainDictionaryEntry(Long domainId, String logicalName, String physicalType) {}
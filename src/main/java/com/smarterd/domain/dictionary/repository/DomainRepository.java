@@ -1,9 +1,46 @@
 package com.smarterd.domain.dictionary.repository;
 
 import com.smarterd.domain.dictionary.entity.Domain;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link Domain} 엔티티의 데이터 접근 레포지토리.
  */
-public interface DomainRepository extends JpaRepository<Domain, Long> {}
+public interface DomainRepository extends JpaRepository<Domain, Long> {
+    /**
+     * 팀 도메인의 행 수와 최종 수정 시각을 조회한다.
+     *
+     * @param teamId 팀 ID
+     * @return 도메인 사전 스탬프
+     */
+    @Query(
+        "select new com.smarterd.domain.dictionary.repository.DictionaryStamp(count(d), max(d.updatedAt)) " +
+        "from Domain d where d.team.id = :teamId"
+    )
+    DictionaryStamp findStampByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 도메인이 팀에 속하는지 확인한다.
+     *
+     * @param id     도메인 ID
+     * @param teamId 팀 ID
+     * @return 팀 도메인이면 {@code true}
+     */
+    boolean existsByIdAndTeamId(Long id, Long teamId);
+
+    /**
+     * 팀 도메인을 조회한다.
+     *
+     * @param teamId 팀 ID
+     * @return 도메인 목록 (도메인 ID 순)
+     */
+    @Query(
+        "select new com.smarterd.domain.dictionary.repository.DomainDictionaryEntry(" +
+        "d.id, d.logicalName, d.physicalType) " +
+        "from Domain d where d.team.id = :teamId order by d.id"
+    )
+    List<DomainDictionaryEntry> findEntriesByTeamId(@Param("teamId") Long teamId);
+}
@@ -0,0 +1,20 @@
+package com.smarterd.domain.dictionary.repository;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 용어와 연결된 도메인 프로젝션.
+ *
+ * @param termId       용어 ID
+ * @param logicalName  용어 논리명 (예: {@code 사용자명})
+ * @param physicalName 용어 물리명 (예: {@code user_name})
+ * @param domainId     연결된 도메인 ID (없으면 {@code null})
+ * @param physicalType 연결된 도메인의 물리 데이터 타입 (없으면 {@code null})
+ */
+public record TermDictionaryEntry(
+    Long termId,
+    String logicalName,
+    String physicalName,
+    @Nullable Long domainId,
+    @Nullable String physicalType
+) {}
@@ -0,0 +1,9 @@
+package com.smarterd.domain.dictionary.repository;
+
+/**
+ * 도메인이 연결된 용어의 물리명과 물리 데이터 타입 프로젝션.
+ *
+ * @param physicalName 용어 물리명 (예: {@code user_name})
+ * @param physicalType 연결된 도메인의 물리 데이터 타입 (예: {@code VARCHAR(50)})
+ */
+public record TermDomainType(String physicalName, String physicalType) {}
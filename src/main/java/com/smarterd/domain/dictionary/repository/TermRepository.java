@@ -1,9 +1,69 @@
 package com.smarterd.domain.dictionary.repository;
 
 import com.smarterd.domain.dictionary.entity.Term;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * {@link Term} 엔티티의 데이터 접근 레포지토리.
  */
-public interface TermRepository extends JpaRepository<Term, Long> {}
+public interface TermRepository extends JpaRepository<Term, Long> {
+    /**
+     * 팀 용어 중 도메인이 연결된 용어의 물리명과 도메인 물리 데이터 타입을 등록순으로 조회한다.
+     *
+     * @param teamId 팀 ID
+     * @return 물리명·물리 데이터 타입 목록
+     */
+    @Query(
+        "select new com.smarterd.domain.dictionary.repository.TermDomainType(t.physicalName, d.physicalType) " +
+        "from Term t join t.domain d where t.team.id = :teamId order by t.id"
+    )
+    List<TermDomainType> findDomainTypesByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 팀 용어의 행 수와 최종 수정 시각을 조회한다.
+     *
+     * @param teamId 팀 ID
+     * @return 용어 사전 스탬프
+     */
+    @Query(
+        "select new com.smarterd.domain.dictionary.repository.DictionaryStamp(count(t), max(t.updatedAt)) " +
+        "from Term t where t.team.id = :teamId"
+    )
+    DictionaryStamp findStampByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * 팀 용어의 물리명을 조회한다.
+     *
+     * @param termId 용어 ID
+     * @param teamId 팀 ID
+     * @return 물리명 (다른 팀 용어이거나 없으면 빈 값)
+     */
+    @Query("select t.physicalName from Term t where t.id = :termId and t.team.id = :teamId")
+    Optional<String> findPhysicalName(@Param("termId") Long termId, @Param("teamId") Long teamId);
+
+    /**
+     * 도메인이 연결된 용어의 물리명을 등록순으로 조회한다.
+     *
+     * @param domainId 도메인 ID
+     * @return 물리명 목록
+     */
+    @Query("select t.physicalName from Term t where t.domain.id = :domainId order by t.id")
+    List<String> findPhysicalNamesByDomainId(@Param("domainId") Long domainId);
+
+    /**
+     * 팀 용어를 연결된 도메인과 함께 조회한다.
+     *
+     * @param teamId 팀 ID
+     * @return 용어·도메인 목록 (용어 ID 순)
+     */
+    @Query(
+        "select new com.smarterd.domain.dictionary.repository.TermDictionaryEntry(" +
+        "t.id, t.logicalName, t.physicalName, d.id, d.physicalType) " +
+        "from Term t left join t.domain d where t.team.id = :teamId order by t.id"
+    )
+    List<TermDictionaryEntry> findEntriesByTeamId(@Param("teamId") Long teamId);
+}
@@ -0,0 +1,98 @@
+package com.smarterd.domain.dictionary.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팀마다 색인 하나를 두는 {@link TeamDictionaryIndex}의 공통 부분.
+ *
+ * <p>
+ * 팀 색인은 그 팀을 처음 조회할 때 DB에서 만들고, 최근에 쓴 {@value #CACHE_CAPACITY}개 팀만 남긴다. 팀별 버전을 두어,
+ * 처음 만드는 사이에 사전이 바뀌었으면 그 색인은 보관하지 않는다. 보관 중인 팀은 바뀔 때마다 {@link DictionaryIndexJob}이
+ * 한 스레드에서 차례로 맞추므로 이미 반영된 변경이 되돌려지지 않는다.
+ * </p>
+ *
+ * @param <T> 팀 하나의 색인 타입 (스레드 안전해야 한다)
+ */
+abstract class AbstractTeamDictionaryIndex<T> implements TeamDictionaryIndex {
+
+    /** 색인을 보관할 최대 팀 수 */
+    static final int CACHE_CAPACITY = 64;
+
+    /** 팀 ID별 사전 버전 (바뀔 때마다 증가) */
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /** 팀 ID별 색인 (LRU) */
+    private final Map<Long, T> teams = new LinkedHashMap<>(CACHE_CAPACITY * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, T> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    @Override
+    public final boolean invalidate(Long teamId) {
+        versions.merge(teamId, 1L, Long::sum);
+        synchronized (teams) {
+            return teams.containsKey(teamId);
+        }
+    }
+
+    @Override
+    public final void refresh(Long teamId) {
+        final T current;
+        synchronized (teams) {
+            current = teams.get(teamId);
+        }
+        if (current == null) {
+            return;
+        }
+        final var next = refresh(teamId, current);
+        synchronized (teams) {
+            if (teams.containsKey(teamId)) {
+                teams.put(teamId, next);
+            }
+        }
+    }
+
+    /**
+     * 팀 색인을 반환한다. 보관하지 않은 팀이면 DB에서 만든다.
+     *
+     * @param teamId 팀 ID
+     * @return 팀 색인
+     */
+    protected final T team(Long teamId) {
+        synchronized (teams) {
+            final var index = teams.get(teamId);
+            if (index != null) {
+                return index;
+            }
+        }
+        final var version = versions.getOrDefault(teamId, 0L);
+        final var index = create(teamId);
+        synchronized (teams) {
+            if (version == versions.getOrDefault(teamId, 0L)) {
+                teams.put(teamId, index);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * DB의 현재 사전으로 팀 색인을 만든다.
+     *
+     * @param teamId 팀 ID
+     * @return 팀 색인
+     */
+    protected abstract T create(Long teamId);
+
+    /**
+     * 보관 중인 팀 색인을 DB의 현재 사전으로 맞춘다.
+     *
+     * @param teamId  팀 ID
+     * @param current 보관 중인 팀 색인
+     * @return 맞춘 팀 색인 (제자리에서 고쳤으면 {@code current})
+     */
+    protected abstract T refresh(Long teamId, T current);
+}
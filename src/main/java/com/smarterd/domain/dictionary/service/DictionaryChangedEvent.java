@@ -0,0 +1,11 @@
+package com.smarterd.domain.dictionary.service;
+
+/**
+ * 팀 용어·도메인 사전의 행이 추가·수정·삭제되었음을 알리는 이벤트.
+ *
+ * <p>엔티티로 쓰면 {@link com.smarterd.domain.dictionary.entity.DictionaryEntityListener}가 발행하며, JPQL·JDBC로
+ * 한꺼번에 쓰는 경로는 직접 발행해야 한다. 받는 쪽은 트랜잭션이 커밋된 뒤에 처리한다.</p>
+ *
+ * @param teamId 사전이 바뀐 팀 ID
+ */
+public record DictionaryChangedEvent(Long teamId) {}
@@ -0,0 +1,269 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.api.dictionary.dto.DictionaryImportResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.dictionary.importer.DictionarySheetHeader;
+import com.smarterd.domain.dictionary.importer.SpreadsheetRowReader;
+import com.smarterd.domain.dictionary.index.DictionaryItem;
+import com.smarterd.domain.dictionary.repository.DictionaryBulkStore;
+import com.smarterd.domain.dictionary.repository.DomainDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 용어·도메인 대량 가져오기 서비스.
+ *
+ * <p>
+ * CSV·XLSX 업로드를 한 행씩 읽어 검증하고, 용어가 참조하는 도메인 이름은 기존 사전과 같은 파일의 도메인 행을 모아 둔
+ * 메모리 맵에서 찾는다. 행마다 조회 쿼리를 보내지 않으므로 파일 안에서 도메인 행이 용어 행보다 뒤에 있어도 된다.
+ * 저장은 도메인, 용어 순으로 {@link DictionaryBulkStore}의 JDBC 배치 INSERT로 보내고, 사전 변경 이벤트는 가져오기마다
+ * 한 번 발행한다. 잘못된 행은 사유와 함께 건너뛰고 나머지 행은 그대로 가져온다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DictionaryImportService {
+
+    /** 응답에 담는 최대 오류 행 수 */
+    public static final int MAX_REPORTED_ERRORS = 1_000;
+
+    /** 논리명·물리명 최대 길이 */
+    private static final int MAX_NAME_LENGTH = 100;
+
+    /** 물리 타입 최대 길이 */
+    private static final int MAX_TYPE_LENGTH = 50;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /** 도메인 레포지토리 */
+    private final DomainRepository domainRepository;
+
+    /** 용어·도메인 JDBC 배치 저장소 */
+    private final DictionaryBulkStore dictionaryBulkStore;
+
+    /** 이벤트 발행기 (사전 변경 알림) */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * CSV 또는 XLSX 파일의 용어·도메인을 팀 사전에 추가한다.
+     *
+     * <p>첫 행은 머리글이며 열 이름은 {@link DictionarySheetHeader}를 따른다. 이미 있는 논리명의 용어·도메인, 없는 도메인을
+     * 참조하는 용어, 필수 값이 비었거나 너무 긴 행은 건너뛰고 결과에 행 번호와 사유를 남긴다.</p>
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param charset CSV 문자 인코딩 (XLSX와 UTF-8 BOM이 있는 CSV는 무시)
+     * @param body    업로드 바이트 스트림
+     * @return 가져오기 결과
+     * @throws BusinessException 인코딩 이름이 잘못됐거나, 머리글이 없거나, 파일 형식이 깨진 경우
+     */
+    @Transactional
+    public DictionaryImportResponse importDictionary(String loginId, Long teamId, String charset, InputStream body) {
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+        final var encoding = charset(charset);
+
+        final var batch = new ImportBatch(
+            domainRepository.findEntriesByTeamId(teamId),
+            termRepository.findEntriesByTeamId(teamId)
+        );
+        try (var reader = SpreadsheetRowReader.open(body, encoding)) {
+            final var headerRow = reader.next();
+            if (headerRow == null) {
+                throw new BusinessException("Import file is empty");
+            }
+            final var header = DictionarySheetHeader.of(headerRow);
+            for (var row = reader.next(); row != null; row = reader.next()) {
+                batch.read(reader.rowNumber(), header, row);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final var domainsCreated = saveDomains(teamId, batch);
+        final var termsCreated = saveTerms(teamId, batch);
+        if (domainsCreated + termsCreated > 0) {
+            eventPublisher.publishEvent(new DictionaryChangedEvent(teamId));
+        }
+        batch.errors.sort(Comparator.comparingInt(DictionaryImportResponse.RowError::row));
+        return new DictionaryImportResponse(
+            batch.rows,
+            domainsCreated,
+            termsCreated,
+            batch.errors.size(),
+            List.copyOf(batch.errors.subList(0, Math.min(batch.errors.size(), MAX_REPORTED_ERRORS)))
+        );
+    }
+
+    /** 새 도메인을 추가하고, 용어 연결을 위해 이름별 ID를 다시 읽는다. */
+    private int saveDomains(Long teamId, ImportBatch batch) {
+        if (batch.newDomains.isEmpty()) {
+            return 0;
+        }
+        final var domains = new ArrayList<DictionaryBulkStore.NewDomain>(batch.newDomains.size());
+        batch.newDomains.forEach((name, type) -> domains.add(new DictionaryBulkStore.NewDomain(name, type)));
+        dictionaryBulkStore.insertDomains(teamId, domains);
+        for (final var domain : domainRepository.findEntriesByTeamId(teamId)) {
+            batch.domainIds.put(domain.logicalName(), domain.domainId());
+        }
+        return domains.size();
+    }
+
+    /** 새 용어의 도메인 이름을 ID로 풀어 추가한다. 없는 도메인을 참조하는 행은 건너뛴다. */
+    private int saveTerms(Long teamId, ImportBatch batch) {
+        final var terms = new ArrayList<DictionaryBulkStore.NewTerm>(batch.newTerms.size());
+        for (final var pending : batch.newTerms) {
+            Long domainId = null;
+            if (pending.domainName() != null) {
+                domainId = batch.domainIds.get(pending.domainName());
+                if (domainId == null) {
+                    batch.errors.add(
+                        new DictionaryImportResponse.RowError(pending.row(), "Unknown domain: " + pending.domainName())
+                    );
+                    continue;
+                }
+            }
+            terms.add(new DictionaryBulkStore.NewTerm(pending.logicalName(), pending.physicalName(), domainId));
+        }
+        dictionaryBulkStore.insertTerms(teamId, terms);
+        return terms.size();
+    }
+
+    private static Charset charset(String name) {
+        try {
+            return Charset.forName(name);
+        } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+            throw new BusinessException("Unsupported charset: " + name);
+        }
+    }
+
+    /** 저장 대기 중인 용어 행. */
+    private record PendingTerm(int row, String logicalName, String physicalName, @Nullable String domainName) {}
+
+    /** 한 파일의 검증 상태와 저장 대기 행. */
+    private static final class ImportBatch {
+
+        /** 도메인 논리명별 ID (기존 도메인, 저장 후 새 도메인) */
+        private final Map<String, Long> domainIds = new HashMap<>();
+
+        /** 용어 논리명 (기존 용어와 이 파일의 용어) */
+        private final Set<String> termNames = new HashSet<>();
+
+        /** 새 도메인 논리명별 물리 타입 (파일 순서) */
+        private final Map<String, String> newDomains = new LinkedHashMap<>();
+
+        /** 새 용어 (파일 순서) */
+        private final List<PendingTerm> newTerms = new ArrayList<>();
+
+        /** 건너뛴 행 */
+        private final List<DictionaryImportResponse.RowError> errors = new ArrayList<>();
+
+        /** 읽은 데이터 행 수 */
+        private int rows;
+
+        private ImportBatch(List<DomainDictionaryEntry> domains, List<TermDictionaryEntry> terms) {
+            for (final var domain : domains) {
+                domainIds.put(domain.logicalName(), domain.domainId());
+            }
+            for (final var term : terms) {
+                termNames.add(term.logicalName());
+            }
+        }
+
+        /** 데이터 행 하나를 검증하여 저장 대기 목록에 넣는다. 빈 행은 세지 않는다. */
+        private void read(int rowNumber, DictionarySheetHeader header, List<String> row) {
+            if (row.stream().allMatch(String::isBlank)) {
+                return;
+            }
+            rows++;
+            final var kind = DictionarySheetHeader.parseKind(DictionarySheetHeader.cell(row, header.kind()));
+            final var error = kind == null
+                ? "Unknown kind: " + DictionarySheetHeader.cell(row, header.kind())
+                : validate(kind, header, row);
+            if (error != null) {
+                errors.add(new DictionaryImportResponse.RowError(rowNumber, error));
+            } else if (kind == DictionaryItem.Kind.DOMAIN) {
+                newDomains.put(
+                    DictionarySheetHeader.cell(row, header.logicalName()),
+                    DictionarySheetHeader.cell(row, header.physicalType())
+                );
+            } else {
+                final var domainName = DictionarySheetHeader.cell(row, header.domain());
+                newTerms.add(
+                    new PendingTerm(
+                        rowNumber,
+                        DictionarySheetHeader.cell(row, header.logicalName()),
+                        DictionarySheetHeader.cell(row, header.physicalName()),
+                        domainName.isEmpty() ? null : domainName
+                    )
+                );
+            }
+        }
+
+        /** 행의 오류 사유. 올바르면 {@code null}이며, 용어는 이때 논리명을 사용 중으로 표시한다. */
+        @Nullable
+        private String validate(DictionaryItem.Kind kind, DictionarySheetHeader header, List<String> row) {
+            final var logicalName = DictionarySheetHeader.cell(row, header.logicalName());
+            if (logicalName.isEmpty()) {
+                return "Logical name is required";
+            }
+            if (logicalName.length() > MAX_NAME_LENGTH) {
+                return "Logical name exceeds " + MAX_NAME_LENGTH + " characters";
+            }
+            if (kind == DictionaryItem.Kind.DOMAIN) {
+                final var physicalType = DictionarySheetHeader.cell(row, header.physicalType());
+                if (physicalType.isEmpty()) {
+                    return "Physical type is required for a domain";
+                }
+                if (physicalType.length() > MAX_TYPE_LENGTH) {
+                    return "Physical type exceeds " + MAX_TYPE_LENGTH + " characters";
+                }
+                if (domainIds.containsKey(logicalName) || newDomains.containsKey(logicalName)) {
+                    return "Domain already exists: " + logicalName;
+                }
+                return null;
+            }
+            final var physicalName = DictionarySheetHeader.cell(row, header.physicalName());
+            if (physicalName.isEmpty()) {
+                return "Physical name is required for a term";
+            }
+            if (physicalName.length() > MAX_NAME_LENGTH) {
+                return "Physical name exceeds " + MAX_NAME_LENGTH + " characters";
+            }
+            if (!termNames.add(logicalName)) {
+                return "Term already exists: " + logicalName;
+            }
+            return null;
+        }
+    }
+}
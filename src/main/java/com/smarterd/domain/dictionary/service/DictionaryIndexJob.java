@@ -0,0 +1,61 @@
+package com.smarterd.domain.dictionary.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사전 변경 뒤 등록된 모든 {@link TeamDictionaryIndex}를 백그라운드에서 맞추는 작업.
+ *
+ * <p>변경이 커밋되면 모든 색인에 팀의 변경을 알리고, 하나라도 팀 색인을 보관 중이면 전용 스레드 하나에서 맞춘다.
+ * 아직 처리하지 않은 팀의 변경이 또 들어오면 작업을 하나로 합친다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class DictionaryIndexJob {
+
+    /** 등록된 사전 색인 */
+    private final List<TeamDictionaryIndex> indexes;
+
+    /** 대기 중인 팀 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 색인 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> {
+        final var thread = new Thread(runnable, "dictionary-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 사전이 바뀐 팀의 색인 갱신을 예약한다.
+     *
+     * @param event 사전 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDictionaryChanged(DictionaryChangedEvent event) {
+        final var teamId = event.teamId();
+        var cached = false;
+        for (final var index : indexes) {
+            cached |= index.invalidate(teamId);
+        }
+        if (cached && pending.add(teamId)) {
+            executor.execute(() -> {
+                pending.remove(teamId);
+                indexes.forEach((index) -> index.refresh(teamId));
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import com.smarterd.domain.dictionary.validation.DictionaryRuleSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 사전 검사 규칙({@link DictionaryRuleSet}) 모음. 사전이 바뀌면 팀 규칙을 새로 만들어 통째로 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DictionaryRuleIndexer extends AbstractTeamDictionaryIndex<DictionaryRuleSet> {
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /** 도메인 레포지토리 */
+    private final DomainRepository domainRepository;
+
+    /**
+     * 팀 사전 검사 규칙을 반환한다.
+     *
+     * @param teamId 팀 ID
+     * @return 현재 사전의 규칙
+     */
+    public DictionaryRuleSet rules(Long teamId) {
+        return team(teamId);
+    }
+
+    @Override
+    protected DictionaryRuleSet create(Long teamId) {
+        return DictionaryRuleSet.build(
+            termRepository.findEntriesByTeamId(teamId),
+            domainRepository.findEntriesByTeamId(teamId)
+        );
+    }
+
+    @Override
+    protected DictionaryRuleSet refresh(Long teamId, DictionaryRuleSet current) {
+        return create(teamId);
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.domain.dictionary.index.DictionaryItem;
+import com.smarterd.domain.dictionary.index.DictionarySearchHit;
+import com.smarterd.domain.dictionary.index.DictionarySearchIndex;
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 사전 검색 색인({@link DictionarySearchIndex}) 모음. 사전이 바뀌면 팀 색인에서 바뀐 항목만 다시 색인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DictionarySearchIndexer extends AbstractTeamDictionaryIndex<DictionarySearchIndex> {
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /** 도메인 레포지토리 */
+    private final DomainRepository domainRepository;
+
+    /**
+     * 논리명으로 팀 용어·도메인을 찾는다.
+     *
+     * @param teamId 팀 ID
+     * @param query  입력
+     * @param limit  최대 결과 수
+     * @return 점수 순 결과
+     */
+    public List<DictionarySearchHit> search(Long teamId, String query, int limit) {
+        return team(teamId).search(query, limit);
+    }
+
+    @Override
+    protected DictionarySearchIndex create(Long teamId) {
+        return refresh(teamId, new DictionarySearchIndex());
+    }
+
+    @Override
+    protected DictionarySearchIndex refresh(Long teamId, DictionarySearchIndex current) {
+        final var terms = termRepository.findEntriesByTeamId(teamId);
+        final var domains = domainRepository.findEntriesByTeamId(teamId);
+        final var items = new ArrayList<DictionaryItem>(terms.size() + domains.size());
+        for (final var term : terms) {
+            items.add(
+                new DictionaryItem(
+                    DictionaryItem.Kind.TERM,
+                    term.termId(),
+                    term.logicalName(),
+                    term.physicalName(),
+                    term.physicalType()
+                )
+            );
+        }
+        for (final var domain : domains) {
+            items.add(
+                new DictionaryItem(
+                    DictionaryItem.Kind.DOMAIN,
+                    domain.domainId(),
+                    domain.logicalName(),
+                    null,
+                    domain.physicalType()
+                )
+            );
+        }
+        current.update(items);
+        return current;
+    }
+}
@@ -0,0 +1,52 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.api.dictionary.dto.DictionarySearchResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 용어·도메인 논리명 검색 서비스.
+ *
+ * <p>팀 멤버십만 DB에서 확인하고, 조회는 메모리 자모 n-gram 색인({@link DictionarySearchIndexer})에서 처리하므로
+ * 조회마다 사전 테이블을 읽지 않는다. 사전 변경이 커밋되면 백그라운드에서 바뀐 항목만 다시 색인한다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class DictionarySearchService {
+
+    /** 최대 결과 수 상한 */
+    public static final int MAX_LIMIT = 100;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 팀별 사전 검색 색인 */
+    private final DictionarySearchIndexer dictionarySearchIndexer;
+
+    /**
+     * 논리명으로 팀 용어·도메인을 찾는다. 초성만 입력하거나, 조합 중이거나, 오타가 있어도 찾는다.
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param query   입력 (비어 있으면 결과 없음)
+     * @param limit   최대 결과 수 (1 이상 {@value #MAX_LIMIT} 이하)
+     * @return 점수 순 결과
+     * @throws BusinessException 최대 결과 수가 범위를 벗어난 경우
+     */
+    public DictionarySearchResponse search(String loginId, Long teamId, String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+        return DictionarySearchResponse.of(query, dictionarySearchIndexer.search(teamId, query, limit));
+    }
+}
@@ -0,0 +1,25 @@
+package com.smarterd.domain.dictionary.service;
+
+/**
+ * 팀 용어·도메인 사전을 모아 두는 메모리 색인.
+ *
+ * <p>{@link DictionaryIndexJob}이 사전 변경이 커밋될 때마다 호출한다. 먼저 모든 색인의 {@link #invalidate}를 부르고,
+ * 하나라도 팀 색인을 보관 중이면 전용 스레드에서 {@link #refresh}를 부른다. 구현은 여러 스레드에서 동시에 호출될 수 있다.</p>
+ */
+public interface TeamDictionaryIndex {
+
+    /**
+     * 팀 사전이 바뀌었음을 기록한다.
+     *
+     * @param teamId 팀 ID
+     * @return 팀 색인을 보관 중이라 다시 맞춰야 하면 {@code true}
+     */
+    boolean invalidate(Long teamId);
+
+    /**
+     * 보관 중인 팀 색인을 DB의 현재 사전으로 맞춘다. 보관하지 않은 팀은 건너뛴다.
+     *
+     * @param teamId 팀 ID
+     */
+    void refresh(Long teamId);
+}
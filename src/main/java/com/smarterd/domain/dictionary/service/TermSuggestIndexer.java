@@ -0,0 +1,41 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.domain.dictionary.index.TermPrefixIndex;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 용어 자동완성 색인({@link TermPrefixIndex}) 모음. 사전이 바뀌면 팀 색인을 새로 만들어 통째로 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TermSuggestIndexer extends AbstractTeamDictionaryIndex<TermPrefixIndex> {
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /**
+     * 논리명이나 물리명이 접두사로 시작하는 팀 용어를 찾는다.
+     *
+     * @param teamId 팀 ID
+     * @param prefix 접두사
+     * @param limit  최대 결과 수
+     * @return 일치한 용어
+     */
+    public List<TermDictionaryEntry> suggest(Long teamId, String prefix, int limit) {
+        return team(teamId).suggest(prefix, limit);
+    }
+
+    @Override
+    protected TermPrefixIndex create(Long teamId) {
+        return TermPrefixIndex.build(termRepository.findEntriesByTeamId(teamId));
+    }
+
+    @Override
+    protected TermPrefixIndex refresh(Long teamId, TermPrefixIndex current) {
+        return create(teamId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.smarterd.domain.dictionary.service;
+
+import com.smarterd.api.dictionary.dto.TermSuggestResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 컬럼 편집기용 용어 자동완성 서비스.
+ *
+ * <p>팀 멤버십만 DB에서 확인하고, 조회는 메모리 접두사 색인({@link TermSuggestIndexer})에서 처리한다. 색인은 팀의 첫
+ * 조회 때 만들고, 사전 변경이 커밋되면 백그라운드에서 다시 만들므로 방금 추가한 용어는 잠시 뒤에 조회된다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class TermSuggestService {
+
+    /** 최대 결과 수 상한 */
+    public static final int MAX_LIMIT = 50;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 팀별 용어 자동완성 색인 */
+    private final TermSuggestIndexer termSuggestIndexer;
+
+    /**
+     * 논리명이나 물리명이 입력으로 시작하는 팀 용어를 연결된 도메인 타입과 함께 찾는다.
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param query   입력한 앞부분 (대소문자 무시, 비어 있으면 결과 없음)
+     * @param limit   최대 결과 수 (1 이상 {@value #MAX_LIMIT} 이하)
+     * @return 일치한 이름의 사전 순 결과
+     * @throws BusinessException 최대 결과 수가 범위를 벗어난 경우
+     */
+    public TermSuggestResponse suggest(String loginId, Long teamId, String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+        return TermSuggestResponse.of(query, termSuggestIndexer.suggest(teamId, query, limit));
+    }
+}
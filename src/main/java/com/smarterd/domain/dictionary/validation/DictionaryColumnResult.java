@@ -0,0 +1,23 @@
+package com.smarterd.domain.dictionary.validation;
+
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import java.util.List;
+
+/**
+ * 컬럼 하나의 사전 검사 입력과 결과. 저장해 두었다가 {@link IncrementalDictionaryValidator#restore}로 검사기를 다시 채운다.
+ *
+ * @param columnId   컬럼 ID
+ * @param tableId    테이블 노드 ID
+ * @param tableName  테이블 이름
+ * @param columnName 컬럼 이름
+ * @param type       컬럼 데이터 타입
+ * @param issues     검사 결과 (문제가 없으면 빈 목록)
+ */
+public record DictionaryColumnResult(
+    String columnId,
+    String tableId,
+    String tableName,
+    String columnName,
+    String type,
+    List<Issue> issues
+) {}
@@ -0,0 +1,174 @@
+package com.smarterd.domain.dictionary.validation;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Kind;
+import com.smarterd.domain.dictionary.repository.DomainDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 팀 하나의 사전 검사 규칙. 컬럼 이름과 타입을 용어·도메인 사전과 비교한다.
+ *
+ * <p>
+ * 용어 물리명(소문자)별로 연결된 도메인 물리 타입을, 도메인 물리 타입(공백 없이 대문자)을 집합으로 미리 모아 두므로 컬럼
+ * 하나는 해시 조회 두 번으로 검사한다. 한 번 만들면 바뀌지 않으므로 여러 스레드가 잠금 없이 함께 쓴다.
+ * </p>
+ */
+public final class DictionaryRuleSet {
+
+    /** 용어도 도메인도 없는 규칙 */
+    public static final DictionaryRuleSet EMPTY = build(List.of(), List.of());
+
+    /** 용어 물리명 키별 연결된 도메인 물리 타입 키 (도메인이 연결된 용어가 없으면 빈 목록) */
+    private final Map<String, List<String>> typesByName;
+
+    /** 도메인 물리 타입 키 */
+    private final Set<String> knownTypes;
+
+    private DictionaryRuleSet(Map<String, List<String>> typesByName, Set<String> knownTypes) {
+        this.typesByName = typesByName;
+        this.knownTypes = knownTypes;
+    }
+
+    /**
+     * 팀 사전으로 규칙을 만든다.
+     *
+     * @param terms   팀 용어 (연결된 도메인 물리 타입 포함)
+     * @param domains 팀 도메인
+     * @return 규칙
+     */
+    public static DictionaryRuleSet build(List<TermDictionaryEntry> terms, List<DomainDictionaryEntry> domains) {
+        final var types = new HashMap<String, LinkedHashSet<String>>(terms.size() * 2);
+        for (final var term : terms) {
+            final var expected = types.computeIfAbsent(nameKey(term.physicalName()), (key) -> new LinkedHashSet<>());
+            if (term.physicalType() != null) {
+                expected.add(typeKey(term.physicalType()));
+            }
+        }
+        final var typesByName = new HashMap<String, List<String>>(types.size() * 2);
+        types.forEach((name, expected) -> typesByName.put(name, List.copyOf(expected)));
+
+        final var knownTypes = new HashSet<String>(domains.size() * 2);
+        for (final var domain : domains) {
+            knownTypes.add(typeKey(domain.physicalType()));
+        }
+        return new DictionaryRuleSet(typesByName, knownTypes);
+    }
+
+    /**
+     * 컬럼 하나를 검사한다.
+     *
+     * <ul>
+     * <li>이름이 용어 물리명이 아니면 {@link Kind#UNKNOWN_NAME}</li>
+     * <li>도메인이 연결된 용어 이름인데 타입이 그 도메인 타입이 아니면 {@link Kind#TYPE_MISMATCH}</li>
+     * <li>그 밖에 타입이 어느 도메인의 물리 타입도 아니면 {@link Kind#UNKNOWN_TYPE}</li>
+     * </ul>
+     *
+     * <p>이름은 대소문자를, 타입은 대소문자와 공백을 무시하고 비교한다.</p>
+     *
+     * @param tableId   테이블 노드 ID
+     * @param tableName 테이블 이름
+     * @param column    컬럼
+     * @param issues    찾은 문제를 받는 곳
+     */
+    public void check(String tableId, String tableName, ErdColumn column, Consumer<Issue> issues) {
+        check(tableId, tableName, column, nameKey(column.name()), typeKey(column.type()), issues);
+    }
+
+    /** 이름·타입 키를 미리 구한 컬럼을 검사한다. */
+    void check(
+        String tableId,
+        String tableName,
+        ErdColumn column,
+        String nameKey,
+        String typeKey,
+        Consumer<Issue> issues
+    ) {
+        final var expected = typesByName.get(nameKey);
+        if (expected == null) {
+            issues.accept(issue(tableId, tableName, column, Kind.UNKNOWN_NAME, List.of()));
+        }
+        if (expected != null && !expected.isEmpty()) {
+            if (!expected.contains(typeKey)) {
+                issues.accept(issue(tableId, tableName, column, Kind.TYPE_MISMATCH, expected));
+            }
+        } else if (!knownTypes.contains(typeKey)) {
+            issues.accept(issue(tableId, tableName, column, Kind.UNKNOWN_TYPE, List.of()));
+        }
+    }
+
+    /**
+     * 이름 키의 검사 결과가 두 규칙에서 같은지 확인한다.
+     *
+     * @param other   다른 규칙
+     * @param nameKey 컬럼 이름 키
+     * @return 용어 여부와 연결된 도메인 타입이 같으면 {@code true}
+     */
+    boolean sameName(DictionaryRuleSet other, String nameKey) {
+        return Objects.equals(typesByName.get(nameKey), other.typesByName.get(nameKey));
+    }
+
+    /**
+     * 타입 키의 검사 결과가 두 규칙에서 같은지 확인한다.
+     *
+     * @param other   다른 규칙
+     * @param typeKey 컬럼 타입 키
+     * @return 도메인 타입 여부가 같으면 {@code true}
+     */
+    boolean sameType(DictionaryRuleSet other, String typeKey) {
+        return knownTypes.contains(typeKey) == other.knownTypes.contains(typeKey);
+    }
+
+    /**
+     * 물리명이 다른 용어 수.
+     *
+     * @return 용어 물리명 수
+     */
+    public int nameCount() {
+        return typesByName.size();
+    }
+
+    private static Issue issue(
+        String tableId,
+        String tableName,
+        ErdColumn column,
+        Kind kind,
+        List<String> expectedTypes
+    ) {
+        return new Issue(
+            tableId,
+            tableName,
+            column.id(),
+            column.name(),
+            column.type(),
+            kind,
+            expectedTypes
+        );
+    }
+
+    /** 컬럼 이름 비교 키 (앞뒤 공백 없이 소문자) */
+    static String nameKey(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** 타입 비교 키 (공백 없이 대문자, {@code varchar( 50 )} → {@code VARCHAR(50)}) */
+    static String typeKey(String type) {
+        final var key = new StringBuilder(type.length());
+        for (var i = 0; i < type.length(); i++) {
+            final var c = type.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                key.append(c);
+            }
+        }
+        return key.toString().toUpperCase(Locale.ROOT);
+    }
+}
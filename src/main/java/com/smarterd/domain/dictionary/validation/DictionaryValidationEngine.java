@@ -0,0 +1,97 @@
+package com.smarterd.domain.dictionary.validation;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다이어그램의 모든 컬럼을 팀 사전 규칙({@link DictionaryRuleSet})과 한 번에 비교하는 검사 엔진.
+ *
+ * <p>
+ * 테이블을 {@value #CHUNK_SIZE}개씩 묶어 전용 {@link ForkJoinPool}에서 병렬로 검사하고, 묶음 결과를 원래 순서대로
+ * 이어 붙인다. 규칙은 바뀌지 않는 해시 표이므로 묶음끼리 공유할 상태가 없고, 같은 입력에는 항상 같은 순서의 보고서가
+ * 나온다. 묶음이 하나뿐이면 호출 스레드에서 바로 검사한다. 저장마다 바뀐 컬럼만 다시 검사할 때는
+ * {@link IncrementalDictionaryValidator}가 같은 풀을 쓴다.
+ * </p>
+ */
+@Component
+public class DictionaryValidationEngine {
+
+    /** 작업 하나가 검사하는 테이블 수 */
+    static final int CHUNK_SIZE = 256;
+
+    /** 작업 하나가 다시 검사하는 컬럼 수 */
+    static final int COLUMN_CHUNK_SIZE = 2_048;
+
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 다이어그램을 검사한다.
+     *
+     * @param document 다이어그램
+     * @param rules    팀 사전 규칙
+     * @return 검사 보고서
+     */
+    public DictionaryValidationReport validate(ErdDocument document, DictionaryRuleSet rules) {
+        final var tables = document.tables();
+        if (tables.isEmpty()) {
+            return DictionaryValidationReport.EMPTY;
+        }
+        final var issues = new ArrayList<Issue>();
+        if (tables.size() <= CHUNK_SIZE) {
+            check(tables, rules, issues);
+        } else {
+            final var tasks = new ArrayList<ForkJoinTask<List<Issue>>>();
+            for (var from = 0; from < tables.size(); from += CHUNK_SIZE) {
+                final var chunk = tables.subList(from, Math.min(from + CHUNK_SIZE, tables.size()));
+                tasks.add(pool.submit(ForkJoinTask.adapt(() -> check(chunk, rules, new ArrayList<>()))));
+            }
+            tasks.forEach((task) -> issues.addAll(task.join()));
+        }
+        var columnCount = 0;
+        for (final var table : tables) {
+            columnCount += table.columns().size();
+        }
+        return new DictionaryValidationReport(tables.size(), columnCount, List.copyOf(issues));
+    }
+
+    /**
+     * {@link IncrementalDictionaryValidator}가 모은 컬럼을 검사하여 결과를 채운다. 많으면 {@value #COLUMN_CHUNK_SIZE}개씩
+     * 묶어 병렬로 검사한다.
+     *
+     * @param columns 다시 검사할 컬럼
+     * @param rules   팀 사전 규칙
+     */
+    void check(List<IncrementalDictionaryValidator.Column> columns, DictionaryRuleSet rules) {
+        if (columns.size() <= COLUMN_CHUNK_SIZE) {
+            columns.forEach((column) -> column.check(rules));
+            return;
+        }
+        final var tasks = new ArrayList<ForkJoinTask<?>>();
+        for (var from = 0; from < columns.size(); from += COLUMN_CHUNK_SIZE) {
+            final var chunk = columns.subList(from, Math.min(from + COLUMN_CHUNK_SIZE, columns.size()));
+            tasks.add(pool.submit(ForkJoinTask.adapt(() -> chunk.forEach((column) -> column.check(rules)))));
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static List<Issue> check(List<ErdTable> tables, DictionaryRuleSet rules, List<Issue> issues) {
+        for (final var table : tables) {
+            for (final var column : table.columns()) {
+                rules.check(table.id(), table.label(), column, issues::add);
+            }
+        }
+        return issues;
+    }
+}
@@ -0,0 +1,49 @@
+package com.smarterd.domain.dictionary.validation;
+
+import java.util.List;
+
+/**
+ * 다이어그램 전체 사전 검사 보고서.
+ *
+ * @param tableCount  검사한 테이블 수
+ * @param columnCount 검사한 컬럼 수
+ * @param issues      사전과 맞지 않는 컬럼 (다이어그램의 테이블·컬럼 순)
+ */
+public record DictionaryValidationReport(int tableCount, int columnCount, List<Issue> issues) {
+
+    /** 빈 다이어그램의 보고서 */
+    public static final DictionaryValidationReport EMPTY = new DictionaryValidationReport(0, 0, List.of());
+
+    /**
+     * 사전과 맞지 않는 컬럼 하나. 한 컬럼에 문제가 둘이면 둘 다 나온다.
+     *
+     * @param tableId       테이블 노드 ID
+     * @param tableName     테이블 이름
+     * @param columnId      컬럼 ID
+     * @param columnName    컬럼 이름
+     * @param type          컬럼 데이터 타입
+     * @param kind          문제 종류
+     * @param expectedTypes 용어에 연결된 도메인 물리 타입 ({@link Kind#TYPE_MISMATCH}일 때만, 공백 없이 대문자)
+     */
+    public record Issue(
+        String tableId,
+        String tableName,
+        String columnId,
+        String columnName,
+        String type,
+        Kind kind,
+        List<String> expectedTypes
+    ) {}
+
+    /** 컬럼 문제 종류. */
+    public enum Kind {
+        /** 컬럼 이름이 어느 용어의 물리명도 아니다 */
+        UNKNOWN_NAME,
+
+        /** 컬럼 이름은 용어 물리명이지만 타입이 그 용어에 연결된 도메인 타입이 아니다 */
+        TYPE_MISMATCH,
+
+        /** 도메인이 연결된 용어가 아닌 컬럼의 타입이 어느 도메인의 물리 타입도 아니다 */
+        UNKNOWN_TYPE,
+    }
+}
@@ -0,0 +1,394 @@
+package com.smarterd.domain.dictionary.validation;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Issue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.lang.Nullable;
+
+/**
+ * 다이어그램 하나의 사전 검사 결과를 보관하며 바뀐 컬럼만 다시 검사하는 검사기.
+ *
+ * <p>
+ * 직전 검사의 content 해시와 규칙, 컬럼 ID별 이름·타입과 검사 결과를 남긴다. 새 content가 오면 이름이나 타입이 바뀐 컬럼,
+ * 새 컬럼, 테이블 이름이 바뀐 컬럼만 다시 검사하고 나머지는 직전 결과를 쓴다. 규칙이 바뀌면 이 다이어그램에 나오는 이름·타입
+ * 키만 두 규칙에서 비교하여, 참조하는 용어나 도메인이 바뀐 컬럼만 다시 검사한다. 영향받는 컬럼이 없으면 보고서를 그대로 둔다.
+ * </p>
+ *
+ * <p>갱신마다 다시 검사한 컬럼과 사라진 컬럼을 {@link #checkedColumns()}·{@link #removedColumnIds()}로 알려 주므로
+ * 호출자가 결과를 저장해 둘 수 있고, 저장해 둔 결과로 {@link #restore} 하면 처음부터 검사하지 않는다.</p>
+ *
+ * <p>스레드 안전하지 않다. 호출자가 다이어그램마다 하나씩 두고 동기화한다.</p>
+ */
+public final class IncrementalDictionaryValidator {
+
+    /** 검사 엔진 (다시 검사할 컬럼이 많으면 병렬로 검사) */
+    private final DictionaryValidationEngine engine;
+
+    /** 직전 검사의 content 해시 */
+    @Nullable
+    private String contentHash;
+
+    /** 직전 검사의 규칙 */
+    @Nullable
+    private DictionaryRuleSet rules;
+
+    /** 컬럼 ID별 결과 */
+    private Map<String, Column> columns = new HashMap<>();
+
+    /** 다이어그램 순서의 컬럼 결과 */
+    private List<Column> ordered = new ArrayList<>();
+
+    /** 다이어그램에 나오는 이름 키별 컬럼 수 */
+    private Map<String, Integer> nameKeys = new HashMap<>();
+
+    /** 다이어그램에 나오는 타입 키별 컬럼 수 */
+    private Map<String, Integer> typeKeys = new HashMap<>();
+
+    /** 테이블 수 */
+    private int tableCount;
+
+    /** 현재 보고서 */
+    private DictionaryValidationReport report = DictionaryValidationReport.EMPTY;
+
+    /** 직전 갱신에서 다시 검사한 컬럼 */
+    private List<Column> lastDirty = List.of();
+
+    /** 직전 갱신에서 사라진 컬럼 ID */
+    private Set<String> lastRemoved = Set.of();
+
+    /**
+     * 빈 검사기를 만든다.
+     *
+     * @param engine 검사 엔진
+     */
+    public IncrementalDictionaryValidator(DictionaryValidationEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * 직전 검사의 content 해시.
+     *
+     * @return content 해시 (아직 검사하지 않았으면 {@code null})
+     */
+    @Nullable
+    public String contentHash() {
+        return contentHash;
+    }
+
+    /**
+     * 현재 보고서.
+     *
+     * @return 보고서
+     */
+    public DictionaryValidationReport report() {
+        return report;
+    }
+
+    /**
+     * 저장해 둔 컬럼 결과로 빈 검사기를 채운다. 이어서 {@link #update}를 부르면 입력이 그대로인 컬럼은 다시 검사하지 않는다.
+     * 결과를 만든 뒤 사전이 바뀌었으면 쓰지 말아야 한다.
+     *
+     * @param stored 컬럼 결과 (순서 무관)
+     * @param rules  결과를 만든 규칙과 같은 현재 팀 규칙
+     * @throws IllegalStateException 이미 검사한 검사기인 경우
+     */
+    public void restore(Collection<DictionaryColumnResult> stored, DictionaryRuleSet rules) {
+        if (contentHash != null) {
+            throw new IllegalStateException("Validator already holds a report for " + contentHash);
+        }
+        final var nextColumns = new HashMap<String, Column>(stored.size() * 2);
+        final var nextOrdered = new ArrayList<Column>(stored.size());
+        for (final var result : stored) {
+            final var column = new Column(
+                result.tableId(),
+                result.tableName(),
+                new ErdColumn(result.columnId(), result.columnName(), result.type(), false, false, false)
+            );
+            column.issues = List.copyOf(result.issues());
+            if (nextColumns.putIfAbsent(result.columnId(), column) == null) {
+                nextOrdered.add(column);
+            }
+        }
+        this.columns = nextColumns;
+        this.ordered = nextOrdered;
+        this.nameKeys = new HashMap<>();
+        this.typeKeys = new HashMap<>();
+        for (final var column : nextOrdered) {
+            count(nameKeys, column.nameKey, 1);
+            count(typeKeys, column.typeKey, 1);
+        }
+        this.rules = rules;
+    }
+
+    /**
+     * 새 content로 보고서를 갱신한다.
+     *
+     * @param contentHash 새 content 해시
+     * @param document    새 content
+     * @param rules       현재 팀 규칙
+     */
+    public void update(String contentHash, ErdDocument document, DictionaryRuleSet rules) {
+        final var stale = staleKeys(rules);
+        final var dirty = new ArrayList<Column>();
+        // 컬럼 배치가 같으면 바뀐 컬럼만 제자리에서 바꾸고, 그 결과가 직전과 같으면 보고서를 다시 만들지 않는다
+        final var replaced = replace(document, stale, dirty);
+        this.lastRemoved = Set.of();
+        if (replaced == null) {
+            rebuild(document, stale, dirty);
+        }
+        engine.check(dirty, rules);
+
+        var changed = replaced == null || tableCount != document.tables().size();
+        for (var i = 0; !changed && i < dirty.size(); i++) {
+            changed = !dirty.get(i).issues.equals(replaced.get(i).issues);
+        }
+        this.contentHash = contentHash;
+        this.rules = rules;
+        this.tableCount = document.tables().size();
+        this.lastDirty = dirty;
+        if (changed) {
+            this.report = buildReport();
+        }
+    }
+
+    /**
+     * content는 그대로이고 팀 규칙만 바뀌었을 수 있을 때 보고서를 맞춘다. 바뀐 용어·도메인을 참조하는 컬럼만 다시 검사한다.
+     *
+     * @param rules 현재 팀 규칙
+     */
+    public void updateRules(DictionaryRuleSet rules) {
+        this.lastRemoved = Set.of();
+        if (rules == this.rules) {
+            lastDirty = List.of();
+            return;
+        }
+        final var stale = staleKeys(rules);
+        final var dirty = new ArrayList<Column>();
+        if (!stale.isEmpty()) {
+            for (var i = 0; i < ordered.size(); i++) {
+                final var previous = ordered.get(i);
+                if (stale.affects(previous)) {
+                    final var result = new Column(previous.tableId, previous.tableName, previous.column);
+                    ordered.set(i, result);
+                    columns.put(result.column.id(), result);
+                    dirty.add(result);
+                }
+            }
+        }
+        engine.check(dirty, rules);
+        this.rules = rules;
+        this.lastDirty = dirty;
+        if (!dirty.isEmpty()) {
+            this.report = buildReport();
+        }
+    }
+
+    /**
+     * 컬럼 ID가 직전과 같은 순서로 나오면 바뀐 컬럼만 제자리에서 바꾼다. 저장 대부분은 컬럼을 더하거나 지우지 않는다.
+     *
+     * @return {@code dirty}와 같은 순서의 바뀌기 전 컬럼 결과 (배치가 달라 아무것도 바꾸지 않았으면 {@code null})
+     */
+    @Nullable
+    private List<Column> replace(ErdDocument document, Stale stale, List<Column> dirty) {
+        final var positions = new ArrayList<Integer>();
+        final var results = new ArrayList<Column>();
+        var i = 0;
+        for (final var table : document.tables()) {
+            for (final var column : table.columns()) {
+                if (i >= ordered.size()) {
+                    return null;
+                }
+                final var previous = ordered.get(i);
+                if (!previous.column.id().equals(column.id())) {
+                    return null;
+                }
+                if (!previous.matches(table, column) || stale.affects(previous)) {
+                    positions.add(i);
+                    results.add(new Column(table.id(), table.label(), column));
+                }
+                i++;
+            }
+        }
+        if (i != ordered.size()) {
+            return null;
+        }
+        final var replaced = new ArrayList<Column>(results.size());
+        for (var k = 0; k < results.size(); k++) {
+            final var result = results.get(k);
+            final var previous = ordered.set(positions.get(k), result);
+            columns.put(result.column.id(), result);
+            replaced.add(previous);
+            count(nameKeys, previous.nameKey, -1);
+            count(nameKeys, result.nameKey, 1);
+            count(typeKeys, previous.typeKey, -1);
+            count(typeKeys, result.typeKey, 1);
+        }
+        dirty.addAll(results);
+        return replaced;
+    }
+
+    /** 컬럼이 더해지거나 지워졌으면 컬럼 ID로 직전 결과를 찾아 다시 모은다. */
+    private void rebuild(ErdDocument document, Stale stale, List<Column> dirty) {
+        final var nextColumns = new HashMap<String, Column>(columns.size() * 2);
+        final var nextOrdered = new ArrayList<Column>(ordered.size());
+        for (final var table : document.tables()) {
+            for (final var column : table.columns()) {
+                final var previous = columns.get(column.id());
+                final var result = previous != null && previous.matches(table, column) && !stale.affects(previous)
+                    ? previous
+                    : new Column(table.id(), table.label(), column);
+                if (nextColumns.putIfAbsent(column.id(), result) == null) {
+                    nextOrdered.add(result);
+                    if (result != previous) {
+                        dirty.add(result);
+                    }
+                }
+            }
+        }
+        final var nextNameKeys = new HashMap<String, Integer>();
+        final var nextTypeKeys = new HashMap<String, Integer>();
+        for (final var column : nextOrdered) {
+            count(nextNameKeys, column.nameKey, 1);
+            count(nextTypeKeys, column.typeKey, 1);
+        }
+        final var removed = new HashSet<String>();
+        for (final var id : columns.keySet()) {
+            if (!nextColumns.containsKey(id)) {
+                removed.add(id);
+            }
+        }
+        this.columns = nextColumns;
+        this.ordered = nextOrdered;
+        this.nameKeys = nextNameKeys;
+        this.typeKeys = nextTypeKeys;
+        this.lastRemoved = removed;
+    }
+
+    private static void count(Map<String, Integer> counts, String key, int delta) {
+        counts.merge(key, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    /** 직전 갱신에서 다시 검사한 컬럼 수. */
+    int lastChecked() {
+        return lastDirty.size();
+    }
+
+    /**
+     * 직전 갱신에서 다시 검사한 컬럼의 결과.
+     *
+     * @return 컬럼 결과 (다시 검사한 컬럼이 없으면 빈 목록)
+     */
+    public List<DictionaryColumnResult> checkedColumns() {
+        return lastDirty.stream().map(Column::toResult).toList();
+    }
+
+    /**
+     * 직전 갱신에서 문서에서 사라진 컬럼 ID.
+     *
+     * @return 컬럼 ID
+     */
+    public Set<String> removedColumnIds() {
+        return lastRemoved;
+    }
+
+    /** 직전 규칙과 검사 결과가 달라지는 이 다이어그램의 이름·타입 키. */
+    private Stale staleKeys(DictionaryRuleSet next) {
+        final var previous = rules;
+        if (previous == null || previous == next) {
+            return Stale.NONE;
+        }
+        final var names = new HashSet<String>();
+        for (final var nameKey : nameKeys.keySet()) {
+            if (!previous.sameName(next, nameKey)) {
+                names.add(nameKey);
+            }
+        }
+        final var types = new HashSet<String>();
+        for (final var typeKey : typeKeys.keySet()) {
+            if (!previous.sameType(next, typeKey)) {
+                types.add(typeKey);
+            }
+        }
+        return new Stale(names, types);
+    }
+
+    private DictionaryValidationReport buildReport() {
+        final var issues = new ArrayList<Issue>();
+        for (final var column : ordered) {
+            issues.addAll(column.issues);
+        }
+        return new DictionaryValidationReport(tableCount, ordered.size(), List.copyOf(issues));
+    }
+
+    /** 다시 검사해야 하는 이름·타입 키. */
+    private record Stale(Set<String> names, Set<String> types) {
+
+        private static final Stale NONE = new Stale(Set.of(), Set.of());
+
+        private boolean isEmpty() {
+            return names.isEmpty() && types.isEmpty();
+        }
+
+        private boolean affects(Column column) {
+            return names.contains(column.nameKey) || types.contains(column.typeKey);
+        }
+    }
+
+    /** 컬럼 하나의 검사 입력과 결과. {@link DictionaryValidationEngine#check}가 결과를 채운다. */
+    static final class Column {
+
+        /** 테이블 노드 ID */
+        final String tableId;
+
+        /** 테이블 이름 */
+        final String tableName;
+
+        /** 컬럼 */
+        final ErdColumn column;
+
+        /** 이름 키 */
+        final String nameKey;
+
+        /** 타입 키 */
+        final String typeKey;
+
+        /** 검사 결과 */
+        List<Issue> issues = List.of();
+
+        Column(String tableId, String tableName, ErdColumn column) {
+            this.tableId = tableId;
+            this.tableName = tableName;
+            this.column = column;
+            this.nameKey = DictionaryRuleSet.nameKey(column.name());
+            this.typeKey = DictionaryRuleSet.typeKey(column.type());
+        }
+
+        /** 같은 테이블에 있고 이름·타입이 같아 직전 결과를 그대로 쓸 수 있으면 {@code true}. */
+        private boolean matches(ErdTable table, ErdColumn next) {
+            return tableId.equals(table.id()) &&
+                tableName.equals(table.label()) &&
+                column.name().equals(next.name()) &&
+                column.type().equals(next.type());
+        }
+
+        /** 저장용 결과로 바꾼다. */
+        private DictionaryColumnResult toResult() {
+            return new DictionaryColumnResult(column.id(), tableId, tableName, column.name(), column.type(), issues);
+        }
+
+        /** 규칙으로 검사하여 결과를 채운다. */
+        void check(DictionaryRuleSet rules) {
+            final var found = new ArrayList<Issue>(0);
+            rules.check(tableId, tableName, column, nameKey, typeKey, found::add);
+            issues = found.isEmpty() ? List.of() : List.copyOf(found);
+        }
+    }
+}
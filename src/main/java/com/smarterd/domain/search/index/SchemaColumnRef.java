@@ -0,0 +1,32 @@
+package com.smarterd.domain.search.index;
+
+import java.util.Comparator;
+
+/**
+ * 팀 안의 컬럼 하나의 위치.
+ *
+ * @param projectId  프로젝트 ID
+ * @param diagramId  다이어그램 ID
+ * @param nodeId     테이블 노드 ID
+ * @param tableLabel 테이블 이름
+ * @param columnId   컬럼 ID
+ * @param columnName 컬럼 이름
+ * @param columnType 컬럼 데이터 타입
+ */
+public record SchemaColumnRef(
+    Long projectId,
+    Long diagramId,
+    String nodeId,
+    String tableLabel,
+    String columnId,
+    String columnName,
+    String columnType
+) {
+    /** 프로젝트·다이어그램 ID, 테이블 이름·노드 ID, 컬럼 이름·ID 순 */
+    public static final Comparator<SchemaColumnRef> ORDER = Comparator.comparing(SchemaColumnRef::projectId)
+        .thenComparing(SchemaColumnRef::diagramId)
+        .thenComparing(SchemaColumnRef::tableLabel)
+        .thenComparing(SchemaColumnRef::nodeId)
+        .thenComparing(SchemaColumnRef::columnName)
+        .thenComparing(SchemaColumnRef::columnId);
+}
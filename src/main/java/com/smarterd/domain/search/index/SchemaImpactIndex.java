@@ -0,0 +1,209 @@
+package com.smarterd.domain.search.index;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 하나의 영향 분석 역색인. 컬럼 이름과 데이터 타입에서 그 컬럼의 위치({@link SchemaColumnRef})로 간다.
+ *
+ * <p>
+ * 컬럼 이름은 대소문자를 구분하지 않는다. 데이터 타입은 대문자로 바꾸고 공백을 지운 값({@code VARCHAR(50)})과
+ * 괄호 앞의 타입 이름({@code VARCHAR})으로 함께 색인하므로, 길이까지 같은 컬럼과 같은 종류의 컬럼을 모두 찾을 수 있다.
+ * 용어는 물리명이 컬럼 이름과 같으면 그 컬럼에 쓰인 것으로 보므로({@code DdlGenerator}와 같은 규칙), 용어·도메인의
+ * 영향 범위도 물리명으로 이 색인을 찾으면 된다.
+ * </p>
+ *
+ * <p>다시 색인할 때는 {@link SchemaSearchIndex}처럼 노드 ID별로 이전 테이블과 비교하여 바뀐 테이블의 컬럼만 옮긴다.
+ * 읽기·쓰기 잠금으로 보호하므로 조회는 서로 막지 않는다.</p>
+ */
+public final class SchemaImpactIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 소문자 컬럼 이름별 컬럼 */
+    private final Map<String, Set<SchemaColumnRef>> names = new HashMap<>();
+
+    /** 정규화한 데이터 타입·타입 이름별 컬럼 */
+    private final Map<String, Set<SchemaColumnRef>> types = new HashMap<>();
+
+    /** 다이어그램별·노드 ID별 색인된 테이블 */
+    private final Map<Long, Map<String, IndexedTable>> diagrams = new HashMap<>();
+
+    /**
+     * 다이어그램의 테이블 목록으로 색인을 맞춘다. 이름·컬럼이 그대로인 테이블은 건드리지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param tables    다이어그램의 현재 테이블 (노드 ID 중복 시 처음 것만 사용)
+     * @return 다시 색인하거나 지운 테이블 수
+     */
+    public int update(Long projectId, Long diagramId, List<ErdTable> tables) {
+        lock.writeLock().lock();
+        try {
+            final var previous = diagrams.getOrDefault(diagramId, Map.of());
+            final var next = new HashMap<String, IndexedTable>(tables.size() * 2);
+            var changed = 0;
+            for (final var table : tables) {
+                if (next.containsKey(table.id())) {
+                    continue;
+                }
+                final var old = previous.get(table.id());
+                if (old != null && old.sameAs(projectId, table)) {
+                    next.put(table.id(), old);
+                    continue;
+                }
+                if (old != null) {
+                    drop(old);
+                }
+                next.put(table.id(), add(projectId, diagramId, table));
+                changed++;
+            }
+            for (final var entry : previous.entrySet()) {
+                if (!next.containsKey(entry.getKey())) {
+                    drop(entry.getValue());
+                    changed++;
+                }
+            }
+            if (next.isEmpty()) {
+                diagrams.remove(diagramId);
+            } else {
+                diagrams.put(diagramId, next);
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다이어그램의 컬럼을 모두 지운다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void remove(Long diagramId) {
+        lock.writeLock().lock();
+        try {
+            final var tables = diagrams.remove(diagramId);
+            if (tables != null) {
+                tables.values().forEach(this::drop);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이름이 주어진 이름 중 하나와 같은 컬럼을 찾는다 (대소문자 무시).
+     *
+     * @param columnNames 컬럼 이름 (용어 물리명 등)
+     * @return 컬럼 위치 ({@link SchemaColumnRef#ORDER} 순)
+     */
+    public List<SchemaColumnRef> findByNames(Collection<String> columnNames) {
+        final var keys = columnNames.stream().map(SchemaImpactIndex::nameKey).distinct().toList();
+        lock.readLock().lock();
+        try {
+            final var refs = new ArrayList<SchemaColumnRef>();
+            for (final var key : keys) {
+                refs.addAll(names.getOrDefault(key, Set.of()));
+            }
+            refs.sort(SchemaColumnRef.ORDER);
+            return refs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 데이터 타입이 같은 컬럼을 찾는다. 괄호 없이 타입 이름만 주면 길이·정밀도와 무관하게 같은 종류의 컬럼을 모두 찾는다.
+     *
+     * @param type 데이터 타입 (예: {@code varchar(50)}, {@code VARCHAR})
+     * @return 컬럼 위치 ({@link SchemaColumnRef#ORDER} 순)
+     */
+    public List<SchemaColumnRef> findByType(String type) {
+        final var key = typeKey(type);
+        lock.readLock().lock();
+        try {
+            final var refs = new ArrayList<>(types.getOrDefault(key, Set.of()));
+            refs.sort(SchemaColumnRef.ORDER);
+            return refs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private IndexedTable add(Long projectId, Long diagramId, ErdTable table) {
+        final var refs = new ArrayList<SchemaColumnRef>(table.columns().size());
+        for (final var column : table.columns()) {
+            final var ref = new SchemaColumnRef(
+                projectId,
+                diagramId,
+                table.id(),
+                table.label(),
+                column.id(),
+                column.name(),
+                column.type()
+            );
+            refs.add(ref);
+            forEachKey(ref, (map, key) -> map.computeIfAbsent(key, (k) -> new HashSet<>()).add(ref));
+        }
+        return new IndexedTable(projectId, table.label(), table.columns(), refs);
+    }
+
+    private void drop(IndexedTable table) {
+        for (final var ref : table.refs) {
+            forEachKey(ref, (map, key) -> {
+                final var refs = map.get(key);
+                if (refs != null && refs.remove(ref) && refs.isEmpty()) {
+                    map.remove(key);
+                }
+            });
+        }
+    }
+
+    private void forEachKey(SchemaColumnRef ref, KeyAction action) {
+        action.apply(names, nameKey(ref.columnName()));
+        final var type = typeKey(ref.columnType());
+        action.apply(types, type);
+        final var paren = type.indexOf('(');
+        if (paren > 0) {
+            action.apply(types, type.substring(0, paren));
+        }
+    }
+
+    private static String nameKey(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** 대문자로 바꾸고 공백을 모두 지운다. {@code varchar (50)} → {@code VARCHAR(50)} */
+    private static String typeKey(String type) {
+        final var key = new StringBuilder(type.length());
+        for (var i = 0; i < type.length(); i++) {
+            final var c = type.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                key.append(Character.toUpperCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    @FunctionalInterface
+    private interface KeyAction {
+        void apply(Map<String, Set<SchemaColumnRef>> map, String key);
+    }
+
+    /** 색인된 테이블과 그 컬럼 위치 (컬럼 순서대로). */
+    private record IndexedTable(Long projectId, String label, List<ErdColumn> columns, List<SchemaColumnRef> refs) {
+        boolean sameAs(Long otherProjectId, ErdTable table) {
+            return projectId.equals(otherProjectId) && label.equals(table.label()) && columns.equals(table.columns());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.smarterd.domain.search.index;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * 스키마 검색 결과 하나. 테이블 자체가 걸렸으면 컬럼 필드는 {@code null}이다.
+ *
+ * @param projectId  프로젝트 ID
+ * @param diagramId  다이어그램 ID
+ * @param nodeId     테이블 노드 ID
+ * @param tableLabel 테이블 이름
+ * @param columnId   컬럼 ID (nullable)
+ * @param columnName 컬럼 이름 (nullable)
+ * @param columnType 컬럼 데이터 타입 (nullable)
+ * @param score      점수 (클수록 검색어와 가깝다)
+ */
+public record SchemaSearchHit(
+    Long projectId,
+    Long diagramId,
+    String nodeId,
+    String tableLabel,
+    @Nullable String columnId,
+    @Nullable String columnName,
+    @Nullable String columnType,
+    int score
+) {}
@@ -0,0 +1,396 @@
+package com.smarterd.domain.search.index;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.lang.Nullable;
+
+/**
+ * 팀 하나의 테이블·컬럼 역색인.
+ *
+ * <p>
+ * 테이블마다 문서 하나(테이블 이름)와 컬럼마다 문서 하나(테이블 이름 + 컬럼 이름 + 데이터 타입)를 두고,
+ * {@link SchemaTokenizer}가 만든 토큰별로 문서 번호 목록(postings)을 정렬된 사전({@link TreeMap})에 보관한다.
+ * 검색어 토큰은 사전에서 접두어 구간으로 찾으므로 {@code unit_pr}처럼 입력 중인 검색어도 걸린다.
+ * </p>
+ *
+ * <p>
+ * 다이어그램을 다시 색인하면 노드 ID별로 이전 테이블과 이름·컬럼을 비교하여, 바뀐 테이블의 문서만 지우고 새로 넣는다.
+ * 지운 문서는 번호만 비워 두고 postings에서는 검색 때 건너뛰며, 지운 문서가 살아 있는 문서보다 많아지면 번호를 다시 매겨
+ * 압축한다. 읽기·쓰기 잠금으로 보호하므로 검색은 서로 막지 않는다.
+ * </p>
+ */
+public final class SchemaSearchIndex {
+
+    /** 압축을 고려하기 시작하는 지운 문서 수 */
+    static final int COMPACT_THRESHOLD = 4096;
+
+    /** 검색에 쓰는 최대 검색어 토큰 수 */
+    static final int MAX_QUERY_TOKENS = 16;
+
+    /** 식별자 전체가 같을 때 토큰 점수 */
+    private static final int EXACT_SCORE = 3;
+
+    /** 접두어만 같을 때 토큰 점수 */
+    private static final int PREFIX_SCORE = 1;
+
+    /** 검색어 전체가 테이블 이름이나 컬럼 이름과 같을 때 더하는 점수 */
+    private static final int NAME_BONUS = 6;
+
+    /** 검색어 전체가 {@code 테이블.컬럼}과 같을 때 더하는 점수 */
+    private static final int QUALIFIED_BONUS = 10;
+
+    /** 점수 내림차순, 테이블 먼저, 다이어그램 ID·문서 번호 오름차순 */
+    private static final Comparator<Match> RANKING = (a, b) -> rank(a.score, a.document, a.id, b);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 문서 번호별 문서 (지운 문서는 {@code null}) */
+    private final List<Document> documents = new ArrayList<>();
+
+    /** 토큰별 문서 번호 (오름차순) */
+    private final TreeMap<String, Postings> postings = new TreeMap<>();
+
+    /** 다이어그램별·노드 ID별 색인된 테이블 */
+    private final Map<Long, Map<String, IndexedTable>> diagrams = new HashMap<>();
+
+    private int removed;
+
+    /**
+     * 다이어그램의 테이블 목록으로 색인을 맞춘다. 이름·컬럼이 그대로인 테이블은 건드리지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param tables    다이어그램의 현재 테이블 (노드 ID 중복 시 처음 것만 사용)
+     * @return 다시 색인하거나 지운 테이블 수
+     */
+    public int update(Long projectId, Long diagramId, List<ErdTable> tables) {
+        lock.writeLock().lock();
+        try {
+            final var previous = diagrams.getOrDefault(diagramId, Map.of());
+            final var next = new HashMap<String, IndexedTable>(tables.size() * 2);
+            var changed = 0;
+            for (final var table : tables) {
+                if (next.containsKey(table.id())) {
+                    continue;
+                }
+                final var old = previous.get(table.id());
+                if (old != null && old.sameAs(projectId, table)) {
+                    next.put(table.id(), old);
+                    continue;
+                }
+                if (old != null) {
+                    drop(old);
+                }
+                next.put(table.id(), add(projectId, diagramId, table));
+                changed++;
+            }
+            for (final var entry : previous.entrySet()) {
+                if (!next.containsKey(entry.getKey())) {
+                    drop(entry.getValue());
+                    changed++;
+                }
+            }
+            if (next.isEmpty()) {
+                diagrams.remove(diagramId);
+            } else {
+                diagrams.put(diagramId, next);
+            }
+            compactIfNeeded();
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다이어그램의 문서를 모두 지운다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void remove(Long diagramId) {
+        lock.writeLock().lock();
+        try {
+            final var tables = diagrams.remove(diagramId);
+            if (tables != null) {
+                tables.values().forEach(this::drop);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어 토큰이 모두 걸린 테이블·컬럼을 점수 순으로 찾는다.
+     *
+     * <p>검색어 토큰마다 그 토큰으로 시작하는 색인 토큰을 찾아, 식별자 전체가 같으면 {@value #EXACT_SCORE}점, 접두어만
+     * 같으면 {@value #PREFIX_SCORE}점을 더한다. 검색어 전체가 테이블·컬럼 이름이나 {@code 테이블.컬럼}과 같으면 점수를 더
+     * 얹는다. 같은 점수에서는 테이블이 컬럼보다 앞선다.</p>
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 검색 결과 (점수 내림차순)와 전체 일치 수
+     */
+    public Result search(String query, int limit) {
+        final var tokens = SchemaTokenizer.query(query).stream().limit(MAX_QUERY_TOKENS).toList();
+        if (tokens.isEmpty() || limit <= 0) {
+            return new Result(0, List.of());
+        }
+        final var whole = query.strip().toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            final var size = documents.size();
+            final var scores = new int[size];
+            final var masks = new int[size];
+            // 첫 토큰에 걸린 문서만 후보로 모아 두면, 좁은 검색어는 문서 전체를 훑지 않는다
+            var candidates = new int[64];
+            var candidateCount = 0;
+            for (var bit = 0; bit < tokens.size(); bit++) {
+                final var token = tokens.get(bit);
+                for (final var entry : postings.tailMap(token, true).entrySet()) {
+                    if (!entry.getKey().startsWith(token)) {
+                        break;
+                    }
+                    final var score = entry.getKey().length() == token.length() ? EXACT_SCORE : PREFIX_SCORE;
+                    final var ids = entry.getValue();
+                    for (var i = 0; i < ids.size; i++) {
+                        final var id = ids.values[i];
+                        if ((masks[id] & (1 << bit)) == 0) {
+                            masks[id] |= 1 << bit;
+                            scores[id] += score;
+                            if (bit == 0) {
+                                if (candidateCount == candidates.length) {
+                                    candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                                }
+                                candidates[candidateCount++] = id;
+                            }
+                        }
+                    }
+                }
+            }
+
+            final var full = (1 << tokens.size()) - 1;
+            final var top = new PriorityQueue<Match>(limit + 1, RANKING.reversed());
+            var total = 0;
+            for (var i = 0; i < candidateCount; i++) {
+                final var id = candidates[i];
+                final var document = documents.get(id);
+                if (masks[id] != full || document == null) {
+                    continue;
+                }
+                total++;
+                final var score = scores[id] + document.bonus(whole);
+                // 넓은 검색어는 수십만 건이 걸리므로, 상위에 들 수 없는 문서는 결과 객체를 만들지 않는다
+                if (top.size() == limit && rank(score, document, id, top.peek()) >= 0) {
+                    continue;
+                }
+                top.add(new Match(id, score, document));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            final var hits = top.stream().sorted(RANKING).map(Match::toHit).toList();
+            return new Result(total, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 문서 수.
+     *
+     * @return 테이블 문서 수 + 컬럼 문서 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size() - removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** {@link #RANKING} 순서로 문서를 결과와 비교한다. 비교할 문서의 결과 객체를 만들지 않는다. */
+    private static int rank(int score, Document document, int id, Match other) {
+        if (score != other.score) {
+            return Integer.compare(other.score, score);
+        }
+        final var column = document.column != null;
+        if (column != (other.document.column != null)) {
+            return column ? 1 : -1;
+        }
+        final var diagram = document.diagramId.compareTo(other.document.diagramId);
+        return diagram != 0 ? diagram : Integer.compare(id, other.id);
+    }
+
+    private IndexedTable add(Long projectId, Long diagramId, ErdTable table) {
+        final var ids = new int[table.columns().size() + 1];
+        final var labelTokens = new HashSet<String>();
+        SchemaTokenizer.index(table.label(), labelTokens);
+        ids[0] = append(new Document(projectId, diagramId, table.id(), table.label(), null), labelTokens);
+        for (var i = 0; i < table.columns().size(); i++) {
+            final var column = table.columns().get(i);
+            final var tokens = new HashSet<>(labelTokens);
+            SchemaTokenizer.index(column.name(), tokens);
+            SchemaTokenizer.index(column.type(), tokens);
+            ids[i + 1] = append(new Document(projectId, diagramId, table.id(), table.label(), column), tokens);
+        }
+        return new IndexedTable(projectId, table.label(), table.columns(), ids);
+    }
+
+    private int append(Document document, Iterable<String> tokens) {
+        final var id = documents.size();
+        documents.add(document);
+        for (final var token : tokens) {
+            postings.computeIfAbsent(token, (key) -> new Postings()).add(id);
+        }
+        return id;
+    }
+
+    private void drop(IndexedTable table) {
+        for (final var id : table.ids) {
+            documents.set(id, null);
+            removed++;
+        }
+    }
+
+    /** 지운 문서가 충분히 많으면 살아 있는 문서에 번호를 다시 매기고 postings에서 지운 번호를 걷어 낸다. */
+    private void compactIfNeeded() {
+        if (removed < COMPACT_THRESHOLD || removed < documents.size() - removed) {
+            return;
+        }
+        final var renumbered = new int[documents.size()];
+        final var live = new ArrayList<Document>(documents.size() - removed);
+        for (var id = 0; id < documents.size(); id++) {
+            final var document = documents.get(id);
+            renumbered[id] = document == null ? -1 : live.size();
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        final var iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            final var ids = iterator.next();
+            ids.renumber(renumbered);
+            if (ids.size == 0) {
+                iterator.remove();
+            }
+        }
+        for (final var tables : diagrams.values()) {
+            for (final var table : tables.values()) {
+                for (var i = 0; i < table.ids.length; i++) {
+                    table.ids[i] = renumbered[table.ids[i]];
+                }
+            }
+        }
+        documents.clear();
+        documents.addAll(live);
+        removed = 0;
+    }
+
+    /**
+     * 검색 결과.
+     *
+     * @param total 검색어에 걸린 전체 문서 수
+     * @param hits  점수 순 상위 결과
+     */
+    public record Result(int total, List<SchemaSearchHit> hits) {}
+
+    /**
+     * 색인된 문서. 컬럼이 {@code null}이면 테이블 문서다.
+     *
+     * @param name      소문자 이름 (테이블 문서는 테이블 이름, 컬럼 문서는 컬럼 이름)
+     * @param qualified 소문자 {@code 테이블.컬럼} (테이블 문서는 {@code null})
+     */
+    private record Document(
+        Long projectId,
+        Long diagramId,
+        String nodeId,
+        String tableLabel,
+        @Nullable ErdColumn column,
+        String name,
+        @Nullable String qualified
+    ) {
+        Document(Long projectId, Long diagramId, String nodeId, String tableLabel, @Nullable ErdColumn column) {
+            this(
+                projectId,
+                diagramId,
+                nodeId,
+                tableLabel,
+                column,
+                (column == null ? tableLabel : column.name()).toLowerCase(Locale.ROOT),
+                column == null ? null : (tableLabel + "." + column.name()).toLowerCase(Locale.ROOT)
+            );
+        }
+
+        int bonus(String whole) {
+            if (whole.equals(qualified)) {
+                return QUALIFIED_BONUS;
+            }
+            return name.equals(whole) ? NAME_BONUS : 0;
+        }
+    }
+
+    private record Match(int id, int score, Document document) {
+        SchemaSearchHit toHit() {
+            final var column = document.column;
+            return new SchemaSearchHit(
+                document.projectId,
+                document.diagramId,
+                document.nodeId,
+                document.tableLabel,
+                column == null ? null : column.id(),
+                column == null ? null : column.name(),
+                column == null ? null : column.type(),
+                score
+            );
+        }
+    }
+
+    /** 색인된 테이블과 그 문서 번호 (0번은 테이블 문서, 나머지는 컬럼 순서대로). */
+    private record IndexedTable(Long projectId, String label, List<ErdColumn> columns, int[] ids) {
+        boolean sameAs(Long otherProjectId, ErdTable table) {
+            return projectId.equals(otherProjectId) && label.equals(table.label()) && columns.equals(table.columns());
+        }
+    }
+
+    /** 오름차순 문서 번호 목록. 새 문서 번호는 항상 가장 크므로 뒤에 붙이기만 한다. */
+    private static final class Postings {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = id;
+        }
+
+        void renumber(int[] renumbered) {
+            var kept = 0;
+            for (var i = 0; i < size; i++) {
+                final var id = renumbered[values[i]];
+                if (id >= 0) {
+                    values[kept++] = id;
+                }
+            }
+            size = kept;
+            if (values.length > 16 && size < values.length / 4) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.smarterd.domain.search.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 테이블 이름·컬럼 이름·데이터 타입을 검색 토큰으로 나눈다.
+ *
+ * <p>
+ * 값 하나에서 세 단계의 토큰을 만든다. 값 전체(소문자), 그 안의 식별자(글자·숫자·{@code _}·{@code $}가 이어진 구간),
+ * 식별자를 {@code _}와 camelCase·숫자 경계에서 다시 나눈 낱말이다. 예를 들어 {@code OrderItem_v2}는
+ * {@code orderitem_v2}, {@code order}, {@code item}, {@code v}, {@code 2}가 된다. 검색어는 식별자 단위로만 나누므로
+ * {@code order_item}으로 찾으면 식별자 전체에, {@code item}으로 찾으면 낱말에 걸린다.
+ * </p>
+ */
+final class SchemaTokenizer {
+
+    private SchemaTokenizer() {}
+
+    /**
+     * 색인할 토큰을 만든다.
+     *
+     * @param value  테이블 이름·컬럼 이름·데이터 타입
+     * @param tokens 토큰을 더할 집합
+     */
+    static void index(String value, Set<String> tokens) {
+        final var whole = value.strip().toLowerCase(Locale.ROOT);
+        if (whole.isEmpty()) {
+            return;
+        }
+        tokens.add(whole);
+        var start = -1;
+        for (var i = 0; i <= value.length(); i++) {
+            if (i < value.length() && isIdentifierPart(value.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                final var identifier = value.substring(start, i);
+                tokens.add(identifier.toLowerCase(Locale.ROOT));
+                words(identifier, tokens);
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * 검색어를 식별자 단위 토큰으로 나눈다. {@code order_item.unit_price}는 {@code order_item}, {@code unit_price}가 된다.
+     *
+     * @param query 검색어
+     * @return 중복 없는 소문자 토큰 (검색어 순서)
+     */
+    static Set<String> query(String query) {
+        final var tokens = new LinkedHashSet<String>();
+        var start = -1;
+        for (var i = 0; i <= query.length(); i++) {
+            if (i < query.length() && isIdentifierPart(query.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(query.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /** 식별자를 {@code _}·{@code $}, 소문자→대문자, 글자↔숫자 경계에서 나눈다. */
+    private static void words(String identifier, Set<String> tokens) {
+        var start = 0;
+        for (var i = 1; i <= identifier.length(); i++) {
+            if (i == identifier.length() || isBoundary(identifier, i)) {
+                final var word = identifier.substring(start, i).replace("_", "").replace("$", "");
+                if (!word.isEmpty()) {
+                    tokens.add(word.toLowerCase(Locale.ROOT));
+                }
+                start = i;
+            }
+        }
+    }
+
+    private static boolean isBoundary(String identifier, int index) {
+        final var previous = identifier.charAt(index - 1);
+        final var current = identifier.charAt(index);
+        if (current == '_' || current == '$' || previous == '_' || previous == '$') {
+            return true;
+        }
+        if (Character.isLowerCase(previous) && Character.isUpperCase(current)) {
+            return true;
+        }
+        // HTTPServer → HTTP | Server
+        if (
+            Character.isUpperCase(previous) &&
+            Character.isUpperCase(current) &&
+            index + 1 < identifier.length() &&
+            Character.isLowerCase(identifier.charAt(index + 1))
+        ) {
+            return true;
+        }
+        return Character.isDigit(previous) != Character.isDigit(current);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+}
@@ -0,0 +1,361 @@
+package com.smarterd.domain.search.index;
+
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.lang.Nullable;
+
+/**
+ * 팀 하나의 비슷한 테이블 색인 (MinHash + LSH).
+ *
+ * <p>
+ * 테이블마다 컬럼 이름 집합(소문자, {@code _}·{@code $} 제거 — {@code user_id}와 {@code userId}는 같은 이름)의
+ * MinHash 서명({@value #SIGNATURE_SIZE}개 해시 최솟값)을 만들고, 서명을 {@value #ROWS}개씩 {@value #BANDS}개 띠로
+ * 나누어 띠별 버킷에 넣는다. 자카드 유사도가 {@code s}인 두 테이블이 한 버킷 이상을 함께 쓸 확률은
+ * {@code 1 - (1 - s^4)^16}이므로 유사도 0.5에서 약 64%, 0.7에서 약 99.8%, 0.3에서 약 12%다. 조회는 대상 테이블의
+ * 버킷에 든 테이블만 후보로 삼아 정확한 자카드 유사도를 계산하므로 팀 테이블 수와 무관하게 후보 수에 비례한다.
+ * </p>
+ *
+ * <p>다시 색인할 때는 노드 ID별로 이전 테이블과 비교하여 이름·컬럼 이름이 바뀐 테이블만 옮긴다. 지운 테이블의 번호는
+ * 다음 테이블이 다시 쓴다. 읽기·쓰기 잠금으로 보호하므로 조회는 서로 막지 않는다.</p>
+ */
+public final class TableSimilarityIndex {
+
+    /** 띠 수 */
+    static final int BANDS = 16;
+
+    /** 띠 하나의 행 수 */
+    static final int ROWS = 4;
+
+    /** 서명 길이 */
+    static final int SIGNATURE_SIZE = BANDS * ROWS;
+
+    /** 해시 함수별 씨앗 (서버가 다시 떠도 같은 서명이 나오도록 고정) */
+    private static final long[] SEEDS = new SplittableRandom(0x5EED_7AB1EL).longs(SIGNATURE_SIZE).toArray();
+
+    private static final Comparator<SimilarTable> RANKING = Comparator.comparingDouble(SimilarTable::similarity)
+        .reversed()
+        .thenComparing(SimilarTable::tableLabel)
+        .thenComparing(SimilarTable::diagramId)
+        .thenComparing(SimilarTable::nodeId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 번호별 테이블 (지운 번호는 {@code null}) */
+    private final List<Entry> entries = new ArrayList<>();
+
+    /** 다시 쓸 수 있는 번호 */
+    private final TreeSet<Integer> free = new TreeSet<>();
+
+    /** 띠 버킷 열쇠별 테이블 번호 */
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+
+    /** 다이어그램별·노드 ID별 테이블 번호 */
+    private final Map<Long, Map<String, Integer>> diagrams = new HashMap<>();
+
+    /**
+     * 다이어그램의 테이블 목록으로 색인을 맞춘다. 이름·컬럼 이름이 그대로인 테이블은 건드리지 않는다.
+     *
+     * @param projectId 프로젝트 ID
+     * @param diagramId 다이어그램 ID
+     * @param tables    다이어그램의 현재 테이블 (노드 ID 중복 시 처음 것만 사용)
+     * @return 다시 색인하거나 지운 테이블 수
+     */
+    public int update(Long projectId, Long diagramId, List<ErdTable> tables) {
+        lock.writeLock().lock();
+        try {
+            final var previous = diagrams.getOrDefault(diagramId, Map.of());
+            final var next = new HashMap<String, Integer>(tables.size() * 2);
+            var changed = 0;
+            for (final var table : tables) {
+                if (next.containsKey(table.id())) {
+                    continue;
+                }
+                final var columns = columnNames(table);
+                final var old = previous.get(table.id());
+                if (old != null && entries.get(old).sameAs(projectId, table.label(), columns)) {
+                    next.put(table.id(), old);
+                    continue;
+                }
+                if (old != null) {
+                    drop(old);
+                }
+                next.put(table.id(), add(new Entry(projectId, diagramId, table.id(), table.label(), columns)));
+                changed++;
+            }
+            for (final var entry : previous.entrySet()) {
+                if (!next.containsKey(entry.getKey())) {
+                    drop(entry.getValue());
+                    changed++;
+                }
+            }
+            if (next.isEmpty()) {
+                diagrams.remove(diagramId);
+            } else {
+                diagrams.put(diagramId, next);
+            }
+            return changed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다이어그램의 테이블을 모두 지운다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    public void remove(Long diagramId) {
+        lock.writeLock().lock();
+        try {
+            final var tables = diagrams.remove(diagramId);
+            if (tables != null) {
+                tables.values().forEach(this::drop);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 테이블과 비슷한 테이블을 찾는다.
+     *
+     * @param diagramId     다이어그램 ID
+     * @param nodeId        테이블 노드 ID
+     * @param minSimilarity 최소 자카드 유사도 (0 초과 1 이하)
+     * @param limit         최대 결과 수
+     * @return 대상 테이블과 유사도 순 결과, 테이블이 색인에 없으면 빈 값
+     */
+    public Optional<Result> findSimilar(Long diagramId, String nodeId, double minSimilarity, int limit) {
+        lock.readLock().lock();
+        try {
+            final var id = diagrams.getOrDefault(diagramId, Map.of()).get(nodeId);
+            if (id == null) {
+                return Optional.empty();
+            }
+            final var target = entries.get(id);
+            if (target.signature == null) {
+                return Optional.of(new Result(target.label, 0, 0, List.of()));
+            }
+            final var seen = new BitSet(entries.size());
+            seen.set(id);
+            final var similar = new ArrayList<SimilarTable>();
+            var candidates = 0;
+            for (var band = 0; band < BANDS; band++) {
+                final var bucket = buckets.get(bandKey(target.signature, band));
+                for (var i = 0; bucket != null && i < bucket.size; i++) {
+                    final var candidate = bucket.ids[i];
+                    if (seen.get(candidate)) {
+                        continue;
+                    }
+                    seen.set(candidate);
+                    candidates++;
+                    final var other = entries.get(candidate);
+                    final var shared = shared(target.columns, other.columns);
+                    final var similarity = (double) shared / (target.columns.length + other.columns.length - shared);
+                    if (similarity >= minSimilarity) {
+                        similar.add(other.toSimilar(similarity, shared));
+                    }
+                }
+            }
+            similar.sort(RANKING);
+            return Optional.of(
+                new Result(target.label, target.columns.length, candidates, similar.stream().limit(limit).toList())
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int add(Entry entry) {
+        final var id = free.isEmpty() ? entries.size() : free.pollFirst();
+        if (id == entries.size()) {
+            entries.add(entry);
+        } else {
+            entries.set(id, entry);
+        }
+        if (entry.signature != null) {
+            for (var band = 0; band < BANDS; band++) {
+                buckets.computeIfAbsent(bandKey(entry.signature, band), (key) -> new Bucket()).add(id);
+            }
+        }
+        return id;
+    }
+
+    private void drop(int id) {
+        final var entry = entries.set(id, null);
+        free.add(id);
+        if (entry.signature != null) {
+            for (var band = 0; band < BANDS; band++) {
+                final var key = bandKey(entry.signature, band);
+                final var bucket = buckets.get(key);
+                if (bucket.remove(id) && bucket.size == 0) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /** 정규화한 컬럼 이름 (정렬, 중복 없음) */
+    private static String[] columnNames(ErdTable table) {
+        final var names = new TreeSet<String>();
+        for (final var column : table.columns()) {
+            final var name = column.name().toLowerCase(Locale.ROOT).replace("_", "").replace("$", "").strip();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names.toArray(String[]::new);
+    }
+
+    /** 정렬된 두 이름 배열의 공통 원소 수 */
+    private static int shared(String[] a, String[] b) {
+        var shared = 0;
+        var i = 0;
+        var j = 0;
+        while (i < a.length && j < b.length) {
+            final var compare = a[i].compareTo(b[j]);
+            if (compare == 0) {
+                shared++;
+                i++;
+                j++;
+            } else if (compare < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return shared;
+    }
+
+    private static int[] signature(String[] columns) {
+        final var signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (final var column : columns) {
+            final var base = fnv1a(column);
+            for (var i = 0; i < SIGNATURE_SIZE; i++) {
+                signature[i] = Math.min(signature[i], (int) (mix(base ^ SEEDS[i]) >>> 33));
+            }
+        }
+        return signature;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        var key = (long) band;
+        for (var row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return mix(key);
+    }
+
+    private static long fnv1a(String value) {
+        var hash = 0xCBF29CE484222325L;
+        for (var i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /** SplitMix64 마무리 함수 */
+    private static long mix(long value) {
+        var z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 비슷한 테이블 조회 결과.
+     *
+     * @param tableLabel  대상 테이블 이름
+     * @param columnCount 대상 테이블의 정규화한 컬럼 이름 수
+     * @param candidates  LSH 버킷에서 비교한 후보 수
+     * @param similar     유사도 순 결과
+     */
+    public record Result(String tableLabel, int columnCount, int candidates, List<SimilarTable> similar) {}
+
+    /**
+     * 비슷한 테이블 하나.
+     *
+     * @param projectId     프로젝트 ID
+     * @param diagramId     다이어그램 ID
+     * @param nodeId        테이블 노드 ID
+     * @param tableLabel    테이블 이름
+     * @param columnCount   정규화한 컬럼 이름 수
+     * @param sharedColumns 대상 테이블과 같은 컬럼 이름 수
+     * @param similarity    컬럼 이름 집합의 자카드 유사도
+     */
+    public record SimilarTable(
+        Long projectId,
+        Long diagramId,
+        String nodeId,
+        String tableLabel,
+        int columnCount,
+        int sharedColumns,
+        double similarity
+    ) {}
+
+    /** 색인된 테이블. 컬럼이 없으면 서명도 버킷도 없다. */
+    private static final class Entry {
+
+        private final Long projectId;
+        private final Long diagramId;
+        private final String nodeId;
+        private final String label;
+        private final String[] columns;
+
+        @Nullable
+        private final int[] signature;
+
+        Entry(Long projectId, Long diagramId, String nodeId, String label, String[] columns) {
+            this.projectId = projectId;
+            this.diagramId = diagramId;
+            this.nodeId = nodeId;
+            this.label = label;
+            this.columns = columns;
+            this.signature = columns.length == 0 ? null : signature(columns);
+        }
+
+        boolean sameAs(Long otherProjectId, String otherLabel, String[] otherColumns) {
+            return projectId.equals(otherProjectId) && label.equals(otherLabel) && Arrays.equals(columns, otherColumns);
+        }
+
+        SimilarTable toSimilar(double similarity, int shared) {
+            return new SimilarTable(projectId, diagramId, nodeId, label, columns.length, shared, similarity);
+        }
+    }
+
+    /** 테이블 번호 목록 (순서 무관). */
+    private static final class Bucket {
+
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        boolean remove(int id) {
+            for (var i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
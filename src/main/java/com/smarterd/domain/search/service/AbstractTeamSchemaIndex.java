@@ -0,0 +1,76 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.lang.Nullable;
+
+/**
+ * 팀마다 색인 하나를 두는 {@link TeamSchemaIndex}의 공통 부분.
+ *
+ * <p>다이어그램이 어느 팀 색인에 들어 있는지도 기억하므로, 삭제된 다이어그램은 DB를 읽지 않고 뺄 수 있다.
+ * 다이어그램이 다른 팀으로 옮겨 가면 이전 팀 색인에서 뺀다.</p>
+ *
+ * @param <T> 팀 하나의 색인 타입 (스레드 안전해야 한다)
+ */
+abstract class AbstractTeamSchemaIndex<T> implements TeamSchemaIndex {
+
+    /** 팀 ID별 색인 */
+    private final Map<Long, T> teams = new ConcurrentHashMap<>();
+
+    /** 다이어그램 ID별 팀 ID */
+    private final Map<Long, Long> owners = new ConcurrentHashMap<>();
+
+    @Override
+    public final void update(DiagramLocation location, ErdDocument document) {
+        final var previous = owners.put(location.id(), location.teamId());
+        if (previous != null && !previous.equals(location.teamId())) {
+            remove(teams.get(previous), location.id());
+        }
+        update(teams.computeIfAbsent(location.teamId(), (teamId) -> create()), location, document);
+    }
+
+    @Override
+    public final void remove(Long diagramId) {
+        final var teamId = owners.remove(diagramId);
+        if (teamId != null) {
+            remove(teams.get(teamId), diagramId);
+        }
+    }
+
+    /**
+     * 팀 색인을 반환한다.
+     *
+     * @param teamId 팀 ID
+     * @return 팀 색인 (색인된 다이어그램이 없었으면 {@code null})
+     */
+    @Nullable
+    protected final T team(Long teamId) {
+        return teams.get(teamId);
+    }
+
+    /**
+     * 빈 팀 색인을 만든다.
+     *
+     * @return 팀 색인
+     */
+    protected abstract T create();
+
+    /**
+     * 팀 색인을 다이어그램의 현재 스키마로 맞춘다.
+     *
+     * @param index    팀 색인
+     * @param location 다이어그램 위치
+     * @param document 정규화 모델로 재구성한 현재 문서
+     */
+    protected abstract void update(T index, DiagramLocation location, ErdDocument document);
+
+    /**
+     * 팀 색인에서 다이어그램을 뺀다.
+     *
+     * @param index     팀 색인
+     * @param diagramId 다이어그램 ID
+     */
+    protected abstract void remove(T index, Long diagramId);
+}
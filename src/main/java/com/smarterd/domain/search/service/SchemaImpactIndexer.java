@@ -0,0 +1,55 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+import com.smarterd.domain.search.index.SchemaColumnRef;
+import com.smarterd.domain.search.index.SchemaImpactIndex;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 영향 분석 역색인({@link SchemaImpactIndex}) 모음.
+ */
+@Component
+public class SchemaImpactIndexer extends AbstractTeamSchemaIndex<SchemaImpactIndex> {
+
+    /**
+     * 팀에서 이름이 주어진 이름 중 하나와 같은 컬럼을 찾는다.
+     *
+     * @param teamId      팀 ID
+     * @param columnNames 컬럼 이름
+     * @return 컬럼 위치 (색인된 다이어그램이 없으면 빈 목록)
+     */
+    public List<SchemaColumnRef> findByNames(Long teamId, Collection<String> columnNames) {
+        final var index = team(teamId);
+        return index == null ? List.of() : index.findByNames(columnNames);
+    }
+
+    /**
+     * 팀에서 데이터 타입이 같은 컬럼을 찾는다.
+     *
+     * @param teamId 팀 ID
+     * @param type   데이터 타입 또는 타입 이름
+     * @return 컬럼 위치 (색인된 다이어그램이 없으면 빈 목록)
+     */
+    public List<SchemaColumnRef> findByType(Long teamId, String type) {
+        final var index = team(teamId);
+        return index == null ? List.of() : index.findByType(type);
+    }
+
+    @Override
+    protected SchemaImpactIndex create() {
+        return new SchemaImpactIndex();
+    }
+
+    @Override
+    protected void update(SchemaImpactIndex index, DiagramLocation location, ErdDocument document) {
+        index.update(location.projectId(), location.id(), document.tables());
+    }
+
+    @Override
+    protected void remove(SchemaImpactIndex index, Long diagramId) {
+        index.remove(diagramId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.api.search.dto.SchemaImpactResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 전체 다이어그램을 가로지르는 영향 분석 서비스.
+ *
+ * <p>컬럼 이름을 바꾸거나 도메인의 물리 데이터 타입을 바꾸기 전에 영향을 받는 다이어그램·테이블·컬럼을 찾는다.
+ * 다이어그램은 읽지 않고 메모리 역색인({@link SchemaImpactIndexer})을 한 번 찾으며, 용어·도메인은 물리명만 DB에서
+ * 읽는다. 색인은 저장·삭제가 커밋된 뒤 백그라운드에서 갱신되므로, 방금 저장한 내용은 잠시 뒤에 반영된다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class SchemaImpactService {
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 용어 레포지토리 */
+    private final TermRepository termRepository;
+
+    /** 도메인 레포지토리 */
+    private final DomainRepository domainRepository;
+
+    /** 팀별 영향 분석 역색인 */
+    private final SchemaImpactIndexer schemaImpactIndexer;
+
+    /**
+     * 이름이 같은 컬럼을 찾는다 (대소문자 무시).
+     *
+     * @param loginId    요청 사용자의 로그인 ID
+     * @param teamId     팀 ID
+     * @param columnName 컬럼 이름
+     * @return 영향 분석 결과
+     * @throws BusinessException 컬럼 이름이 비어 있는 경우
+     */
+    public SchemaImpactResponse findByColumnName(String loginId, Long teamId, String columnName) {
+        verifyMembership(loginId, teamId);
+        final var keys = List.of(requireText(columnName, "Column name"));
+        return SchemaImpactResponse.from(keys, schemaImpactIndexer.findByNames(teamId, keys));
+    }
+
+    /**
+     * 데이터 타입이 같은 컬럼을 찾는다. 괄호 없이 타입 이름만 주면 같은 종류의 컬럼을 모두 찾는다.
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param type    데이터 타입 (예: {@code VARCHAR(50)}, {@code VARCHAR})
+     * @return 영향 분석 결과
+     * @throws BusinessException 데이터 타입이 비어 있는 경우
+     */
+    public SchemaImpactResponse findByType(String loginId, Long teamId, String type) {
+        verifyMembership(loginId, teamId);
+        final var key = requireText(type, "Type");
+        return SchemaImpactResponse.from(List.of(key), schemaImpactIndexer.findByType(teamId, key));
+    }
+
+    /**
+     * 용어를 쓰는 컬럼, 곧 이름이 용어 물리명과 같은 컬럼을 찾는다.
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param termId  용어 ID
+     * @return 영향 분석 결과
+     * @throws EntityNotFoundException 팀에 용어가 없는 경우
+     */
+    public SchemaImpactResponse findByTerm(String loginId, Long teamId, Long termId) {
+        verifyMembership(loginId, teamId);
+        final var keys = List.of(
+            termRepository
+                .findPhysicalName(termId, teamId)
+                .orElseThrow(() -> new EntityNotFoundException("Term not found: " + termId))
+        );
+        return SchemaImpactResponse.from(keys, schemaImpactIndexer.findByNames(teamId, keys));
+    }
+
+    /**
+     * 도메인이 타입을 정하는 컬럼, 곧 이름이 도메인에 연결된 용어의 물리명과 같은 컬럼을 찾는다.
+     * {@code Domain.physicalType}을 바꾸면 DDL 내보내기에서 이 컬럼들의 타입이 바뀐다.
+     *
+     * @param loginId  요청 사용자의 로그인 ID
+     * @param teamId   팀 ID
+     * @param domainId 도메인 ID
+     * @return 영향 분석 결과
+     * @throws EntityNotFoundException 팀에 도메인이 없는 경우
+     */
+    public SchemaImpactResponse findByDomain(String loginId, Long teamId, Long domainId) {
+        verifyMembership(loginId, teamId);
+        if (!domainRepository.existsByIdAndTeamId(domainId, teamId)) {
+            throw new EntityNotFoundException("Domain not found: " + domainId);
+        }
+        final var keys = termRepository.findPhysicalNamesByDomainId(domainId);
+        return SchemaImpactResponse.from(keys, schemaImpactIndexer.findByNames(teamId, keys));
+    }
+
+    private void verifyMembership(String loginId, Long teamId) {
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+    }
+
+    private static String requireText(String value, String name) {
+        if (value.isBlank()) {
+            throw new BusinessException(name + " must not be blank");
+        }
+        return value.strip();
+    }
+}
@@ -0,0 +1,42 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+import com.smarterd.domain.search.index.SchemaSearchIndex;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 테이블·컬럼 역색인({@link SchemaSearchIndex}) 모음.
+ */
+@Component
+public class SchemaSearchIndexer extends AbstractTeamSchemaIndex<SchemaSearchIndex> {
+
+    /**
+     * 팀 색인에서 검색한다.
+     *
+     * @param teamId 팀 ID
+     * @param query  검색어
+     * @param limit  최대 결과 수
+     * @return 검색 결과 (색인된 다이어그램이 없으면 빈 결과)
+     */
+    public SchemaSearchIndex.Result search(Long teamId, String query, int limit) {
+        final var index = team(teamId);
+        return index == null ? new SchemaSearchIndex.Result(0, List.of()) : index.search(query, limit);
+    }
+
+    @Override
+    protected SchemaSearchIndex create() {
+        return new SchemaSearchIndex();
+    }
+
+    @Override
+    protected void update(SchemaSearchIndex index, DiagramLocation location, ErdDocument document) {
+        index.update(location.projectId(), location.id(), document.tables());
+    }
+
+    @Override
+    protected void remove(SchemaSearchIndex index, Long diagramId) {
+        index.remove(diagramId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.api.search.dto.SchemaSearchResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 전체 다이어그램의 테이블·컬럼 검색 서비스.
+ *
+ * <p>팀 멤버십만 DB에서 확인하고, 검색은 메모리 역색인({@link SchemaSearchIndexer})에서 처리한다. 색인은 저장·삭제가
+ * 커밋된 뒤 백그라운드에서 갱신되므로, 방금 저장한 내용은 잠시 뒤에 검색된다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class SchemaSearchService {
+
+    /** 최대 결과 수 상한 */
+    public static final int MAX_LIMIT = 200;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 팀별 역색인 */
+    private final SchemaSearchIndexer schemaSearchIndexer;
+
+    /**
+     * 팀의 모든 다이어그램에서 테이블·컬럼을 찾는다.
+     *
+     * @param loginId 요청 사용자의 로그인 ID
+     * @param teamId  팀 ID
+     * @param query   검색어 (식별자 단위로 나누며, 모든 토큰이 접두어로 걸려야 한다)
+     * @param limit   최대 결과 수 (1 이상 {@value #MAX_LIMIT} 이하)
+     * @return 검색 결과
+     * @throws BusinessException 최대 결과 수가 범위를 벗어난 경우
+     */
+    public SchemaSearchResponse search(String loginId, Long teamId, String query, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+        return SchemaSearchResponse.from(query, schemaSearchIndexer.search(teamId, query, limit));
+    }
+}
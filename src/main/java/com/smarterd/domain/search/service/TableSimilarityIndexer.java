@@ -0,0 +1,50 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+import com.smarterd.domain.search.index.TableSimilarityIndex;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀별 비슷한 테이블 색인({@link TableSimilarityIndex}) 모음.
+ */
+@Component
+public class TableSimilarityIndexer extends AbstractTeamSchemaIndex<TableSimilarityIndex> {
+
+    /**
+     * 팀 테이블과 비슷한 테이블을 찾는다.
+     *
+     * @param teamId        팀 ID
+     * @param diagramId     다이어그램 ID
+     * @param nodeId        테이블 노드 ID
+     * @param minSimilarity 최소 자카드 유사도
+     * @param limit         최대 결과 수
+     * @return 조회 결과, 테이블이 팀 색인에 없으면 빈 값
+     */
+    public Optional<TableSimilarityIndex.Result> findSimilar(
+        Long teamId,
+        Long diagramId,
+        String nodeId,
+        double minSimilarity,
+        int limit
+    ) {
+        final var index = team(teamId);
+        return index == null ? Optional.empty() : index.findSimilar(diagramId, nodeId, minSimilarity, limit);
+    }
+
+    @Override
+    protected TableSimilarityIndex create() {
+        return new TableSimilarityIndex();
+    }
+
+    @Override
+    protected void update(TableSimilarityIndex index, DiagramLocation location, ErdDocument document) {
+        index.update(location.projectId(), location.id(), document.tables());
+    }
+
+    @Override
+    protected void remove(TableSimilarityIndex index, Long diagramId) {
+        index.remove(diagramId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.api.search.dto.SimilarTablesResponse;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.team.service.TeamService;
+import com.smarterd.domain.user.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 전체 다이어그램에서 비슷한 테이블을 찾는 서비스.
+ *
+ * <p>팀 멤버십만 DB에서 확인하고, 조회는 메모리 LSH 색인({@link TableSimilarityIndexer})에서 처리한다. 색인은 저장·삭제가
+ * 커밋된 뒤 백그라운드에서 갱신되므로, 방금 저장한 테이블은 잠시 뒤에 조회된다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class TableSimilarityService {
+
+    /** 최대 결과 수 상한 */
+    public static final int MAX_LIMIT = 100;
+
+    /** 인증 서비스 (사용자 조회) */
+    private final AuthService authService;
+
+    /** 팀 서비스 (팀 조회, 멤버십 확인) */
+    private final TeamService teamService;
+
+    /** 팀별 비슷한 테이블 색인 */
+    private final TableSimilarityIndexer tableSimilarityIndexer;
+
+    /**
+     * 테이블과 컬럼 이름 집합이 비슷한 팀 테이블을 찾는다.
+     *
+     * @param loginId       요청 사용자의 로그인 ID
+     * @param teamId        팀 ID
+     * @param diagramId     대상 테이블의 다이어그램 ID
+     * @param nodeId        대상 테이블 노드 ID
+     * @param minSimilarity 최소 자카드 유사도 (0 초과 1 이하)
+     * @param limit         최대 결과 수 (1 이상 {@value #MAX_LIMIT} 이하)
+     * @return 유사도 순 결과
+     * @throws BusinessException       최소 유사도나 최대 결과 수가 범위를 벗어난 경우
+     * @throws EntityNotFoundException 팀 색인에 대상 테이블이 없는 경우
+     */
+    public SimilarTablesResponse findSimilar(
+        String loginId,
+        Long teamId,
+        Long diagramId,
+        String nodeId,
+        double minSimilarity,
+        int limit
+    ) {
+        if (!(minSimilarity > 0 && minSimilarity <= 1)) {
+            throw new BusinessException("Minimum similarity must be in (0, 1]: " + minSimilarity);
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BusinessException("Limit must be between 1 and " + MAX_LIMIT + ": " + limit);
+        }
+        teamService.verifyMembership(teamService.findTeamById(teamId), authService.findUserByLoginId(loginId));
+        final var result = tableSimilarityIndexer
+            .findSimilar(teamId, diagramId, nodeId, minSimilarity, limit)
+            .orElseThrow(() -> new EntityNotFoundException("Table not found: " + diagramId + "/" + nodeId));
+        return SimilarTablesResponse.from(diagramId, nodeId, result);
+    }
+}
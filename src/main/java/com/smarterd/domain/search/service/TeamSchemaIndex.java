@@ -0,0 +1,29 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+
+/**
+ * 팀의 모든 다이어그램 스키마를 모아 두는 메모리 색인.
+ *
+ * <p>{@link TeamSchemaIndexJob}이 다이어그램 저장·삭제마다, 그리고 기동 시 모든 다이어그램에 대해 호출한다.
+ * 다이어그램 하나를 읽어 등록된 모든 색인에 한 번에 나누어 주므로, 색인이 늘어도 정규화 모델을 한 번만 읽는다.
+ * 구현은 여러 스레드에서 동시에 호출될 수 있다.</p>
+ */
+public interface TeamSchemaIndex {
+
+    /**
+     * 다이어그램의 현재 스키마로 색인을 맞춘다.
+     *
+     * @param location 다이어그램 위치 (프로젝트·팀)
+     * @param document 정규화 모델로 재구성한 현재 문서
+     */
+    void update(DiagramLocation location, ErdDocument document);
+
+    /**
+     * 삭제된 다이어그램을 색인에서 뺀다.
+     *
+     * @param diagramId 다이어그램 ID
+     */
+    void remove(Long diagramId);
+}
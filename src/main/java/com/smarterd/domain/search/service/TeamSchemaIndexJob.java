@@ -0,0 +1,116 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.service.DiagramContentSavedEvent;
+import com.smarterd.domain.diagram.service.DiagramDeletedEvent;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 팀 스키마 색인({@link TeamSchemaIndex})을 다이어그램 저장·삭제에 맞춰 갱신하는 작업.
+ *
+ * <p>
+ * 기동이 끝나면 모든 다이어그램을 전용 {@link ForkJoinPool}에서 병렬로 읽어 색인을 채운다. 그 뒤로는 저장·삭제 이벤트를
+ * 커밋 뒤에 받아 전용 스레드 하나에서 차례로 처리하므로, 삭제가 앞선 저장보다 먼저 반영되는 일이 없고 저장 응답은
+ * 색인 갱신을 기다리지 않는다. 아직 처리하지 않은 다이어그램이 다시 저장되면 작업을 하나로 합친다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamSchemaIndexJob {
+
+    /** 다이어그램 스키마 읽기 */
+    private final TeamSchemaLoader teamSchemaLoader;
+
+    /** 등록된 팀 스키마 색인 */
+    private final List<TeamSchemaIndex> indexes;
+
+    /** 대기 중인 다이어그램 ID */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    /** 색인 갱신 전용 스레드 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor((runnable) -> {
+        final var thread = new Thread(runnable, "team-schema-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 기동이 끝나면 모든 다이어그램으로 색인을 채운다. 채우는 동안 들어온 저장·삭제는 채운 뒤에 반영한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(this::rebuild);
+    }
+
+    /**
+     * 저장된 다이어그램의 색인 갱신을 예약한다.
+     *
+     * @param event 저장 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onContentSaved(DiagramContentSavedEvent event) {
+        final var diagramId = event.diagramId();
+        if (pending.add(diagramId)) {
+            executor.execute(() -> {
+                pending.remove(diagramId);
+                refresh(diagramId);
+            });
+        }
+    }
+
+    /**
+     * 삭제된 다이어그램을 색인에서 빼도록 예약한다.
+     *
+     * @param event 삭제 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeleted(DiagramDeletedEvent event) {
+        executor.execute(() -> indexes.forEach((index) -> index.remove(event.diagramId())));
+    }
+
+    /**
+     * 모든 다이어그램을 병렬로 읽어 색인에 넣는다.
+     *
+     * @return 색인한 다이어그램 수
+     */
+    int rebuild() {
+        final var locations = teamSchemaLoader.findLocations();
+        final var pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            locations
+                .stream()
+                .map((location) -> pool.submit(ForkJoinTask.adapt(() -> refresh(location.id()))))
+                .toList()
+                .forEach(ForkJoinTask::join);
+        } finally {
+            pool.shutdown();
+        }
+        return locations.size();
+    }
+
+    private void refresh(Long diagramId) {
+        teamSchemaLoader
+            .load(diagramId)
+            .ifPresentOrElse(
+                (snapshot) -> indexes.forEach((index) -> index.update(snapshot.location(), snapshot.document())),
+                () -> indexes.forEach((index) -> index.remove(diagramId))
+            );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,64 @@
+package com.smarterd.domain.search.service;
+
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.repository.DiagramLocation;
+import com.smarterd.domain.diagram.repository.DiagramRepository;
+import com.smarterd.domain.diagram.service.DiagramModelService;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 색인에 넣을 다이어그램 스키마를 읽는다.
+ *
+ * <p>content LOB이 아니라 정규화 모델 행을 읽으며, 호출마다 별도 읽기 트랜잭션으로 처리하므로 여러 스레드에서
+ * 동시에 호출해도 된다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@SuppressWarnings("null")
+public class TeamSchemaLoader {
+
+    /** 다이어그램 레포지토리 */
+    private final DiagramRepository diagramRepository;
+
+    /** 정규화 모델 서비스 */
+    private final DiagramModelService diagramModelService;
+
+    /**
+     * 모든 다이어그램의 위치를 조회한다.
+     *
+     * @return 다이어그램 위치 목록 (ID 순)
+     */
+    public List<DiagramLocation> findLocations() {
+        return diagramRepository.findLocations();
+    }
+
+    /**
+     * 다이어그램의 현재 스키마를 읽는다.
+     *
+     * @param diagramId 다이어그램 ID
+     * @return 위치와 문서, 다이어그램이 그사이 삭제되었으면 빈 값
+     */
+    public Optional<Snapshot> load(Long diagramId) {
+        return diagramRepository
+            .findLocationById(diagramId)
+            .map((location) ->
+                new Snapshot(
+                    location,
+                    diagramModelService.reconstruct(diagramRepository.getReferenceById(diagramId), null)
+                )
+            );
+    }
+
+    /**
+     * 다이어그램 스키마 스냅숏.
+     *
+     * @param location 다이어그램 위치
+     * @param document 정규화 모델로 재구성한 문서
+     */
+    public record Snapshot(DiagramLocation location, ErdDocument document) {}
+}
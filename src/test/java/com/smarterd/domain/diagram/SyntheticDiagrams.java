@@ -0,0 +1,194 @@
+package com.smarterd.domain.diagram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 벤치마크·테스트용 합성 React Flow 다이어그램 생성기.
+ *
+ * <p>클라이언트({@code useCanvasStore.serialize()})가 만드는 것과 같은 모양의 JSON을 만든다.
+ * 테이블마다 4~12개의 컬럼을 두고, 첫 테이블을 제외한 모든 테이블이 앞선 테이블 하나를 FK로 참조한다.
+ * 테이블 하나의 내용은 시드와 테이블 번호만으로 정해지므로, 문서 전체를 메모리에 두지 않고 스트림으로 만들 수 있다.</p>
+ */
+public final class SyntheticDiagrams {
+
+    private static final String[] WORDS = {
+        "user", "order", "item", "product", "payment", "shipment", "address", "category", "review", "coupon",
+        "member", "account", "invoice", "stock", "warehouse", "vendor", "price", "status", "code", "history",
+    };
+
+    private static final String[] TYPES = {
+        "BIGINT", "VARCHAR(50)", "VARCHAR(100)", "VARCHAR(255)", "DECIMAL(15,2)", "TIMESTAMP", "DATE", "INTEGER",
+        "BOOLEAN", "CHAR(1)",
+    };
+
+    private SyntheticDiagrams() {}
+
+    /**
+     * 지정한 수의 테이블을 가진 다이어그램 JSON을 생성한다.
+     *
+     * @param tableCount 테이블 수
+     * @param seed       난수 시드 (같은 시드는 같은 문서를 만든다)
+     * @return React Flow JSON
+     */
+    public static String generate(int tableCount, long seed) {
+        try (var in = stream(tableCount, seed)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * {@link #generate(int, long)}와 같은 문서를 테이블·엣지 하나씩 만들어 내는 UTF-8 스트림을 연다.
+     *
+     * @param tableCount 테이블 수
+     * @param seed       난수 시드
+     * @return React Flow JSON 스트림
+     */
+    public static InputStream stream(int tableCount, long seed) {
+        return new InputStream() {
+            private final Random edgeRandom = new Random(seed);
+            private byte[] chunk = "{\"nodes\":[".getBytes(StandardCharsets.UTF_8);
+            private int position;
+            private int table;
+            private int edge = 1;
+            private boolean finished;
+
+            @Override
+            public int read() {
+                if (position == chunk.length && !advance()) {
+                    return -1;
+                }
+                return chunk[position++] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                var copied = 0;
+                while (copied < length) {
+                    if (position == chunk.length && !advance()) {
+                        break;
+                    }
+                    final var n = Math.min(length - copied, chunk.length - position);
+                    System.arraycopy(chunk, position, buffer, offset + copied, n);
+                    position += n;
+                    copied += n;
+                }
+                return copied == 0 ? -1 : copied;
+            }
+
+            private boolean advance() {
+                final String next;
+                if (table < tableCount) {
+                    next = (table > 0 ? "," : "") + table(table, seed);
+                    table++;
+                } else if (table == tableCount) {
+                    next = "],\"edges\":[";
+                    table++;
+                } else if (edge < tableCount) {
+                    next = (edge > 1 ? "," : "") + edge(edge, edgeRandom.nextInt(edge), seed);
+                    edge++;
+                } else if (!finished) {
+                    next = "]}";
+                    finished = true;
+                } else {
+                    return false;
+                }
+                chunk = next.getBytes(StandardCharsets.UTF_8);
+                position = 0;
+                return true;
+            }
+        };
+    }
+
+    private static String table(int t, long seed) {
+        final var random = tableRandom(seed, t);
+        final var nodeId = "table-" + uuid(random);
+        final var pkColumnId = "col-" + uuid(random);
+        final var json = new StringBuilder(1200);
+        json
+            .append("{\"id\":\"")
+            .append(nodeId)
+            .append("\",\"type\":\"table\",\"position\":{\"x\":")
+            .append((t % 50) * 320)
+            .append(",\"y\":")
+            .append((t / 50) * 400)
+            .append("},\"data\":{\"label\":\"")
+            .append(name(random))
+            .append('_')
+            .append(t)
+            .append("\",\"columns\":[");
+
+        final var columnCount = 4 + random.nextInt(9);
+        for (var c = 0; c < columnCount; c++) {
+            if (c > 0) {
+                json.append(',');
+            }
+            final var pk = c == 0;
+            final var fk = c == 1 && t > 0;
+            json
+                .append("{\"id\":\"")
+                .append(pk ? pkColumnId : "col-" + uuid(random))
+                .append("\",\"name\":\"")
+                .append(pk ? "id" : name(random))
+                .append("\",\"type\":\"")
+                .append(pk || fk ? "BIGINT" : TYPES[random.nextInt(TYPES.length)])
+                .append("\",\"pk\":")
+                .append(pk)
+                .append(",\"fk\":")
+                .append(fk)
+                .append(",\"nullable\":")
+                .append(!pk && random.nextBoolean())
+                .append('}');
+        }
+        return json
+            .append("]},\"measured\":{\"width\":240,\"height\":")
+            .append(40 + columnCount * 28)
+            .append("},\"selected\":false,\"dragging\":false}")
+            .toString();
+    }
+
+    private static String edge(int source, int target, long seed) {
+        final var sourceRandom = tableRandom(seed, source);
+        final var sourceNodeId = "table-" + uuid(sourceRandom);
+        final var sourceHandle = sourceNodeId + "-col-" + uuid(sourceRandom) + "-source";
+        final var targetRandom = tableRandom(seed, target);
+        final var targetNodeId = "table-" + uuid(targetRandom);
+        final var targetHandle = targetNodeId + "-col-" + uuid(targetRandom) + "-target";
+        return (
+            "{\"source\":\"" +
+            sourceNodeId +
+            "\",\"sourceHandle\":\"" +
+            sourceHandle +
+            "\",\"target\":\"" +
+            targetNodeId +
+            "\",\"targetHandle\":\"" +
+            targetHandle +
+            "\",\"id\":\"e-" +
+            sourceHandle +
+            "-" +
+            targetHandle +
+            "\",\"type\":\"step\",\"markerEnd\":{\"type\":\"arrowclosed\"}}"
+        );
+    }
+
+    private static Random tableRandom(long seed, int table) {
+        return new Random(seed * 1_000_003L + table);
+    }
+
+    private static String name(Random random) {
+        return WORDS[random.nextInt(WORDS.length)] + "_" + WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
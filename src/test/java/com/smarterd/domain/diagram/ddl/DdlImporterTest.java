@@ -0,0 +1,106 @@
+package com.smarterd.domain.diagram.ddl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DdlImporter}가 덤프 전체를 읽어 테이블·관계를 바르게 합치는지 확인한다.
+ */
+class DdlImporterTest {
+
+    private final DdlImporter importer = new DdlImporter();
+
+    @AfterEach
+    void tearDown() {
+        importer.shutdown();
+    }
+
+    @Test
+    void resolvesForeignKeyWithoutColumnsToParentPrimaryKey() throws IOException {
+        final var document = read(
+            "CREATE TABLE order_items (id bigint, order_id bigint REFERENCES orders);\n" +
+            "CREATE TABLE orders (code varchar(20), id bigint);\n" +
+            "ALTER TABLE ONLY orders ADD CONSTRAINT orders_pkey PRIMARY KEY (id);"
+        );
+
+        final var items = table(document, "order_items");
+        final var orders = table(document, "orders");
+        final var orderId = column(items, "order_id");
+        final var ordersPk = column(orders, "id");
+        assertTrue(orderId.fk());
+        assertTrue(ordersPk.pk());
+        assertFalse(ordersPk.nullable());
+        assertEquals(1, document.relationships().size());
+        final var relationship = document.relationships().get(0);
+        assertEquals(items.id(), relationship.source());
+        assertEquals(orderId.id(), relationship.sourceColumnId());
+        assertEquals(orders.id(), relationship.target());
+        assertEquals(ordersPk.id(), relationship.targetColumnId());
+    }
+
+    @Test
+    void keepsFirstDefinitionOfDuplicateTable() throws IOException {
+        final var document = read(
+            "CREATE TABLE members (id bigint PRIMARY KEY, name varchar(50));\n" +
+            "INSERT INTO members VALUES (1, 'CREATE TABLE members (other int);');\n" +
+            "CREATE TABLE MEMBERS (other int, id int);\n" +
+            "ALTER TABLE members ADD COLUMN email varchar(100);"
+        );
+
+        assertEquals(1, document.tables().size());
+        final var members = document.tables().get(0);
+        assertEquals("members", members.label());
+        assertEquals(
+            List.of("id", "name", "email"),
+            members.columns().stream().map(ErdColumn::name).toList()
+        );
+        assertEquals("BIGINT", column(members, "id").type());
+    }
+
+    @Test
+    void truncatesLongNamesAndTypes() throws IOException {
+        final var tableName = "t".repeat(DdlImporter.MAX_NAME_LENGTH + 20);
+        final var columnName = "c".repeat(DdlImporter.MAX_NAME_LENGTH + 20);
+        final var values = "v".repeat(DdlImporter.MAX_TYPE_LENGTH + 20);
+        final var document = read("CREATE TABLE " + tableName + " (" + columnName + " enum('" + values + "'));");
+
+        final var table = document.tables().get(0);
+        final var column = table.columns().get(0);
+        assertEquals(tableName.substring(0, DdlImporter.MAX_NAME_LENGTH), table.label());
+        assertEquals(columnName.substring(0, DdlImporter.MAX_NAME_LENGTH), column.name());
+        assertEquals(("ENUM('" + values).substring(0, DdlImporter.MAX_TYPE_LENGTH), column.type());
+    }
+
+    @Test
+    void rejectsDumpWithoutCreateTable() {
+        for (final var dump : new String[] { "", "INSERT INTO a VALUES (1);\nCOPY a FROM stdin;\n1\n\\.\n" }) {
+            final var exception = assertThrows(BusinessException.class, () -> read(dump));
+            assertEquals("No CREATE TABLE statement found in the DDL", exception.getMessage());
+        }
+    }
+
+    private ErdDocument read(String dump) throws IOException {
+        return importer.read(new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static ErdTable table(ErdDocument document, String label) {
+        return document.tables().stream().filter((table) -> table.label().equals(label)).findFirst().orElseThrow();
+    }
+
+    private static ErdColumn column(ErdTable table, String name) {
+        return table.columns().stream().filter((column) -> column.name().equals(name)).findFirst().orElseThrow();
+    }
+}
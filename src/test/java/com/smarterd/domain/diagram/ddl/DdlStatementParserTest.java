@@ -0,0 +1,93 @@
+package com.smarterd.domain.diagram.ddl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.domain.diagram.ddl.DdlStatementParser.Column;
+import com.smarterd.domain.diagram.ddl.DdlStatementParser.Reference;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DdlStatementParser}가 여러 DBMS의 테이블 정의에서 컬럼·PK·외래 키를 읽는지 확인한다.
+ */
+class DdlStatementParserTest {
+
+    @Test
+    void readsColumnsAndConstraints() {
+        final var statement = DdlStatementParser.parse(
+            "CREATE TABLE IF NOT EXISTS public.\"Order Item\" (" +
+            "id bigint GENERATED ALWAYS AS IDENTITY, " +
+            "order_id BIGINT NOT NULL REFERENCES orders, " +
+            "`sku` character varying(50) CHARACTER SET utf8mb4 NOT NULL DEFAULT 'a,b', " +
+            "price DECIMAL(15, 2) CHECK (price > 0), " +
+            "tags text[], " +
+            "CONSTRAINT pk_order_item PRIMARY KEY (id), " +
+            "CONSTRAINT fk_sku FOREIGN KEY (sku) REFERENCES catalog.products (code) ON DELETE CASCADE, " +
+            "INDEX idx_sku (sku(10))" +
+            ") ENGINE=InnoDB"
+        );
+
+        assertEquals("Order Item", statement.table());
+        assertTrue(statement.create());
+        assertEquals(
+            List.of(
+                new Column("id", "BIGINT", true),
+                new Column("order_id", "BIGINT", false),
+                new Column("sku", "CHARACTER VARYING(50)", false),
+                new Column("price", "DECIMAL(15,2)", true),
+                new Column("tags", "TEXT[]", true)
+            ),
+            statement.columns()
+        );
+        assertEquals(List.of("id"), statement.primaryKey());
+        assertEquals(
+            List.of(
+                new Reference(List.of("order_id"), "orders", List.of()),
+                new Reference(List.of("sku"), "products", List.of("code"))
+            ),
+            statement.references()
+        );
+    }
+
+    @Test
+    void readsInlinePrimaryKeyAsNotNull() {
+        final var statement = DdlStatementParser.parse(
+            "CREATE TABLE [dbo].[users] ([id] INT PRIMARY KEY, name NVARCHAR(MAX))"
+        );
+
+        assertEquals("users", statement.table());
+        assertEquals(
+            List.of(new Column("id", "INT", false), new Column("name", "NVARCHAR(MAX)", true)),
+            statement.columns()
+        );
+        assertEquals(List.of("id"), statement.primaryKey());
+    }
+
+    @Test
+    void readsAlterTableAdditions() {
+        final var statement = DdlStatementParser.parse(
+            "ALTER TABLE ONLY public.orders " +
+            "ADD CONSTRAINT orders_pkey PRIMARY KEY (id), " +
+            "ADD COLUMN IF NOT EXISTS note text, " +
+            "ADD CONSTRAINT orders_member_fk FOREIGN KEY (member_id, tenant_id) REFERENCES members (id, tenant_id)"
+        );
+
+        assertEquals("orders", statement.table());
+        assertFalse(statement.create());
+        assertEquals(List.of(new Column("note", "TEXT", true)), statement.columns());
+        assertEquals(List.of("id"), statement.primaryKey());
+        assertEquals(
+            List.of(new Reference(List.of("member_id", "tenant_id"), "members", List.of("id", "tenant_id"))),
+            statement.references()
+        );
+    }
+
+    @Test
+    void returnsNullWithoutColumnList() {
+        assertNull(DdlStatementParser.parse("CREATE TABLE archived AS SELECT * FROM orders"));
+        assertNull(DdlStatementParser.parse("ALTER INDEX idx RENAME TO idx2"));
+    }
+}
@@ -0,0 +1,72 @@
+package com.smarterd.domain.diagram.ddl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DdlStatementReader}가 문의 끝을 바르게 찾고 정의 문만 남기는지 확인한다.
+ */
+class DdlStatementReaderTest {
+
+    @Test
+    void ignoresSemicolonsInsideQuotesAndComments() throws IOException {
+        final var dump =
+            "CREATE TABLE a (x text DEFAULT 'a;b', \"c;d\" int, `e;f` int, [g;h] int, i text DEFAULT 'it''s;');\n" +
+            "-- CREATE TABLE commented (x int);\n" +
+            "/* ; CREATE TABLE blocked (x int); */ CREATE TABLE b (y int DEFAULT 'back\\';slash');";
+
+        assertEquals(
+            List.of(
+                "CREATE TABLE a (x text DEFAULT 'a;b', \"c;d\" int, `e;f` int, [g;h] int, i text DEFAULT 'it''s;')",
+                "CREATE TABLE b (y int DEFAULT 'back\\';slash')"
+            ),
+            read(dump)
+        );
+    }
+
+    @Test
+    void ignoresSemicolonsInsideDollarQuotes() throws IOException {
+        final var dump =
+            "CREATE FUNCTION touch() RETURNS trigger AS $body$ BEGIN NEW.at := now(); RETURN NEW; END; $body$ " +
+            "LANGUAGE plpgsql;\n" +
+            "DO $$ BEGIN EXECUTE 'CREATE TABLE dynamic (x int)'; END $$;\n" +
+            "CREATE TABLE c (price numeric, note text DEFAULT $$a;b$$);\n" +
+            "SELECT $1;";
+
+        assertEquals(List.of("CREATE TABLE c (price numeric, note text DEFAULT $$a;b$$)"), read(dump));
+    }
+
+    @Test
+    void skipsInsertAndCopyData() throws IOException {
+        final var dump =
+            "INSERT INTO a VALUES ('x;'), ('CREATE TABLE fake (q int);');\n" +
+            "COPY public.a (x, y) FROM stdin;\n" +
+            "1\tCREATE TABLE copied (q int);\n" +
+            "\\.x; CREATE TABLE still_data (q int);\n" +
+            "\\.\n" +
+            "CREATE TABLE d (x int);\n" +
+            "COPY a TO '/tmp/a.csv';\n" +
+            "ALTER TABLE d ADD COLUMN y int;\n" +
+            "CREATE INDEX d_x ON d (x);\n" +
+            "CREATE UNLOGGED TABLE e (x int)";
+
+        assertEquals(
+            List.of("CREATE TABLE d (x int)", "ALTER TABLE d ADD COLUMN y int", "CREATE UNLOGGED TABLE e (x int)"),
+            read(dump)
+        );
+    }
+
+    private static List<String> read(String dump) throws IOException {
+        final var reader = new DdlStatementReader(new StringReader(dump));
+        final var statements = new ArrayList<String>();
+        for (var sql = reader.next(); sql != null; sql = reader.next()) {
+            statements.add(sql);
+        }
+        return statements;
+    }
+}
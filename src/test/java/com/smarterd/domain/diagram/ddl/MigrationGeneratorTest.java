@@ -0,0 +1,137 @@
+package com.smarterd.domain.diagram.ddl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.smarterd.domain.diagram.model.DiagramChangeKind;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import com.smarterd.domain.diagram.model.DiagramDiff.ColumnChange;
+import com.smarterd.domain.diagram.model.DiagramDiff.TableChange;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MigrationGenerator}가 쓰는 문의 순서를 고정한다.
+ */
+class MigrationGeneratorTest {
+
+    private static final ErdColumn ORDER_ID = new ErdColumn("c-id", "id", "BIGINT", true, false, false);
+
+    private static final ErdColumn ORDER_SEQ = new ErdColumn("c-seq", "seq", "INT", false, false, true);
+
+    private static final ErdTable ITEMS = new ErdTable(
+        "t-items",
+        "table",
+        0,
+        0,
+        "items",
+        List.of(
+            new ErdColumn("c-id", "id", "BIGINT", true, false, false),
+            new ErdColumn("c-order", "order_id", "BIGINT", false, true, false)
+        )
+    );
+
+    private static final ErdRelationship ITEMS_ORDER = new ErdRelationship(
+        "e-order",
+        "t-items",
+        "t-items-c-order-source",
+        "t-orders",
+        "t-orders-c-id-target",
+        "step"
+    );
+
+    private final MigrationGenerator generator = new MigrationGenerator(new PostgreSqlDialect(), Map.of());
+
+    @Test
+    void writesRenameAndPrimaryKeyChangeBetweenForeignKeyDropAndAdd() throws IOException {
+        final var before = revision(List.of(orders("orders", ORDER_SEQ), ITEMS), List.of(ITEMS_ORDER));
+        final var seq = new ErdColumn("c-seq", "seq", "INT", true, false, false);
+        final var after = revision(List.of(orders("purchase", seq), ITEMS), List.of(ITEMS_ORDER));
+        final var diff = new DiagramDiff(
+            List.of(new TableChange("t-orders", DiagramChangeKind.RENAMED, "purchase", 0, 0, "orders", null, null)),
+            List.of(new ColumnChange("t-orders", "c-seq", DiagramChangeKind.MODIFIED, ORDER_SEQ, seq)),
+            List.of(),
+            1
+        );
+
+        assertEquals(
+            """
+            -- Migration generated by Smart ERD (dialect: postgresql, table changes: 1, column changes: 1, \
+            relationship changes: 0)
+
+            ALTER TABLE items DROP CONSTRAINT fk_items_order_id;
+
+            ALTER TABLE orders RENAME TO purchase;
+
+            ALTER TABLE purchase DROP CONSTRAINT pk_orders;
+            ALTER TABLE purchase ALTER COLUMN seq SET NOT NULL;
+            ALTER TABLE purchase ADD CONSTRAINT pk_purchase PRIMARY KEY (id, seq);
+
+            ALTER TABLE items ADD CONSTRAINT fk_items_order_id FOREIGN KEY (order_id) REFERENCES purchase (id);
+            """,
+            write(diff, before, after)
+        );
+    }
+
+    @Test
+    void dropsForeignKeyBeforeDroppedTableItStillReferences() throws IOException {
+        final var before = revision(List.of(orders("orders", ORDER_SEQ), ITEMS), List.of(ITEMS_ORDER));
+        // 관계는 남아 있지만 참조하던 테이블이 없어 다시 만들지 못한다
+        final var after = revision(List.of(ITEMS), List.of(ITEMS_ORDER));
+        final var diff = new DiagramDiff(
+            List.of(new TableChange("t-orders", DiagramChangeKind.REMOVED, "orders", 0, 0, null, null, null)),
+            List.of(),
+            List.of(),
+            1
+        );
+
+        assertEquals(
+            """
+            -- Migration generated by Smart ERD (dialect: postgresql, table changes: 1, column changes: 0, \
+            relationship changes: 0)
+
+            ALTER TABLE items DROP CONSTRAINT fk_items_order_id;
+
+            DROP TABLE orders;
+
+            -- skipped relationship e-order: column not found
+            """,
+            write(diff, before, after)
+        );
+    }
+
+    private String write(DiagramDiff diff, MigrationGenerator.Revision before, MigrationGenerator.Revision after)
+        throws IOException {
+        final var out = new StringWriter();
+        generator.write(diff, before, after, out);
+        return out.toString();
+    }
+
+    private static ErdTable orders(String label, ErdColumn seq) {
+        return new ErdTable("t-orders", "table", 0, 0, label, List.of(ORDER_ID, seq));
+    }
+
+    private static MigrationGenerator.Revision revision(List<ErdTable> tables, List<ErdRelationship> relationships) {
+        final var byId = new LinkedHashMap<String, ErdTable>();
+        for (final var table : tables) {
+            byId.put(table.id(), table);
+        }
+        return new MigrationGenerator.Revision() {
+            @Override
+            public ErdTable table(String tableId) {
+                return byId.get(tableId);
+            }
+
+            @Override
+            public List<ErdRelationship> relationships() {
+                return relationships;
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.smarterd.domain.diagram.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link DiagramContentCodec}의 왕복 정확성과 압축률·처리량 벤치마크.
+ *
+ * <p>1k/10k 테이블 합성 다이어그램으로 압축률, 인코딩·디코딩 처리량(MB/s)을 측정하여 표준 출력에 남긴다.</p>
+ */
+class DiagramContentCodecBenchmarkTest {
+
+    private static final int ITERATIONS = 5;
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "{0} tables")
+    @ValueSource(ints = { 1_000, 10_000 })
+    void reportsCompressionRatioAndThroughput(int tableCount) {
+        final var content = SyntheticDiagrams.generate(tableCount, 42L);
+        final var rawBytes = content.getBytes(StandardCharsets.UTF_8).length;
+
+        var encoded = DiagramContentCodec.encode(content);
+        assertEquals(content, DiagramContentCodec.decode(encoded));
+
+        final var encodeStart = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            encoded = DiagramContentCodec.encode(content);
+        }
+        final var encodeNanos = (System.nanoTime() - encodeStart) / ITERATIONS;
+
+        final var decodeStart = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            DiagramContentCodec.decode(encoded);
+        }
+        final var decodeNanos = (System.nanoTime() - decodeStart) / ITERATIONS;
+
+        final var ratio = (double) rawBytes / encoded.length;
+        System.out.printf(
+            "[codec] %,d tables: %,d -> %,d bytes (%.1fx), encode %.0f MB/s, decode %.0f MB/s%n",
+            tableCount,
+            rawBytes,
+            encoded.length,
+            ratio,
+            throughput(rawBytes, encodeNanos),
+            throughput(rawBytes, decodeNanos)
+        );
+        assertTrue(ratio > 3.0, "compression ratio too low: " + ratio);
+    }
+
+    @Test
+    void readsLegacyPlainTextContent() throws IOException {
+        final var legacy = "{\"nodes\":[],\"edges\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("{\"nodes\":[],\"edges\":[]}", DiagramContentCodec.decode(legacy));
+        try (var in = DiagramContentCodec.decodingStream(new ByteArrayInputStream(legacy))) {
+            assertEquals("{\"nodes\":[],\"edges\":[]}", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void streamsEncodedContent() throws IOException {
+        final var content = SyntheticDiagrams.generate(100, 7L);
+        final var encoded = DiagramContentCodec.encode(content);
+
+        try (var in = DiagramContentCodec.decodingStream(new ByteArrayInputStream(encoded))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static double throughput(long bytes, long nanos) {
+        return (bytes / 1_048_576.0) / (nanos / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,43 @@
+package com.smarterd.domain.diagram.entity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DiagramETags}의 ETag 형식과 조건부 요청 헤더 비교 규칙 테스트.
+ */
+class DiagramETagsTest {
+
+    private static final String HASH = "3f2a";
+
+    @Test
+    void formatsStrongETag() {
+        assertEquals("\"3f2a\"", DiagramETags.of(HASH));
+        assertNull(DiagramETags.of(null));
+    }
+
+    @Test
+    void ifMatchUsesStrongComparison() {
+        assertTrue(DiagramETags.satisfiesIfMatch(null, HASH));
+        assertTrue(DiagramETags.satisfiesIfMatch("\"3f2a\"", HASH));
+        assertTrue(DiagramETags.satisfiesIfMatch("\"0000\", \"3f2a\"", HASH));
+        assertTrue(DiagramETags.satisfiesIfMatch("*", HASH));
+        assertFalse(DiagramETags.satisfiesIfMatch("W/\"3f2a\"", HASH));
+        assertFalse(DiagramETags.satisfiesIfMatch("\"0000\"", HASH));
+        assertFalse(DiagramETags.satisfiesIfMatch("\"3f2a\"", null));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        assertTrue(DiagramETags.matchesIfNoneMatch("\"3f2a\"", HASH));
+        assertTrue(DiagramETags.matchesIfNoneMatch("W/\"3f2a\"", HASH));
+        assertTrue(DiagramETags.matchesIfNoneMatch("\"0000\" ,W/\"3f2a\"", HASH));
+        assertTrue(DiagramETags.matchesIfNoneMatch("*", HASH));
+        assertFalse(DiagramETags.matchesIfNoneMatch(null, HASH));
+        assertFalse(DiagramETags.matchesIfNoneMatch("\"0000\"", HASH));
+    }
+}
@@ -0,0 +1,232 @@
+package com.smarterd.domain.diagram.health;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.smarterd.domain.diagram.health.DiagramHealthReport.Reason;
+import com.smarterd.domain.diagram.health.DiagramHealthReport.TableRef;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdRelationship;
+import com.smarterd.domain.diagram.model.ErdTable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DiagramHealthAnalyzer}의 이어서 계산한 결과가 처음부터 계산한 결과와 같은지 확인한다.
+ *
+ * <p>무작위 편집을 이어 가며 매 저장마다 같은 문서를 새 분석기로 계산한 보고서와 비교하고, 자기 참조, 테이블 삭제로
+ * 갈라지는 순환, {@value DiagramHealthAnalyzer#INCREMENTAL_LIMIT}개를 넘는 관계 추가를 따로 확인한다.</p>
+ */
+class DiagramHealthAnalyzerTest {
+
+    @Test
+    void matchesFullRebuildAcrossRandomEdits() {
+        for (var seed = 1L; seed <= 20L; seed++) {
+            final var random = new Random(seed);
+            final var diagram = new Diagram();
+            for (var i = 0; i < 12; i++) {
+                diagram.table("s" + i);
+            }
+            final var analyzer = new DiagramHealthAnalyzer();
+            for (var step = 0; step < 200; step++) {
+                diagram.edit(random);
+                final var document = diagram.document();
+                final var hash = seed + "-" + step;
+                assertEquals(
+                    new DiagramHealthAnalyzer().update(hash, document),
+                    analyzer.update(hash, document),
+                    "seed " + seed + ", step " + step
+                );
+            }
+        }
+    }
+
+    @Test
+    void tracksSelfLoopAddedAndRemoved() {
+        final var diagram = new Diagram();
+        diagram.table("a");
+        diagram.table("b");
+        diagram.edge("a", "b");
+        final var analyzer = new DiagramHealthAnalyzer();
+        assertEquals(List.of(), analyzer.update("1", diagram.document()).cycles());
+
+        final var loop = diagram.edge("a", "a");
+        assertEquals(List.of(List.of(ref("a"))), analyzer.update("2", diagram.document()).cycles());
+
+        diagram.edges.remove(loop);
+        final var report = analyzer.update("3", diagram.document());
+        assertEquals(List.of(), report.cycles());
+        assertEquals(new DiagramHealthAnalyzer().update("3", diagram.document()), report);
+    }
+
+    @Test
+    void splitsCycleWhenSharedTableIsRemoved() {
+        final var diagram = new Diagram();
+        for (final var name : List.of("a", "b", "c", "d", "hub")) {
+            diagram.table(name);
+        }
+        diagram.edge("a", "b");
+        diagram.edge("b", "a");
+        diagram.edge("c", "d");
+        diagram.edge("d", "c");
+        diagram.edge("a", "hub");
+        diagram.edge("hub", "a");
+        diagram.edge("c", "hub");
+        diagram.edge("hub", "c");
+        final var analyzer = new DiagramHealthAnalyzer();
+        assertEquals(
+            List.of(List.of(ref("a"), ref("b"), ref("c"), ref("d"), ref("hub"))),
+            analyzer.update("1", diagram.document()).cycles()
+        );
+
+        diagram.tables.remove("hub");
+        final var report = analyzer.update("2", diagram.document());
+
+        assertEquals(List.of(List.of(ref("a"), ref("b")), List.of(ref("c"), ref("d"))), report.cycles());
+        // hub에 걸린 관계 네 개는 끊어진 관계로 남는다
+        assertEquals(4, report.danglingEdges().size());
+        assertEquals(new DiagramHealthAnalyzer().update("2", diagram.document()), report);
+    }
+
+    @Test
+    void rebuildsWhenManyRelationshipsAreAddedAtOnce() {
+        final var diagram = new Diagram();
+        final var count = DiagramHealthAnalyzer.INCREMENTAL_LIMIT + 16;
+        for (var i = 0; i < count; i++) {
+            diagram.table("t" + i);
+        }
+        final var analyzer = new DiagramHealthAnalyzer();
+        assertEquals(count, analyzer.update("1", diagram.document()).isolatedTables().size());
+
+        // 한 번에 생긴 관계가 상한을 넘으면 전체를 다시 계산한다
+        for (var i = 0; i < count; i++) {
+            diagram.edge("t" + i, "t" + (i + 1) % count);
+        }
+        final var ring = analyzer.update("2", diagram.document());
+
+        assertEquals(1, ring.cycles().size());
+        assertEquals(count, ring.cycles().get(0).size());
+        assertEquals(List.of(), ring.isolatedTables());
+        assertEquals(new DiagramHealthAnalyzer().update("2", diagram.document()), ring);
+
+        // 이어지는 작은 편집은 다시 이어서 계산한다
+        diagram.edges.remove("e-t0-t1");
+        final var chain = analyzer.update("3", diagram.document());
+        assertEquals(List.of(), chain.cycles());
+        assertEquals(new DiagramHealthAnalyzer().update("3", diagram.document()), chain);
+    }
+
+    @Test
+    void reportsDanglingColumnHandles() {
+        final var diagram = new Diagram();
+        diagram.table("a");
+        diagram.table("b");
+        diagram.edges.put("e", new ErdRelationship("e", "a", "a-c0-source", "b", "b-c9-target", "step"));
+        final var analyzer = new DiagramHealthAnalyzer();
+        final var report = analyzer.update("1", diagram.document());
+        assertEquals(Reason.MISSING_TARGET_COLUMN, report.danglingEdges().get(0).reason());
+
+        diagram.tables.get("b").add("c9");
+        assertEquals(List.of(), analyzer.update("2", diagram.document()).danglingEdges());
+    }
+
+    private static TableRef ref(String name) {
+        return new TableRef(name, name);
+    }
+
+    /** 노드 ID를 테이블 이름으로 쓰는 편집 가능한 다이어그램. */
+    private static final class Diagram {
+
+        /** 노드 ID별 컬럼 ID */
+        private final Map<String, List<String>> tables = new LinkedHashMap<>();
+
+        /** 엣지 ID별 관계 */
+        private final Map<String, ErdRelationship> edges = new LinkedHashMap<>();
+
+        private int nextId;
+
+        void table(String nodeId) {
+            tables.put(nodeId, new ArrayList<>(List.of("c0", "c1", "c2")));
+        }
+
+        String edge(String source, String target) {
+            final var id = "e-" + source + "-" + target;
+            edges.put(id, relationship(id, source, target));
+            return id;
+        }
+
+        /** 테이블·컬럼·관계를 하나 더하거나 지우거나, 관계 끝을 옮긴다. 없는 노드를 가리키는 관계도 만든다. */
+        void edit(Random random) {
+            final var nodeIds = new ArrayList<>(tables.keySet());
+            final var edgeIds = new ArrayList<>(edges.keySet());
+            switch (random.nextInt(8)) {
+                case 0 -> table("t" + nextId++);
+                case 1 -> {
+                    if (!nodeIds.isEmpty()) {
+                        tables.remove(nodeIds.get(random.nextInt(nodeIds.size())));
+                    }
+                }
+                case 2 -> {
+                    if (!nodeIds.isEmpty()) {
+                        final var columns = tables.get(nodeIds.get(random.nextInt(nodeIds.size())));
+                        if (random.nextBoolean() && !columns.isEmpty()) {
+                            columns.remove(random.nextInt(columns.size()));
+                        } else {
+                            columns.add("c" + random.nextInt(4));
+                        }
+                    }
+                }
+                case 3, 4 -> {
+                    final var id = "e" + nextId++;
+                    edges.put(id, relationship(id, pick(random, nodeIds), pick(random, nodeIds)));
+                }
+                case 5 -> {
+                    if (!edgeIds.isEmpty()) {
+                        edges.remove(edgeIds.get(random.nextInt(edgeIds.size())));
+                    }
+                }
+                case 6 -> {
+                    if (!edgeIds.isEmpty()) {
+                        final var edge = edges.get(edgeIds.get(random.nextInt(edgeIds.size())));
+                        edges.put(edge.id(), relationship(edge.id(), edge.source(), pick(random, nodeIds)));
+                    }
+                }
+                default -> {
+                    // 여러 관계를 한꺼번에 더한다
+                    for (var i = random.nextInt(6); i >= 0; i--) {
+                        final var id = "e" + nextId++;
+                        edges.put(id, relationship(id, pick(random, nodeIds), pick(random, nodeIds)));
+                    }
+                }
+            }
+        }
+
+        ErdDocument document() {
+            final var erdTables = new ArrayList<ErdTable>();
+            for (final var entry : tables.entrySet()) {
+                final var columns = new ArrayList<ErdColumn>();
+                for (final var columnId : entry.getValue()) {
+                    columns.add(new ErdColumn(columnId, columnId, "BIGINT", false, false, true));
+                }
+                erdTables.add(new ErdTable(entry.getKey(), "table", 0, 0, entry.getKey(), columns));
+            }
+            return new ErdDocument(erdTables, List.copyOf(edges.values()));
+        }
+
+        /** 대개 있는 노드를, 가끔 없는 노드를 고른다. */
+        private String pick(Random random, List<String> nodeIds) {
+            if (nodeIds.isEmpty() || random.nextInt(10) == 0) {
+                return "t" + (nextId + random.nextInt(3));
+            }
+            return nodeIds.get(random.nextInt(nodeIds.size()));
+        }
+
+        private static ErdRelationship relationship(String id, String source, String target) {
+            return new ErdRelationship(id, source, source + "-c0-source", target, target + "-c1-target", "step");
+        }
+    }
+}
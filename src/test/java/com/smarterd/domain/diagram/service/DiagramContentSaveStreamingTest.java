@@ -0,0 +1,174 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.api.diagram.dto.CreateDiagramRequest;
+import com.smarterd.api.diagram.dto.DiagramResponse;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import com.smarterd.domain.project.entity.Project;
+import com.smarterd.domain.project.repository.ProjectRepository;
+import com.smarterd.domain.search.service.TeamSchemaIndexJob;
+import com.smarterd.domain.team.entity.Team;
+import com.smarterd.domain.team.entity.TeamMember;
+import com.smarterd.domain.team.entity.TeamMemberRole;
+import com.smarterd.domain.team.repository.TeamMemberRepository;
+import com.smarterd.domain.team.repository.TeamRepository;
+import com.smarterd.domain.user.entity.User;
+import com.smarterd.domain.user.repository.UserRepository;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * 실제 저장 경로({@link DiagramService#saveDiagramContent})로 50MB 문서를 저장하는 대용량 테스트.
+ *
+ * <p>LOB 기록에 더해 정규화 모델 동기화, 요약 갱신, 리비전 매니페스트·델타 계산을 모두 지난다. {@code largeDiagramTest}
+ * 태스크가 작은 힙({@code -Xmx64m})으로 실행하므로, 통과하면 이 경로의 힙 사용량이 문서 크기와 무관함을 뜻한다.
+ * 내장 H2는 DB 서버와 달리 LOB·페이지 캐시·조회 결과를 애플리케이션 힙에 두므로, 빌드 디렉터리의 파일 DB를 쓰고 캐시와
+ * 메모리에 둘 결과 행 수를 줄이며, 청크를 다시 쓰는 백그라운드 압축도 끈다. H2는 커밋 전 변경 페이지도 힙에 두므로
+ * 두 번째 저장은 문서 전체를 바꾸지 않고 테이블 하나를 지운다. 커밋 뒤 다른 스레드에서 도는 작업(미리보기, 구조 점검, 용어 검증, 팀 색인)은 저장
+ * 요청 경로가 아니므로 목으로 바꾼다.</p>
+ */
+@Tag("large")
+@SpringBootTest(
+    properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:file:./build/large-diagram-test/${random.uuid};" +
+        "CACHE_SIZE=1024;MAX_MEMORY_ROWS=1000;AUTO_COMPACT_FILL_RATE=0",
+    }
+)
+class DiagramContentSaveStreamingTest {
+
+    private static final long FIFTY_MEGABYTES = 50L * 1024 * 1024;
+
+    private static final int TABLE_COUNT = 30_000;
+
+    @MockitoBean
+    private DiagramThumbnailJob diagramThumbnailJob;
+
+    @MockitoBean
+    private DiagramHealthJob diagramHealthJob;
+
+    @MockitoBean
+    private DiagramValidationJob diagramValidationJob;
+
+    @MockitoBean
+    private TeamSchemaIndexJob teamSchemaIndexJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DiagramService diagramService;
+
+    @Autowired
+    private DiagramHistoryService diagramHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void savesFiftyMegabyteDiagramThroughServiceWithinSmallHeap() throws Exception {
+        final var loginId = "streaming-" + UUID.randomUUID();
+        final var user = userRepository.save(new User(loginId, "password", "streaming"));
+        final var team = teamRepository.save(new Team("streaming", user));
+        teamMemberRepository.save(new TeamMember(team, user, TeamMemberRole.ADMIN));
+        final var project = projectRepository.save(new Project("streaming", team));
+        final var diagramId = diagramService
+            .createDiagram(loginId, team.getId(), project.getId(), new CreateDiagramRequest("streaming"))
+            .id();
+
+        final var requestDigest = MessageDigest.getInstance("SHA-256");
+        final var body = new DigestInputStream(stream(TABLE_COUNT, 42L), requestDigest);
+        final var saved = save(loginId, team, project, diagramId, body);
+
+        final var responseDigest = MessageDigest.getInstance("SHA-256");
+        final var responseBytes = new long[1];
+        final var sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+                responseBytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                responseBytes[0] += length;
+            }
+        };
+        try (var out = new DigestOutputStream(sink, responseDigest)) {
+            diagramService.copyContent(diagramId, out);
+        }
+        System.out.printf(
+            "[streaming save] %,d bytes, max heap %,d MB%n",
+            responseBytes[0],
+            Runtime.getRuntime().maxMemory() / (1024 * 1024)
+        );
+        assertTrue(responseBytes[0] >= FIFTY_MEGABYTES, "document smaller than 50 MB: " + responseBytes[0]);
+        assertArrayEquals(requestDigest.digest(), responseDigest.digest());
+        assertEquals(
+            TABLE_COUNT,
+            jdbcTemplate.queryForObject(
+                "select table_count from diagram_summaries where diagram_id = ?",
+                Integer.class,
+                diagramId
+            )
+        );
+        final var head = diagramHistoryService.getRevisions(diagramId).getFirst();
+        assertEquals(saved.revision(), head.revision());
+        assertEquals(saved.contentHash(), head.contentHash());
+        // 델타가 상한을 넘으므로 스냅샷으로 남는다
+        assertEquals(DiagramRevisionKind.SNAPSHOT, head.kind());
+        assertEquals(responseBytes[0], head.byteSize());
+
+        // 같은 문서는 쓰지 않고, 마지막 테이블을 지운 문서는 바뀐 행만 동기화하여 저장한다
+        assertEquals(saved.revision(), save(loginId, team, project, diagramId, stream(TABLE_COUNT, 42L)).revision());
+        final var edited = save(loginId, team, project, diagramId, stream(TABLE_COUNT - 1, 42L));
+        assertEquals(saved.revision() + 1, edited.revision());
+        assertEquals(
+            TABLE_COUNT - 1,
+            jdbcTemplate.queryForObject(
+                "select table_count from diagram_summaries where diagram_id = ?",
+                Integer.class,
+                diagramId
+            )
+        );
+        assertEquals(3, diagramHistoryService.getRevisions(diagramId).size());
+    }
+
+    private DiagramResponse save(
+        String loginId,
+        Team team,
+        Project project,
+        Long diagramId,
+        InputStream body
+    ) throws Exception {
+        try (body) {
+            return diagramService.saveDiagramContent(loginId, team.getId(), project.getId(), diagramId, body, null);
+        }
+    }
+
+    private static InputStream stream(int tableCount, long seed) {
+        return SyntheticDiagrams.stream(tableCount, seed);
+    }
+}
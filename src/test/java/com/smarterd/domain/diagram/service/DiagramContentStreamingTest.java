@@ -0,0 +1,208 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.EntityNotFoundException;
+import com.smarterd.domain.common.exception.PreconditionFailedException;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.repository.DiagramContentStore;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 스트리밍 저장·조회 경로({@link DiagramContentStreamWriter} + {@link DiagramContentStore})의 대용량 테스트.
+ *
+ * <p>{@code largeDiagramTest} 태스크가 작은 힙({@code -Xmx64m})으로 실행한다. 50MB 문서를 문자열로 한 번이라도
+ * 올리면 힙이 부족해지므로, 테스트가 통과하면 요청당 힙 사용량이 문서 크기와 무관함을 뜻한다.</p>
+ */
+@Tag("large")
+class DiagramContentStreamingTest {
+
+    private static final long FIFTY_MEGABYTES = 50L * 1024 * 1024;
+
+    private static final int TABLE_COUNT = 30_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DiagramContentStreamWriter writer = new DiagramContentStreamWriter(
+        objectMapper,
+        new ErdDocumentParser(objectMapper)
+    );
+
+    private JdbcTemplate jdbcTemplate;
+
+    private DiagramContentStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+            new DriverManagerDataSource("jdbc:h2:mem:diagram-streaming;DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        jdbcTemplate.execute(
+            "create table diagrams (id bigint primary key, content blob, content_hash varchar(64), " +
+            "revision bigint not null, updated_at timestamp)"
+        );
+        jdbcTemplate.update("insert into diagrams (id, revision) values (1, 0)");
+        store = new DiagramContentStore(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table diagrams");
+    }
+
+    @Test
+    void savesAndStreamsFiftyMegabyteDiagram() throws Exception {
+        final var requestDigest = sha256();
+        final var tables = new long[1];
+        final var relationships = new long[1];
+
+        final var contentHash = new String[1];
+        try (var body = new DigestInputStream(SyntheticDiagrams.stream(TABLE_COUNT, 42L), requestDigest)) {
+            assertTrue(
+                store.writeContent(1L, null, null, (out) -> {
+                    contentHash[0] = writer
+                        .write(body, out, (table) -> tables[0]++, (relationship) -> relationships[0]++)
+                        .contentHash();
+                    return contentHash[0];
+                })
+            );
+        }
+
+        final var responseDigest = sha256();
+        final var responseBytes = new long[1];
+        final var sink = new OutputStream() {
+            @Override
+            public void write(int b) {
+                responseBytes[0]++;
+            }
+
+            @Override
+            public void write(byte[] buffer, int offset, int length) {
+                responseBytes[0] += length;
+            }
+        };
+        try (var out = new DigestOutputStream(sink, responseDigest)) {
+            assertTrue(store.copyContent(1L, out));
+        }
+
+        System.out.printf(
+            "[streaming] %,d bytes -> %,d stored bytes, max heap %,d MB%n",
+            responseBytes[0],
+            jdbcTemplate.queryForObject("select octet_length(content) from diagrams where id = 1", Long.class),
+            Runtime.getRuntime().maxMemory() / (1024 * 1024)
+        );
+        assertTrue(responseBytes[0] >= FIFTY_MEGABYTES, "document smaller than 50 MB: " + responseBytes[0]);
+        assertArrayEquals(requestDigest.digest(), responseDigest.digest());
+        assertEquals(
+            contentHash[0],
+            jdbcTemplate.queryForObject("select content_hash from diagrams where id = 1", String.class)
+        );
+        assertEquals(TABLE_COUNT, tables[0]);
+        assertEquals(TABLE_COUNT - 1, relationships[0]);
+        assertEquals(1L, jdbcTemplate.queryForObject("select revision from diagrams where id = 1", Long.class));
+    }
+
+    @Test
+    void rejectsMalformedDocumentWithoutWriting() {
+        final var truncated = "{\"nodes\":[{\"id\":\"table-1\"".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(BusinessException.class, () ->
+            store.writeContent(1L, null, null, (out) ->
+                writer.write(new ByteArrayInputStream(truncated), out, (table) -> {}, (relationship) -> {}).contentHash()
+            )
+        );
+        assertNull(jdbcTemplate.queryForObject("select content from diagrams where id = 1", byte[].class));
+        assertEquals(0L, jdbcTemplate.queryForObject("select revision from diagrams where id = 1", Long.class));
+    }
+
+    @Test
+    void rejectsStaleExpectedRevisionWithoutWriting() {
+        final var empty = "{\"nodes\":[],\"edges\":[]}";
+        final var single = "{\"nodes\":[{\"id\":\"a\"}],\"edges\":[]}";
+        assertTrue(store.writeContent(1L, 0L, null, (out) -> save(out, empty)));
+        final var current = storedHash();
+
+        assertThrows(PreconditionFailedException.class, () ->
+            store.writeContent(1L, 0L, current, (out) -> save(out, single))
+        );
+        assertEquals(1L, storedRevision());
+        assertTrue(store.writeContent(1L, 1L, current, (out) -> save(out, single)));
+        assertEquals(2L, storedRevision());
+
+        // 같은 content로 되돌아와도 그 사이 리비전이 올랐으면 거부한다.
+        assertTrue(store.writeContent(1L, 2L, storedHash(), (out) -> save(out, empty)));
+        assertEquals(current, storedHash());
+        assertThrows(PreconditionFailedException.class, () ->
+            store.writeContent(1L, 1L, current, (out) -> save(out, single))
+        );
+        assertEquals(3L, storedRevision());
+    }
+
+    @Test
+    void rejectsDeletedDiagram() {
+        assertTrue(store.writeContent(1L, null, null, (out) -> save(out, "{\"nodes\":[],\"edges\":[]}")));
+        final var current = storedHash();
+        jdbcTemplate.update("delete from diagrams where id = 1");
+
+        final var document = "{\"nodes\":[{\"id\":\"a\"}],\"edges\":[]}";
+        assertThrows(EntityNotFoundException.class, () ->
+            store.writeContent(1L, null, current, (out) -> save(out, document))
+        );
+        assertThrows(EntityNotFoundException.class, () ->
+            store.writeContent(1L, 1L, current, (out) -> save(out, document))
+        );
+    }
+
+    @Test
+    void skipsSemanticallyIdenticalDocument() {
+        final var stored = "{\"nodes\":[{\"id\":\"a\",\"position\":{\"x\":100,\"y\":0}}],\"edges\":[]}";
+        final var reordered =
+            "{\"edges\":[],\"nodes\":[{\"selected\":true,\"position\":{\"y\":0.0,\"x\":1e2}," +
+            "\"measured\":{\"width\":240,\"height\":96},\"id\":\"a\"}]}";
+        assertTrue(store.writeContent(1L, null, null, (out) -> save(out, stored)));
+        final var current = storedHash();
+
+        assertFalse(store.writeContent(1L, null, current, (out) -> save(out, reordered)));
+        assertEquals(1L, storedRevision());
+        assertTrue(store.writeContent(1L, null, current, (out) -> save(out, reordered.replace("1e2", "101"))));
+        assertEquals(2L, storedRevision());
+    }
+
+    private String save(OutputStream out, String document) throws IOException {
+        return writer
+            .write(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), out, (table) -> {}, (relationship) -> {})
+            .contentHash();
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject("select content_hash from diagrams where id = 1", String.class);
+    }
+
+    private Long storedRevision() {
+        return jdbcTemplate.queryForObject("select revision from diagrams where id = 1", Long.class);
+    }
+
+    private static MessageDigest sha256() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256");
+    }
+}
@@ -0,0 +1,149 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.model.DiagramChangeKind;
+import com.smarterd.domain.diagram.model.DiagramDiff;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link DiagramDiffer}의 정확성과 처리 시간 벤치마크.
+ *
+ * <p>1k/10k 테이블 합성 다이어그램에서 테이블 1%를 옮기고 컬럼 타입 하나를 바꾼 뒤, 비교에 걸린 시간을 표준 출력에 남긴다.</p>
+ */
+class DiagramDifferBenchmarkTest {
+
+    private static final int ITERATIONS = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DiagramDiffer differ = new DiagramDiffer(new ErdDocumentParser(objectMapper));
+
+    @Test
+    void reportsTableColumnAndRelationshipChanges() throws Exception {
+        final var before = objectMapper.readTree(SyntheticDiagrams.generate(12, 5L));
+        final var after = (ObjectNode) before.deepCopy();
+        final var nodes = (ArrayNode) after.get("nodes");
+        final var edges = (ArrayNode) after.get("edges");
+
+        data(nodes, 0).put("label", "renamed_table");
+        ((ObjectNode) nodes.get(1).get("position")).put("x", 9_999);
+        columns(nodes, 2).add(objectMapper.readTree("{\"id\":\"col-new\",\"name\":\"memo\",\"type\":\"TEXT\"}"));
+        column(nodes, 3, 2).put("name", "renamed_column").put("type", "CHAR(2)");
+        column(nodes, 4, 0).put("nullable", true);
+        final var removedColumnId = column(nodes, 5, 3).get("id").asText();
+        columns(nodes, 5).remove(3);
+        final var removedTableId = nodes.get(6).get("id").asText();
+        nodes.remove(6);
+        ((ObjectNode) nodes.get(6)).put("selected", true).put("dragging", true);
+        nodes.add(
+            objectMapper.readTree("{\"id\":\"table-new\",\"position\":{\"x\":1,\"y\":2},\"data\":{\"label\":\"t\"}}")
+        );
+        ((ObjectNode) edges.get(0)).put("type", "smoothstep");
+        final var removedEdgeId = edges.get(1).get("id").asText();
+        edges.remove(1);
+
+        final var diff = differ.diff(before, after);
+
+        assertEquals(
+            List.of(
+                DiagramChangeKind.RENAMED,
+                DiagramChangeKind.MOVED,
+                DiagramChangeKind.ADDED,
+                DiagramChangeKind.REMOVED
+            ),
+            diff.tables().stream().map(DiagramDiff.TableChange::kind).toList()
+        );
+        assertEquals("renamed_table", diff.tables().get(0).name());
+        assertEquals(9_999.0, diff.tables().get(1).x());
+        assertEquals("table-new", diff.tables().get(2).tableId());
+        assertEquals(removedTableId, diff.tables().get(3).tableId());
+
+        assertEquals(
+            List.of(
+                DiagramChangeKind.ADDED,
+                DiagramChangeKind.RENAMED,
+                DiagramChangeKind.RETYPED,
+                DiagramChangeKind.MODIFIED,
+                DiagramChangeKind.REMOVED
+            ),
+            diff.columns().stream().map(DiagramDiff.ColumnChange::kind).toList()
+        );
+        assertEquals("col-new", diff.columns().get(0).columnId());
+        assertEquals("CHAR(2)", diff.columns().get(2).after().type());
+        assertEquals(removedColumnId, diff.columns().get(4).columnId());
+
+        assertEquals(
+            List.of(DiagramChangeKind.RETYPED, DiagramChangeKind.REMOVED),
+            diff.relationships().stream().map(DiagramDiff.RelationshipChange::kind).toList()
+        );
+        assertEquals(removedEdgeId, diff.relationships().get(1).relationshipId());
+        // 선택·드래그 상태만 바뀐 테이블 포함
+        assertEquals(5, diff.unchangedTables());
+    }
+
+    @Test
+    void reportsNothingForIdenticalDocuments() throws Exception {
+        final var document = objectMapper.readTree(SyntheticDiagrams.generate(50, 9L));
+
+        final var diff = differ.diff(document, document.deepCopy());
+
+        assertTrue(diff.isEmpty());
+        assertEquals(50, diff.unchangedTables());
+    }
+
+    @Tag("benchmark")
+    @ParameterizedTest(name = "{0} tables")
+    @ValueSource(ints = { 1_000, 10_000 })
+    void reportsDiffTime(int tableCount) throws Exception {
+        final var before = objectMapper.readTree(SyntheticDiagrams.generate(tableCount, 42L));
+        final var after = objectMapper.readTree(SyntheticDiagrams.generate(tableCount, 42L));
+        final var nodes = (ArrayNode) after.get("nodes");
+        final var moved = tableCount / 100;
+        for (var i = 0; i < moved; i++) {
+            ((ObjectNode) nodes.get(i * 100).get("position")).put("x", -1);
+        }
+        column(nodes, 1, 2).put("type", "TEXT");
+
+        var diff = differ.diff(before, after);
+        final var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            diff = differ.diff(before, after);
+        }
+        final var millis = (System.nanoTime() - start) / ITERATIONS / 1_000_000.0;
+
+        System.out.printf(
+            "[diff] %,d tables: %d table / %d column changes, %,d unchanged, %.1f ms%n",
+            tableCount,
+            diff.tables().size(),
+            diff.columns().size(),
+            diff.unchangedTables(),
+            millis
+        );
+        assertEquals(moved, diff.tables().size());
+        assertEquals(1, diff.columns().size());
+        assertEquals(tableCount - moved - 1, diff.unchangedTables());
+        assertTrue(diff.relationships().isEmpty());
+    }
+
+    private static ObjectNode data(ArrayNode nodes, int index) {
+        return (ObjectNode) nodes.get(index).get("data");
+    }
+
+    private static ArrayNode columns(ArrayNode nodes, int index) {
+        return (ArrayNode) data(nodes, index).get("columns");
+    }
+
+    private static ObjectNode column(ArrayNode nodes, int index, int column) {
+        return (ObjectNode) columns(nodes, index).get(column);
+    }
+}
@@ -0,0 +1,325 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.smarterd.api.diagram.dto.CreateDiagramRequest;
+import com.smarterd.api.diagram.dto.DiagramResponse;
+import com.smarterd.api.diagram.dto.SaveDiagramRequest;
+import com.smarterd.domain.common.exception.ConflictException;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.entity.DiagramRevisionKind;
+import com.smarterd.domain.diagram.repository.DiagramRevisionItem;
+import com.smarterd.domain.project.entity.Project;
+import com.smarterd.domain.project.repository.ProjectRepository;
+import com.smarterd.domain.team.entity.Team;
+import com.smarterd.domain.team.entity.TeamMember;
+import com.smarterd.domain.team.entity.TeamMemberRole;
+import com.smarterd.domain.team.repository.TeamMemberRepository;
+import com.smarterd.domain.team.repository.TeamRepository;
+import com.smarterd.domain.user.entity.User;
+import com.smarterd.domain.user.repository.UserRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+
+/**
+ * 스냅샷 + 델타 리비전 기록({@link DiagramHistoryService})의 복원 테스트.
+ *
+ * <p>무작위 편집을 저장한 뒤, 모든 리비전을 스냅샷과 델타로 복원한 결과가 저장했던 content와 같은지 압축 전후로
+ * 확인한다. 델타 깊이 상한({@link DiagramHistoryService#MAX_DEPTH})과 1 MiB 델타 상한에서 스냅샷으로 바뀌는 경로를
+ * 함께 지난다. {@code If-Match} 없는 스트리밍 저장 두 개가 겹치면 하나만 기록되어 리비전 사슬이 이어지는지도
+ * 확인한다.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DiagramHistoryRoundTripTest {
+
+    private static final int SAVES = 40;
+
+    /** 델타 상한을 넘기는 저장 순번 */
+    private static final int LARGE_SAVE = 22;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DiagramService diagramService;
+
+    @Autowired
+    private DiagramHistoryService diagramHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String loginId;
+
+    private Long teamId;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        loginId = "history-" + UUID.randomUUID();
+        final var user = userRepository.save(new User(loginId, "password", "history"));
+        final var team = teamRepository.save(new Team("history", user));
+        teamMemberRepository.save(new TeamMember(team, user, TeamMemberRole.ADMIN));
+        teamId = team.getId();
+        projectId = projectRepository.save(new Project("history", team)).getId();
+    }
+
+    @Test
+    void rebuildsEveryRevisionBeforeAndAfterCompaction() throws Exception {
+        final var diagramId = diagramService
+            .createDiagram(loginId, teamId, projectId, new CreateDiagramRequest("history"))
+            .id();
+        final var expected = new HashMap<Long, JsonNode>();
+        expected.put(head(diagramId).revision(), objectMapper.readTree("{\"nodes\":[],\"edges\":[]}"));
+
+        final var random = new Random(11L);
+        final var document = (ObjectNode) objectMapper.readTree(SyntheticDiagrams.generate(30, 5L));
+        for (var i = 1; i <= SAVES; i++) {
+            if (i == LARGE_SAVE) {
+                addTable(document, "table-large", "large")
+                    .put("comment", "x".repeat((int) DiagramHistoryService.DELTA_LIMIT_BYTES + 1));
+            } else if (i > 1) {
+                edit(document, random, i);
+            }
+            diagramService.saveDiagram(
+                loginId,
+                teamId,
+                projectId,
+                diagramId,
+                new SaveDiagramRequest(document.toString()),
+                null
+            );
+            final var head = head(diagramId);
+            expected.put(head.revision(), document.deepCopy());
+            if (i == LARGE_SAVE) {
+                assertEquals(DiagramRevisionKind.SNAPSHOT, head.kind());
+            }
+        }
+
+        final var revisions = diagramHistoryService.getRevisions(diagramId);
+        assertEquals(SAVES + 1, revisions.size());
+        // 델타가 상한까지 쌓인 다음 기록은 스냅샷이다
+        var fullChains = 0;
+        for (var i = 1; i < revisions.size(); i++) {
+            if (revisions.get(i).depth() == DiagramHistoryService.MAX_DEPTH) {
+                assertEquals(DiagramRevisionKind.SNAPSHOT, revisions.get(i - 1).kind());
+                fullChains++;
+            }
+        }
+        assertTrue(fullChains > 0, "no chain reached MAX_DEPTH");
+        assertRebuilds(diagramId, expected);
+
+        // 앞쪽 기록은 나흘씩 같은 날로 묶어 오래된 기록으로 만들고, 마지막 다섯 기록은 최근 기록으로 둔다
+        final var now = LocalDateTime.now();
+        for (final var item : revisions) {
+            final var index = item.revision() - revisions.getLast().revision();
+            final var createdAt = index > SAVES - 5
+                ? now.minusHours(SAVES - index)
+                : now.minusDays(60).plusDays(index / 4).plusMinutes(index);
+            jdbcTemplate.update(
+                "update diagram_revisions set created_at = ? where id = ?",
+                Timestamp.valueOf(createdAt),
+                item.id()
+            );
+        }
+
+        final var dropped = diagramHistoryService.compact(diagramId, now.minus(DiagramHistoryCompactionJob.RETAIN_ALL));
+
+        final var compacted = diagramHistoryService.getRevisions(diagramId);
+        assertTrue(dropped > 0);
+        assertEquals(revisions.size() - dropped, compacted.size());
+        assertEquals(revisions.getFirst().revision(), compacted.getFirst().revision());
+        assertRebuilds(diagramId, expected);
+    }
+
+    @Test
+    void recordsSnapshotsForDiagramOverManifestLimit() throws Exception {
+        final var diagramId = diagramService
+            .createDiagram(loginId, teamId, projectId, new CreateDiagramRequest("history-large"))
+            .id();
+        // 테이블 n개와 관계 n - 1개로 원소 수가 매니페스트 상한을 넘는다
+        final var tables = DiagramDelta.MANIFEST_LIMIT_ELEMENTS / 2 + 1;
+        final var document = (ObjectNode) objectMapper.readTree(SyntheticDiagrams.generate(tables, 7L));
+        final var expected = new HashMap<Long, JsonNode>();
+        for (var i = 0; i < 2; i++) {
+            if (i > 0) {
+                ((ObjectNode) document.get("nodes").get(0).get("data")).put("label", "renamed");
+            }
+            diagramService.saveDiagram(
+                loginId,
+                teamId,
+                projectId,
+                diagramId,
+                new SaveDiagramRequest(document.toString()),
+                null
+            );
+            final var head = head(diagramId);
+            expected.put(head.revision(), document.deepCopy());
+            assertEquals(DiagramRevisionKind.SNAPSHOT, head.kind());
+        }
+
+        for (final var revision : expected.keySet()) {
+            assertEquals(expected.get(revision), diagramHistoryService.reconstruct(diagramId, revision));
+        }
+    }
+
+    @Test
+    void rejectsOverlappingUnconditionalStreamingSave() throws Exception {
+        final var diagramId = diagramService
+            .createDiagram(loginId, teamId, projectId, new CreateDiagramRequest("history-overlap"))
+            .id();
+        final var expected = new HashMap<Long, JsonNode>();
+        expected.put(head(diagramId).revision(), objectMapper.readTree("{\"nodes\":[],\"edges\":[]}"));
+        final var document = (ObjectNode) objectMapper.readTree(SyntheticDiagrams.generate(30, 5L));
+        expected.put(saveContent(diagramId, document.toString(), null).revision(), document.deepCopy());
+
+        // 두 저장이 모두 헤더와 리비전 기록의 기준을 읽은 뒤에야 본문을 읽기 시작하게 해 겹치게 만든다.
+        final var started = new CountDownLatch(2);
+        final var documents = new ArrayList<ObjectNode>();
+        final var saves = new ArrayList<Future<DiagramResponse>>();
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            for (var i = 0; i < 2; i++) {
+                final var edited = document.deepCopy();
+                ((ObjectNode) edited.get("nodes").get(i).get("data")).put("label", "overlap_" + i);
+                documents.add(edited);
+                saves.add(executor.submit(() -> saveContent(diagramId, edited.toString(), started)));
+            }
+            var conflicts = 0;
+            for (var i = 0; i < 2; i++) {
+                try {
+                    final var saved = saves.get(i).get(30, TimeUnit.SECONDS);
+                    expected.put(saved.revision(), documents.get(i));
+                } catch (ExecutionException e) {
+                    assertInstanceOf(ConflictException.class, e.getCause());
+                    conflicts++;
+                }
+            }
+            assertEquals(1, conflicts);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ((ObjectNode) document.get("nodes").get(2).get("data")).put("label", "after_overlap");
+        expected.put(saveContent(diagramId, document.toString(), null).revision(), document);
+        assertEquals(expected.size(), diagramHistoryService.getRevisions(diagramId).size());
+        assertRebuilds(diagramId, expected);
+    }
+
+    private void assertRebuilds(Long diagramId, Map<Long, JsonNode> expected) {
+        for (final var item : diagramHistoryService.getRevisions(diagramId)) {
+            final var rebuilt = diagramHistoryService.reconstruct(diagramId, item.revision());
+            assertEquals(expected.get(item.revision()), rebuilt, "revision " + item.revision());
+            assertEquals(item.contentHash(), DiagramContentCanonicalizer.hash(rebuilt));
+            assertTrue(item.depth() <= DiagramHistoryService.MAX_DEPTH);
+        }
+    }
+
+    /** {@code started}가 있으면 본문을 읽기 시작할 때 다른 저장도 본문을 읽기 시작할 때까지 기다린다. */
+    private DiagramResponse saveContent(Long diagramId, String document, @Nullable CountDownLatch started) {
+        final var body = new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                if (started != null && pos == 0) {
+                    started.countDown();
+                    try {
+                        assertTrue(started.await(30, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+                }
+                return super.read(buffer, offset, length);
+            }
+        };
+        return diagramService.saveDiagramContent(loginId, teamId, projectId, diagramId, body, null);
+    }
+
+    private DiagramRevisionItem head(Long diagramId) {
+        return diagramHistoryService.getRevisions(diagramId).getFirst();
+    }
+
+    /** 테이블 이름·컬럼 타입 변경, 테이블 추가·삭제·순서 변경, 최상위 필드 변경 중 하나를 한다. */
+    private void edit(ObjectNode document, Random random, int save) {
+        final var nodes = (ArrayNode) document.get("nodes");
+        final var node = (ObjectNode) nodes.get(1 + random.nextInt(nodes.size() - 1));
+        switch (random.nextInt(6)) {
+            case 0 -> ((ObjectNode) node.get("data")).put("label", "renamed_" + save);
+            case 1 -> {
+                final var columns = node.get("data").get("columns");
+                ((ObjectNode) columns.get(random.nextInt(columns.size()))).put("type", "VARCHAR(" + save + ")");
+            }
+            case 2 -> addTable(document, "table-added-" + save, "added_" + save);
+            case 3 -> {
+                if (nodes.size() > 2) {
+                    nodes.remove(1 + random.nextInt(nodes.size() - 1));
+                } else {
+                    addTable(document, "table-added-" + save, "added_" + save);
+                }
+            }
+            case 4 -> nodes.insert(0, nodes.remove(1 + random.nextInt(nodes.size() - 1)));
+            default -> {
+                if (document.has("viewport") && random.nextBoolean()) {
+                    document.remove("viewport");
+                } else {
+                    document.putObject("viewport").put("x", save).put("y", -save).put("zoom", 1);
+                }
+            }
+        }
+    }
+
+    private static ObjectNode addTable(ObjectNode document, String id, String label) {
+        final var node = ((ArrayNode) document.get("nodes")).addObject();
+        node.put("id", id).put("type", "table");
+        node.putObject("position").put("x", 0).put("y", 0);
+        final var data = node.putObject("data");
+        data.put("label", label);
+        data
+            .putArray("columns")
+            .addObject()
+            .put("id", id + "-col")
+            .put("name", "id")
+            .put("type", "BIGINT")
+            .put("pk", true)
+            .put("fk", false)
+            .put("nullable", false);
+        return data;
+    }
+}
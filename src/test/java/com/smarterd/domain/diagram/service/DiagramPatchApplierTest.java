@@ -0,0 +1,129 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.api.common.GlobalExceptionHandler;
+import com.smarterd.api.diagram.dto.DiagramPatchOperation;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.common.exception.ConflictException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ * {@link DiagramPatchApplier}의 RFC 6902 연산과 실패 처리를 확인한다.
+ */
+class DiagramPatchApplierTest {
+
+    private static final String DOCUMENT =
+        "{\"nodes\":[{\"id\":\"a\",\"position\":{\"x\":0,\"y\":0}},{\"id\":\"b\"}],\"edges\":[],\"a/b\":{\"m~n\":1}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DiagramPatchApplier applier = new DiagramPatchApplier();
+
+    @Test
+    void addsToObjectsAndArrays() throws Exception {
+        final var result = apply(
+            op("add", "/viewport", null, "{\"zoom\":1}"),
+            op("add", "/nodes/1", null, "{\"id\":\"c\"}"),
+            op("add", "/nodes/-", null, "{\"id\":\"d\"}"),
+            op("add", "/nodes/0/position/x", null, "320")
+        );
+
+        assertEquals(json("{\"zoom\":1}"), result.get("viewport"));
+        assertEquals(List.of("a", "c", "b", "d"), ids(result));
+        assertEquals(320, result.at("/nodes/0/position/x").asInt());
+    }
+
+    @Test
+    void removesAndReplaces() throws Exception {
+        final var result = apply(
+            op("remove", "/nodes/0", null, null),
+            op("replace", "/edges", null, "[{\"id\":\"e\"}]"),
+            op("replace", "/nodes/0/id", null, "\"z\""),
+            op("remove", "/a~1b/m~0n", null, null)
+        );
+
+        assertEquals(List.of("z"), ids(result));
+        assertEquals(json("[{\"id\":\"e\"}]"), result.get("edges"));
+        assertEquals(json("{}"), result.get("a/b"));
+    }
+
+    @Test
+    void movesAndCopies() throws Exception {
+        final var result = apply(
+            op("copy", "/nodes/-", "/nodes/0", null),
+            op("move", "/first", "/nodes/0", null),
+            op("replace", "/first/id", null, "\"moved\"")
+        );
+
+        assertEquals(List.of("b", "a"), ids(result));
+        assertEquals("moved", result.at("/first/id").asText());
+        // 복사본은 원본과 노드를 공유하지 않는다
+        assertEquals(0, result.at("/nodes/1/position/x").asInt());
+    }
+
+    @Test
+    void passingTestKeepsDocument() throws Exception {
+        final var result = apply(op("test", "/nodes/0/position", null, "{\"y\":0,\"x\":0}"));
+
+        assertEquals(json(DOCUMENT), result);
+    }
+
+    @Test
+    void failedTestRaisesConflictWithoutChangingDocument() throws Exception {
+        final var document = json(DOCUMENT);
+        final var operations = List.of(
+            op("remove", "/nodes/1", null, null),
+            op("test", "/nodes/0/id", null, "\"b\"")
+        );
+
+        final var exception = assertThrows(ConflictException.class, () -> applier.apply(document, operations));
+
+        assertEquals("Patch test failed at /nodes/0/id", exception.getMessage());
+        assertEquals(json(DOCUMENT), document);
+        assertEquals(HttpStatus.CONFLICT, new GlobalExceptionHandler().handleConflict(exception).getStatusCode());
+    }
+
+    @Test
+    void rejectsInvalidPaths() {
+        for (final var operation : List.of(
+            op("remove", "/missing", null, null),
+            op("replace", "/nodes/2", null, "1"),
+            op("add", "/nodes/3", null, "1"),
+            op("add", "/nodes/01", null, "1"),
+            op("remove", "", null, null),
+            op("move", "/nodes/0/child", "/nodes/0", null),
+            op("add", "nodes", null, "1"),
+            op("add", "/viewport", null, null),
+            op("copy", "/x", null, null),
+            op("merge", "/nodes", null, "[]")
+        )) {
+            assertThrows(BusinessException.class, () -> applier.apply(json(DOCUMENT), List.of(operation)));
+        }
+    }
+
+    private JsonNode apply(DiagramPatchOperation... operations) throws Exception {
+        return applier.apply(json(DOCUMENT), List.of(operations));
+    }
+
+    private DiagramPatchOperation op(String op, String path, String from, String value) {
+        try {
+            return new DiagramPatchOperation(op, path, from, value == null ? null : objectMapper.readTree(value));
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private JsonNode json(String text) throws Exception {
+        return objectMapper.readTree(text);
+    }
+
+    private static List<String> ids(JsonNode document) {
+        return document.get("nodes").findValuesAsText("id");
+    }
+}
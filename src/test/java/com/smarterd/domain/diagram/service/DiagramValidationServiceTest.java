@@ -0,0 +1,222 @@
+package com.smarterd.domain.diagram.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.api.diagram.dto.CreateDiagramRequest;
+import com.smarterd.api.diagram.dto.SaveDiagramRequest;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.dictionary.entity.Term;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Kind;
+import com.smarterd.domain.project.entity.Project;
+import com.smarterd.domain.project.repository.ProjectRepository;
+import com.smarterd.domain.team.entity.Team;
+import com.smarterd.domain.team.entity.TeamMember;
+import com.smarterd.domain.team.entity.TeamMemberRole;
+import com.smarterd.domain.team.repository.TeamMemberRepository;
+import com.smarterd.domain.team.repository.TeamRepository;
+import com.smarterd.domain.user.entity.User;
+import com.smarterd.domain.user.repository.UserRepository;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link DiagramValidationService}가 컬럼 검사 결과를 테이블에 남기고, 검사기가 밀려난 뒤 그 결과로 다시 채우며, 팀 사전이
+ * 바뀌면 저장된 결과를 쓰지 않는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DiagramValidationServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private DiagramService diagramService;
+
+    @Autowired
+    private DiagramValidationService diagramValidationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String loginId;
+
+    private Team team;
+
+    private Long projectId;
+
+    private Long diagramId;
+
+    @BeforeEach
+    void setUp() {
+        loginId = "validation-" + UUID.randomUUID();
+        final var user = userRepository.save(new User(loginId, "password", "validation"));
+        team = teamRepository.save(new Team("validation", user));
+        teamMemberRepository.save(new TeamMember(team, user, TeamMemberRole.ADMIN));
+        projectId = projectRepository.save(new Project("validation", team)).getId();
+        diagramId = diagramService
+            .createDiagram(loginId, team.getId(), projectId, new CreateDiagramRequest("validation"))
+            .id();
+        diagramService.saveDiagram(
+            loginId,
+            team.getId(),
+            projectId,
+            diagramId,
+            new SaveDiagramRequest(SyntheticDiagrams.generate(20, 3L)),
+            null
+        );
+    }
+
+    @Test
+    void restoresStoredColumnResultsAfterEviction() {
+        final var report = validate();
+        assertFalse(report.issues().isEmpty());
+        assertEquals(currentHash(), storedHash());
+        assertFalse(stale());
+        assertEquals(report.columnCount(), storedColumnCount());
+
+        // 저장된 결과를 쓰는지 보려고 한 컬럼의 결과를 지운다. 입력이 그대로이므로 다시 검사하지 않는다.
+        final var columnId = jdbcTemplate.queryForObject(
+            "select column_id from diagram_column_checks where diagram_id = ? and issues is not null " +
+            "order by id limit 1",
+            String.class,
+            diagramId
+        );
+        jdbcTemplate.update(
+            "update diagram_column_checks set issues = null where diagram_id = ? and column_id = ?",
+            diagramId,
+            columnId
+        );
+        diagramValidationService.evict(diagramId);
+        final var restored = validate();
+        assertEquals(report.columnCount(), restored.columnCount());
+        assertTrue(restored.issues().stream().noneMatch((issue) -> issue.columnId().equals(columnId)));
+
+        // 오래된 것으로 표시되면 처음부터 검사한다
+        diagramValidationService.markStale(team.getId());
+        assertTrue(stale());
+        diagramValidationService.evict(diagramId);
+        assertEquals(report, validate());
+        assertFalse(stale());
+        assertEquals(report.columnCount(), storedColumnCount());
+    }
+
+    @Test
+    void marksStoredResultsStaleWhenDictionaryChanges() {
+        final var report = validate();
+        assertFalse(stale());
+
+        final var name = report.issues()
+            .stream()
+            .filter((issue) -> issue.kind() == Kind.UNKNOWN_NAME)
+            .findFirst()
+            .orElseThrow()
+            .columnName();
+        termRepository.save(Term.builder().logicalName("검사").physicalName(name).team(team).build());
+        await(() -> stale() ? Boolean.TRUE : null);
+
+        // 표시가 끝나면 새 규칙으로 처음부터 검사하고 표시를 지운다
+        final var rechecked = await(() -> {
+            diagramValidationService.evict(diagramId);
+            final var next = validate();
+            return stale() ? null : next;
+        });
+        assertNotEquals(report, rechecked);
+        assertTrue(
+            rechecked.issues()
+                .stream()
+                .noneMatch((issue) -> issue.kind() == Kind.UNKNOWN_NAME && issue.columnName().equals(name))
+        );
+    }
+
+    @Test
+    void deletesStoredResultsWithDiagram() {
+        validate();
+        assertTrue(storedColumnCount() > 0);
+
+        diagramService.deleteDiagram(loginId, team.getId(), projectId, diagramId);
+        assertEquals(0, storedColumnCount());
+        assertEquals(
+            0,
+            jdbcTemplate.queryForObject(
+                "select count(*) from diagram_validations where diagram_id = ?",
+                Integer.class,
+                diagramId
+            )
+        );
+    }
+
+    /** 값이 나올 때까지 기다린다 (사전 변경 표시는 검사 전용 스레드에서 돈다). */
+    private static <T> T await(Supplier<T> value) {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (true) {
+            final var result = value.get();
+            if (result != null) {
+                return result;
+            }
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private DictionaryValidationReport validate() {
+        return diagramValidationService.validate(loginId, team.getId(), projectId, diagramId);
+    }
+
+    private String currentHash() {
+        return jdbcTemplate.queryForObject("select content_hash from diagrams where id = ?", String.class, diagramId);
+    }
+
+    private String storedHash() {
+        return jdbcTemplate.queryForObject(
+            "select content_hash from diagram_validations where diagram_id = ?",
+            String.class,
+            diagramId
+        );
+    }
+
+    private boolean stale() {
+        return Boolean.TRUE.equals(
+            jdbcTemplate.queryForObject(
+                "select stale from diagram_validations where diagram_id = ?",
+                Boolean.class,
+                diagramId
+            )
+        );
+    }
+
+    private int storedColumnCount() {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from diagram_column_checks where diagram_id = ?",
+            Integer.class,
+            diagramId
+        );
+    }
+}
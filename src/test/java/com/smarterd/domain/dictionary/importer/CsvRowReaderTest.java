@@ -0,0 +1,70 @@
+package com.smarterd.domain.dictionary.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link CsvRowReader}의 RFC 4180 인용 규칙과 인코딩 처리를 확인한다.
+ */
+class CsvRowReaderTest {
+
+    @Test
+    void readsQuotedNewlinesCommasAndEscapedQuotes() throws IOException {
+        final var csv = "kind,logical_name,physical_name\r\n" +
+            "TERM,\"회원\r\n이름\",\"say \"\"hi\"\", ok\"\n" +
+            ",,\n" +
+            "DOMAIN,\"\",last";
+
+        try (var reader = open(csv.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)) {
+            assertEquals(List.of("kind", "logical_name", "physical_name"), reader.next());
+            assertEquals(1, reader.rowNumber());
+            assertEquals(List.of("TERM", "회원\r\n이름", "say \"hi\", ok"), reader.next());
+            assertEquals(2, reader.rowNumber());
+            assertEquals(List.of("", "", ""), reader.next());
+            assertEquals(List.of("DOMAIN", "", "last"), reader.next());
+            assertEquals(4, reader.rowNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void skipsUtf8BomRegardlessOfCharset() throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        bytes.write(new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF });
+        bytes.write("구분,논리명\n".getBytes(StandardCharsets.UTF_8));
+
+        try (var reader = open(bytes.toByteArray(), Charset.forName("MS949"))) {
+            assertEquals(List.of("구분", "논리명"), reader.next());
+        }
+    }
+
+    @Test
+    void readsRequestedCharsetWithoutBom() throws IOException {
+        final var charset = Charset.forName("MS949");
+
+        try (var reader = open("용어,주문\n".getBytes(charset), charset)) {
+            assertEquals(List.of("용어", "주문"), reader.next());
+        }
+    }
+
+    @Test
+    void rejectsUnterminatedQuote() throws IOException {
+        try (var reader = open("a,\"b\nc".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)) {
+            assertThrows(BusinessException.class, reader::next);
+        }
+    }
+
+    private static SpreadsheetRowReader open(byte[] bytes, Charset charset) throws IOException {
+        return SpreadsheetRowReader.open(new ByteArrayInputStream(bytes), charset);
+    }
+}
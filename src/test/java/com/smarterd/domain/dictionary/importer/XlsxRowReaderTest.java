@@ -0,0 +1,112 @@
+package com.smarterd.domain.dictionary.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smarterd.domain.common.exception.BusinessException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link XlsxRowReader}가 공유 문자열과 건너뛴 셀을 바르게 풀어내는지 확인한다. 통합 문서는 테스트에서 직접 만든다.
+ */
+class XlsxRowReaderTest {
+
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+    private static final String RELATIONSHIP_NS =
+        "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    @Test
+    void readsSharedStringsAndSparseCells() throws IOException {
+        final var sharedStrings =
+            "<sst xmlns=\"" + MAIN_NS + "\">" +
+            "<si><t>kind</t></si>" +
+            "<si><t>logical_name</t></si>" +
+            "<si><r><t>회원</t></r><r><rPr><b/></rPr><t xml:space=\"preserve\"> 이름</t></r>" +
+            "<rPh sb=\"0\" eb=\"2\"><t>かいいん</t></rPh></si>" +
+            "</sst>";
+        final var sheet = sheet(
+            "<row r=\"1\"><c r=\"A1\" t=\"s\"><v>0</v></c><c r=\"B1\" t=\"s\"><v>1</v></c></row>" +
+            "<row r=\"2\"><c r=\"B2\" t=\"s\"><v>2</v></c>" + inline("D2", "member_name") + "</row>" +
+            "<row r=\"5\"><c r=\"A5\"><v>42</v></c><c r=\"C5\" t=\"b\"><v>1</v></c>" +
+            "<c t=\"str\"><f>A5</f><v>42</v></c></row>"
+        );
+        final var entries = Map.of("xl/sharedStrings.xml", sharedStrings, "xl/worksheets/sheet1.xml", sheet);
+
+        try (var reader = open(workbook(entries))) {
+            assertEquals(List.of("kind", "logical_name"), reader.next());
+            assertEquals(List.of("", "회원 이름", "", "member_name"), reader.next());
+            assertEquals(2, reader.rowNumber());
+            assertEquals(List.of("42", "", "TRUE", "42"), reader.next());
+            assertEquals(5, reader.rowNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void followsWorkbookRelationshipToFirstSheet() throws IOException {
+        final var entries = new LinkedHashMap<String, String>();
+        entries.put(
+            "xl/workbook.xml",
+            "<workbook xmlns=\"" + MAIN_NS + "\" xmlns:r=\"" + RELATIONSHIP_NS + "\"><sheets>" +
+            "<sheet name=\"용어\" sheetId=\"2\" r:id=\"rId7\"/><sheet name=\"기타\" sheetId=\"1\" r:id=\"rId1\"/>" +
+            "</sheets></workbook>"
+        );
+        entries.put(
+            "xl/_rels/workbook.xml.rels",
+            "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">" +
+            "<Relationship Id=\"rId1\" Target=\"worksheets/sheet1.xml\"/>" +
+            "<Relationship Id=\"rId7\" Target=\"worksheets/terms.xml\"/>" +
+            "</Relationships>"
+        );
+        entries.put("xl/worksheets/sheet1.xml", sheet("<row r=\"1\">" + inline("A1", "other") + "</row>"));
+        entries.put("xl/worksheets/terms.xml", sheet("<row r=\"1\">" + inline("A1", "terms") + "</row>"));
+
+        try (var reader = open(workbook(entries))) {
+            assertEquals(List.of("terms"), reader.next());
+        }
+    }
+
+    @Test
+    void rejectsSharedStringIndexOutOfRange() throws IOException {
+        final var sheet = sheet("<row r=\"1\"><c r=\"A1\" t=\"s\"><v>3</v></c></row>");
+
+        try (var reader = open(workbook(Map.of("xl/worksheets/sheet1.xml", sheet)))) {
+            assertThrows(BusinessException.class, reader::next);
+        }
+    }
+
+    private static String sheet(String rows) {
+        return "<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>" + rows + "</sheetData></worksheet>";
+    }
+
+    private static String inline(String reference, String text) {
+        return "<c r=\"" + reference + "\" t=\"inlineStr\"><is><t>" + text + "</t></is></c>";
+    }
+
+    private static byte[] workbook(Map<String, String> entries) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (var zip = new ZipOutputStream(bytes)) {
+            for (final var entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SpreadsheetRowReader open(byte[] bytes) throws IOException {
+        return SpreadsheetRowReader.open(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,155 @@
+package com.smarterd.domain.dictionary.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.domain.dictionary.index.DictionaryItem.Kind;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DictionarySearchIndex}의 초성·조합 중 입력·오타 검색, 순위, 증분 갱신을 확인한다.
+ */
+class DictionarySearchIndexTest {
+
+    private static final List<DictionaryItem> ITEMS = List.of(
+        term(1L, "사용자명", "user_nm"),
+        term(2L, "사용자", "user"),
+        term(3L, "사용자 아이디", "user_id"),
+        term(4L, "고객번호", "cust_no"),
+        term(5L, "과목", "subj"),
+        new DictionaryItem(Kind.DOMAIN, 1L, "이름", null, "VARCHAR(100)")
+    );
+
+    @Test
+    void findsByChoseongOnly() {
+        final var index = index(ITEMS);
+
+        assertEquals(List.of("사용자", "사용자명", "사용자 아이디"), names(index.search("ㅅㅇㅈ", 10)));
+        assertEquals(List.of("고객번호"), names(index.search("ㄱ ㅂ", 10)));
+        assertEquals(List.of(), names(index.search("ㅎㅎ", 10)));
+    }
+
+    @Test
+    void findsPartlyTypedSyllablesAsPrefix() {
+        final var index = index(ITEMS);
+
+        assertEquals(List.of("사용자", "사용자명", "사용자 아이디"), names(index.search("사요", 10)));
+        assertEquals("사용자명", names(index.search("사용자며", 10)).get(0));
+        // 겹모음은 두 자모로 나누므로 "고"는 "과목"의 앞부분이다.
+        assertEquals(List.of("과목", "고객번호"), names(index.search("고", 10)));
+    }
+
+    @Test
+    void toleratesOneTypoFromSixJamo() {
+        final var index = index(ITEMS);
+
+        // ㅅㅏㅇㅑㅇ (5자모): 오타를 허용하지 않는다.
+        assertEquals(List.of(), names(index.search("사양", 10)));
+        // ㅅㅏㅇㅑㅇㅈ (6자모): 오타 하나를 허용한다.
+        assertTrue(names(index.search("사양ㅈ", 10)).contains("사용자명"));
+    }
+
+    @Test
+    void toleratesTwoTyposFromTenJamo() {
+        final var index = index(ITEMS);
+
+        // ㅅㅏㅇㅠㅇㅈㅏㄴㅕ (9자모): 오타 하나만 허용하므로 두 개 틀리면 찾지 못한다.
+        assertEquals(List.of(), names(index.search("사융자녀", 10)));
+        // ㅅㅏㅇㅠㅇㅈㅏㄴㅕㅇ (10자모): 오타 두 개를 허용한다.
+        assertEquals("사용자명", names(index.search("사융자녕", 10)).get(0));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenContainsAndRespectsLimit() {
+        final var index = index(ITEMS);
+
+        final var hits = index.search("사용자", 10);
+        assertEquals(List.of("사용자", "사용자명", "사용자 아이디"), names(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertTrue(hits.get(1).score() > hits.get(2).score());
+        assertEquals(List.of("사용자", "사용자명"), names(index.search("사용자", 2)));
+        // 포함은 접두보다 뒤에 온다.
+        assertEquals(List.of("이름", "사용자 아이디"), names(index.search("이", 10)));
+        assertEquals(List.of(), index.search("사용자", 0));
+        assertEquals(List.of(), index.search("  ", 10));
+    }
+
+    @Test
+    void updateMovesRenamedItemsAndKeepsUnchangedOnes() {
+        final var index = new DictionarySearchIndex();
+        assertEquals(ITEMS.size(), index.update(ITEMS));
+        assertEquals(0, index.update(ITEMS));
+
+        final var renamed = new ArrayList<>(ITEMS);
+        renamed.set(0, term(1L, "회원명", "user_nm"));
+        renamed.set(1, term(2L, "사용자", "usr"));
+        assertEquals(2, index.update(renamed));
+
+        assertEquals(ITEMS.size(), index.size());
+        assertFalse(names(index.search("사용자명", 10)).contains("사용자명"));
+        assertEquals(List.of(1L), ids(index.search("회원", 10)));
+        final var same = index.search("사용자", 1).get(0).item();
+        assertEquals("usr", same.physicalName());
+    }
+
+    @Test
+    void updateDropsDeletedItemsAndReusesTheirSlots() {
+        final var index = index(ITEMS);
+
+        final var remaining = new ArrayList<>(ITEMS);
+        remaining.remove(3);
+        remaining.remove(0);
+        assertEquals(2, index.update(remaining));
+        assertEquals(ITEMS.size() - 2, index.size());
+        assertEquals(List.of(), names(index.search("고객", 10)));
+        assertFalse(names(index.search("ㅅㅇㅈ", 10)).contains("사용자명"));
+
+        remaining.add(term(6L, "주문번호", "ord_no"));
+        remaining.add(term(7L, "배송지", "dlvr_addr"));
+        assertEquals(2, index.update(remaining));
+        assertEquals(ITEMS.size(), index.size());
+        // 지운 자리를 다시 써도 이전 이름의 게시가 남지 않는다.
+        assertEquals(List.of(), names(index.search("고객", 10)));
+        assertEquals(List.of(6L), ids(index.search("ㅈㅁㅂㅎ", 10)));
+        assertEquals(List.of(7L), ids(index.search("배송", 10)));
+        assertEquals(List.of("사용자", "사용자 아이디"), names(index.search("ㅅㅇㅈ", 10)));
+    }
+
+    @Test
+    void keepsTermsAndDomainsWithSameIdApart() {
+        final var index = index(
+            List.of(term(1L, "이름", "nm"), new DictionaryItem(Kind.DOMAIN, 1L, "이름", null, null))
+        );
+
+        assertEquals(2, index.size());
+        assertEquals(List.of(Kind.TERM, Kind.DOMAIN), kinds(index.search("이름", 10)));
+
+        assertEquals(1, index.update(List.of(term(1L, "이름", "nm"))));
+        assertEquals(List.of(Kind.TERM), kinds(index.search("이름", 10)));
+    }
+
+    private static DictionarySearchIndex index(List<DictionaryItem> items) {
+        final var index = new DictionarySearchIndex();
+        index.update(items);
+        return index;
+    }
+
+    private static DictionaryItem term(Long id, String logicalName, String physicalName) {
+        return new DictionaryItem(Kind.TERM, id, logicalName, physicalName, null);
+    }
+
+    private static List<String> names(List<DictionarySearchHit> hits) {
+        return hits.stream().map((hit) -> hit.item().logicalName()).toList();
+    }
+
+    private static List<Kind> kinds(List<DictionarySearchHit> hits) {
+        return hits.stream().map((hit) -> hit.item().kind()).toList();
+    }
+
+    private static List<Long> ids(List<DictionarySearchHit> hits) {
+        return hits.stream().map((hit) -> hit.item().id()).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.smarterd.domain.dictionary.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link HangulJamo}의 겹모음·겹받침·호환 자모 분해와 초성 추출을 확인한다.
+ */
+class HangulJamoTest {
+
+    @Test
+    void splitsCompoundVowelsAndFinalConsonants() {
+        assertEquals("ㄱㅗㅏ", HangulJamo.decompose("과"));
+        assertEquals("ㅇㅡㅣ", HangulJamo.decompose("의"));
+        assertEquals("ㄱㅜㅔㄹㄱ", HangulJamo.decompose("궭"));
+        assertEquals("ㄱㅏㅂㅅ", HangulJamo.decompose("값"));
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.decompose("닭"));
+        assertEquals("ㅇㅏㄴㅎㄷㅏ", HangulJamo.decompose("않다"));
+    }
+
+    @Test
+    void splitsCompatibilityCompoundJamoLikeSyllables() {
+        assertEquals("ㄱㅅ", HangulJamo.decompose("ㄳ"));
+        assertEquals("ㄹㅎ", HangulJamo.decompose("ㅀ"));
+        assertEquals("ㅗㅏ", HangulJamo.decompose("ㅘ"));
+        assertEquals("ㅡㅣ", HangulJamo.decompose("ㅢ"));
+        // 조합 중인 입력은 완성된 음절 분해의 앞부분과 같다.
+        assertTrue(HangulJamo.decompose("값").startsWith(HangulJamo.decompose("갑")));
+        assertTrue(HangulJamo.decompose("과").startsWith(HangulJamo.decompose("고")));
+        assertEquals(HangulJamo.decompose("과"), HangulJamo.decompose("ㄱㅘ"));
+    }
+
+    @Test
+    void lowercasesOtherCharactersAndDropsWhitespace() {
+        assertEquals("ㅅㅏㅇㅛㅇㅈㅏid", HangulJamo.decompose("사용자 ID"));
+        assertEquals("ㅅㅇㅈid", HangulJamo.choseong("사용 자ID"));
+        assertEquals("ㄲㅃ", HangulJamo.choseong("꽃빵"));
+        assertEquals("사용자id", HangulJamo.normalize(" 사용자 ID "));
+    }
+
+    @Test
+    void detectsChoseongOnlyInput() {
+        assertTrue(HangulJamo.isChoseongOnly("ㅅㅇㅈ"));
+        assertTrue(HangulJamo.isChoseongOnly("ㅅ ㅇ"));
+        assertTrue(HangulJamo.isChoseongOnly("ㄳ"));
+        assertFalse(HangulJamo.isChoseongOnly("ㅅㅏ"));
+        assertFalse(HangulJamo.isChoseongOnly("ㅅㅇ자"));
+        assertFalse(HangulJamo.isChoseongOnly("ㅅㅇid"));
+        assertFalse(HangulJamo.isChoseongOnly(" "));
+    }
+}
@@ -0,0 +1,152 @@
+package com.smarterd.domain.dictionary.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.smarterd.api.dictionary.dto.DictionaryImportResponse;
+import com.smarterd.api.dictionary.dto.DictionaryImportResponse.RowError;
+import com.smarterd.domain.common.exception.BusinessException;
+import com.smarterd.domain.dictionary.repository.DomainDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.DomainRepository;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermRepository;
+import com.smarterd.domain.team.entity.Team;
+import com.smarterd.domain.team.entity.TeamMember;
+import com.smarterd.domain.team.entity.TeamMemberRole;
+import com.smarterd.domain.team.repository.TeamMemberRepository;
+import com.smarterd.domain.team.repository.TeamRepository;
+import com.smarterd.domain.user.entity.User;
+import com.smarterd.domain.user.repository.UserRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * {@link DictionaryImportService}가 잘못된 행만 건너뛰고 나머지를 가져오는지 확인한다.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DictionaryImportServiceTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private DomainRepository domainRepository;
+
+    @Autowired
+    private DictionaryImportService dictionaryImportService;
+
+    private String loginId;
+
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        loginId = "import-" + UUID.randomUUID();
+        final var user = userRepository.save(new User(loginId, "password", "import"));
+        final var team = teamRepository.save(new Team("import", user));
+        teamMemberRepository.save(new TeamMember(team, user, TeamMemberRole.ADMIN));
+        teamId = team.getId();
+    }
+
+    @Test
+    void importsGoodRowsAndReportsBadOnes() {
+        importCsv("kind,logical_name,physical_name,physical_type,domain\nDOMAIN,식별자,,BIGINT,\nTERM,아이디,id,,식별자\n");
+
+        final var response = importCsv(
+            "\uFEFF도메인명,물리명,논리명,구분,데이터타입\n" +
+            "이름,member_name,회원명,TERM,\n" +
+            ",order_no,주문번호,용어,\n" +
+            ",v,뷰,VIEW,\n" +
+            "없는도메인,customer,고객,TERM,\n" +
+            ",,이름,DOMAIN,VARCHAR(50)\n" +
+            ",member_name2,회원명,TERM,\n" +
+            ",,이름,도메인,VARCHAR(60)\n" +
+            ",long," + "가".repeat(101) + ",TERM,\n" +
+            ",,긴타입,DOMAIN," + "T".repeat(51) + "\n" +
+            ",,물리명없음,TERM,\n" +
+            ",,,,\n" +
+            ",dup_id,아이디,TERM,\n" +
+            "식별자,member_id,회원아이디,TERM,\n" +
+            "\"이름\",\"nick\r\nname\",\"별명, 애칭\",TERM,\n"
+        );
+
+        assertEquals(
+            new DictionaryImportResponse(
+                13,
+                1,
+                4,
+                8,
+                List.of(
+                    new RowError(4, "Unknown kind: VIEW"),
+                    new RowError(5, "Unknown domain: 없는도메인"),
+                    new RowError(7, "Term already exists: 회원명"),
+                    new RowError(8, "Domain already exists: 이름"),
+                    new RowError(9, "Logical name exceeds 100 characters"),
+                    new RowError(10, "Physical type exceeds 50 characters"),
+                    new RowError(11, "Physical name is required for a term"),
+                    new RowError(13, "Term already exists: 아이디")
+                )
+            ),
+            response
+        );
+
+        final var domains = domainRepository
+            .findEntriesByTeamId(teamId)
+            .stream()
+            .collect(Collectors.toMap(DomainDictionaryEntry::logicalName, DomainDictionaryEntry::domainId));
+        assertEquals(2, domains.size());
+        final var terms = terms();
+        assertEquals(5, terms.size());
+        // 뒤에 나온 도메인 행도 앞선 용어 행에 연결된다
+        assertEquals(domains.get("이름"), terms.get("회원명").domainId());
+        assertEquals("VARCHAR(50)", terms.get("회원명").physicalType());
+        assertNull(terms.get("주문번호").domainId());
+        assertEquals(domains.get("식별자"), terms.get("회원아이디").domainId());
+        assertEquals("nick\r\nname", terms.get("별명, 애칭").physicalName());
+    }
+
+    @Test
+    void rejectsFileWithoutHeader() {
+        final var empty = assertThrows(BusinessException.class, () -> importCsv(""));
+        assertEquals("Import file is empty", empty.getMessage());
+
+        final var header = assertThrows(BusinessException.class, () -> importCsv("name,type\n회원명,TERM\n"));
+        assertEquals("Header row must contain kind and logical_name columns", header.getMessage());
+        assertEquals(Map.of(), terms());
+    }
+
+    private DictionaryImportResponse importCsv(String csv) {
+        return dictionaryImportService.importDictionary(
+            loginId,
+            teamId,
+            "UTF-8",
+            new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    private Map<String, TermDictionaryEntry> terms() {
+        return termRepository
+            .findEntriesByTeamId(teamId)
+            .stream()
+            .collect(Collectors.toMap(TermDictionaryEntry::logicalName, Function.identity()));
+    }
+}
@@ -0,0 +1,189 @@
+package com.smarterd.domain.dictionary.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.diagram.service.ErdDocumentParser;
+import com.smarterd.domain.dictionary.repository.DomainDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import com.smarterd.domain.dictionary.validation.DictionaryValidationReport.Kind;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link DictionaryValidationEngine}의 정확성과 처리 시간 벤치마크.
+ *
+ * <p>5k 테이블 합성 다이어그램을 용어 50k개 사전으로 검사하는 데 걸린 시간을 표준 출력에 남긴다.</p>
+ */
+class DictionaryValidationEngineBenchmarkTest {
+
+    private static final int ITERATIONS = 5;
+
+    private static final String[] WORDS = {
+        "user", "order", "item", "product", "payment", "shipment", "address", "category", "review", "coupon",
+        "member", "account", "invoice", "stock", "warehouse", "vendor", "price", "status", "code", "history",
+    };
+
+    private static final String[] TYPES = {
+        "BIGINT", "VARCHAR(50)", "VARCHAR(100)", "VARCHAR(255)", "DECIMAL(15,2)", "TIMESTAMP", "DATE", "INTEGER",
+        "BOOLEAN", "CHAR(1)",
+    };
+
+    private final DictionaryValidationEngine engine = new DictionaryValidationEngine();
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void reportsUnknownNamesAndTypeMismatches() {
+        final var rules = DictionaryRuleSet.build(
+            List.of(
+                new TermDictionaryEntry(1L, "아이디", "id", 1L, "BIGINT"),
+                new TermDictionaryEntry(2L, "회원명", "MEMBER_NAME", 2L, "varchar(50)"),
+                new TermDictionaryEntry(3L, "비고", "memo", null, null)
+            ),
+            List.of(
+                new DomainDictionaryEntry(1L, "식별자", "BIGINT"),
+                new DomainDictionaryEntry(2L, "이름", "VARCHAR(50)"),
+                new DomainDictionaryEntry(3L, "설명", "TEXT")
+            )
+        );
+        final var document = new ErdDocument(
+            List.of(
+                table(
+                    "t1",
+                    "member",
+                    new ErdColumn("c1", "id", "bigint", true, false, false),
+                    new ErdColumn("c2", "member_name", "VARCHAR( 50 )", false, false, false),
+                    new ErdColumn("c3", "memo", "TEXT", false, false, true)
+                ),
+                table(
+                    "t2",
+                    "orders",
+                    new ErdColumn("c4", "id", "INTEGER", true, false, false),
+                    new ErdColumn("c5", "memo", "CLOB", false, false, true),
+                    new ErdColumn("c6", "order_note", "TEXT", false, false, true),
+                    new ErdColumn("c7", "order_flag", "CHAR(1)", false, false, true)
+                )
+            ),
+            List.of()
+        );
+
+        final var report = engine.validate(document, rules);
+
+        assertEquals(2, report.tableCount());
+        assertEquals(7, report.columnCount());
+        assertEquals(
+            List.of(
+                "c4:TYPE_MISMATCH",
+                "c5:UNKNOWN_TYPE",
+                "c6:UNKNOWN_NAME",
+                "c7:UNKNOWN_NAME",
+                "c7:UNKNOWN_TYPE"
+            ),
+            report.issues().stream().map((issue) -> issue.columnId() + ":" + issue.kind()).toList()
+        );
+        assertEquals(List.of("BIGINT"), report.issues().get(0).expectedTypes());
+        assertEquals("orders", report.issues().get(0).tableName());
+    }
+
+    @Test
+    void keepsTableOrderAcrossChunks() throws Exception {
+        final var objectMapper = new ObjectMapper();
+        final var tableCount = DictionaryValidationEngine.CHUNK_SIZE * 3 + 7;
+        final var document = new ErdDocumentParser(objectMapper)
+            .parse(objectMapper.readTree(SyntheticDiagrams.generate(tableCount, 3L)));
+
+        final var report = engine.validate(document, DictionaryRuleSet.EMPTY);
+
+        final var expected = new ArrayList<String>();
+        for (final var table : document.tables()) {
+            for (final var column : table.columns()) {
+                expected.add(column.id());
+            }
+        }
+        // 빈 사전에서는 모든 컬럼이 UNKNOWN_NAME과 UNKNOWN_TYPE을 하나씩 낸다
+        assertEquals(expected.size() * 2, report.issues().size());
+        assertEquals(
+            expected,
+            report.issues()
+                .stream()
+                .filter((issue) -> issue.kind() == Kind.UNKNOWN_NAME)
+                .map(DictionaryValidationReport.Issue::columnId)
+                .toList()
+        );
+    }
+
+    @Tag("benchmark")
+    @Test
+    void reportsValidationTime() throws Exception {
+        final var objectMapper = new ObjectMapper();
+        final var document = new ErdDocumentParser(objectMapper)
+            .parse(objectMapper.readTree(SyntheticDiagrams.generate(5_000, 42L)));
+        final var terms = dictionary(50_000);
+        final var domains = new ArrayList<DomainDictionaryEntry>();
+        for (var i = 0; i < TYPES.length; i++) {
+            domains.add(new DomainDictionaryEntry((long) i + 1, "domain_" + i, TYPES[i]));
+        }
+
+        final var buildStart = System.nanoTime();
+        final var rules = DictionaryRuleSet.build(terms, domains);
+        final var buildMillis = (System.nanoTime() - buildStart) / 1_000_000.0;
+
+        var report = engine.validate(document, rules);
+        final var start = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            report = engine.validate(document, rules);
+        }
+        final var millis = (System.nanoTime() - start) / ITERATIONS / 1_000_000.0;
+
+        System.out.printf(
+            "[validate] %,d tables / %,d columns vs %,d terms: %,d issues, rules %.1f ms, validate %.1f ms%n",
+            report.tableCount(),
+            report.columnCount(),
+            terms.size(),
+            report.issues().size(),
+            buildMillis,
+            millis
+        );
+        assertEquals(5_000, report.tableCount());
+        assertEquals(50_000, rules.nameCount());
+        // 도메인 타입이 맞지 않는 컬럼만 남는다 (모든 이름은 용어, 모든 타입은 도메인 타입)
+        assertEquals(
+            report.issues().size(),
+            report.issues().stream().filter((issue) -> issue.kind() == Kind.TYPE_MISMATCH).count()
+        );
+    }
+
+    /** 합성 다이어그램의 모든 컬럼 이름을 포함하고, 나머지는 가짜 용어로 채운 사전. 이름 절반에 도메인을 연결한다. */
+    private static List<TermDictionaryEntry> dictionary(int size) {
+        final var terms = new ArrayList<TermDictionaryEntry>(size);
+        terms.add(new TermDictionaryEntry(1L, "아이디", "id", 1L, "BIGINT"));
+        for (final var first : WORDS) {
+            for (final var second : WORDS) {
+                final var id = (long) terms.size() + 1;
+                final var type = id % 2 == 0 ? TYPES[(int) (id % TYPES.length)] : null;
+                final var domainId = type == null ? null : id;
+                terms.add(new TermDictionaryEntry(id, first + second, first + "_" + second, domainId, type));
+            }
+        }
+        while (terms.size() < size) {
+            final var id = (long) terms.size() + 1;
+            terms.add(new TermDictionaryEntry(id, "용어" + id, "term_" + id, null, null));
+        }
+        return terms;
+    }
+
+    private static ErdTable table(String id, String label, ErdColumn... columns) {
+        return new ErdTable(id, "table", 0, 0, label, List.of(columns));
+    }
+}
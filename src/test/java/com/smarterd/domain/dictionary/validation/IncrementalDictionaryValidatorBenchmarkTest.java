@@ -0,0 +1,263 @@
+package com.smarterd.domain.dictionary.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarterd.domain.diagram.SyntheticDiagrams;
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdDocument;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.diagram.service.ErdDocumentParser;
+import com.smarterd.domain.dictionary.repository.DomainDictionaryEntry;
+import com.smarterd.domain.dictionary.repository.TermDictionaryEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link IncrementalDictionaryValidator}의 정확성과 처리 시간 벤치마크.
+ *
+ * <p>5k 테이블 합성 다이어그램에서 컬럼 하나를 바꾼 저장과 용어 하나를 바꾼 사전 변경을 반영하는 데 걸린 시간을 전체 검사와
+ * 함께 표준 출력에 남긴다.</p>
+ */
+class IncrementalDictionaryValidatorBenchmarkTest {
+
+    private static final int ITERATIONS = 5;
+
+    private static final String[] TYPES = {
+        "BIGINT", "VARCHAR(50)", "VARCHAR(100)", "VARCHAR(255)", "DECIMAL(15,2)", "TIMESTAMP", "DATE", "INTEGER",
+        "BOOLEAN", "CHAR(1)",
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final DictionaryValidationEngine engine = new DictionaryValidationEngine();
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void rechecksOnlyChangedColumns() throws Exception {
+        final var document = parse(40, 7L);
+        final var rules = rules(terms("user_order", "VARCHAR(50)"));
+        final var validator = new IncrementalDictionaryValidator(engine);
+
+        validator.update("h1", document, rules);
+        assertEquals(validator.report().columnCount(), validator.lastChecked());
+        assertEquals(engine.validate(document, rules), validator.report());
+
+        final var renamed = withColumn(document, 3, 1, "user_order", "varchar( 50 )");
+        validator.update("h2", renamed, rules);
+        assertEquals(1, validator.lastChecked());
+        assertEquals(engine.validate(renamed, rules), validator.report());
+
+        final var relabeled = withLabel(renamed, 5, "renamed_table");
+        validator.update("h3", relabeled, rules);
+        assertEquals(relabeled.tables().get(5).columns().size(), validator.lastChecked());
+        assertEquals(engine.validate(relabeled, rules), validator.report());
+    }
+
+    @Test
+    void rechecksOnlyColumnsReferencingChangedTerms() throws Exception {
+        final var document = parse(40, 7L);
+        final var name = document.tables().get(0).columns().get(1).name();
+        final var rules = rules(terms(name, "VARCHAR(50)"));
+        final var validator = new IncrementalDictionaryValidator(engine);
+        validator.update("h1", document, rules);
+        final var report = validator.report();
+
+        // 같은 내용으로 다시 만든 규칙은 아무것도 바꾸지 않는다
+        validator.updateRules(rules(terms(name, "VARCHAR(50)")));
+        assertEquals(0, validator.lastChecked());
+        assertSame(report, validator.report());
+
+        final var changed = rules(terms(name, "TEXT"));
+        validator.updateRules(changed);
+        assertEquals(count(document, name), validator.lastChecked());
+        assertEquals(engine.validate(document, changed), validator.report());
+
+        // 도메인 타입이 사라지면 도메인이 연결되지 않은 이름의 그 타입 컬럼만 다시 검사한다
+        final var withoutDate = DictionaryRuleSet.build(
+            terms(name, "TEXT"),
+            domains().stream().filter((domain) -> !domain.physicalType().equals("DATE")).toList()
+        );
+        validator.updateRules(withoutDate);
+        assertEquals(engine.validate(document, withoutDate), validator.report());
+    }
+
+    @Test
+    void restoresStoredResultsAndRechecksOnlyChangedColumns() throws Exception {
+        final var document = parse(40, 7L);
+        final var rules = rules(terms("user_order", "VARCHAR(50)"));
+        final var first = new IncrementalDictionaryValidator(engine);
+        first.update("h1", document, rules);
+        final var stored = first.checkedColumns();
+        assertEquals(first.report().columnCount(), stored.size());
+
+        // 저장소가 순서를 지키지 않아도 컬럼 ID로 다시 맞춘다
+        final var shuffled = new ArrayList<>(stored);
+        Collections.reverse(shuffled);
+        final var restored = new IncrementalDictionaryValidator(engine);
+        restored.restore(shuffled, rules);
+        final var renamed = withColumn(document, 3, 1, "user_order", "TEXT");
+        restored.update("h2", renamed, rules);
+        assertEquals(1, restored.lastChecked());
+        assertEquals(List.of(), List.copyOf(restored.removedColumnIds()));
+        assertEquals(engine.validate(renamed, rules), restored.report());
+
+        final var inOrder = new IncrementalDictionaryValidator(engine);
+        inOrder.restore(stored, rules);
+        inOrder.update("h1", document, rules);
+        assertEquals(0, inOrder.lastChecked());
+        assertEquals(first.report(), inOrder.report());
+        assertThrows(IllegalStateException.class, () -> inOrder.restore(stored, rules));
+    }
+
+    @Test
+    void reportsColumnsOfRemovedTables() throws Exception {
+        final var document = parse(40, 7L);
+        final var rules = rules(terms("user_order", "VARCHAR(50)"));
+        final var validator = new IncrementalDictionaryValidator(engine);
+        validator.update("h1", document, rules);
+
+        final var tables = new ArrayList<>(document.tables());
+        final var removed = tables.remove(2);
+        final var smaller = new ErdDocument(tables, document.relationships());
+        validator.update("h2", smaller, rules);
+        assertEquals(0, validator.lastChecked());
+        assertEquals(
+            removed.columns().stream().map(ErdColumn::id).collect(Collectors.toSet()),
+            validator.removedColumnIds()
+        );
+        assertEquals(engine.validate(smaller, rules), validator.report());
+
+        validator.updateRules(rules(terms("user_order", "TEXT")));
+        assertEquals(Set.of(), validator.removedColumnIds());
+    }
+
+    @Tag("benchmark")
+    @Test
+    void reportsIncrementalTime() throws Exception {
+        final var document = parse(5_000, 42L);
+        final var terms = terms("user_order", "VARCHAR(50)");
+        while (terms.size() < 50_000) {
+            final var id = (long) terms.size() + 1;
+            terms.add(new TermDictionaryEntry(id, "용어" + id, "term_" + id, null, null));
+        }
+        final var rules = rules(terms);
+        final var validator = new IncrementalDictionaryValidator(engine);
+        validator.update("h0", document, rules);
+
+        final var fullStart = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            engine.validate(document, rules);
+        }
+        final var fullMillis = (System.nanoTime() - fullStart) / ITERATIONS / 1_000_000.0;
+
+        // 저장마다 앞선 저장에 컬럼 하나를 더 바꾼다
+        final var saves = new ArrayList<ErdDocument>();
+        var saved = document;
+        for (var i = 0; i < ITERATIONS; i++) {
+            saved = withColumn(saved, i * 997, 1, "user_order", i % 2 == 0 ? "TEXT" : "VARCHAR(50)");
+            saves.add(saved);
+        }
+        final var edited = new ArrayList<>(terms);
+        edited.set(1, new TermDictionaryEntry(2L, "주문", "user_order", 2L, "TEXT"));
+        final var changed = rules(edited);
+
+        final var warmUp = new IncrementalDictionaryValidator(engine);
+        warmUp.update("h0", document, rules);
+        for (var i = 0; i < ITERATIONS; i++) {
+            warmUp.update("h" + (i + 1), saves.get(i), rules);
+        }
+        warmUp.updateRules(changed);
+        final var saveStart = System.nanoTime();
+        for (var i = 0; i < ITERATIONS; i++) {
+            validator.update("h" + (i + 1), saves.get(i), rules);
+        }
+        final var saveMillis = (System.nanoTime() - saveStart) / ITERATIONS / 1_000_000.0;
+        assertEquals(1, validator.lastChecked());
+
+        final var dictionaryStart = System.nanoTime();
+        validator.updateRules(changed);
+        final var dictionaryMillis = (System.nanoTime() - dictionaryStart) / 1_000_000.0;
+
+        System.out.printf(
+            "[revalidate] %,d tables / %,d columns: full %.1f ms, one-column save %.1f ms, " +
+            "one-term edit %.1f ms (%,d columns)%n",
+            validator.report().tableCount(),
+            validator.report().columnCount(),
+            fullMillis,
+            saveMillis,
+            dictionaryMillis,
+            validator.lastChecked()
+        );
+        assertEquals(count(saves.get(ITERATIONS - 1), "user_order"), validator.lastChecked());
+        assertEquals(engine.validate(saves.get(ITERATIONS - 1), changed), validator.report());
+    }
+
+    private ErdDocument parse(int tableCount, long seed) throws Exception {
+        return new ErdDocumentParser(objectMapper)
+            .parse(objectMapper.readTree(SyntheticDiagrams.generate(tableCount, seed)));
+    }
+
+    /** {@code id}와 지정한 이름 하나만 도메인이 연결된 용어 사전. */
+    private static List<TermDictionaryEntry> terms(String name, String type) {
+        final var terms = new ArrayList<TermDictionaryEntry>();
+        terms.add(new TermDictionaryEntry(1L, "아이디", "id", 1L, "BIGINT"));
+        terms.add(new TermDictionaryEntry(2L, "주문", name, 2L, type));
+        return terms;
+    }
+
+    private static List<DomainDictionaryEntry> domains() {
+        final var domains = new ArrayList<DomainDictionaryEntry>();
+        for (var i = 0; i < TYPES.length; i++) {
+            domains.add(new DomainDictionaryEntry((long) i + 1, "domain_" + i, TYPES[i]));
+        }
+        return domains;
+    }
+
+    private static DictionaryRuleSet rules(List<TermDictionaryEntry> terms) {
+        return DictionaryRuleSet.build(terms, domains());
+    }
+
+    private static long count(ErdDocument document, String name) {
+        return document.tables()
+            .stream()
+            .flatMap((table) -> table.columns().stream())
+            .filter((column) -> column.name().equals(name))
+            .count();
+    }
+
+    private static ErdDocument withColumn(
+        ErdDocument document,
+        int tableIndex,
+        int columnIndex,
+        String name,
+        String type
+    ) {
+        final var tables = new ArrayList<>(document.tables());
+        final var table = tables.get(tableIndex);
+        final var columns = new ArrayList<>(table.columns());
+        final var column = columns.get(columnIndex);
+        columns.set(columnIndex, new ErdColumn(column.id(), name, type, column.pk(), column.fk(), column.nullable()));
+        tables.set(tableIndex, new ErdTable(table.id(), table.type(), table.x(), table.y(), table.label(), columns));
+        return new ErdDocument(tables, document.relationships());
+    }
+
+    private static ErdDocument withLabel(ErdDocument document, int tableIndex, String label) {
+        final var tables = new ArrayList<>(document.tables());
+        final var table = tables.get(tableIndex);
+        tables.set(tableIndex, new ErdTable(table.id(), table.type(), table.x(), table.y(), label, table.columns()));
+        return new ErdDocument(tables, document.relationships());
+    }
+}
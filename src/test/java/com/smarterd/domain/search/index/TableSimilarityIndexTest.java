@@ -0,0 +1,164 @@
+package com.smarterd.domain.search.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.smarterd.domain.diagram.model.ErdColumn;
+import com.smarterd.domain.diagram.model.ErdTable;
+import com.smarterd.domain.search.index.TableSimilarityIndex.Result;
+import com.smarterd.domain.search.index.TableSimilarityIndex.SimilarTable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link TableSimilarityIndex}의 LSH 후보 재현율을 전수 비교와 견주고, 다시 색인하거나 지울 때 버킷을 옮기는지 확인한다.
+ *
+ * <p>재현율은 유사도 분포에 달려 있다. 쌍마다 버킷을 함께 쓸 확률 {@code 1 - (1 - s^4)^16}의 평균을 기대값으로 두고,
+ * 실제 재현율이 그보다 눈에 띄게 낮지 않은지 본다.</p>
+ */
+class TableSimilarityIndexTest {
+
+    private static final long PROJECT = 1L;
+
+    @Test
+    void recallsPairsFoundByBruteForce() {
+        final var random = new Random(20L);
+        final var tables = new ArrayList<Set<String>>();
+        // 기준 테이블마다 컬럼 몇 개를 바꾼 변형을 만들어 0.3~1.0 사이 유사도의 쌍이 고루 생기게 한다
+        for (var family = 0; family < 60; family++) {
+            final var base = columns(random, 6 + random.nextInt(10));
+            for (var variant = 0; variant < 12; variant++) {
+                final var columns = new ArrayList<>(base);
+                for (var edit = random.nextInt(base.size() / 2 + 1); edit > 0; edit--) {
+                    columns.set(random.nextInt(columns.size()), "c" + random.nextInt(4000));
+                }
+                if (random.nextBoolean()) {
+                    columns.add("c" + random.nextInt(4000));
+                }
+                tables.add(new HashSet<>(columns));
+            }
+        }
+        final var index = new TableSimilarityIndex();
+        for (var i = 0; i < tables.size(); i++) {
+            index.update(PROJECT, (long) i, List.of(table("t", tables.get(i))));
+        }
+
+        final var half = recall(index, tables, 0.5);
+        final var high = recall(index, tables, 0.7);
+
+        assertTrue(half.pairs() > 1000 && high.pairs() > 300, half + ", " + high);
+        assertTrue(half.recall() >= half.expected() - 0.03, half.toString());
+        assertTrue(high.recall() >= high.expected() - 0.03, high.toString());
+        assertTrue(high.recall() >= 0.99, high.toString());
+    }
+
+    @Test
+    void movesTableToNewBucketsWhenColumnsChange() {
+        final var index = new TableSimilarityIndex();
+        final var member = List.of("id", "login_id", "email", "name", "created_at");
+        final var order = List.of("id", "order_no", "amount", "status", "ordered_at");
+        index.update(PROJECT, 1L, List.of(table("a", member)));
+        index.update(PROJECT, 2L, List.of(table("member", member)));
+        index.update(PROJECT, 3L, List.of(table("order", order)));
+        assertEquals(List.of(2L), similar(index, 1L, "a"));
+        assertEquals(0, index.update(PROJECT, 1L, List.of(table("a", member))));
+
+        // 컬럼이 바뀌면 이전 버킷에서 빠지고 새 버킷에 들어간다
+        assertEquals(1, index.update(PROJECT, 1L, List.of(table("a", order))));
+        assertEquals(List.of(3L), similar(index, 1L, "a"));
+        assertEquals(0, index.findSimilar(2L, "member", 0.5, 10).orElseThrow().candidates());
+
+        // 지운 다이어그램의 테이블은 버킷에서 빠지고, 비운 번호를 다시 쓴 테이블만 후보가 된다
+        index.remove(3L);
+        assertEquals(Optional.empty(), index.findSimilar(3L, "order", 0.5, 10));
+        assertEquals(0, index.findSimilar(1L, "a", 0.5, 10).orElseThrow().candidates());
+        index.update(PROJECT, 4L, List.of(table("member", member)));
+        assertEquals(List.of(4L), similar(index, 2L, "member"));
+
+        // 다이어그램에서 빠진 테이블도 지운다
+        assertEquals(1, index.update(PROJECT, 4L, List.of()));
+        assertEquals(Optional.empty(), index.findSimilar(4L, "member", 0.5, 10));
+        assertEquals(0, index.findSimilar(2L, "member", 0.5, 10).orElseThrow().candidates());
+    }
+
+    /** 각 테이블을 대상으로 조회해, 전수 비교로 찾은 쌍 중 LSH 결과에 든 비율을 구한다. */
+    private static Recall recall(TableSimilarityIndex index, List<Set<String>> tables, double threshold) {
+        var pairs = 0;
+        var found = 0;
+        var expected = 0.0;
+        for (var i = 0; i < tables.size(); i++) {
+            final var result = index.findSimilar((long) i, "t", threshold, Integer.MAX_VALUE).orElseThrow();
+            final var similar = new HashSet<Long>();
+            for (final var table : result.similar()) {
+                assertEquals(jaccard(tables.get(i), tables.get(table.diagramId().intValue())), table.similarity());
+                similar.add(table.diagramId());
+            }
+            for (var j = 0; j < tables.size(); j++) {
+                final var similarity = jaccard(tables.get(i), tables.get(j));
+                if (i != j && similarity >= threshold) {
+                    pairs++;
+                    expected += 1 - Math.pow(
+                        1 - Math.pow(similarity, TableSimilarityIndex.ROWS),
+                        TableSimilarityIndex.BANDS
+                    );
+                    found += similar.contains((long) j) ? 1 : 0;
+                }
+            }
+        }
+        return new Recall(threshold, pairs, (double) found / pairs, expected / pairs);
+    }
+
+    private static List<Long> similar(TableSimilarityIndex index, Long diagramId, String nodeId) {
+        return index
+            .findSimilar(diagramId, nodeId, 0.5, 10)
+            .map(Result::similar)
+            .orElseThrow()
+            .stream()
+            .map(SimilarTable::diagramId)
+            .toList();
+    }
+
+    private static List<String> columns(Random random, int count) {
+        final var columns = new ArrayList<String>();
+        while (columns.size() < count) {
+            final var name = "c" + random.nextInt(4000);
+            if (!columns.contains(name)) {
+                columns.add(name);
+            }
+        }
+        return columns;
+    }
+
+    private static double jaccard(Set<String> a, Set<String> b) {
+        var shared = 0;
+        for (final var name : a) {
+            if (b.contains(name)) {
+                shared++;
+            }
+        }
+        return (double) shared / (a.size() + b.size() - shared);
+    }
+
+    private static ErdTable table(String nodeId, Iterable<String> names) {
+        final var columns = new ArrayList<ErdColumn>();
+        for (final var name : names) {
+            columns.add(new ErdColumn(name, name, "BIGINT", false, false, true));
+        }
+        return new ErdTable(nodeId, "table", 0, 0, nodeId, columns);
+    }
+
+    /**
+     * 유사도 하한 하나의 재현율.
+     *
+     * @param threshold 유사도 하한
+     * @param pairs     전수 비교로 찾은 쌍 수
+     * @param recall    LSH 결과에 든 비율
+     * @param expected  쌍별 버킷 공유 확률의 평균
+     */
+    private record Recall(double threshold, int pairs, double recall, double expected) {}
+}